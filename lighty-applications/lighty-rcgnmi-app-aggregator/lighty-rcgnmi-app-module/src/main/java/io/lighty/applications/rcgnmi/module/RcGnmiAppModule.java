@@ -10,7 +10,7 @@ package io.lighty.applications.rcgnmi.module;
 
 import io.lighty.aaa.encrypt.service.impl.AAAEncryptionServiceImpl;
 import io.lighty.core.controller.api.LightyController;
-import io.lighty.core.controller.api.LightyModule;
+import io.lighty.core.controller.api.LightyModuleLauncher;
 import io.lighty.core.controller.api.LightyServices;
 import io.lighty.core.controller.impl.LightyControllerBuilder;
 import io.lighty.core.controller.impl.config.ConfigurationException;
@@ -29,10 +29,8 @@ import java.security.spec.InvalidKeySpecException;
 import java.security.spec.KeySpec;
 import java.util.Base64;
 import java.util.Objects;
-import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.TimeoutException;
 import javax.crypto.NoSuchPaddingException;
 import javax.crypto.SecretKey;
 import javax.crypto.SecretKeyFactory;
@@ -54,6 +52,9 @@ public class RcGnmiAppModule {
     private static final Logger LOG = LoggerFactory.getLogger(RcGnmiAppModule.class);
     private static final TimeUnit DEFAULT_LIGHTY_MODULE_TIME_UNIT = TimeUnit.SECONDS;
     private static final SecureRandom RANDOM = new SecureRandom();
+    private static final String CONTROLLER = "controller";
+    private static final String RESTCONF = "restconf";
+    private static final String GNMI_SOUTHBOUND = "gnmi-southbound";
 
     private final long lightyModuleTimeout;
     private final RcGnmiAppConfiguration appModuleConfig;
@@ -62,6 +63,7 @@ public class RcGnmiAppModule {
     private final YangTextToIRSourceTransformer yangTextToIRSourceTransformer;
     private LightyController lightyController;
     private CommunityRestConf lightyRestconf;
+    private LightyModuleLauncher launcher;
     private LightyGnmiSouthboundModule gnmiSouthboundModule;
 
     public RcGnmiAppModule(final RcGnmiAppConfiguration appModuleConfig,
@@ -79,22 +81,25 @@ public class RcGnmiAppModule {
 
     public boolean initModules() {
         LOG.info("Initializing RCgNMI lighty.io module...");
-        try {
+        this.launcher = new LightyModuleLauncher(lightyModuleTimeout, DEFAULT_LIGHTY_MODULE_TIME_UNIT);
+        launcher.addModule(CONTROLLER, () -> {
             this.lightyController = initController(this.appModuleConfig.getControllerConfig());
-            startAndWaitLightyModule(this.lightyController);
-
+            return this.lightyController;
+        });
+        launcher.addModule(RESTCONF, () -> {
             this.lightyRestconf = initRestconf(this.appModuleConfig.getRestconfConfig(),
                     this.lightyController.getServices());
-            startAndWaitLightyModule(this.lightyRestconf);
-
+            return this.lightyRestconf;
+        }, CONTROLLER);
+        launcher.addModule(GNMI_SOUTHBOUND, () -> {
             final AAAEncryptionService encryptionService = createEncryptionServiceWithErrorHandling();
             this.gnmiSouthboundModule = initGnmiModule(this.lightyController.getServices(),
                     this.gnmiExecutorService, this.appModuleConfig.getGnmiConfiguration(), encryptionService,
                     this.parserFactory, this.yangTextToIRSourceTransformer);
-            startAndWaitLightyModule(this.gnmiSouthboundModule);
-
-        } catch (RcGnmiAppException e) {
-            LOG.error("Unable to initialize and start RCgNMI lighty.io module!", e);
+            return this.gnmiSouthboundModule;
+        }, CONTROLLER);
+        if (!launcher.start()) {
+            LOG.error("Unable to initialize and start RCgNMI lighty.io module!");
             return false;
         }
         LOG.info("RCgNMI lighty.io module initialized successfully!");
@@ -126,41 +131,9 @@ public class RcGnmiAppModule {
             parserfactory, textToIRSourceTransformer);
     }
 
-    private void startAndWaitLightyModule(final LightyModule lightyModule) throws RcGnmiAppException {
-        try {
-            LOG.info("Initializing lighty.io module ({})...", lightyModule.getClass());
-            final boolean startSuccess = lightyModule.start()
-                    .get(lightyModuleTimeout, DEFAULT_LIGHTY_MODULE_TIME_UNIT);
-            if (startSuccess) {
-                LOG.info("lighty.io module ({}) initialized successfully!", lightyModule.getClass());
-            } else {
-                throw new RcGnmiAppException(
-                        String.format("Unable to initialize lighty.io module (%s)!", lightyModule.getClass()));
-            }
-        } catch (TimeoutException | ExecutionException e) {
-            throw new RcGnmiAppException(
-                    String.format("Exception was thrown during initialization of lighty.io module (%s)!",
-                            lightyModule.getClass()), e);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new RcGnmiAppException(
-                    String.format("Exception was thrown during initialization of lighty.io module (%s)!",
-                            lightyModule.getClass()), e);
-        }
-    }
-
     public boolean close() {
         LOG.info("Stopping RCgNMI lighty.io application...");
-        boolean success = true;
-        if (this.lightyRestconf != null) {
-            success &= lightyRestconf.shutdown(lightyModuleTimeout, DEFAULT_LIGHTY_MODULE_TIME_UNIT);
-        }
-        if (this.lightyController != null) {
-            success &= lightyController.shutdown(lightyModuleTimeout, DEFAULT_LIGHTY_MODULE_TIME_UNIT);
-        }
-        if (this.gnmiSouthboundModule != null) {
-            success &= gnmiSouthboundModule.shutdown(lightyModuleTimeout, DEFAULT_LIGHTY_MODULE_TIME_UNIT);
-        }
+        final boolean success = this.launcher == null || this.launcher.shutdown();
         if (success) {
             LOG.info("RCgNMI lighty.io module stopped successfully!");
             return true;
@@ -15,13 +15,13 @@ import io.lighty.applications.rcgnmi.module.RcGnmiAppConfiguration;
 import io.lighty.applications.rcgnmi.module.RcGnmiAppModule;
 import io.lighty.applications.rcgnmi.module.RcGnmiAppModuleConfigUtils;
 import io.lighty.core.common.models.YangModuleUtils;
+import io.lighty.core.controller.api.ExecutionPolicy;
 import io.lighty.core.controller.impl.config.ConfigurationException;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.concurrent.ExecutorService;
 import org.eclipse.jdt.annotation.Nullable;
-import org.opendaylight.yangtools.util.concurrent.SpecialExecutors;
 import org.opendaylight.yangtools.yang.model.spi.source.YangTextToIRSourceTransformer;
 import org.opendaylight.yangtools.yang.parser.api.YangParserFactory;
 import org.slf4j.Logger;
@@ -74,8 +74,7 @@ public class RCgNMIApp {
         // print yang modules loaded into controller
         LOG.info("Loaded YANG modules: {}", YangModuleUtils.generateJSONModelSetConfiguration(rgnmiModuleConfig
                 .getControllerConfig().getSchemaServiceConfig().getModels()));
-        final ExecutorService executorService = SpecialExecutors.newBoundedCachedThreadPool(10,
-                100, "gnmi_executor", Logger.class);
+        final ExecutorService executorService = ExecutionPolicy.newBoundedExecutor(10, 100, "gnmi_executor");
         rcgnmiLightyModule = createRgnmiAppModule(rgnmiModuleConfig, executorService, null, null);
 
         // Initialize RcGNMI modules
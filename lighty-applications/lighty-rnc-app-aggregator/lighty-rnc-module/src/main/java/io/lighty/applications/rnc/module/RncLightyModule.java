@@ -13,7 +13,7 @@ import io.lighty.aaa.config.CertificateManagerConfig;
 import io.lighty.applications.rnc.module.config.RncLightyModuleConfiguration;
 import io.lighty.applications.rnc.module.exception.RncLightyAppStartException;
 import io.lighty.core.controller.api.LightyController;
-import io.lighty.core.controller.api.LightyModule;
+import io.lighty.core.controller.api.LightyModuleLauncher;
 import io.lighty.core.controller.api.LightyServices;
 import io.lighty.core.controller.impl.LightyControllerBuilder;
 import io.lighty.core.controller.impl.config.ConfigurationException;
@@ -33,9 +33,7 @@ import io.lighty.server.LightyJettyServerProvider;
 import io.lighty.server.config.LightyServerConfig;
 import java.net.InetSocketAddress;
 import java.security.Security;
-import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.TimeoutException;
 import org.bouncycastle.jce.provider.BouncyCastleProvider;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -44,10 +42,17 @@ public class RncLightyModule {
 
     private static final Logger LOG = LoggerFactory.getLogger(RncLightyModule.class);
     private static final TimeUnit DEFAULT_LIGHTY_MODULE_TIME_UNIT = TimeUnit.SECONDS;
+    private static final String CONTROLLER = "controller";
+    private static final String RESTCONF = "restconf";
+    private static final String NETCONF = "netconf";
+    private static final String CALLHOME = "callhome";
+    private static final String AAA = "aaa";
+    private static final String OPENAPI = "openapi";
 
     private final RncLightyModuleConfiguration rncModuleConfig;
 
     private final long lightyModuleTimeout;
+    private LightyModuleLauncher launcher;
     private LightyController lightyController;
     private CommunityRestConf lightyRestconf;
     private NetconfSBPlugin lightyNetconf;
@@ -65,36 +70,45 @@ public class RncLightyModule {
 
     public boolean initModules() {
         LOG.info("Initializing RNC lighty.io module...");
-        try {
+        this.launcher = new LightyModuleLauncher(lightyModuleTimeout, DEFAULT_LIGHTY_MODULE_TIME_UNIT);
+        launcher.addModule(CONTROLLER, () -> {
             this.lightyController = initController(this.rncModuleConfig.getControllerConfig());
-            startAndWaitLightyModule(this.lightyController);
-
+            return this.lightyController;
+        });
+        launcher.addModule(RESTCONF, () -> {
             this.lightyRestconf = initRestconf(this.rncModuleConfig.getRestconfConfig(),
                     this.rncModuleConfig.getServerConfig(), this.lightyController.getServices());
-            startAndWaitLightyModule(this.lightyRestconf);
-
+            return this.lightyRestconf;
+        }, CONTROLLER);
+        launcher.addModule(NETCONF, () -> {
             this.lightyNetconf = initNetconf(this.rncModuleConfig.getNetconfConfig(),
                     this.lightyController.getServices());
-            startAndWaitLightyModule(this.lightyNetconf);
-
-            if (rncModuleConfig.getAaaConfig().isEnableAAA()) {
+            return this.lightyNetconf;
+        }, CONTROLLER);
+        launcher.addModule(CALLHOME, () -> {
+            this.callhomePlugin = new NetconfCallhomePluginBuilder(lightyController.getServices(),
+                rncModuleConfig.getNetconfConfig(),
+                rncModuleConfig.getRestconfConfig().getInetAddress().getHostAddress(),
+                rncModuleConfig.getServerConfig().getCallhomePort()).build();
+            return this.callhomePlugin;
+        }, CONTROLLER);
+        if (rncModuleConfig.getAaaConfig().isEnableAAA()) {
+            // AAA and OpenAPI register their handlers to the web server created together with RESTCONF
+            launcher.addModule(AAA, () -> {
                 this.aaaLighty = initAAA(this.rncModuleConfig.getAaaConfig(), this.lightyController.getServices());
-                startAndWaitLightyModule(this.aaaLighty);
-            }
-
-            if (rncModuleConfig.getServerConfig().isEnableOpenApi()) {
+                return this.aaaLighty;
+            }, CONTROLLER, RESTCONF);
+        }
+        if (rncModuleConfig.getServerConfig().isEnableOpenApi()) {
+            launcher.addModule(OPENAPI, () -> {
                 this.openApi = initOpenApiLighty(this.rncModuleConfig.getRestconfConfig(),
                                                  this.jettyServerBuilder,
                                                  this.lightyController.getServices());
-                startAndWaitLightyModule(this.openApi);
-            }
-            callhomePlugin = new NetconfCallhomePluginBuilder(lightyController.getServices(),
-                rncModuleConfig.getNetconfConfig(),
-                rncModuleConfig.getRestconfConfig().getInetAddress().getHostAddress(),
-                rncModuleConfig.getServerConfig().getCallhomePort()).build();
-            startAndWaitLightyModule(callhomePlugin);
-        } catch (RncLightyAppStartException e) {
-            LOG.error("Unable to initialize and start RNC lighty.io module!", e);
+                return this.openApi;
+            }, CONTROLLER, RESTCONF);
+        }
+        if (!launcher.start()) {
+            LOG.error("Unable to initialize and start RNC lighty.io module!");
             return false;
         }
         LOG.info("RNC lighty.io module initialized successfully!");
@@ -144,50 +158,9 @@ public class RncLightyModule {
         return new OpenApiLighty(config, serverBuilder, services, null);
     }
 
-    private void startAndWaitLightyModule(final LightyModule lightyModule) throws RncLightyAppStartException {
-        try {
-            LOG.info("Initializing lighty.io module ({})...", lightyModule.getClass());
-            boolean startSuccess = lightyModule.start()
-                    .get(lightyModuleTimeout, DEFAULT_LIGHTY_MODULE_TIME_UNIT);
-            if (startSuccess) {
-                LOG.info("lighty.io module ({}) initialized successfully!", lightyModule.getClass());
-            } else {
-                throw new RncLightyAppStartException(
-                        String.format("Unable to initialize lighty.io module (%s)!", lightyModule.getClass()));
-            }
-        } catch (TimeoutException | ExecutionException e) {
-            throw new RncLightyAppStartException(
-                    String.format("Exception was thrown during initialization of lighty.io module (%s)!",
-                            lightyModule.getClass()), e);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new RncLightyAppStartException(
-                String.format("Exception was thrown during initialization of lighty.io module (%s)!",
-                    lightyModule.getClass()), e);
-        }
-    }
-
     public boolean close() {
         LOG.info("Stopping RNC lighty.io application...");
-        boolean success = true;
-        if (rncModuleConfig.getServerConfig().isEnableOpenApi() && this.openApi != null) {
-            success &= openApi.shutdown(lightyModuleTimeout, DEFAULT_LIGHTY_MODULE_TIME_UNIT);
-        }
-        if (this.rncModuleConfig.getAaaConfig().isEnableAAA() && this.aaaLighty != null) {
-            success &= aaaLighty.shutdown(lightyModuleTimeout, DEFAULT_LIGHTY_MODULE_TIME_UNIT);
-        }
-        if (this.lightyRestconf != null) {
-            success &= lightyRestconf.shutdown(lightyModuleTimeout, DEFAULT_LIGHTY_MODULE_TIME_UNIT);
-        }
-        if (this.lightyNetconf != null) {
-            success &= lightyNetconf.shutdown(lightyModuleTimeout, DEFAULT_LIGHTY_MODULE_TIME_UNIT);
-        }
-        if (this.lightyController != null) {
-            success &= lightyController.shutdown(lightyModuleTimeout, DEFAULT_LIGHTY_MODULE_TIME_UNIT);
-        }
-        if (this.callhomePlugin != null) {
-            success &= callhomePlugin.shutdown(lightyModuleTimeout, DEFAULT_LIGHTY_MODULE_TIME_UNIT);
-        }
+        final boolean success = this.launcher == null || this.launcher.shutdown();
         if (success) {
             LOG.info("RNC lighty.io module stopped successfully!");
             return true;
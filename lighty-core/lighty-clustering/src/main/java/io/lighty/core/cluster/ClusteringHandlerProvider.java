@@ -9,7 +9,9 @@ package io.lighty.core.cluster;
 
 import com.typesafe.config.Config;
 import io.lighty.core.cluster.config.ClusteringConfigUtils;
+import io.lighty.core.cluster.config.ModuleShardConfig;
 import io.lighty.core.cluster.kubernetes.KubernetesClusteringHandlerImpl;
+import java.util.List;
 import java.util.Optional;
 import org.eclipse.jdt.annotation.NonNull;
 import org.opendaylight.controller.cluster.ActorSystemProvider;
@@ -22,8 +24,24 @@ public final class ClusteringHandlerProvider {
 
     public static Optional<ClusteringHandler> getClusteringHandler(@NonNull ActorSystemProvider actorSystemProvider,
                                                                    @NonNull Config pekkoDeploymentConfig) {
+        return getClusteringHandler(actorSystemProvider, pekkoDeploymentConfig,
+                ClusteringConfigUtils.DEFAULT_MODULE_SHARDS);
+    }
+
+    /**
+     * Get clustering handler of the deployment.
+     *
+     * @param actorSystemProvider actor system provider
+     * @param pekkoDeploymentConfig actor system configuration
+     * @param moduleShards shard layout used when the handler generates module-shards.conf
+     * @return clustering handler, empty if the deployment does not need one
+     */
+    public static Optional<ClusteringHandler> getClusteringHandler(@NonNull ActorSystemProvider actorSystemProvider,
+                                                                   @NonNull Config pekkoDeploymentConfig,
+                                                                   @NonNull List<ModuleShardConfig> moduleShards) {
         if (ClusteringConfigUtils.isKubernetesDeployment(pekkoDeploymentConfig)) {
-            return Optional.of(new KubernetesClusteringHandlerImpl(actorSystemProvider, pekkoDeploymentConfig));
+            return Optional.of(new KubernetesClusteringHandlerImpl(actorSystemProvider, pekkoDeploymentConfig,
+                    moduleShards));
         }
         return Optional.empty();
     }
@@ -8,12 +8,30 @@
 package io.lighty.core.cluster.config;
 
 import com.typesafe.config.Config;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 public final class ClusteringConfigUtils {
 
     public static final String AKKA_DISCOVERY_METHOD_PATH = "pekko.discovery.method";
     public static final String K8S_DISCOVERY_API_NAME = "kubernetes-api";
+    public static final String DEFAULT_SHARD_NAME = "default";
+    public static final String MODULE_SHARDS_FILE_NAME = "module-shards.conf";
+    public static final String MODULES_FILE_NAME = "modules.conf";
+
+    /**
+     * Shard layout of default module-shards.conf and modules.conf.
+     */
+    public static final List<ModuleShardConfig> DEFAULT_MODULE_SHARDS = List.of(
+            new ModuleShardConfig("topology", "urn:TBD:params:xml:ns:yang:network-topology", List.of()),
+            new ModuleShardConfig("inventory", "urn:opendaylight:inventory", List.of()));
 
     private ClusteringConfigUtils() {
         // this class should not be instantiated
@@ -26,11 +44,80 @@ public final class ClusteringConfigUtils {
      * @return generated content
      */
     public static String generateModuleShardsForMembers(final List<String> memberRoles) {
-        return String.format("module-shards = [%n%s]", String.join(",\n",
-                new String[]{generateShard("default", memberRoles),
-                        generateShard("topology", memberRoles),
-                        generateShard("inventory", memberRoles)
-                }));
+        return generateModuleShardsForMembers(DEFAULT_MODULE_SHARDS, memberRoles);
+    }
+
+    /**
+     * Generate content of a Module-Shards.conf that specifies the members on which the Shards of the given shard
+     * layout should be replicated. Replicas configured for single shards are ignored, every shard is replicated
+     * to all given members.
+     *
+     * @param moduleShards - shard layout, shard {@value #DEFAULT_SHARD_NAME} is added if missing
+     * @param memberRoles - roles (members) to which the module shards should be replicated to
+     * @return generated content
+     */
+    public static String generateModuleShardsForMembers(final List<ModuleShardConfig> moduleShards,
+            final List<String> memberRoles) {
+        return generateModuleShards(moduleShards.stream()
+                .map(shard -> new ModuleShardConfig(shard.getName(), shard.getNamespace(), List.of()))
+                .collect(Collectors.toList()), memberRoles);
+    }
+
+    /**
+     * Generate content of a Module-Shards.conf for the given shard layout.
+     *
+     * @param moduleShards - shard layout, shard {@value #DEFAULT_SHARD_NAME} is added if missing
+     * @param defaultReplicas - members hosting replicas of shards without own replicas
+     * @return generated content
+     * @throws IllegalArgumentException if the layout is not valid
+     */
+    public static String generateModuleShards(final List<ModuleShardConfig> moduleShards,
+            final List<String> defaultReplicas) {
+        validate(moduleShards);
+        final List<String> shards = new ArrayList<>();
+        if (moduleShards.stream().noneMatch(ClusteringConfigUtils::isDefaultShard)) {
+            shards.add(generateShard(DEFAULT_SHARD_NAME, defaultReplicas));
+        }
+        for (ModuleShardConfig shard : moduleShards) {
+            shards.add(generateShard(shard.getName(),
+                    shard.getReplicas().isEmpty() ? defaultReplicas : shard.getReplicas()));
+        }
+        return String.format("module-shards = [%n%s%n]%n", String.join(",\n", shards));
+    }
+
+    /**
+     * Generate content of a Modules.conf mapping namespaces of modules to their shards.
+     *
+     * @param moduleShards - shard layout
+     * @return generated content
+     * @throws IllegalArgumentException if the layout is not valid
+     */
+    public static String generateModules(final List<ModuleShardConfig> moduleShards) {
+        validate(moduleShards);
+        return String.format("modules = [%n%s%n]%n", moduleShards.stream()
+                .filter(shard -> !isDefaultShard(shard))
+                .map(ClusteringConfigUtils::generateModule)
+                .collect(Collectors.joining(",\n")));
+    }
+
+    /**
+     * Write Module-Shards.conf and Modules.conf of the given shard layout into a directory.
+     *
+     * @param directory - target directory, created if missing
+     * @param moduleShards - shard layout
+     * @param defaultReplicas - members hosting replicas of shards without own replicas
+     * @return directory containing {@value #MODULE_SHARDS_FILE_NAME} and {@value #MODULES_FILE_NAME}
+     * @throws IOException if the files cannot be written
+     * @throws IllegalArgumentException if the layout is not valid
+     */
+    public static Path writeShardLayout(final Path directory, final List<ModuleShardConfig> moduleShards,
+            final List<String> defaultReplicas) throws IOException {
+        final String moduleShardsContent = generateModuleShards(moduleShards, defaultReplicas);
+        final String modulesContent = generateModules(moduleShards);
+        Files.createDirectories(directory);
+        Files.writeString(directory.resolve(MODULE_SHARDS_FILE_NAME), moduleShardsContent, StandardCharsets.UTF_8);
+        Files.writeString(directory.resolve(MODULES_FILE_NAME), modulesContent, StandardCharsets.UTF_8);
+        return directory;
     }
 
     public static boolean isKubernetesDeployment(final Config actorSystemConfig) {
@@ -38,17 +125,53 @@ public final class ClusteringConfigUtils {
                 && actorSystemConfig.getString(AKKA_DISCOVERY_METHOD_PATH).equalsIgnoreCase(K8S_DISCOVERY_API_NAME);
     }
 
+    private static void validate(final List<ModuleShardConfig> moduleShards) {
+        final Set<String> names = new HashSet<>();
+        final Set<String> namespaces = new HashSet<>();
+        for (ModuleShardConfig shard : moduleShards) {
+            if (shard.getName() == null || shard.getName().isBlank()) {
+                throw new IllegalArgumentException("Shard name is missing in " + shard);
+            }
+            if (!names.add(shard.getName())) {
+                throw new IllegalArgumentException("Duplicate shard " + shard.getName());
+            }
+            if (isDefaultShard(shard)) {
+                continue;
+            }
+            if (shard.getNamespace() == null || shard.getNamespace().isBlank()) {
+                throw new IllegalArgumentException("Module namespace is missing in " + shard);
+            }
+            if (!namespaces.add(shard.getNamespace())) {
+                throw new IllegalArgumentException("Namespace " + shard.getNamespace()
+                        + " is mapped to more than one shard");
+            }
+        }
+    }
+
+    private static boolean isDefaultShard(final ModuleShardConfig shard) {
+        return DEFAULT_SHARD_NAME.equals(shard.getName());
+    }
+
     private static String generateShard(final String name, final List<String> replicas) {
-        return "    {"
+        return "    {\n"
                 + "        name = \"" + name + "\"\n"
                 + "        shards = [\n"
                 + "            {\n"
                 + "                name=\"" + name + "\"\n"
-                + "                replicas = " + replicas
-                + "                \n"
+                + "                replicas = " + replicas.stream()
+                        .map(replica -> "\"" + replica + "\"")
+                        .collect(Collectors.joining(", ", "[", "]")) + "\n"
                 + "            }\n"
                 + "        ]\n"
                 + "    }";
     }
 
+    private static String generateModule(final ModuleShardConfig shard) {
+        return "    {\n"
+                + "        name = \"" + shard.getName() + "\"\n"
+                + "        namespace = \"" + shard.getNamespace() + "\"\n"
+                + "        shard-strategy = \"module\"\n"
+                + "    }";
+    }
+
 }
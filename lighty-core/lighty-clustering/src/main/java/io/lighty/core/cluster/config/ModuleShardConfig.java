@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package io.lighty.core.cluster.config;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Dedicated shard of a YANG module. All data of the module, i.e. all its top level containers and lists,
+ * are stored in the shard, which has its own leader, journal and commit queue in both datastores.
+ * Shard named {@value ClusteringConfigUtils#DEFAULT_SHARD_NAME} holds data of all modules without own shard,
+ * its namespace is ignored.
+ */
+public class ModuleShardConfig {
+
+    private String name;
+    private String namespace;
+    private List<String> replicas = List.of();
+
+    public ModuleShardConfig() {
+        // used by JSON deserialization
+    }
+
+    public ModuleShardConfig(final String name, final String namespace, final List<String> replicas) {
+        this.name = name;
+        this.namespace = namespace;
+        this.replicas = List.copyOf(replicas);
+    }
+
+    /**
+     * Get name of the module and of its shard.
+     *
+     * @return shard name
+     */
+    public String getName() {
+        return name;
+    }
+
+    public void setName(final String name) {
+        this.name = name;
+    }
+
+    /**
+     * Get YANG namespace of the module.
+     *
+     * @return module namespace
+     */
+    public String getNamespace() {
+        return namespace;
+    }
+
+    public void setNamespace(final String namespace) {
+        this.namespace = namespace;
+    }
+
+    /**
+     * Get names of cluster members hosting replicas of the shard.
+     *
+     * @return member names, empty if default replicas of shard layout are used
+     */
+    public List<String> getReplicas() {
+        return replicas;
+    }
+
+    public void setReplicas(final List<String> replicas) {
+        this.replicas = List.copyOf(replicas);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+
+        ModuleShardConfig that = (ModuleShardConfig) obj;
+
+        if (!Objects.equals(name, that.name)) {
+            return false;
+        }
+        if (!Objects.equals(namespace, that.namespace)) {
+            return false;
+        }
+        return replicas.equals(that.replicas);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Objects.hashCode(name);
+        result = 31 * result + Objects.hashCode(namespace);
+        result = 31 * result + replicas.hashCode();
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "ModuleShardConfig{name=" + name + ", namespace=" + namespace + ", replicas=" + replicas + "}";
+    }
+}
@@ -14,6 +14,7 @@ import com.typesafe.config.Config;
 import com.typesafe.config.ConfigFactory;
 import io.lighty.core.cluster.ClusteringHandler;
 import io.lighty.core.cluster.config.ClusteringConfigUtils;
+import io.lighty.core.cluster.config.ModuleShardConfig;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CountDownLatch;
@@ -38,12 +39,20 @@ public class KubernetesClusteringHandlerImpl implements ClusteringHandler {
 
     private final Config pekkoDeploymentConfig;
     private final ActorSystemProvider actorSystemProvider;
+    private final List<ModuleShardConfig> moduleShards;
     private Optional<Config> moduleShardsConfig;
 
     public KubernetesClusteringHandlerImpl(@NonNull final ActorSystemProvider actorSystemProvider,
                                            @NonNull final Config pekkoDeploymentConfig) {
+        this(actorSystemProvider, pekkoDeploymentConfig, ClusteringConfigUtils.DEFAULT_MODULE_SHARDS);
+    }
+
+    public KubernetesClusteringHandlerImpl(@NonNull final ActorSystemProvider actorSystemProvider,
+                                           @NonNull final Config pekkoDeploymentConfig,
+                                           @NonNull final List<ModuleShardConfig> moduleShards) {
         this.actorSystemProvider = actorSystemProvider;
         this.pekkoDeploymentConfig = pekkoDeploymentConfig;
+        this.moduleShards = List.copyOf(moduleShards);
         this.moduleShardsConfig = Optional.empty();
     }
 
@@ -76,7 +85,8 @@ public class KubernetesClusteringHandlerImpl implements ClusteringHandler {
                 .equals(Cluster.get(actorSystemProvider.getActorSystem()).state().getLeader())) {
             LOG.info("I am leader, generating custom module-shards.conf");
             final List<String> memberRoles = pekkoDeploymentConfig.getStringList("pekko.cluster.roles");
-            final String data = ClusteringConfigUtils.generateModuleShardsForMembers(memberRoles);
+            final String data = ClusteringConfigUtils.generateModuleShardsForMembers(moduleShards,
+                    memberRoles);
             moduleShardsConfig = Optional.of(ConfigFactory.parseString(data));
             return;
         }
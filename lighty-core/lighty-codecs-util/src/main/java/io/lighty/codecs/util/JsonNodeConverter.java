@@ -16,6 +16,7 @@ import java.io.IOException;
 import java.io.Reader;
 import java.io.StringWriter;
 import java.io.Writer;
+import org.opendaylight.yangtools.yang.common.QName;
 import org.opendaylight.yangtools.yang.common.XMLNamespace;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
 import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
@@ -118,6 +119,40 @@ public class JsonNodeConverter implements NodeConverter {
         }
     }
 
+    @Override
+    public void serializeData(final Inference inference, final NormalizedNode normalizedNode, final Writer writer)
+            throws SerializationException {
+        final boolean root = SchemaContext.NAME.equals(normalizedNode.name().getNodeType());
+        // Names of top level nodes have to be qualified by module name, nested nodes inherit namespace of parent
+        final var parentPath = inference.statementPath();
+        final XMLNamespace parentNamespace = root || parentPath.isEmpty() ? null
+                : ((QName) parentPath.get(parentPath.size() - 1).argument()).getNamespace();
+        // Nested writer does not close writer owned by the caller, enclosing object is written here
+        final JsonWriter jsonWriter = new JsonWriter(writer);
+        final boolean enclose = !(normalizedNode instanceof MapEntryNode);
+        final NormalizedNodeStreamWriter nnStreamWriter = JSONNormalizedNodeStreamWriter.createNestedWriter(
+                this.jsonCodecFactory, inference, parentNamespace, jsonWriter);
+        try (NormalizedNodeWriter nnWriter = NormalizedNodeWriter.forStreamWriter(nnStreamWriter)) {
+            if (enclose) {
+                jsonWriter.beginObject();
+            }
+            if (root) {
+                for (NormalizedNode child : ((ContainerNode) normalizedNode).body()) {
+                    nnWriter.write(child);
+                }
+            } else {
+                nnWriter.write(normalizedNode);
+            }
+            nnWriter.flush();
+            if (enclose) {
+                jsonWriter.endObject();
+            }
+            jsonWriter.flush();
+        } catch (IOException e) {
+            throw new SerializationException(e);
+        }
+    }
+
     @Override
     public Writer serializeRpc(final Inference inference,
             final NormalizedNode normalizedNode) throws SerializationException {
@@ -9,11 +9,13 @@ package io.lighty.codecs.util;
 
 import io.lighty.codecs.util.exception.DeserializationException;
 import io.lighty.codecs.util.exception.SerializationException;
+import java.io.IOException;
 import java.io.Reader;
 import java.io.Writer;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
 import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import org.opendaylight.yangtools.yang.model.api.SchemaContext;
 import org.opendaylight.yangtools.yang.model.api.stmt.SchemaNodeIdentifier.Absolute;
 import org.opendaylight.yangtools.yang.model.util.SchemaInferenceStack;
 import org.opendaylight.yangtools.yang.model.util.SchemaInferenceStack.Inference;
@@ -44,6 +46,30 @@ public interface NodeConverter {
     Writer serializeData(Inference inference, NormalizedNode normalizedNode)
             throws SerializationException;
 
+    /**
+     * Serializes the given {@link NormalizedNode} directly into the given {@link Writer}, data are not buffered
+     * in memory. Root node ({@link SchemaContext#NAME}) is written as document containing all top level nodes,
+     * in the same form which is accepted by {@link #deserialize(Reader)}.
+     *
+     * <p>Default implementation buffers the result of {@link #serializeData(Inference, NormalizedNode)} and copies it
+     * into the writer, {@link JsonNodeConverter} and {@link XmlNodeConverter} write directly.
+     *
+     * @param inference      {@link Inference} pointing to normalizedNode's parent
+     * @param normalizedNode normalized node to serialize
+     * @param writer         target writer, it is flushed but not closed
+     * @throws SerializationException if something goes wrong with serialization
+     */
+    default void serializeData(Inference inference, NormalizedNode normalizedNode, Writer writer)
+            throws SerializationException {
+        final Writer serialized = serializeData(inference, normalizedNode);
+        try {
+            writer.write(serialized.toString());
+            writer.flush();
+        } catch (IOException e) {
+            throw new SerializationException(e);
+        }
+    }
+
     default Writer serializeRpc(Absolute schemaNodeIdentifier, NormalizedNode normalizedNode)
             throws SerializationException {
         final Inference inference = SchemaInferenceStack.of(getModelContext(), schemaNodeIdentifier).toInference();
@@ -31,6 +31,7 @@ import org.opendaylight.yangtools.yang.data.codec.xml.XmlParserStream;
 import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNormalizedNodeStreamWriter;
 import org.opendaylight.yangtools.yang.data.impl.schema.NormalizationResultHolder;
 import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import org.opendaylight.yangtools.yang.model.api.SchemaContext;
 import org.opendaylight.yangtools.yang.model.util.SchemaInferenceStack.Inference;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -45,6 +46,8 @@ public class XmlNodeConverter implements NodeConverter {
 
     private static final Logger LOG = LoggerFactory.getLogger(XmlNodeConverter.class);
 
+    private static final String NETCONF_BASE_NAMESPACE = "urn:ietf:params:xml:ns:netconf:base:1.0";
+    private static final String DATA_ELEMENT = "data";
     private static final XMLInputFactory XML_IN_FACTORY;
     private static final XMLOutputFactory XML_OUT_FACTORY;
 
@@ -94,6 +97,41 @@ public class XmlNodeConverter implements NodeConverter {
         }
     }
 
+    @Override
+    public void serializeData(final Inference inference, final NormalizedNode normalizedNode, final Writer writer)
+            throws SerializationException {
+        final XMLStreamWriter xmlStreamWriter;
+        try {
+            xmlStreamWriter = XML_OUT_FACTORY.createXMLStreamWriter(writer);
+        } catch (XMLStreamException | FactoryConfigurationError e) {
+            throw new SerializationException(e);
+        }
+        final NormalizedNodeStreamWriter nnStreamWriter = XMLStreamNormalizedNodeStreamWriter
+                .create(xmlStreamWriter, inference);
+        // XMLStreamWriter does not close underlying writer owned by the caller
+        try (NormalizedNodeWriter nnWriter = NormalizedNodeWriter.forStreamWriter(nnStreamWriter)) {
+            if (SchemaContext.NAME.equals(normalizedNode.name().getNodeType())) {
+                xmlStreamWriter.writeStartElement(XMLConstants.DEFAULT_NS_PREFIX, DATA_ELEMENT,
+                        NETCONF_BASE_NAMESPACE);
+                xmlStreamWriter.writeDefaultNamespace(NETCONF_BASE_NAMESPACE);
+                for (NormalizedNode child : ((ContainerNode) normalizedNode).body()) {
+                    nnWriter.write(child);
+                }
+                nnWriter.flush();
+                xmlStreamWriter.writeEndElement();
+            } else {
+                nnWriter.write(normalizedNode);
+            }
+        } catch (XMLStreamException | IOException e) {
+            throw new SerializationException(e);
+        }
+        try {
+            writer.flush();
+        } catch (IOException e) {
+            throw new SerializationException(e);
+        }
+    }
+
     @Override
     public Writer serializeRpc(final Inference inference, final NormalizedNode normalizedNode)
             throws SerializationException {
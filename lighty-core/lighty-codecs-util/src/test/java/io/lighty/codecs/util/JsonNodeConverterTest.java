@@ -14,6 +14,7 @@ import io.lighty.codecs.util.exception.DeserializationException;
 import io.lighty.codecs.util.exception.SerializationException;
 import java.io.IOException;
 import java.io.StringReader;
+import java.io.StringWriter;
 import java.io.Writer;
 import org.junit.jupiter.api.Test;
 import org.opendaylight.yang.gen.v1.http.netconfcentral.org.ns.toaster.rev091120.Toaster;
@@ -34,6 +35,7 @@ import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
 import org.opendaylight.yangtools.yang.data.spi.node.ImmutableNodes;
 import org.opendaylight.yangtools.yang.model.api.SchemaContext;
 import org.opendaylight.yangtools.yang.model.api.stmt.SchemaNodeIdentifier.Absolute;
+import org.opendaylight.yangtools.yang.model.util.SchemaInferenceStack;
 import org.opendaylight.yangtools.yang.parser.api.YangParserException;
 
 class JsonNodeConverterTest extends AbstractCodecTest {
@@ -166,6 +168,16 @@ class JsonNodeConverterTest extends AbstractCodecTest {
         assertEquals(expectedListMultipleEntriesNN(), result);
     }
 
+    @Test
+    void testSerializeRootDataToWriter() throws SerializationException, DeserializationException {
+        final NormalizedNode rootData = bindingSerializer.deserialize(
+                new StringReader(loadResourceAsString("multiple-list-entries.json")));
+        final StringWriter writer = new StringWriter();
+        bindingSerializer.serializeData(SchemaInferenceStack.of(effectiveModelContext).toInference(), rootData,
+                writer);
+        assertEquals(rootData, bindingSerializer.deserialize(new StringReader(writer.toString())));
+    }
+
     private static NormalizedNode expectedToasterContainerNN() {
         return wrapWithBaseContainer(ImmutableNodes.newContainerBuilder()
                 .withNodeIdentifier(NodeIdentifier.create(Toaster.QNAME))
@@ -7,12 +7,14 @@
  */
 package io.lighty.codecs.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
 import io.lighty.codecs.util.exception.DeserializationException;
 import io.lighty.codecs.util.exception.SerializationException;
 import java.io.IOException;
 import java.io.StringReader;
+import java.io.StringWriter;
 import java.io.Writer;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
@@ -26,6 +28,7 @@ import org.opendaylight.yang.gen.v1.http.pantheon.tech.ns.test.models.rev180119.
 import org.opendaylight.yang.svc.v1.http.pantheon.tech.ns.test.models.rev180119.YangModuleInfoImpl;
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
 import org.opendaylight.yangtools.yang.model.api.stmt.SchemaNodeIdentifier.Absolute;
+import org.opendaylight.yangtools.yang.model.util.SchemaInferenceStack;
 import org.opendaylight.yangtools.yang.parser.api.YangParserException;
 
 class XmlNodeConverterTest extends AbstractCodecTest {
@@ -146,4 +149,14 @@ class XmlNodeConverterTest extends AbstractCodecTest {
                 new StringReader(loadResourceAsString("multiple-list-entries.xml")));
         assertNotNull(result.toString());
     }
+
+    @Test
+    void testSerializeRootDataToWriter() throws SerializationException, DeserializationException {
+        final NormalizedNode rootData = bindingSerializer.deserialize(
+                new StringReader(loadResourceAsString("multiple-list-entries.xml")));
+        final StringWriter writer = new StringWriter();
+        bindingSerializer.serializeData(SchemaInferenceStack.of(effectiveModelContext).toInference(), rootData,
+                writer);
+        assertEquals(rootData, bindingSerializer.deserialize(new StringReader(writer.toString())));
+    }
 }
\ No newline at end of file
@@ -16,28 +16,44 @@ import org.slf4j.LoggerFactory;
 
 public final class SocketAnalyzer {
     private static final Logger LOG = LoggerFactory.getLogger(SocketAnalyzer.class);
-    private static final int SOCKET_PORT_WAIT_TIME = 500;
+    private static final long INITIAL_RETRY_DELAY_MILLIS = 10;
+    private static final long MAX_RETRY_DELAY_MILLIS = 250;
 
     private SocketAnalyzer() {
 
     }
 
+    /**
+     * Wait until TCP port can be bound. Port is checked immediately, then with exponential backoff
+     * starting at 10 ms and capped at 250 ms, so released port is detected without long sleeps.
+     *
+     * @param port port to check
+     * @param timeout maximal time to wait
+     * @param timeUnit unit of timeout
+     * @return true if port is available, false if it was not released in specified time
+     * @throws InterruptedException if interrupted while waiting
+     */
     public static Boolean awaitPortAvailable(final int port, final long timeout, final TimeUnit timeUnit)
             throws InterruptedException {
 
         final long expectedEndTime = System.nanoTime() + timeUnit.toNanos(timeout);
+        long retryDelay = INITIAL_RETRY_DELAY_MILLIS;
 
-        while (System.nanoTime() <= expectedEndTime) {
+        while (true) {
             LOG.debug("Check if port {} is available", port);
             try (ServerSocket serverSocket = new ServerSocket(port)) {
                 LOG.debug("Port {} available", port);
                 return true;
             } catch (IOException e) {
-                LOG.info("Port {} is not available - Awaiting port availability 1s", port);
-                Thread.sleep(SOCKET_PORT_WAIT_TIME);
+                final long remaining = TimeUnit.NANOSECONDS.toMillis(expectedEndTime - System.nanoTime());
+                if (remaining <= 0) {
+                    return false;
+                }
+                final long delay = Math.min(retryDelay, remaining);
+                LOG.info("Port {} is not available - Awaiting port availability {}ms", port, delay);
+                Thread.sleep(delay);
+                retryDelay = Math.min(retryDelay * 2, MAX_RETRY_DELAY_MILLIS);
             }
         }
-
-        return false;
     }
 }
@@ -25,6 +25,25 @@ class SocketAnalyzerTest {
         }
     }
 
+    @Test
+    void socketAnalyzerDetectsReleasedPort() throws IOException, InterruptedException {
+        final int availablePort = findAvailablePort();
+        final ServerSocket serverSocket = new ServerSocket(availablePort);
+        final Thread releaser = new Thread(() -> {
+            try {
+                Thread.sleep(200);
+                serverSocket.close();
+            } catch (IOException | InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        releaser.start();
+        final long start = System.nanoTime();
+        Assertions.assertTrue(SocketAnalyzer.awaitPortAvailable(availablePort, TIMEOUT, TimeUnit.SECONDS));
+        Assertions.assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(1));
+        releaser.join();
+    }
+
     private static int findAvailablePort() throws InterruptedException {
         for (int port = 50000; port < 80000; port++) {
             if (SocketAnalyzer.awaitPortAvailable(port, 1, TimeUnit.SECONDS)) {
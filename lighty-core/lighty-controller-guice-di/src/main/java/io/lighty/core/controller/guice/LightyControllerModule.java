@@ -11,6 +11,7 @@ import com.google.inject.AbstractModule;
 import com.google.inject.name.Names;
 import io.lighty.core.controller.api.LightyModuleRegistryService;
 import io.lighty.core.controller.api.LightyServices;
+import io.lighty.core.controller.impl.services.PartitionedDOMNotificationRouter;
 import org.opendaylight.controller.cluster.ActorSystemProvider;
 import org.opendaylight.controller.cluster.datastore.DistributedDataStoreInterface;
 import org.opendaylight.controller.cluster.datastore.admin.ClusterAdminRpcService;
@@ -62,12 +63,18 @@ public class LightyControllerModule extends AbstractModule {
                 .toInstance(lightyServices.getDOMSchemaService());
         bind(DOMNotificationRouter.class)
                 .toInstance(lightyServices.getDOMNotificationRouter());
+        if (lightyServices.getPartitionedDOMNotificationRouter().isPresent()) {
+            bind(PartitionedDOMNotificationRouter.class)
+                    .toInstance(lightyServices.getPartitionedDOMNotificationRouter().orElseThrow());
+        }
         bind(DistributedDataStoreInterface.class)
                 .annotatedWith(Names.named("ControllerConfigDatastore"))
                 .toInstance(lightyServices.getConfigDatastore());
-        bind(DistributedDataStoreInterface.class)
-                .annotatedWith(Names.named("ControllerOperationalDatastore"))
-                .toInstance(lightyServices.getOperationalDatastore());
+        if (lightyServices.getOperationalDatastore() != null) {
+            bind(DistributedDataStoreInterface.class)
+                    .annotatedWith(Names.named("ControllerOperationalDatastore"))
+                    .toInstance(lightyServices.getOperationalDatastore());
+        }
         bind(BindingNormalizedNodeSerializer.class)
                 .toInstance(lightyServices.getBindingNormalizedNodeSerializer());
         bind(DefaultDynamicBindingDataCodec.class)
@@ -76,8 +83,10 @@ public class LightyControllerModule extends AbstractModule {
                 .toInstance(lightyServices.getDOMEntityOwnershipService());
         bind(EntityOwnershipService.class)
                 .toInstance(lightyServices.getEntityOwnershipService());
-        bind(ClusterAdminRpcService.class)
-                .toInstance(lightyServices.getClusterAdminRPCService());
+        if (lightyServices.getClusterAdminRPCService() != null) {
+            bind(ClusterAdminRpcService.class)
+                    .toInstance(lightyServices.getClusterAdminRPCService());
+        }
         bind(ClusterSingletonServiceProvider.class)
                 .toInstance(lightyServices.getClusterSingletonServiceProvider());
         bind(DOMMountPointService.class)
@@ -9,6 +9,8 @@ package io.lighty.core.controller.spring;
 
 import io.lighty.core.controller.api.LightyController;
 import io.lighty.core.controller.api.LightyModuleRegistryService;
+import io.lighty.core.controller.api.LightyServices;
+import io.lighty.core.controller.impl.services.PartitionedDOMNotificationRouter;
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
 import org.opendaylight.controller.cluster.ActorSystemProvider;
@@ -35,6 +37,9 @@ import org.opendaylight.yangtools.binding.data.codec.api.BindingNormalizedNodeSe
 import org.opendaylight.yangtools.binding.data.codec.impl.di.DefaultDynamicBindingDataCodec;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
@@ -46,6 +51,17 @@ import org.springframework.context.annotation.Primary;
  * {@link LightyController} shutdown process. This configuration initializes all core lighty.io services as spring
  * beans.
  *
+ * <p>Services which are not provided by every controller configuration are registered as beans only when
+ * the controller provides them, once it is initialized: {@link PartitionedDOMNotificationRouter} when notification
+ * routing is partitioned. {@link DOMNotificationRouter} bean is the facade of all partitions then. Beans injecting
+ * the partitioned router have to be created after the {@code lightyController} bean, e.g. with
+ * {@code @DependsOn("lightyController")}, or inject it lazily through
+ * {@link org.springframework.beans.factory.ObjectProvider}.
+ *
+ * <p>With in-memory operational datastore the controller provides neither {@code OperationalDatastore} nor
+ * {@link ClusterAdminRpcService}, their beans are null beans then. Applications which may run in this mode inject
+ * them through {@link org.springframework.beans.factory.ObjectProvider#getIfAvailable()} or as {@code Optional}.
+ *
  * <p>Example:
  * <pre>
  * &#64;Configuration
@@ -71,11 +87,12 @@ import org.springframework.context.annotation.Primary;
  * @author juraj.veverka
  */
 @Configuration
-public abstract class LightyCoreSpringConfiguration {
+public abstract class LightyCoreSpringConfiguration implements BeanFactoryAware {
 
     private static final Logger LOG = LoggerFactory.getLogger(LightyCoreSpringConfiguration.class);
 
     private LightyController lightyController;
+    private ConfigurableListableBeanFactory beanFactory;
 
     /**
      * Initializes {@link LightyController} instance, which will be used in Spring to initializes all lighty.io services
@@ -96,12 +113,25 @@ public abstract class LightyCoreSpringConfiguration {
      */
     protected abstract void shutdownLightyController(LightyController lightyController) throws LightyLaunchException;
 
+    @Override
+    public void setBeanFactory(final BeanFactory newBeanFactory) {
+        this.beanFactory = (ConfigurableListableBeanFactory) newBeanFactory;
+    }
+
     @PostConstruct
     public void init() throws LightyLaunchException, InterruptedException {
         lightyController = this.initLightyController();
+        registerOptionalServices(lightyController.getServices());
         LOG.debug("LightyCoreSpringConfiguration initialized {}", lightyController);
     }
 
+    private void registerOptionalServices(final LightyServices services) {
+        if (services.getPartitionedDOMNotificationRouter().isPresent()) {
+            this.beanFactory.registerSingleton("partitionedDOMNotificationRouter",
+                    services.getPartitionedDOMNotificationRouter().orElseThrow());
+        }
+    }
+
     @PreDestroy
     public void preDestroy() throws LightyLaunchException {
         if (this.lightyController != null) {
@@ -154,13 +184,13 @@ public abstract class LightyCoreSpringConfiguration {
     }
 
     @Bean(destroyMethod = "")
-    public DOMNotificationService domNotificationService() {
-        return this.lightyController.getServices().getDOMNotificationService();
+    public DOMNotificationRouter domNotificationRouter() {
+        return this.lightyController.getServices().getDOMNotificationRouter();
     }
 
     @Bean(destroyMethod = "")
-    public DOMNotificationRouter domNotificationRouter() {
-        return this.lightyController.getServices().getDOMNotificationRouter();
+    public DOMNotificationService domNotificationService() {
+        return this.lightyController.getServices().getDOMNotificationService();
     }
 
     @Bean(name = "ConfigDatastore", destroyMethod = "")
@@ -168,6 +198,11 @@ public abstract class LightyCoreSpringConfiguration {
         return this.lightyController.getServices().getConfigDatastore();
     }
 
+    /**
+     * Operational distributed datastore, null bean with in-memory operational datastore.
+     *
+     * @return operational datastore or null
+     */
     @Bean(name = "OperationalDatastore", destroyMethod = "")
     public DistributedDataStoreInterface operationalDatastore() {
         return this.lightyController.getServices().getOperationalDatastore();
@@ -209,6 +244,11 @@ public abstract class LightyCoreSpringConfiguration {
         return this.lightyController.getServices().getEntityOwnershipService();
     }
 
+    /**
+     * Cluster admin RPC service, null bean with in-memory operational datastore.
+     *
+     * @return cluster admin RPC service or null
+     */
     @Bean(destroyMethod = "")
     public ClusterAdminRpcService clusterAdminRPCService() {
         return this.lightyController.getServices().getClusterAdminRPCService();
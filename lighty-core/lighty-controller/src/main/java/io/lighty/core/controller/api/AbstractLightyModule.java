@@ -13,7 +13,6 @@ import com.google.common.util.concurrent.ListeningExecutorService;
 import com.google.common.util.concurrent.MoreExecutors;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import javax.servlet.ServletException;
 import org.slf4j.Logger;
@@ -94,6 +93,28 @@ public abstract class AbstractLightyModule implements LightyModule {
      */
     protected abstract boolean stopProcedure() throws InterruptedException, ExecutionException;
 
+    /**
+     * This method is called by {@link LightyModuleLauncher#checkpointRestore()} on the running module before JVM
+     * checkpoint. CRaC does not allow open sockets in checkpoint, so implementation should close listening sockets,
+     * client connections and network transports held by the module, the module keeps running otherwise.
+     * If the module can not release them, it should return false, then no checkpoint is created and
+     * {@link AbstractLightyModule#afterRestore()} is called on modules which were already prepared.
+     * @return true if the module is ready for checkpoint
+     */
+    protected boolean beforeCheckpoint() {
+        return true;
+    }
+
+    /**
+     * This method is called by {@link LightyModuleLauncher#checkpointRestore()} on the same module instance after
+     * JVM was restored from checkpoint, or after checkpoint was not created. Implementation should reopen resources
+     * closed in {@link AbstractLightyModule#beforeCheckpoint()}.
+     * @return success of restore
+     */
+    protected boolean afterRestore() {
+        return true;
+    }
+
     @Override
     public synchronized ListenableFuture<Boolean> start() {
         if (this.running) {
@@ -102,9 +123,10 @@ public abstract class AbstractLightyModule implements LightyModule {
         }
 
         if (this.executorService == null) {
-            LOG.debug("Creating default single thread ExecutorService for LightyModule {}.",
-                    this.getClass().getSimpleName());
-            this.executorService = MoreExecutors.listeningDecorator(Executors.newSingleThreadExecutor());
+            LOG.debug("Creating default single thread ExecutorService for LightyModule {} in {} execution mode.",
+                    this.getClass().getSimpleName(), ExecutionPolicy.getMode());
+            this.executorService = MoreExecutors.listeningDecorator(
+                    ExecutionPolicy.newLifecycleExecutor(this.getClass().getSimpleName()));
         }
 
         LOG.info("Submitted start of LightyModule {}.", this.getClass().getSimpleName());
@@ -112,7 +134,12 @@ public abstract class AbstractLightyModule implements LightyModule {
             synchronized (this) {
                 LOG.debug("Starting initialization of LightyModule {}", this.getClass().getSimpleName());
                 this.running = true;
-                boolean initResult = initProcedure();
+                StartupTimeline.getInstance().moduleStarted();
+                final boolean initResult;
+                try (StartupTimeline.Phase phase = StartupTimeline.getInstance()
+                        .startPhase(this.getClass().getSimpleName(), "initProcedure")) {
+                    initResult = initProcedure();
+                }
                 LOG.info("LightyModule {} started.", this.getClass().getSimpleName());
                 return initResult;
             }
@@ -129,7 +156,12 @@ public abstract class AbstractLightyModule implements LightyModule {
         ListenableFuture<Boolean> shutdownFuture = this.executorService.submit(() -> {
             synchronized (AbstractLightyModule.this) {
                 LOG.debug("Starting shutdown procedure of LightyModule {}.", this.getClass().getSimpleName());
-                final boolean stopResult = stopProcedure();
+                final boolean stopResult;
+                try {
+                    stopResult = stopProcedure();
+                } finally {
+                    StartupTimeline.getInstance().moduleStopped();
+                }
                 this.running = false;
                 LOG.info("LightyModule {} shutdown complete.", this.getClass().getSimpleName());
                 return stopResult;
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package io.lighty.core.controller.api;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Access to CRaC (Coordinated Restore at Checkpoint) of the running JVM. CRaC API is available only
+ * on JDK builds with CRaC support, so it is accessed reflectively and this class can be used on any JDK.
+ * JVM must be started with {@code -XX:CRaCCheckpointTo=<dir>} to be able to create checkpoint.
+ *
+ * <p>Checkpoint of running lighty.io application is created by {@link LightyModuleLauncher#checkpointRestore()}.
+ */
+public final class CheckpointSupport {
+    private static final Logger LOG = LoggerFactory.getLogger(CheckpointSupport.class);
+    private static final String CRAC_CORE_CLASS = "jdk.crac.Core";
+    private static final Optional<Method> CHECKPOINT_RESTORE = findCheckpointRestore();
+
+    private CheckpointSupport() {
+        throw new UnsupportedOperationException("Init of utility class is forbidden");
+    }
+
+    /**
+     * Check if running JVM supports checkpoint and restore.
+     *
+     * @return true if CRaC API is available
+     */
+    public static boolean isSupported() {
+        return CHECKPOINT_RESTORE.isPresent();
+    }
+
+    /**
+     * Create checkpoint of the JVM. Method returns after JVM is restored from the checkpoint, or immediately
+     * if checkpoint could not be created.
+     *
+     * @return true if JVM was checkpointed and restored, false if checkpoint failed or is not supported
+     */
+    public static boolean checkpointRestore() {
+        if (CHECKPOINT_RESTORE.isEmpty()) {
+            LOG.warn("Checkpoint is not supported by this JVM");
+            return false;
+        }
+        try {
+            CHECKPOINT_RESTORE.get().invoke(null);
+            LOG.info("JVM restored from checkpoint");
+            return true;
+        } catch (IllegalAccessException e) {
+            LOG.error("Unable to access CRaC API", e);
+        } catch (InvocationTargetException e) {
+            LOG.error("Checkpoint of JVM failed", e.getCause());
+        }
+        return false;
+    }
+
+    private static Optional<Method> findCheckpointRestore() {
+        try {
+            return Optional.of(Class.forName(CRAC_CORE_CLASS).getMethod("checkpointRestore"));
+        } catch (ClassNotFoundException | NoSuchMethodException e) {
+            LOG.debug("CRaC API is not available", e);
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package io.lighty.core.controller.api;
+
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.opendaylight.yangtools.util.concurrent.SpecialExecutors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * JVM wide policy deciding which threads execute Lighty module lifecycle, commit callbacks and blocking
+ * southbound work. {@link Mode#PLATFORM} keeps classic bounded platform thread pools, {@link Mode#VIRTUAL}
+ * runs every task on its own virtual thread, so thousands of tasks blocked on device futures do not need
+ * a large platform thread pool. Executors already created are not affected by change of the mode.
+ *
+ * <p>Default mode is read from system property {@value #MODE_PROPERTY} ({@code platform} or {@code virtual}),
+ * unknown value falls back to {@link Mode#PLATFORM}.
+ * In virtual mode pinning of carrier threads is recorded by {@link VirtualThreadPinningMonitor}.
+ */
+public final class ExecutionPolicy {
+    public static final String MODE_PROPERTY = "lighty.execution.mode";
+
+    private static final Logger LOG = LoggerFactory.getLogger(ExecutionPolicy.class);
+    private static volatile Mode mode = parseMode(System.getProperty(MODE_PROPERTY));
+
+    static {
+        if (mode == Mode.VIRTUAL) {
+            VirtualThreadPinningMonitor.getInstance().start();
+        }
+    }
+
+    private ExecutionPolicy() {
+        throw new UnsupportedOperationException("Init of utility class is forbidden");
+    }
+
+    public static Mode getMode() {
+        return mode;
+    }
+
+    /**
+     * Switch execution mode for executors created from now on. Switching to {@link Mode#VIRTUAL} starts
+     * {@link VirtualThreadPinningMonitor}.
+     *
+     * @param newMode execution mode
+     */
+    public static void setMode(final Mode newMode) {
+        mode = Objects.requireNonNull(newMode);
+        LOG.info("Lighty execution mode set to {}", newMode);
+        if (newMode == Mode.VIRTUAL) {
+            VirtualThreadPinningMonitor.getInstance().start();
+        }
+    }
+
+    /**
+     * Create executor running start and shutdown of single module. Tasks are executed one after another
+     * in order of submission.
+     *
+     * @param name name of the module
+     * @return lifecycle executor
+     */
+    public static ExecutorService newLifecycleExecutor(final String name) {
+        if (mode == Mode.VIRTUAL) {
+            return Executors.newSingleThreadExecutor(Thread.ofVirtual().name(name + "-lifecycle-", 0).factory());
+        }
+        return Executors.newSingleThreadExecutor();
+    }
+
+    /**
+     * Create executor for tasks which mostly block on futures. In platform mode it is bounded cached thread pool
+     * rejecting tasks when the queue is full, in virtual mode every task gets its own virtual thread.
+     *
+     * @param maximumPoolSize maximal number of platform threads
+     * @param maximumQueueSize maximal number of queued tasks in platform mode
+     * @param threadPrefix prefix of thread names
+     * @return executor for blocking tasks
+     */
+    public static ExecutorService newBoundedExecutor(final int maximumPoolSize, final int maximumQueueSize,
+            final String threadPrefix) {
+        if (mode == Mode.VIRTUAL) {
+            return newVirtualThreadPerTaskExecutor(threadPrefix);
+        }
+        return SpecialExecutors.newBoundedCachedThreadPool(maximumPoolSize, maximumQueueSize, threadPrefix,
+                ExecutionPolicy.class);
+    }
+
+    /**
+     * Create executor for tasks which mostly block on futures. In platform mode it is bounded cached thread pool
+     * blocking submitter when the queue is full, in virtual mode every task gets its own virtual thread.
+     *
+     * @param maximumPoolSize maximal number of platform threads
+     * @param maximumQueueSize maximal number of queued tasks in platform mode
+     * @param threadPrefix prefix of thread names
+     * @return executor for blocking tasks
+     */
+    public static ExecutorService newBlockingBoundedExecutor(final int maximumPoolSize, final int maximumQueueSize,
+            final String threadPrefix) {
+        if (mode == Mode.VIRTUAL) {
+            return newVirtualThreadPerTaskExecutor(threadPrefix);
+        }
+        return SpecialExecutors.newBlockingBoundedCachedThreadPool(maximumPoolSize, maximumQueueSize, threadPrefix,
+                ExecutionPolicy.class);
+    }
+
+    /**
+     * Create executor running every task on its own virtual thread regardless of execution mode.
+     *
+     * @param threadPrefix prefix of thread names
+     * @return virtual thread per task executor
+     */
+    public static ExecutorService newVirtualExecutor(final String threadPrefix) {
+        return newVirtualThreadPerTaskExecutor(threadPrefix);
+    }
+
+    static Mode parseMode(final String value) {
+        if (value == null) {
+            return Mode.PLATFORM;
+        }
+        try {
+            return Mode.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            LOG.warn("Unknown value '{}' of {}, using {} execution mode", value, MODE_PROPERTY, Mode.PLATFORM);
+            return Mode.PLATFORM;
+        }
+    }
+
+    private static ExecutorService newVirtualThreadPerTaskExecutor(final String threadPrefix) {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(threadPrefix + "-", 0).factory());
+    }
+
+    public enum Mode {
+        /**
+         * Bounded pools of platform threads.
+         */
+        PLATFORM,
+        /**
+         * Virtual thread per task.
+         */
+        VIRTUAL
+    }
+}
@@ -0,0 +1,311 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package io.lighty.core.controller.api;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkState;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Launcher of Lighty modules which form one application. Every module is registered with names of modules
+ * it depends on. Module is created and started only after all its dependencies were started, modules
+ * which do not depend on each other are created and started concurrently. Shutdown goes in reverse order,
+ * module is shut down only after all modules depending on it were shut down.
+ *
+ * <p>Dependencies must be registered before modules which depend on them, so registration order is always
+ * a valid topological order and dependency cycles can not be created.
+ *
+ * <p><b>Example usage:</b>
+ * <pre>
+ * <code>
+ *     LightyModuleLauncher launcher = new LightyModuleLauncher(60, TimeUnit.SECONDS);
+ *     launcher.addModule("controller", () -&gt; controller);
+ *     launcher.addModule("restconf", () -&gt; createRestconf(controller.getServices()), "controller");
+ *     launcher.addModule("netconf", () -&gt; createNetconf(controller.getServices()), "controller");
+ *     boolean started = launcher.start();
+ *     ...
+ *     launcher.shutdown();
+ * </code>
+ * </pre>
+ */
+public final class LightyModuleLauncher {
+    private static final Logger LOG = LoggerFactory.getLogger(LightyModuleLauncher.class);
+    private static final String TIMELINE_MODULE = LightyModuleLauncher.class.getSimpleName();
+
+    private final Map<String, ModuleEntry> entries = new LinkedHashMap<>();
+    private final long timeout;
+    private final TimeUnit timeUnit;
+    private boolean started;
+
+    /**
+     * Create launcher.
+     *
+     * @param timeout  maximal time to wait for start or shutdown of single module
+     * @param timeUnit unit of timeout
+     */
+    public LightyModuleLauncher(final long timeout, final TimeUnit timeUnit) {
+        this.timeout = timeout;
+        this.timeUnit = Objects.requireNonNull(timeUnit);
+    }
+
+    /**
+     * Register module. Factory is called just before the module is started, after all its dependencies
+     * were started, so it can use services provided by them.
+     *
+     * @param name         unique name of module
+     * @param factory      factory creating the module
+     * @param dependencies names of already registered modules which must be started before this module
+     * @return this launcher
+     * @throws IllegalArgumentException if name is already registered or any dependency is not registered
+     * @throws IllegalStateException if launcher was already started
+     */
+    public synchronized LightyModuleLauncher addModule(final String name, final ModuleFactory factory,
+            final String... dependencies) {
+        checkState(!started, "Launcher was already started");
+        checkArgument(!entries.containsKey(Objects.requireNonNull(name)), "Module %s is already registered", name);
+        for (String dependency : dependencies) {
+            checkArgument(entries.containsKey(dependency), "Module %s depends on unknown module %s", name,
+                    dependency);
+        }
+        entries.put(name, new ModuleEntry(name, Objects.requireNonNull(factory), Arrays.asList(dependencies)));
+        return this;
+    }
+
+    /**
+     * Create and start all registered modules and wait until they are started. If any module fails to start,
+     * modules depending on it are not created, independent modules are still started. Modules which were
+     * created are shut down by {@link #shutdown()} regardless of start result. Launcher can be started
+     * again after {@link #shutdown()}, modules are then created again by their factories.
+     *
+     * @return true if all modules were started successfully, false otherwise
+     */
+    public synchronized boolean start() {
+        checkState(!started, "Launcher was already started");
+        started = true;
+        final long startNanos = System.nanoTime();
+        final ExecutorService executor = createExecutor("lighty-module-start-%d");
+        try {
+            final Map<String, CompletableFuture<Void>> futures = new HashMap<>();
+            for (ModuleEntry entry : entries.values()) {
+                final CompletableFuture<?>[] dependencyFutures = entry.dependencies.stream()
+                        .map(futures::get)
+                        .toArray(CompletableFuture[]::new);
+                futures.put(entry.name, CompletableFuture.allOf(dependencyFutures)
+                        .thenRunAsync(() -> startModule(entry), executor));
+            }
+            CompletableFuture.allOf(futures.values().toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException e) {
+            LOG.error("Unable to start lighty.io modules!", e.getCause());
+            return false;
+        } finally {
+            executor.shutdown();
+        }
+        LOG.info("lighty.io modules started in {} ms: {}",
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos), getStartDurations());
+        return true;
+    }
+
+    /**
+     * Shut down all created modules and wait until they are shut down. Module is shut down after all modules
+     * depending on it were shut down, independent modules are shut down concurrently.
+     *
+     * @return true if all created modules were shut down successfully, false otherwise
+     */
+    public synchronized boolean shutdown() {
+        final long startNanos = System.nanoTime();
+        final ExecutorService executor = createExecutor("lighty-module-shutdown-%d");
+        try {
+            final Map<String, CompletableFuture<Boolean>> futures = new HashMap<>();
+            final List<ModuleEntry> reversed = new ArrayList<>(entries.values());
+            Collections.reverse(reversed);
+            for (ModuleEntry entry : reversed) {
+                final CompletableFuture<?>[] dependentFutures = reversed.stream()
+                        .filter(dependent -> dependent.dependencies.contains(entry.name))
+                        .map(dependent -> futures.get(dependent.name))
+                        .toArray(CompletableFuture[]::new);
+                futures.put(entry.name, CompletableFuture.allOf(dependentFutures)
+                        .thenApplyAsync(ignored -> shutdownModule(entry), executor));
+            }
+            boolean success = true;
+            for (CompletableFuture<Boolean> future : futures.values()) {
+                success &= future.join();
+            }
+            LOG.info("lighty.io modules shut down in {} ms: {}",
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos), getShutdownDurations());
+            return success;
+        } finally {
+            executor.shutdown();
+            started = false;
+        }
+    }
+
+    /**
+     * Create checkpoint of the JVM running started modules, see {@link CheckpointSupport}. CRaC does not allow
+     * open sockets in checkpoint, so {@link AbstractLightyModule#beforeCheckpoint()} is called on running modules
+     * in reverse dependency order to close their listeners and transports, then the JVM is checkpointed
+     * and {@link AbstractLightyModule#afterRestore()} is called on the same module instances in dependency order
+     * to reopen them. Modules are not shut down, restored JVM continues with started modules, their data
+     * and caches.
+     *
+     * <p>If a module can not be prepared for checkpoint, no checkpoint is created, modules which were already
+     * prepared are restored and the application keeps running.
+     *
+     * @return true if checkpoint was created and all modules were restored
+     * @throws IllegalStateException if launcher was not started
+     */
+    public synchronized boolean checkpointRestore() {
+        checkState(started, "Launcher was not started");
+        if (!CheckpointSupport.isSupported()) {
+            LOG.warn("Checkpoint is not supported by this JVM, lighty.io modules keep running");
+            return false;
+        }
+        final List<ModuleEntry> reversed = new ArrayList<>(entries.values());
+        Collections.reverse(reversed);
+        final List<AbstractLightyModule> prepared = new ArrayList<>();
+        boolean ready = true;
+        for (ModuleEntry entry : reversed) {
+            if (!(entry.module instanceof AbstractLightyModule)) {
+                continue;
+            }
+            final AbstractLightyModule module = (AbstractLightyModule) entry.module;
+            if (!module.beforeCheckpoint()) {
+                LOG.warn("Module {} can not be prepared for checkpoint, lighty.io modules keep running", entry.name);
+                ready = false;
+                break;
+            }
+            prepared.add(module);
+        }
+        final boolean checkpointed = ready && CheckpointSupport.checkpointRestore();
+        Collections.reverse(prepared);
+        boolean restored = true;
+        for (AbstractLightyModule module : prepared) {
+            restored &= module.afterRestore();
+        }
+        return checkpointed && restored;
+    }
+
+    /**
+     * Get time spent by creating and starting of each started module, in registration order.
+     *
+     * @return start durations of modules
+     */
+    public synchronized Map<String, Duration> getStartDurations() {
+        final Map<String, Duration> durations = new LinkedHashMap<>();
+        entries.values().stream()
+                .filter(entry -> entry.startDuration != null)
+                .forEach(entry -> durations.put(entry.name, entry.startDuration));
+        return durations;
+    }
+
+    /**
+     * Get time spent by shutdown of each module, in registration order.
+     *
+     * @return shutdown durations of modules
+     */
+    public synchronized Map<String, Duration> getShutdownDurations() {
+        final Map<String, Duration> durations = new LinkedHashMap<>();
+        entries.values().stream()
+                .filter(entry -> entry.shutdownDuration != null)
+                .forEach(entry -> durations.put(entry.name, entry.shutdownDuration));
+        return durations;
+    }
+
+    @SuppressWarnings("IllegalCatch")
+    private void startModule(final ModuleEntry entry) {
+        final long startNanos = System.nanoTime();
+        try (StartupTimeline.Phase phase = StartupTimeline.getInstance().startPhase(TIMELINE_MODULE, entry.name)) {
+            LOG.info("Initializing lighty.io module ({})...", entry.name);
+            entry.module = entry.factory.create();
+            if (!entry.module.start().get(timeout, timeUnit)) {
+                throw new IllegalStateException(
+                        String.format("Unable to initialize lighty.io module (%s)!", entry.name));
+            }
+            entry.startDuration = Duration.ofNanos(System.nanoTime() - startNanos);
+            LOG.info("lighty.io module ({}) initialized successfully in {} ms!", entry.name,
+                    entry.startDuration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(String.format(
+                    "Exception was thrown during initialization of lighty.io module (%s)!", entry.name), e);
+        } catch (TimeoutException | ExecutionException e) {
+            throw new IllegalStateException(String.format(
+                    "Exception was thrown during initialization of lighty.io module (%s)!", entry.name), e);
+        } catch (IllegalStateException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException(String.format(
+                    "Unable to create lighty.io module (%s)!", entry.name), e);
+        }
+    }
+
+    private boolean shutdownModule(final ModuleEntry entry) {
+        if (entry.module == null) {
+            return true;
+        }
+        final long startNanos = System.nanoTime();
+        final boolean success = entry.module.shutdown(timeout, timeUnit);
+        entry.shutdownDuration = Duration.ofNanos(System.nanoTime() - startNanos);
+        entry.module = null;
+        return success;
+    }
+
+    private ExecutorService createExecutor(final String nameFormat) {
+        return Executors.newCachedThreadPool(new ThreadFactoryBuilder()
+                .setNameFormat(nameFormat)
+                .setDaemon(true)
+                .build());
+    }
+
+    /**
+     * Factory of Lighty module, it is called by launcher once all dependencies of the module were started.
+     */
+    @FunctionalInterface
+    public interface ModuleFactory {
+        /**
+         * Create module.
+         *
+         * @return created module, it must not be started yet
+         * @throws Exception if module can not be created
+         */
+        LightyModule create() throws Exception;
+    }
+
+    private static final class ModuleEntry {
+        private final String name;
+        private final ModuleFactory factory;
+        private final List<String> dependencies;
+        private volatile LightyModule module;
+        private volatile Duration startDuration;
+        private volatile Duration shutdownDuration;
+
+        ModuleEntry(final String name, final ModuleFactory factory, final List<String> dependencies) {
+            this.name = name;
+            this.factory = factory;
+            this.dependencies = List.copyOf(dependencies);
+        }
+    }
+}
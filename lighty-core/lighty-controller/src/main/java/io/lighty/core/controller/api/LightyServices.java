@@ -7,7 +7,13 @@
  */
 package io.lighty.core.controller.api;
 
+import io.lighty.core.controller.impl.services.BatchingDOMDataBroker;
+import io.lighty.core.controller.impl.services.CachingDOMDataBroker;
+import io.lighty.core.controller.impl.services.DataBrokerMetrics;
 import io.lighty.core.controller.impl.services.LightySystemReadyService;
+import io.lighty.core.controller.impl.services.NotificationRouterMetrics;
+import io.lighty.core.controller.impl.services.PartitionedDOMNotificationRouter;
+import java.util.Optional;
 import org.opendaylight.controller.cluster.ActorSystemProvider;
 import org.opendaylight.controller.cluster.datastore.DistributedDataStoreInterface;
 import org.opendaylight.controller.cluster.datastore.admin.ClusterAdminRpcService;
@@ -59,10 +65,30 @@ public interface LightyServices extends LightyModuleRegistryService {
 
     DOMSchemaService.YangTextSourceExtension getYangTextSourceExtension();
 
+    /**
+     * Get notification router behind {@link #getDOMNotificationService()} and
+     * {@link #getDOMNotificationPublishService()}. When notification routing is partitioned, this is the facade
+     * of all partitions, see {@link PartitionedDOMNotificationRouter#getDOMNotificationRouter()}.
+     *
+     * @return notification router
+     */
     DOMNotificationRouter getDOMNotificationRouter();
 
+    /**
+     * Get partitioned notification routing behind {@link #getDOMNotificationService()} and
+     * {@link #getDOMNotificationPublishService()}.
+     *
+     * @return partitioned notification router, empty if notification router partitions are not configured
+     */
+    Optional<PartitionedDOMNotificationRouter> getPartitionedDOMNotificationRouter();
+
     DistributedDataStoreInterface getConfigDatastore();
 
+    /**
+     * Get distributed operational datastore.
+     *
+     * @return operational datastore, null if operational datastore is configured in-memory
+     */
     DistributedDataStoreInterface getOperationalDatastore();
 
     YangParserFactory getYangParserFactory();
@@ -75,6 +101,11 @@ public interface LightyServices extends LightyModuleRegistryService {
 
     EntityOwnershipService getEntityOwnershipService();
 
+    /**
+     * Get cluster admin RPC service.
+     *
+     * @return cluster admin RPC service, null if operational datastore is configured in-memory
+     */
     ClusterAdminRpcService getClusterAdminRPCService();
 
     ClusterSingletonServiceProvider getClusterSingletonServiceProvider();
@@ -85,8 +116,57 @@ public interface LightyServices extends LightyModuleRegistryService {
 
     DOMNotificationService getDOMNotificationService();
 
+    /**
+     * Get metrics of notification router behind {@link #getDOMNotificationPublishService()} and
+     * {@link #getDOMNotificationService()}. Publish and delivery statistics are recorded only if notification router
+     * metrics are enabled, listener processing time if metrics are enabled or slow listeners are isolated
+     * in controller configuration.
+     *
+     * @return notification router metrics
+     */
+    NotificationRouterMetrics getNotificationRouterMetrics();
+
     DOMDataBroker getClusteredDOMDataBroker();
 
+    /**
+     * Get metrics of {@link #getClusteredDOMDataBroker()}. Commit latency histograms and transaction counts are
+     * recorded only if data broker metrics are enabled in controller configuration.
+     *
+     * @return data broker metrics
+     */
+    DataBrokerMetrics getDataBrokerMetrics();
+
+    /**
+     * Get monitor of carrier thread pinning by virtual threads. Pinning is recorded only while execution mode
+     * is {@link ExecutionPolicy.Mode#VIRTUAL}.
+     *
+     * @return virtual thread pinning monitor
+     */
+    VirtualThreadPinningMonitor getVirtualThreadPinningMonitor();
+
+    /**
+     * Get data broker coalescing write-only transactions into batches committed on top of
+     * {@link #getClusteredDOMDataBroker()}.
+     *
+     * @return batching data broker, empty if write batching is not enabled in controller configuration
+     */
+    Optional<BatchingDOMDataBroker> getBatchingDOMDataBroker();
+
+    /**
+     * Get data broker serving reads of registered subtrees from memory, it delegates to
+     * {@link #getClusteredDOMDataBroker()}.
+     *
+     * @return caching data broker, empty if subtree cache is not enabled in controller configuration
+     */
+    Optional<CachingDOMDataBroker> getCachingDOMDataBroker();
+
+    /**
+     * Get binding data broker on top of {@link #getCachingDOMDataBroker()}.
+     *
+     * @return caching binding data broker, empty if subtree cache is not enabled in controller configuration
+     */
+    Optional<DataBroker> getCachingBindingDataBroker();
+
     DOMRpcService getDOMRpcService();
 
     DOMRpcProviderService getDOMRpcProviderService();
@@ -113,4 +193,6 @@ public interface LightyServices extends LightyModuleRegistryService {
 
     RpcService getRpcConsumerRegistry();
 
+    StartupTimeline getStartupTimeline();
+
 }
@@ -0,0 +1,245 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package io.lighty.core.controller.api;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Timeline of startup phases of Lighty modules. Every {@link AbstractLightyModule} records its
+ * {@link AbstractLightyModule#initProcedure()} and modules may record their internal phases as well.
+ * Each phase records start and end time in nanoseconds ({@link System#nanoTime()}), name of the thread
+ * which executed it and number of bytes allocated by this thread during the phase.
+ *
+ * <p>Timeline covers the current start of the application. It is cleared when the first module starts while no other
+ * module is running, so phases of modules started and shut down earlier in the same JVM are not mixed into it.
+ *
+ * <p><b>Example usage:</b>
+ * <pre>
+ * <code>
+ *     try (StartupTimeline.Phase phase = StartupTimeline.getInstance().startPhase("MyModule", "init-beans")) {
+ *         initBeans();
+ *     }
+ * </code>
+ * </pre>
+ */
+public final class StartupTimeline {
+    private static final Logger LOG = LoggerFactory.getLogger(StartupTimeline.class);
+    private static final StartupTimeline INSTANCE = new StartupTimeline();
+    private static final long ALLOCATION_NOT_SUPPORTED = -1;
+
+    private final ConcurrentLinkedQueue<PhaseRecord> phases = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger runningModules = new AtomicInteger();
+    private final com.sun.management.ThreadMXBean allocationMXBean;
+
+    StartupTimeline() {
+        final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        if (threadMXBean instanceof com.sun.management.ThreadMXBean
+                && ((com.sun.management.ThreadMXBean) threadMXBean).isThreadAllocatedMemorySupported()) {
+            this.allocationMXBean = (com.sun.management.ThreadMXBean) threadMXBean;
+        } else {
+            LOG.debug("Thread allocated memory measurement is not supported, allocated bytes will not be recorded");
+            this.allocationMXBean = null;
+        }
+    }
+
+    /**
+     * Get timeline shared by all Lighty modules in this JVM.
+     *
+     * @return shared startup timeline
+     */
+    public static StartupTimeline getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Start new phase. Phase is recorded when returned {@link Phase} is closed, it must be closed
+     * by the same thread which started it.
+     *
+     * @param module name of module which executes the phase
+     * @param name name of the phase
+     * @return running phase
+     */
+    public Phase startPhase(final String module, final String name) {
+        return new Phase(Objects.requireNonNull(module), Objects.requireNonNull(name));
+    }
+
+    /**
+     * Get all recorded phases ordered by start time.
+     *
+     * @return recorded phases
+     */
+    public List<PhaseRecord> getPhases() {
+        final List<PhaseRecord> result = new ArrayList<>(phases);
+        result.sort(Comparator.comparingLong(PhaseRecord::getStartNanos));
+        return result;
+    }
+
+    /**
+     * Drop all recorded phases.
+     */
+    public void clear() {
+        phases.clear();
+    }
+
+    /**
+     * Serialize recorded phases to JSON.
+     *
+     * @return JSON document with array of recorded phases under "phases" element
+     * @throws JsonProcessingException if serialization fails
+     */
+    public String toJson() throws JsonProcessingException {
+        return new ObjectMapper().writerWithDefaultPrettyPrinter().writeValueAsString(Map.of("phases", getPhases()));
+    }
+
+    /**
+     * Serialize recorded phases to JSON and write them to output stream.
+     *
+     * @param outputStream stream to write JSON to, it is not closed by this method
+     * @throws IOException if serialization or write fails
+     */
+    public void writeJson(final OutputStream outputStream) throws IOException {
+        new ObjectMapper().writerWithDefaultPrettyPrinter().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+            .writeValue(outputStream, Map.of("phases", getPhases()));
+    }
+
+    /**
+     * Record start of a module, clearing the timeline if no other module is running.
+     */
+    void moduleStarted() {
+        if (runningModules.getAndIncrement() == 0) {
+            phases.clear();
+        }
+    }
+
+    /**
+     * Record shutdown of a module started by {@link #moduleStarted()}.
+     */
+    void moduleStopped() {
+        runningModules.decrementAndGet();
+    }
+
+    private long currentThreadAllocatedBytes() {
+        if (allocationMXBean == null || !allocationMXBean.isThreadAllocatedMemoryEnabled()) {
+            return ALLOCATION_NOT_SUPPORTED;
+        }
+        return allocationMXBean.getThreadAllocatedBytes(Thread.currentThread().threadId());
+    }
+
+    /**
+     * Running phase of the startup timeline.
+     */
+    public final class Phase implements AutoCloseable {
+        private final String module;
+        private final String name;
+        private final String thread;
+        private final long startNanos;
+        private final long startAllocatedBytes;
+        private boolean closed;
+
+        private Phase(final String module, final String name) {
+            this.module = module;
+            this.name = name;
+            this.thread = Thread.currentThread().getName();
+            this.startAllocatedBytes = currentThreadAllocatedBytes();
+            this.startNanos = System.nanoTime();
+        }
+
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            final long endNanos = System.nanoTime();
+            final long endAllocatedBytes = currentThreadAllocatedBytes();
+            final long allocatedBytes = startAllocatedBytes == ALLOCATION_NOT_SUPPORTED
+                    || endAllocatedBytes == ALLOCATION_NOT_SUPPORTED
+                    ? ALLOCATION_NOT_SUPPORTED : endAllocatedBytes - startAllocatedBytes;
+            final PhaseRecord phaseRecord = new PhaseRecord(module, name, thread, startNanos, endNanos,
+                    allocatedBytes);
+            phases.add(phaseRecord);
+            LOG.debug("Startup phase {}", phaseRecord);
+        }
+    }
+
+    /**
+     * Finished phase of the startup timeline.
+     */
+    public static final class PhaseRecord {
+        private final String module;
+        private final String name;
+        private final String thread;
+        private final long startNanos;
+        private final long endNanos;
+        private final long allocatedBytes;
+
+        PhaseRecord(final String module, final String name, final String thread, final long startNanos,
+                final long endNanos, final long allocatedBytes) {
+            this.module = module;
+            this.name = name;
+            this.thread = thread;
+            this.startNanos = startNanos;
+            this.endNanos = endNanos;
+            this.allocatedBytes = allocatedBytes;
+        }
+
+        public String getModule() {
+            return module;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getThread() {
+            return thread;
+        }
+
+        public long getStartNanos() {
+            return startNanos;
+        }
+
+        public long getEndNanos() {
+            return endNanos;
+        }
+
+        public long getDurationNanos() {
+            return endNanos - startNanos;
+        }
+
+        /**
+         * Get number of bytes allocated by thread during the phase.
+         *
+         * @return allocated bytes, or -1 if JVM does not support thread allocation measurement
+         */
+        public long getAllocatedBytes() {
+            return allocatedBytes;
+        }
+
+        @Override
+        public String toString() {
+            return module + "/" + name + " [thread=" + thread + ", duration=" + getDurationNanos() / 1_000_000
+                    + "ms, allocated=" + allocatedBytes + "B]";
+        }
+    }
+}
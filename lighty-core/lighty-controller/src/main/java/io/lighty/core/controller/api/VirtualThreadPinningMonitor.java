@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package io.lighty.core.controller.api;
+
+import io.lighty.core.controller.impl.util.PrometheusTextWriter;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Records pinning of carrier threads by virtual threads. Virtual thread blocked inside {@code synchronized}
+ * block or native frame can not unmount and keeps its carrier thread, long pinning limits throughput of all
+ * virtual threads. Monitor consumes {@code jdk.VirtualThreadPinned} JFR events longer than
+ * {@link #PINNING_THRESHOLD} and keeps count, total and maximal pinned time.
+ *
+ * <p>Recorded values are available from {@link LightyServices#getVirtualThreadPinningMonitor()} and can be written
+ * in Prometheus text format by {@link #writeTo(PrometheusTextWriter)}.
+ */
+public final class VirtualThreadPinningMonitor {
+    public static final Duration PINNING_THRESHOLD = Duration.ofMillis(20);
+
+    private static final Logger LOG = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final VirtualThreadPinningMonitor INSTANCE = new VirtualThreadPinningMonitor();
+
+    private final LongAdder pinnedCount = new LongAdder();
+    private final LongAdder pinnedNanos = new LongAdder();
+    private final AtomicLong maxPinnedNanos = new AtomicLong();
+    private RecordingStream recordingStream;
+
+    private VirtualThreadPinningMonitor() {
+    }
+
+    public static VirtualThreadPinningMonitor getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Start recording of pinning events. Calling this method on running monitor has no effect.
+     */
+    public synchronized void start() {
+        if (recordingStream != null) {
+            return;
+        }
+        final RecordingStream stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(PINNING_THRESHOLD).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::onPinned);
+        stream.startAsync();
+        recordingStream = stream;
+        LOG.debug("Virtual thread pinning monitor started");
+    }
+
+    /**
+     * Stop recording of pinning events. Recorded values are kept.
+     */
+    public synchronized void stop() {
+        if (recordingStream != null) {
+            recordingStream.close();
+            recordingStream = null;
+            LOG.debug("Virtual thread pinning monitor stopped");
+        }
+    }
+
+    public synchronized boolean isRunning() {
+        return recordingStream != null;
+    }
+
+    /**
+     * Get number of recorded pinning events.
+     *
+     * @return number of times virtual thread pinned its carrier longer than {@link #PINNING_THRESHOLD}
+     */
+    public long getPinnedCount() {
+        return pinnedCount.sum();
+    }
+
+    public Duration getTotalPinnedTime() {
+        return Duration.ofNanos(pinnedNanos.sum());
+    }
+
+    public Duration getMaxPinnedTime() {
+        return Duration.ofNanos(maxPinnedNanos.get());
+    }
+
+    /**
+     * Reset recorded values.
+     */
+    public void reset() {
+        pinnedCount.reset();
+        pinnedNanos.reset();
+        maxPinnedNanos.set(0);
+    }
+
+    /**
+     * Write recorded values in Prometheus text format.
+     *
+     * @param writer Prometheus text writer
+     * @throws IOException if writing fails
+     */
+    public void writeTo(final PrometheusTextWriter writer) throws IOException {
+        writer.family("lighty_virtual_thread_pinned_total", "counter",
+                "Virtual threads pinning their carrier longer than threshold")
+                .sample("lighty_virtual_thread_pinned_total", Map.of(), getPinnedCount());
+        writer.family("lighty_virtual_thread_pinned_seconds_total", "counter", "Time carrier threads were pinned")
+                .sample("lighty_virtual_thread_pinned_seconds_total", Map.of(), seconds(pinnedNanos.sum()));
+        writer.family("lighty_virtual_thread_pinned_longest_seconds", "gauge", "Longest pinning of carrier thread")
+                .sample("lighty_virtual_thread_pinned_longest_seconds", Map.of(), seconds(maxPinnedNanos.get()));
+    }
+
+    private static double seconds(final long nanos) {
+        return nanos / (double) Duration.ofSeconds(1).toNanos();
+    }
+
+    void onPinned(final RecordedEvent event) {
+        final long nanos = event.getDuration().toNanos();
+        pinnedCount.increment();
+        pinnedNanos.add(nanos);
+        maxPinnedNanos.accumulateAndGet(nanos, Math::max);
+        LOG.debug("Virtual thread {} pinned its carrier for {} ms", event.getThread() != null
+                ? event.getThread().getJavaName() : "unknown", nanos / 1_000_000);
+    }
+}
@@ -7,17 +7,37 @@
  */
 package io.lighty.core.controller.impl;
 
+import static com.google.common.base.Preconditions.checkArgument;
+
+import io.lighty.core.cluster.config.ClusteringConfigUtils;
+import io.lighty.core.cluster.config.ModuleShardConfig;
 import io.lighty.core.controller.api.LightyController;
 import io.lighty.core.controller.impl.config.ConfigurationException;
 import io.lighty.core.controller.impl.config.ControllerConfiguration;
+import io.lighty.core.controller.impl.util.CachingYangTextToIRSourceTransformer;
+import io.lighty.core.controller.impl.util.PrecompiledYangIRSources;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.ExecutorService;
+import org.opendaylight.controller.cluster.access.concepts.MemberName;
+import org.opendaylight.controller.cluster.datastore.config.Configuration;
+import org.opendaylight.controller.cluster.datastore.config.ConfigurationImpl;
 import org.opendaylight.yangtools.binding.meta.YangModuleInfo;
+import org.opendaylight.yangtools.yang.model.spi.source.YangTextToIRSourceTransformer;
+import org.opendaylight.yangtools.yang.source.ir.DefaultYangTextToIRSourceTransformer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Builder for {@link LightyController}.
  */
 public class LightyControllerBuilder {
+    private static final Logger LOG = LoggerFactory.getLogger(LightyControllerBuilder.class);
+
     private ControllerConfiguration controllerConfiguration = null;
     private ExecutorService executorService = null;
 
@@ -53,6 +73,20 @@ public class LightyControllerBuilder {
     public LightyController build() throws ConfigurationException {
         try {
             final Set<YangModuleInfo> modelSet = this.controllerConfiguration.getSchemaServiceConfig().getModels();
+            final ControllerConfiguration.ShardingConfig shardingConfig =
+                    this.controllerConfiguration.getShardingConfig();
+            String moduleShardsConfig = this.controllerConfiguration.getModuleShardsConfig();
+            String modulesConfig = this.controllerConfiguration.getModulesConfig();
+            List<ModuleShardConfig> moduleShards = ClusteringConfigUtils.DEFAULT_MODULE_SHARDS;
+            if (!shardingConfig.getShards().isEmpty()) {
+                final Path layoutDirectory = writeShardLayout(shardingConfig);
+                moduleShardsConfig = layoutDirectory.resolve(ClusteringConfigUtils.MODULE_SHARDS_FILE_NAME).toString();
+                modulesConfig = layoutDirectory.resolve(ClusteringConfigUtils.MODULES_FILE_NAME).toString();
+                moduleShards = shardingConfig.getShards();
+            }
+            if (this.controllerConfiguration.isInMemoryOperationalDatastore()) {
+                checkSingleMember(moduleShardsConfig, modulesConfig);
+            }
             return new LightyControllerImpl(this.executorService,
                     this.controllerConfiguration.getActorSystemConfig().getConfig(),
                     this.controllerConfiguration.getActorSystemConfig().getClassLoader(),
@@ -63,17 +97,77 @@ public class LightyControllerBuilder {
                     this.controllerConfiguration.isMetricCaptureEnabled(),
                     this.controllerConfiguration.getMailboxCapacity(),
                     this.controllerConfiguration.getDistributedEosProperties(),
-                    this.controllerConfiguration.getModuleShardsConfig(),
-                    this.controllerConfiguration.getModulesConfig(),
+                    moduleShardsConfig,
+                    modulesConfig,
                     this.controllerConfiguration.getConfigDatastoreContext(),
                     this.controllerConfiguration.getOperDatastoreContext(),
                     this.controllerConfiguration.getDatastoreProperties(),
                     modelSet,
-                    this.controllerConfiguration.getInitialConfigData()
+                    this.controllerConfiguration.getAllInitialConfigData(),
+                    this.controllerConfiguration.getInitialDataImportPoolSize(),
+                    this.controllerConfiguration.isSchemaCacheEnabled(),
+                    createTextToIRTransformer(this.controllerConfiguration.getSchemaCacheDirectory()),
+                    this.controllerConfiguration.getEagerServices(),
+                    this.controllerConfiguration.getWriteBatchingConfig(),
+                    this.controllerConfiguration.isSubtreeCacheEnabled(),
+                    this.controllerConfiguration.isInMemoryOperationalDatastore(),
+                    this.controllerConfiguration.isDataBrokerMetricsEnabled(),
+                    moduleShards,
+                    this.controllerConfiguration.getSnapshotRestoreConfig(),
+                    this.controllerConfiguration.getCommitCallbackStrategy()
             );
         } catch (Exception e) {
             throw new ConfigurationException(e);
         }
     }
 
+    /**
+     * In-memory operational datastore is not replicated, every member of a cluster would have its own divergent
+     * operational data.
+     */
+    private void checkSingleMember(final String moduleShardsConfig, final String modulesConfig) {
+        checkArgument(!ClusteringConfigUtils.isKubernetesDeployment(
+                this.controllerConfiguration.getActorSystemConfig().getConfig()),
+                "In-memory operational datastore can't be used in clustered deployment");
+        final Configuration clusterConfiguration = new ConfigurationImpl(moduleShardsConfig, modulesConfig);
+        final Set<MemberName> members = new HashSet<>();
+        for (String shardName : clusterConfiguration.getAllShardNames()) {
+            members.addAll(clusterConfiguration.getMembersFromShardName(shardName));
+        }
+        checkArgument(members.size() <= 1, "In-memory operational datastore can't be used with shards replicated "
+                + "to members %s", members);
+    }
+
+    private static YangTextToIRSourceTransformer createTextToIRTransformer(final String schemaCacheDirectory) {
+        YangTextToIRSourceTransformer transformer = new DefaultYangTextToIRSourceTransformer();
+        if (schemaCacheDirectory != null) {
+            transformer = new CachingYangTextToIRSourceTransformer(transformer, Path.of(schemaCacheDirectory));
+        }
+        return PrecompiledYangIRSources.load(LightyControllerBuilder.class.getClassLoader(), transformer)
+                .orElse(transformer);
+    }
+
+    /**
+     * Write shard layout to configured directory or to a temporary directory deleted on JVM exit. Files of the layout
+     * are read also during controller start, so they can't be deleted once the controller is built.
+     */
+    private static Path writeShardLayout(final ControllerConfiguration.ShardingConfig shardingConfig)
+            throws IOException {
+        final Path layoutDirectory;
+        if (shardingConfig.getLayoutDirectory() == null) {
+            layoutDirectory = Files.createTempDirectory("lighty-shard-layout");
+            // files registered later are deleted first
+            layoutDirectory.toFile().deleteOnExit();
+            layoutDirectory.resolve(ClusteringConfigUtils.MODULE_SHARDS_FILE_NAME).toFile().deleteOnExit();
+            layoutDirectory.resolve(ClusteringConfigUtils.MODULES_FILE_NAME).toFile().deleteOnExit();
+        } else {
+            layoutDirectory = Path.of(shardingConfig.getLayoutDirectory());
+        }
+        ClusteringConfigUtils.writeShardLayout(layoutDirectory, shardingConfig.getShards(),
+                shardingConfig.getDefaultReplicas());
+        LOG.info("Shard layout with {} module shards written to {}", shardingConfig.getShards().size(),
+                layoutDirectory);
+        return layoutDirectory;
+    }
+
 }
@@ -7,28 +7,48 @@
  */
 package io.lighty.core.controller.impl;
 
+import static com.google.common.base.Preconditions.checkArgument;
+
 import com.google.common.base.Stopwatch;
+import com.google.common.base.Throwables;
 import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.typesafe.config.Config;
-import io.lighty.codecs.util.exception.DeserializationException;
 import io.lighty.core.cluster.ClusteringHandler;
 import io.lighty.core.cluster.ClusteringHandlerProvider;
+import io.lighty.core.cluster.config.ModuleShardConfig;
 import io.lighty.core.common.SocketAnalyzer;
 import io.lighty.core.controller.api.AbstractLightyModule;
 import io.lighty.core.controller.api.LightyController;
 import io.lighty.core.controller.api.LightyServices;
+import io.lighty.core.controller.api.StartupTimeline;
+import io.lighty.core.controller.api.VirtualThreadPinningMonitor;
 import io.lighty.core.controller.impl.config.ControllerConfiguration;
 import io.lighty.core.controller.impl.config.ControllerConfiguration.InitialConfigData;
+import io.lighty.core.controller.impl.config.ControllerConfiguration.OptionalService;
+import io.lighty.core.controller.impl.services.BatchingDOMDataBroker;
+import io.lighty.core.controller.impl.services.CachingDOMDataBroker;
+import io.lighty.core.controller.impl.services.CommitCallbackExecutor;
+import io.lighty.core.controller.impl.services.DataBrokerMetrics;
 import io.lighty.core.controller.impl.services.LightyDiagStatusServiceImpl;
 import io.lighty.core.controller.impl.services.LightySystemReadyMonitorImpl;
 import io.lighty.core.controller.impl.services.LightySystemReadyService;
-import io.lighty.core.controller.impl.util.FileToDatastoreUtils;
-import java.io.IOException;
-import java.io.InputStream;
+import io.lighty.core.controller.impl.services.MetricsDOMDataBroker;
+import io.lighty.core.controller.impl.services.MetricsDOMNotificationPublishService;
+import io.lighty.core.controller.impl.services.MetricsDOMNotificationService;
+import io.lighty.core.controller.impl.services.NotificationRouterMetrics;
+import io.lighty.core.controller.impl.services.PartitionedDOMNotificationRouter;
+import io.lighty.core.controller.impl.services.WaitStrategyDOMNotificationPublishService;
+import io.lighty.core.controller.impl.util.ModelSetCache;
+import io.lighty.core.controller.impl.util.ParallelDataImporter;
+import io.lighty.core.controller.impl.util.ParallelDatastoreSnapshotRestore;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
@@ -37,11 +57,13 @@ import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
 import org.apache.pekko.actor.Terminated;
 import org.apache.pekko.management.javadsl.PekkoManagement;
-import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.controller.cluster.ActorSystemProvider;
 import org.opendaylight.controller.cluster.akka.impl.ActorSystemProviderImpl;
 import org.opendaylight.controller.cluster.common.actor.QuarantinedMonitorActor;
@@ -52,7 +74,6 @@ import org.opendaylight.controller.cluster.datastore.DatastoreContextIntrospecto
 import org.opendaylight.controller.cluster.datastore.DatastoreContextPropertiesUpdater;
 import org.opendaylight.controller.cluster.datastore.DatastoreSnapshotRestore;
 import org.opendaylight.controller.cluster.datastore.DefaultDatastoreContextIntrospectorFactory;
-import org.opendaylight.controller.cluster.datastore.DefaultDatastoreSnapshotRestore;
 import org.opendaylight.controller.cluster.datastore.DistributedDataStoreFactory;
 import org.opendaylight.controller.cluster.datastore.DistributedDataStoreInterface;
 import org.opendaylight.controller.cluster.datastore.admin.ClusterAdminRpcService;
@@ -100,6 +121,9 @@ import org.opendaylight.mdsal.dom.broker.RouterDOMRpcProviderService;
 import org.opendaylight.mdsal.dom.broker.RouterDOMRpcService;
 import org.opendaylight.mdsal.dom.spi.FixedDOMSchemaService;
 import org.opendaylight.mdsal.dom.spi.store.DOMStore;
+import org.opendaylight.mdsal.dom.store.inmemory.InMemoryDOMDataStore;
+import org.opendaylight.mdsal.dom.store.inmemory.InMemoryDOMDataStoreConfigProperties;
+import org.opendaylight.mdsal.dom.store.inmemory.InMemoryDOMDataStoreFactory;
 import org.opendaylight.mdsal.eos.binding.api.EntityOwnershipService;
 import org.opendaylight.mdsal.eos.binding.dom.adapter.DefaultEntityOwnershipService;
 import org.opendaylight.mdsal.eos.dom.api.DOMEntityOwnershipService;
@@ -120,22 +144,27 @@ import org.opendaylight.yangtools.binding.runtime.api.ModuleInfoSnapshot;
 import org.opendaylight.yangtools.binding.runtime.spi.ModuleInfoSnapshotResolver;
 import org.opendaylight.yangtools.concepts.Registration;
 import org.opendaylight.yangtools.util.DurationStatisticsTracker;
-import org.opendaylight.yangtools.util.concurrent.SpecialExecutors;
 import org.opendaylight.yangtools.yang.model.repo.api.MissingSchemaSourceException;
+import org.opendaylight.yangtools.yang.model.spi.source.YangTextToIRSourceTransformer;
 import org.opendaylight.yangtools.yang.parser.api.YangParserFactory;
 import org.opendaylight.yangtools.yang.parser.ri.DefaultYangParserFactory;
-import org.opendaylight.yangtools.yang.source.ir.DefaultYangTextToIRSourceTransformer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 public class LightyControllerImpl extends AbstractLightyModule implements LightyController, LightyServices {
 
     private static final Logger LOG = LoggerFactory.getLogger(LightyControllerImpl.class);
-    private static final int ACTOR_SYSTEM_TERMINATE_TIMEOUT = 30;
+    private static final int SHUTDOWN_DEADLINE = 30;
+    private static final String LOCAL_ACTOR_PROVIDER = "org.apache.pekko.actor.LocalActorRefProvider";
+    private static final int STARTUP_THREAD_POOL_SIZE = 4;
+    private static final int SHUTDOWN_THREAD_POOL_SIZE = 4;
 
     private final Config actorSystemConfig;
     private final ClassLoader actorSystemClassLoader;
     private final DOMNotificationRouter domNotificationRouter;
+    private final Optional<PartitionedDOMNotificationRouter> partitionedDOMNotificationRouter;
+    private final ControllerConfiguration.DOMNotificationRouterConfig domNotificationRouterConfig;
+    private final NotificationRouterMetrics notificationRouterMetrics;
     private final DOMMountPointService domMountPointService;
     private final Set<YangModuleInfo> modelSet;
     private final Properties distributedEosProperties;
@@ -148,19 +177,35 @@ public class LightyControllerImpl extends AbstractLightyModule implements Lighty
     private final int maxDataBrokerFutureCallbackPoolSize;
     private final int mailboxCapacity;
     private final boolean metricCaptureEnabled;
+    private final boolean schemaCacheEnabled;
+    private final YangTextToIRSourceTransformer textToIRTransformer;
+    private final Set<OptionalService> eagerServices;
+    private final ControllerConfiguration.WriteBatchingConfig writeBatchingConfig;
+    private final boolean subtreeCacheEnabled;
+    private final boolean inMemoryOperationalDatastore;
+    private final boolean dataBrokerMetricsEnabled;
+    private final List<ModuleShardConfig> moduleShards;
+    private final ControllerConfiguration.SnapshotRestoreConfig snapshotRestoreConfig;
+    private final CommitCallbackExecutor.Strategy commitCallbackStrategy;
+    private final Object optionalServicesLock = new Object();
 
     private Configuration clusterConfiguration;
     private ActorSystemProviderImpl actorSystemProvider;
     private DatastoreSnapshotRestore datastoreSnapshotRestore;
     private AbstractDataStore configDatastore;
     private AbstractDataStore operDatastore;
-    private ExecutorService listenableFutureExecutor;
+    private InMemoryDOMDataStore inMemoryOperDatastore;
+    private CommitCallbackExecutor listenableFutureExecutor;
     private DurationStatisticsTracker commitStatsTracker;
     private DOMDataBroker concurrentDOMDataBroker;
+    private DataBrokerMetrics dataBrokerMetrics;
+    private Optional<BatchingDOMDataBroker> batchingDOMDataBroker = Optional.empty();
+    private Optional<CachingDOMDataBroker> cachingDOMDataBroker = Optional.empty();
+    private Optional<DataBroker> cachingDataBroker = Optional.empty();
     private DOMRpcRouter domRpcRouter;
     private RouterDOMRpcService routerDomRpcService;
-    private RouterDOMPublishNotificationService routerDOMPublishNotificationService;
-    private RouterDOMNotificationService routerDOMNotificationService;
+    private DOMNotificationPublishService routerDOMPublishNotificationService;
+    private DOMNotificationService routerDOMNotificationService;
     private RouterDOMRpcProviderService routerDOMRpcProviderService;
     private RemoteOpsProvider remoteOpsProvider;
     private DOMActionService domActionService;
@@ -188,9 +233,14 @@ public class LightyControllerImpl extends AbstractLightyModule implements Lighty
     private List<Registration> modelsRegistration = new ArrayList<>();
     private PekkoManagement pekkoManagement;
     private Optional<ClusteringHandler> clusteringHandler;
-    private Optional<InitialConfigData> initialConfigData;
+    private final List<InitialConfigData> initialConfigData;
+    private final int initialDataImportPoolSize;
     private RpcService rpcConsumerRegistry;
     private YangLibraryWriterSingleton yangLibraryWriter;
+    private String modelSetFingerprint;
+    private Optional<ModelSetCache.CachedModelSet> cachedModelSet = Optional.empty();
+    private BindingCodecContext bindingCodecContext;
+    private boolean optionalServicesAvailable;
 
     public LightyControllerImpl(final ExecutorService executorService, final Config actorSystemConfig,
                                 final ClassLoader actorSystemClassLoader,
@@ -203,13 +253,35 @@ public class LightyControllerImpl extends AbstractLightyModule implements Lighty
                                 final DatastoreContext operDatastoreContext,
                                 final Map<String, Object> datastoreProperties,
                                 final Set<YangModuleInfo> modelSet,
-                                final @Nullable InitialConfigData initialConfigData) {
+                                final List<InitialConfigData> initialConfigData,
+                                final int initialDataImportPoolSize,
+                                final boolean schemaCacheEnabled,
+                                final YangTextToIRSourceTransformer textToIRTransformer,
+                                final Set<OptionalService> eagerServices,
+                                final ControllerConfiguration.WriteBatchingConfig writeBatchingConfig,
+                                final boolean subtreeCacheEnabled,
+                                final boolean inMemoryOperationalDatastore,
+                                final boolean dataBrokerMetricsEnabled,
+                                final List<ModuleShardConfig> moduleShards,
+                                final ControllerConfiguration.SnapshotRestoreConfig snapshotRestoreConfig,
+                                final CommitCallbackExecutor.Strategy commitCallbackStrategy) {
         super(executorService);
         initSunXMLWriterProperty();
         this.actorSystemConfig = actorSystemConfig;
         this.actorSystemClassLoader = actorSystemClassLoader;
         this.domMountPointService = new DOMMountPointServiceImpl();
-        this.domNotificationRouter = new DOMNotificationRouter(domNotificationRouterConfig.getQueueDepth());
+        if (domNotificationRouterConfig.getPartitions() > 1) {
+            final PartitionedDOMNotificationRouter partitionedRouter = new PartitionedDOMNotificationRouter(
+                    domNotificationRouterConfig.getPartitions(), domNotificationRouterConfig.getQueueDepth());
+            this.partitionedDOMNotificationRouter = Optional.of(partitionedRouter);
+            // a single partition is never exposed, its listeners would miss notifications of other partitions
+            this.domNotificationRouter = partitionedRouter.getDOMNotificationRouter();
+        } else {
+            this.partitionedDOMNotificationRouter = Optional.empty();
+            this.domNotificationRouter = new DOMNotificationRouter(domNotificationRouterConfig.getQueueDepth());
+        }
+        this.domNotificationRouterConfig = domNotificationRouterConfig;
+        this.notificationRouterMetrics = new NotificationRouterMetrics(domNotificationRouterConfig.getQueueDepth());
         this.restoreDirectoryPath = restoreDirectoryPath;
         this.maxDataBrokerFutureCallbackQueueSize = maxDataBrokerFutureCallbackQueueSize;
         this.maxDataBrokerFutureCallbackPoolSize = maxDataBrokerFutureCallbackPoolSize;
@@ -224,7 +296,25 @@ public class LightyControllerImpl extends AbstractLightyModule implements Lighty
         this.modelSet = modelSet;
         this.systemReadyMonitor = new LightySystemReadyMonitorImpl();
         this.lightyDiagStatusService = new LightyDiagStatusServiceImpl(systemReadyMonitor);
-        this.initialConfigData = Optional.ofNullable(initialConfigData);
+        for (InitialConfigData data : initialConfigData) {
+            // streaming import writes batches of top level nodes, it can't import a node under other path
+            checkArgument(!data.isStreaming() || data.getInstanceIdentifier().isEmpty(),
+                    "Streaming import of %s supports only root path, was %s", data.getPathToInitDataFile(),
+                    data.getInstanceIdentifier());
+        }
+        this.initialConfigData = List.copyOf(initialConfigData);
+        this.initialDataImportPoolSize = initialDataImportPoolSize;
+        this.schemaCacheEnabled = schemaCacheEnabled;
+        this.textToIRTransformer = textToIRTransformer;
+        this.eagerServices = eagerServices.isEmpty() ? EnumSet.noneOf(OptionalService.class)
+                : EnumSet.copyOf(eagerServices);
+        this.writeBatchingConfig = writeBatchingConfig;
+        this.subtreeCacheEnabled = subtreeCacheEnabled;
+        this.inMemoryOperationalDatastore = inMemoryOperationalDatastore;
+        this.dataBrokerMetricsEnabled = dataBrokerMetricsEnabled;
+        this.moduleShards = List.copyOf(moduleShards);
+        this.snapshotRestoreConfig = snapshotRestoreConfig;
+        this.commitCallbackStrategy = commitCallbackStrategy;
     }
 
     /**
@@ -235,44 +325,208 @@ public class LightyControllerImpl extends AbstractLightyModule implements Lighty
     }
 
     @Override
-    protected boolean initProcedure() {
+    protected boolean initProcedure() throws InterruptedException {
         final Stopwatch stopwatch = Stopwatch.createStarted();
 
+        final ExecutorService startupExecutor = Executors.newFixedThreadPool(STARTUP_THREAD_POOL_SIZE,
+                new ThreadFactoryBuilder().setNameFormat("lighty-controller-startup-%d").setDaemon(true).build());
+        try {
+            this.bindingCodecContext = startIndependentComponents(startupExecutor);
+        } catch (ExecutionException e) {
+            Throwables.throwIfUnchecked(e.getCause());
+            LOG.error("Exception occurred while starting Lighty controller components", e.getCause());
+            return false;
+        } finally {
+            startupExecutor.shutdown();
+        }
+
+        createConcurrentDOMDataBroker();
+
+        //create binding mount point service
+        this.mountPointService = new BindingDOMMountPointServiceAdapter(this.codec, this.domMountPointService);
+        this.routerDOMNotificationService = createNotificationService();
+        this.routerDOMPublishNotificationService = createPublishNotificationService();
+
+        //create data broker
+        this.dataBroker = bindingAdapterFactory.createDataBroker(concurrentDOMDataBroker);
+        if (this.subtreeCacheEnabled) {
+            final CachingDOMDataBroker cachingBroker = new CachingDOMDataBroker(concurrentDOMDataBroker);
+            this.cachingDOMDataBroker = Optional.of(cachingBroker);
+            this.cachingDataBroker = Optional.of(bindingAdapterFactory.createDataBroker(cachingBroker));
+        }
+
+        // OPTIONAL SERVICES, the rest is created on first access
+        synchronized (this.optionalServicesLock) {
+            this.optionalServicesAvailable = true;
+            try {
+                for (OptionalService service : this.eagerServices) {
+                    ensureOptionalService(service);
+                }
+            } catch (ExecutionException e) {
+                LOG.error("Exception occurred while creating optional controller services", e);
+                return false;
+            } catch (InterruptedException e) {
+                LOG.error("Interrupted while creating optional controller services", e);
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        if (this.eagerServices.size() < OptionalService.values().length) {
+            LOG.info("Lighty controller services {} will be created on first access",
+                    EnumSet.complementOf(EnumSet.copyOf(this.eagerServices)));
+        }
+
+        this.clusteringHandler.ifPresent(handler -> handler.start(rpcConsumerRegistry));
+
+        if (!this.initialConfigData.isEmpty()) {
+            final List<ParallelDataImporter.ImportFile> files = new ArrayList<>(this.initialConfigData.size());
+            for (int i = 0; i < this.initialConfigData.size(); i++) {
+                files.add(toImportFile(this.initialConfigData.get(i), i));
+            }
+            try (StartupTimeline.Phase phase = startPhase("initial-config-import")) {
+                final ParallelDataImporter.ImportReport report = new ParallelDataImporter(
+                        moduleInfoSnapshot.modelContext(), this.getClusteredDOMDataBroker(),
+                        this.initialDataImportPoolSize).importFiles(files).get();
+                if (!report.isSuccessful()) {
+                    LOG.error("Exception occurred while importing config data from file: {}", report);
+                    return false;
+                }
+            } catch (ExecutionException e) {
+                LOG.error("Exception occurred while importing config data from file", e);
+                return false;
+            } catch (InterruptedException e) {
+                LOG.error("Interrupted while importing config data from file", e);
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        LOG.info("Lighty controller started in {}", stopwatch.stop());
+        return true;
+    }
+
+    private static ParallelDataImporter.ImportFile toImportFile(final InitialConfigData initialData,
+            final int index) {
+        final String name = initialData.getPathToInitDataFile() != null ? initialData.getPathToInitDataFile()
+                : "input-stream-" + index;
+        if (initialData.isStreaming()) {
+            return new ParallelDataImporter.ImportFile(name, initialData::getAsInputStream, initialData.getFormat(),
+                    initialData.getDatastore(), true, initialData.getBatchSize(),
+                    initialData.getMaxInFlightCommits());
+        }
+        return new ParallelDataImporter.ImportFile(name, initialData::getAsInputStream, initialData.getFormat(),
+                initialData.getInstanceIdentifier(), initialData.getDatastore(), true, initialData.isIncremental());
+    }
+
+    /**
+     * Start the components which do not depend on each other concurrently. The startup graph is:
+     * <pre>
+     *   actor system -&gt; cluster bootstrap ----------------+--&gt; config datastore
+     *                                                     +--&gt; operational datastore
+     *   schema context -&gt; binding runtime types -&gt; codec --+--&gt; RPC router
+     * </pre>
+     * Each branch writes only its own fields, completion of the returned futures publishes them to the caller.
+     *
+     * @param executor executor used to run the startup branches
+     * @return binding codec context, which is needed by the entity ownership service
+     * @throws ExecutionException if any of the startup branches failed
+     * @throws InterruptedException if interrupted while waiting for startup branches
+     */
+    private BindingCodecContext startIndependentComponents(final ExecutorService executor)
+            throws ExecutionException, InterruptedException {
+        // decoding of backup files overlaps with actor system and schema context startup
+        final ParallelDatastoreSnapshotRestore snapshotRestore = new ParallelDatastoreSnapshotRestore(
+                this.restoreDirectoryPath, this.snapshotRestoreConfig.getParallelism(),
+                this.snapshotRestoreConfig.isMemoryMapped());
+        snapshotRestore.start();
+        this.datastoreSnapshotRestore = snapshotRestore;
+
+        final CompletableFuture<Void> clusterReady = CompletableFuture.runAsync(this::initActorSystem, executor);
+        final CompletableFuture<BindingCodecContext> codecReady = CompletableFuture
+                .runAsync(this::initSchemaContext, executor)
+                .thenApplyAsync(ignored -> initBindingCodec(), executor);
+        final CompletableFuture<Void> coreReady = CompletableFuture.allOf(clusterReady, codecReady);
+
+        // CONFIG DATASTORE
+        final CompletableFuture<AbstractDataStore> configDatastoreReady = coreReady.thenApplyAsync(
+            ignored -> prepareDataStore(this.configDatastoreContext, this.clusterConfiguration, this.schemaService,
+                this.datastoreSnapshotRestore, this.actorSystemProvider), executor);
+        // OPERATIONAL DATASTORE, in-memory datastore needs only schema context
+        final CompletableFuture<? extends DOMStore> operDatastoreReady = this.inMemoryOperationalDatastore
+            ? codecReady.thenApplyAsync(ignored -> prepareInMemoryOperationalDataStore(), executor)
+            : coreReady.thenApplyAsync(
+                ignored -> prepareDataStore(this.operDatastoreContext, this.clusterConfiguration, this.schemaService,
+                    this.datastoreSnapshotRestore, this.actorSystemProvider), executor);
+        final CompletableFuture<Void> rpcReady = coreReady.thenRunAsync(this::initRpcServices, executor);
+
+        CompletableFuture.allOf(configDatastoreReady, operDatastoreReady, rpcReady).get();
+        this.configDatastore = configDatastoreReady.get();
+        final DOMStore operStore = operDatastoreReady.get();
+        if (operStore instanceof InMemoryDOMDataStore) {
+            this.inMemoryOperDatastore = (InMemoryDOMDataStore) operStore;
+        } else {
+            this.operDatastore = (AbstractDataStore) operStore;
+        }
+        return codecReady.get();
+    }
+
+    private void initActorSystem() {
         //INIT actor system provider
-        this.actorSystemProvider = new ActorSystemProviderImpl(this.actorSystemClassLoader,
-                QuarantinedMonitorActor.props(() -> { }), this.actorSystemConfig);
+        try (StartupTimeline.Phase phase = startPhase("actor-system")) {
+            this.actorSystemProvider = new ActorSystemProviderImpl(this.actorSystemClassLoader,
+                    QuarantinedMonitorActor.props(() -> { }), this.actorSystemConfig);
 
-        this.pekkoManagement = PekkoManagement.get(actorSystemProvider.getActorSystem());
-        pekkoManagement.start();
+            this.pekkoManagement = PekkoManagement.get(actorSystemProvider.getActorSystem());
+            pekkoManagement.start();
+        }
 
         //INIT cluster bootstrap
-        this.clusteringHandler = ClusteringHandlerProvider.getClusteringHandler(actorSystemProvider,
-                this.actorSystemConfig);
-        this.clusteringHandler.ifPresent(handler -> {
-            handler.initClustering();
-            if (handler.getModuleShardsConfig().isPresent()) {
-                final HybridModuleShardConfigProvider shardConfigProvider = new HybridModuleShardConfigProvider(
-                        handler.getModuleShardsConfig().get(), this.modulesConfig);
-                this.clusterConfiguration = new ConfigurationImpl(shardConfigProvider);
-            }
-        });
+        try (StartupTimeline.Phase phase = startPhase("cluster-bootstrap")) {
+            this.clusteringHandler = ClusteringHandlerProvider.getClusteringHandler(actorSystemProvider,
+                    this.actorSystemConfig, this.moduleShards);
+            this.clusteringHandler.ifPresent(handler -> {
+                handler.initClustering();
+                if (handler.getModuleShardsConfig().isPresent()) {
+                    final HybridModuleShardConfigProvider shardConfigProvider = new HybridModuleShardConfigProvider(
+                            handler.getModuleShardsConfig().get(), this.modulesConfig);
+                    this.clusterConfiguration = new ConfigurationImpl(shardConfigProvider);
+                }
+            });
+        }
+    }
 
-        this.datastoreSnapshotRestore = new DefaultDatastoreSnapshotRestore(this.restoreDirectoryPath);
+    private void initSchemaContext() {
+        try (StartupTimeline.Phase phase = startPhase("schema-resolve")) {
+            resolveSchemaContext();
+        }
+    }
 
+    private void resolveSchemaContext() {
         // INIT yang parser factory
         this.yangParserFactory = new DefaultYangParserFactory();
 
         //INIT schema context
-        this.snapshotResolver = new ModuleInfoSnapshotResolver("binding-dom-codec",
-                new DefaultYangTextToIRSourceTransformer(), yangParserFactory);
+        this.snapshotResolver = new ModuleInfoSnapshotResolver("binding-dom-codec", textToIRTransformer,
+                yangParserFactory);
+        final List<YangFeatureProvider> featureProviders = new ArrayList<>();
         for (YangFeatureProvider featureProvider : ServiceLoader.load(YangFeatureProvider.class)) {
             this.snapshotResolver.registerModuleFeatures(
                 featureProvider.boundModule(),
                 featureProvider.supportedFeatures()
             );
+            featureProviders.add(featureProvider);
+        }
+        if (this.schemaCacheEnabled) {
+            this.modelSetFingerprint = ModelSetCache.fingerprint(modelSet, featureProviders);
+            this.cachedModelSet = ModelSetCache.lookup(this.modelSetFingerprint);
+        }
+        if (this.cachedModelSet.isPresent()) {
+            // Models are not registered to snapshot resolver, the snapshot is never taken again
+            LOG.info("Using cached model set {}", this.modelSetFingerprint);
+            this.moduleInfoSnapshot = this.cachedModelSet.get().getModuleInfoSnapshot();
+        } else {
+            this.modelsRegistration = snapshotResolver.registerModuleInfos(modelSet);
+            this.moduleInfoSnapshot = snapshotResolver.takeSnapshot();
         }
-        this.modelsRegistration = snapshotResolver.registerModuleInfos(modelSet);
-        this.moduleInfoSnapshot = snapshotResolver.takeSnapshot();
         this.schemaService = new FixedDOMSchemaService(() -> moduleInfoSnapshot.modelContext(), sourceId -> {
             try {
                 return Futures.immediateFuture(moduleInfoSnapshot.getYangTextSource(sourceId));
@@ -280,101 +534,179 @@ public class LightyControllerImpl extends AbstractLightyModule implements Lighty
                 return Futures.immediateFailedFuture(e);
             }
         });
+    }
 
-        // INIT CODEC FACTORY
+    private BindingCodecContext initBindingCodec() {
+        try (StartupTimeline.Phase phase = startPhase("codec-generation")) {
+            return createBindingCodec();
+        }
+    }
 
-        final BindingRuntimeGenerator bindingRuntimeGenerator = new DefaultBindingRuntimeGenerator();
-        final BindingRuntimeTypes bindingRuntimeTypes = bindingRuntimeGenerator
-                .generateTypeMapping(moduleInfoSnapshot.modelContext());
+    private BindingCodecContext createBindingCodec() {
+        // INIT CODEC FACTORY
+        final BindingRuntimeTypes bindingRuntimeTypes;
+        if (this.cachedModelSet.isPresent()) {
+            bindingRuntimeTypes = this.cachedModelSet.get().getBindingRuntimeTypes();
+        } else {
+            final BindingRuntimeGenerator bindingRuntimeGenerator = new DefaultBindingRuntimeGenerator();
+            bindingRuntimeTypes = bindingRuntimeGenerator.generateTypeMapping(moduleInfoSnapshot.modelContext());
+            if (this.schemaCacheEnabled) {
+                ModelSetCache.store(this.modelSetFingerprint, moduleInfoSnapshot, bindingRuntimeTypes);
+            }
+        }
         final DefaultBindingRuntimeContext bindingRuntimeContext
                 = new DefaultBindingRuntimeContext(bindingRuntimeTypes, moduleInfoSnapshot);
 
         this.bindingCodecTreeFactory = new DefaultDynamicBindingDataCodec(bindingRuntimeContext);
 
-        final BindingCodecContext bindingCodecContext = new BindingCodecContext(bindingRuntimeContext);
-        this.codec = new ConstantAdapterContext(bindingCodecContext);
-
-        // CONFIG DATASTORE
-        this.configDatastore = prepareDataStore(this.configDatastoreContext, this.clusterConfiguration,
-                this.schemaService, this.datastoreSnapshotRestore, this.actorSystemProvider);
-        // OPERATIONAL DATASTORE
-        this.operDatastore = prepareDataStore(this.operDatastoreContext, this.clusterConfiguration,
-                this.schemaService, this.datastoreSnapshotRestore, this.actorSystemProvider);
+        final BindingCodecContext codecContext = new BindingCodecContext(bindingRuntimeContext);
+        this.codec = new ConstantAdapterContext(codecContext);
+        return codecContext;
+    }
 
-        createConcurrentDOMDataBroker();
+    private void initRpcServices() {
+        try (StartupTimeline.Phase phase = startPhase("rpc-services")) {
+            createRpcServices();
+        }
+    }
 
+    private void createRpcServices() {
         this.domRpcRouter = new DOMRpcRouter(this.schemaService);
-        this.domActionProviderService = new RouterDOMActionProviderService(domRpcRouter);
-        this.domActionService = new RouterDOMActionService(domRpcRouter);
 
         this.bindingAdapterFactory = new BindingAdapterFactory(getAdapterContext());
-        this.actionProviderService = this.bindingAdapterFactory.createActionProviderService(
-                this.domActionProviderService);
-        this.actionService = bindingAdapterFactory.createActionService(this.domActionService);
         routerDomRpcService = new RouterDOMRpcService(domRpcRouter);
         rpcConsumerRegistry = bindingAdapterFactory.createRpcService(routerDomRpcService);
         routerDOMRpcProviderService = new RouterDOMRpcProviderService(domRpcRouter);
         this.rpcProviderService = new BindingDOMRpcProviderServiceAdapter(this.codec, routerDOMRpcProviderService);
+    }
 
-        createRemoteOpsProvider();
-
-        // ENTITY OWNERSHIP
-        try {
-            this.pekkoEntityOwnershipService = new AkkaEntityOwnershipService(this.actorSystemProvider,
-                    this.rpcProviderService, bindingCodecContext);
-        } catch (ExecutionException | InterruptedException e) {
-            LOG.error("Exception occurred while creating PekkoEntityOwnershipService", e);
-            Thread.currentThread().interrupt();
-            return false;
+    /**
+     * Create optional service together with services it depends on, if it was not created yet.
+     * Caller must hold {@link #optionalServicesLock}.
+     *
+     * @param service optional service to create
+     * @throws ExecutionException if entity ownership service could not be created
+     * @throws InterruptedException if interrupted while creating entity ownership service
+     */
+    private void ensureOptionalService(final OptionalService service)
+            throws ExecutionException, InterruptedException {
+        switch (service) {
+            case ACTIONS:
+                if (this.domActionService == null) {
+                    this.domActionProviderService = new RouterDOMActionProviderService(domRpcRouter);
+                    this.domActionService = new RouterDOMActionService(domRpcRouter);
+                    this.actionProviderService = this.bindingAdapterFactory.createActionProviderService(
+                            this.domActionProviderService);
+                    this.actionService = bindingAdapterFactory.createActionService(this.domActionService);
+                }
+                break;
+            case REMOTE_OPS:
+                if (this.remoteOpsProvider == null) {
+                    ensureOptionalService(OptionalService.ACTIONS);
+                    try (StartupTimeline.Phase phase = startPhase("remote-ops")) {
+                        createRemoteOpsProvider();
+                    }
+                }
+                break;
+            case ENTITY_OWNERSHIP:
+                if (this.pekkoEntityOwnershipService == null) {
+                    try (StartupTimeline.Phase phase = startPhase("entity-ownership")) {
+                        this.pekkoEntityOwnershipService = new AkkaEntityOwnershipService(this.actorSystemProvider,
+                                this.rpcProviderService, this.bindingCodecContext);
+                    }
+                    this.defaultEntityOwnershipService = new DefaultEntityOwnershipService(
+                            pekkoEntityOwnershipService, this.codec);
+                }
+                break;
+            case CLUSTER_ADMIN:
+                if (this.clusterAdminRpcService == null && this.operDatastore == null) {
+                    LOG.debug("Cluster admin RPC service is not available with in-memory operational datastore");
+                } else if (this.clusterAdminRpcService == null) {
+                    ensureOptionalService(OptionalService.ENTITY_OWNERSHIP);
+                    this.clusterAdminRpcService = new ClusterAdminRpcService(this.configDatastore,
+                            this.operDatastore, this.pekkoEntityOwnershipService);
+                }
+                break;
+            case CLUSTER_SINGLETON:
+                if (this.clusterSingletonServiceProvider == null) {
+                    ensureOptionalService(OptionalService.ENTITY_OWNERSHIP);
+                    this.clusterSingletonServiceProvider =
+                            new EOSClusterSingletonServiceProvider(this.pekkoEntityOwnershipService);
+                }
+                break;
+            case BINDING_NOTIFICATIONS:
+                if (this.notificationService == null) {
+                    this.notificationService = new BindingDOMNotificationServiceAdapter(this.codec,
+                            routerDOMNotificationService);
+                    this.notificationPublishService = new BindingDOMNotificationPublishServiceAdapter(
+                            this.codec, routerDOMPublishNotificationService);
+                }
+                break;
+            case YANG_LIBRARY_WRITER:
+                if (this.yangLibraryWriter == null) {
+                    ensureOptionalService(OptionalService.CLUSTER_SINGLETON);
+                    try (StartupTimeline.Phase phase = startPhase("yang-library-writer")) {
+                        this.yangLibraryWriter = new YangLibraryWriterSingleton(clusterSingletonServiceProvider,
+                                schemaService, dataBroker, true);
+                        yangLibraryWriter.instantiateServiceInstance();
+                    }
+                }
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown optional service " + service);
         }
+    }
 
-        this.defaultEntityOwnershipService = new DefaultEntityOwnershipService(
-                pekkoEntityOwnershipService, this.codec);
-        this.clusterAdminRpcService =
-                new ClusterAdminRpcService(this.configDatastore, this.operDatastore, this.pekkoEntityOwnershipService);
-
-        this.clusterSingletonServiceProvider =
-                new EOSClusterSingletonServiceProvider(this.pekkoEntityOwnershipService);
-
-        //create binding mount point service
-        this.mountPointService = new BindingDOMMountPointServiceAdapter(this.codec, this.domMountPointService);
-        this.routerDOMNotificationService = new RouterDOMNotificationService(domNotificationRouter);
-        this.notificationService = new BindingDOMNotificationServiceAdapter(this.codec, routerDOMNotificationService);
-        this.routerDOMPublishNotificationService = new RouterDOMPublishNotificationService(domNotificationRouter);
-        this.notificationPublishService = new BindingDOMNotificationPublishServiceAdapter(
-                this.codec, routerDOMPublishNotificationService);
-
-        //create data broker
-        this.dataBroker = bindingAdapterFactory.createDataBroker(concurrentDOMDataBroker);
-
-        this.clusteringHandler.ifPresent(handler -> handler.start(rpcConsumerRegistry));
-
-        this.yangLibraryWriter = new YangLibraryWriterSingleton(clusterSingletonServiceProvider, schemaService,
-                dataBroker, true);
-        yangLibraryWriter.instantiateServiceInstance();
-
-        if (this.initialConfigData.isPresent()) {
-            final InitialConfigData initialData = this.initialConfigData.get();
-            try (InputStream inputStream = initialData.getAsInputStream()) {
-                FileToDatastoreUtils.importConfigDataFile(inputStream, initialData.getFormat(),
-                        moduleInfoSnapshot.modelContext(), this.getClusteredDOMDataBroker(), true);
-            } catch (TimeoutException | ExecutionException | IOException | DeserializationException e) {
-                LOG.error("Exception occurred while importing config data from file", e);
-                return false;
-            } catch (InterruptedException e) {
-                LOG.error("Interrupted while importing config data from file", e);
-                Thread.currentThread().interrupt();
-                return false;
+    /**
+     * Get optional service, create it first if it was not created yet and controller is running.
+     *
+     * @param service optional service
+     * @param getter getter of the field holding the service
+     * @return optional service or null if controller is not running
+     */
+    private <T> T getOptionalService(final OptionalService service, final Supplier<T> getter) {
+        synchronized (this.optionalServicesLock) {
+            if (this.optionalServicesAvailable) {
+                try {
+                    ensureOptionalService(service);
+                } catch (ExecutionException e) {
+                    throw new IllegalStateException("Failed to create controller service " + service, e);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted while creating controller service " + service, e);
+                }
             }
+            return getter.get();
         }
-        LOG.info("Lighty controller started in {}", stopwatch.stop());
-        return true;
     }
 
     private AbstractDataStore prepareDataStore(final DatastoreContext datastoreContext,
             final Configuration configuration, final DOMSchemaService domSchemaService,
             final DatastoreSnapshotRestore newDatastoreSnapshotRestore,
             final ActorSystemProvider newActorSystemProvider) {
+        try (StartupTimeline.Phase phase = startPhase(
+                "datastore-" + datastoreContext.getLogicalStoreType().name().toLowerCase(Locale.ROOT))) {
+            return createDataStore(datastoreContext, configuration, domSchemaService, newDatastoreSnapshotRestore,
+                newActorSystemProvider);
+        }
+    }
+
+    /**
+     * Create operational datastore backed directly by in-memory data tree. Commits are applied in the calling
+     * thread without shard actors, data are neither persisted nor replicated to other cluster members.
+     */
+    private InMemoryDOMDataStore prepareInMemoryOperationalDataStore() {
+        try (StartupTimeline.Phase phase = startPhase("datastore-operational-in-memory")) {
+            LOG.info("Operational datastore is in-memory, operational data are not replicated in cluster");
+            return InMemoryDOMDataStoreFactory.create("DOM-OPER", LogicalDatastoreType.OPERATIONAL,
+                    this.schemaService, false, InMemoryDOMDataStoreConfigProperties.getDefault());
+        }
+    }
+
+    private AbstractDataStore createDataStore(final DatastoreContext datastoreContext,
+            final Configuration configuration, final DOMSchemaService domSchemaService,
+            final DatastoreSnapshotRestore newDatastoreSnapshotRestore,
+            final ActorSystemProvider newActorSystemProvider) {
         final DefaultDatastoreContextIntrospectorFactory introspectorFactory
             = new DefaultDatastoreContextIntrospectorFactory(new DefaultRaftPolicyResolver(),
             this.codec.currentSerializer());
@@ -389,38 +721,61 @@ public class LightyControllerImpl extends AbstractLightyModule implements Lighty
     @Override
     protected boolean stopProcedure() throws InterruptedException, ExecutionException {
         LOG.debug("Lighty Controller stopProcedure");
-        if (yangLibraryWriter != null) {
-            yangLibraryWriter.close();
-        }
-        if (this.clusterSingletonServiceProvider != null) {
-            this.clusterSingletonServiceProvider.close();
+        final Stopwatch stopwatch = Stopwatch.createStarted();
+        synchronized (this.optionalServicesLock) {
+            this.optionalServicesAvailable = false;
         }
-        boolean stopSuccessful = true;
-        if (this.pekkoEntityOwnershipService != null) {
-            try {
-                this.pekkoEntityOwnershipService.close();
-            } catch (ExecutionException e) {
-                LOG.error("Closing pekko PekkoEntityOwnershipService failed!", e);
-                stopSuccessful = false;
+        final long deadlineNanos = System.nanoTime() + TimeUnit.SECONDS.toNanos(SHUTDOWN_DEADLINE);
+        final ExecutorService shutdownExecutor = Executors.newFixedThreadPool(SHUTDOWN_THREAD_POOL_SIZE,
+                new ThreadFactoryBuilder().setNameFormat("lighty-controller-shutdown-%d").setDaemon(true).build());
+        boolean stopSuccessful;
+        try {
+            // services running on top of datastores, RPC router and actor system
+            final Map<String, ShutdownAction> services = new LinkedHashMap<>();
+            if (this.yangLibraryWriter != null) {
+                services.put("yang-library-writer", this.yangLibraryWriter::close);
             }
-        }
-        if (this.listenableFutureExecutor != null) {
-            this.listenableFutureExecutor.shutdown();
-        }
-        if (this.operDatastore != null) {
-            this.operDatastore.close();
-        }
-        if (this.configDatastore != null) {
-            this.configDatastore.close();
-        }
-        if (this.remoteOpsProvider != null) {
-            this.remoteOpsProvider.close();
-        }
-        if (this.domRpcRouter != null) {
-            this.domRpcRouter.close();
-        }
-        if (this.domNotificationRouter != null) {
-            this.domNotificationRouter.close();
+            if (this.clusterSingletonServiceProvider != null) {
+                services.put("cluster-singleton", this.clusterSingletonServiceProvider::close);
+            }
+            if (this.pekkoEntityOwnershipService != null) {
+                services.put("entity-ownership", this.pekkoEntityOwnershipService::close);
+            }
+            if (this.remoteOpsProvider != null) {
+                services.put("remote-ops", this.remoteOpsProvider::close);
+            }
+            this.batchingDOMDataBroker.ifPresent(broker -> services.put("write-batching", broker::close));
+            this.cachingDOMDataBroker.ifPresent(broker -> services.put("subtree-cache", broker::close));
+            stopSuccessful = closeConcurrently("services", services, shutdownExecutor, deadlineNanos);
+
+            final Map<String, ShutdownAction> core = new LinkedHashMap<>();
+            if (this.operDatastore != null) {
+                core.put("datastore-operational", this.operDatastore::close);
+            }
+            if (this.inMemoryOperDatastore != null) {
+                core.put("datastore-operational", this.inMemoryOperDatastore::close);
+            }
+            if (this.configDatastore != null) {
+                core.put("datastore-configuration", this.configDatastore::close);
+            }
+            if (this.domRpcRouter != null) {
+                core.put("rpc-router", this.domRpcRouter::close);
+            }
+            if (this.partitionedDOMNotificationRouter.isPresent()) {
+                core.put("notification-router", this.partitionedDOMNotificationRouter.orElseThrow()::close);
+            } else if (this.domNotificationRouter != null) {
+                core.put("notification-router", this.domNotificationRouter::close);
+            }
+            stopSuccessful &= closeConcurrently("core", core, shutdownExecutor, deadlineNanos);
+
+            // callbacks of commits completed while datastores were closing still have to run
+            if (this.listenableFutureExecutor != null) {
+                stopSuccessful &= closeConcurrently("commit-callbacks",
+                        Map.of("commit-futures", this.listenableFutureExecutor::shutdown), shutdownExecutor,
+                        deadlineNanos);
+            }
+        } finally {
+            shutdownExecutor.shutdown();
         }
 
         modelsRegistration.forEach(Registration::close);
@@ -429,28 +784,118 @@ public class LightyControllerImpl extends AbstractLightyModule implements Lighty
             this.pekkoManagement.stop();
         }
         if (this.actorSystemProvider != null) {
+            stopSuccessful &= stopActorSystem(deadlineNanos);
+        }
+        LOG.info("Lighty controller stopped in {}", stopwatch.stop());
+        return stopSuccessful;
+    }
 
-            final CompletableFuture<Terminated> actorSystemTerminatedFuture = this.actorSystemProvider
-                    .getActorSystem()
-                    .getWhenTerminated().toCompletableFuture();
-            final int actorSystemPort = this.actorSystemConfig.getInt("pekko.remote.artery.canonical.port");
-
+    /**
+     * Close HTTP endpoint of Pekko management before checkpoint. Remoting transport of a clustered actor system
+     * can not be closed and reopened in place, Pekko has no API to unbind and rebind it while the actor system
+     * is running, so checkpoint is refused unless the actor system uses local actor provider.
+     */
+    @Override
+    protected boolean beforeCheckpoint() {
+        if (this.actorSystemProvider != null) {
+            final String provider = this.actorSystemProvider.getActorSystem().settings().ProviderClass();
+            if (!LOCAL_ACTOR_PROVIDER.equals(provider)) {
+                LOG.warn("Actor system with {} keeps its remoting transport open, checkpoint is not possible",
+                        provider);
+                return false;
+            }
+        }
+        if (this.pekkoManagement != null) {
             try {
-                this.actorSystemProvider.close();
-            } catch (TimeoutException e) {
-                LOG.error("Closing pekko ActorSystemProvider timed out!", e);
-                stopSuccessful = false;
+                this.pekkoManagement.stop().toCompletableFuture().get(SHUTDOWN_DEADLINE, TimeUnit.SECONDS);
+            } catch (ExecutionException | TimeoutException e) {
+                LOG.error("Pekko management was not stopped before checkpoint", e);
+                return false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
             }
+        }
+        return true;
+    }
 
+    @Override
+    protected boolean afterRestore() {
+        if (this.pekkoManagement != null) {
             try {
-                actorSystemTerminatedFuture.get(ACTOR_SYSTEM_TERMINATE_TIMEOUT, TimeUnit.SECONDS);
-                SocketAnalyzer.awaitPortAvailable(actorSystemPort, ACTOR_SYSTEM_TERMINATE_TIMEOUT, TimeUnit.SECONDS);
+                this.pekkoManagement.start().toCompletableFuture().get(SHUTDOWN_DEADLINE, TimeUnit.SECONDS);
             } catch (ExecutionException | TimeoutException e) {
-                LOG.error("Actor system port {} not released in last {} {}", actorSystemPort,
-                        ACTOR_SYSTEM_TERMINATE_TIMEOUT, TimeUnit.SECONDS, e);
+                LOG.error("Pekko management was not started after restore", e);
+                return false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Run shutdown actions concurrently and wait for them until deadline. Actions which do not finish
+     * before deadline are left running and reported as failed.
+     */
+    @SuppressWarnings("IllegalCatch")
+    private static boolean closeConcurrently(final String phase, final Map<String, ShutdownAction> actions,
+            final ExecutorService executor, final long deadlineNanos) throws InterruptedException {
+        final Stopwatch stopwatch = Stopwatch.createStarted();
+        final Map<String, Future<?>> futures = new LinkedHashMap<>();
+        actions.forEach((name, action) -> futures.put(name, executor.submit(() -> {
+            final Stopwatch actionStopwatch = Stopwatch.createStarted();
+            action.close();
+            LOG.debug("Shutdown of {} finished in {}", name, actionStopwatch.stop());
+            return null;
+        })));
+        boolean success = true;
+        for (Map.Entry<String, Future<?>> future : futures.entrySet()) {
+            try {
+                future.getValue().get(Math.max(0, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (ExecutionException e) {
+                LOG.error("Closing {} failed!", future.getKey(), e.getCause());
+                success = false;
+            } catch (TimeoutException e) {
+                LOG.error("Closing {} did not finish before shutdown deadline of {} {}", future.getKey(),
+                        SHUTDOWN_DEADLINE, TimeUnit.SECONDS);
+                success = false;
+            }
+        }
+        LOG.info("Shutdown phase {} finished in {}", phase, stopwatch.stop());
+        return success;
+    }
+
+    private boolean stopActorSystem(final long deadlineNanos) throws InterruptedException {
+        final Stopwatch stopwatch = Stopwatch.createStarted();
+        final CompletableFuture<Terminated> actorSystemTerminatedFuture = this.actorSystemProvider
+                .getActorSystem()
+                .getWhenTerminated().toCompletableFuture();
+        final int actorSystemPort = this.actorSystemConfig.getInt("pekko.remote.artery.canonical.port");
+        boolean stopSuccessful = true;
+        try {
+            this.actorSystemProvider.close();
+        } catch (TimeoutException e) {
+            LOG.error("Closing pekko ActorSystemProvider timed out!", e);
+            stopSuccessful = false;
+        }
+
+        try {
+            // remote transport is unbound as part of actor system termination, port check is only a fallback
+            // for the case when OS releases the socket later
+            actorSystemTerminatedFuture.get(Math.max(0, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+            if (!SocketAnalyzer.awaitPortAvailable(actorSystemPort, Math.max(0, deadlineNanos - System.nanoTime()),
+                    TimeUnit.NANOSECONDS)) {
+                LOG.error("Actor system port {} not released before shutdown deadline", actorSystemPort);
                 stopSuccessful = false;
             }
+        } catch (ExecutionException | TimeoutException e) {
+            LOG.error("Actor system was not terminated before shutdown deadline of {} {}", SHUTDOWN_DEADLINE,
+                    TimeUnit.SECONDS, e);
+            stopSuccessful = false;
         }
+        LOG.info("Shutdown phase actor-system finished in {}", stopwatch.stop());
         return stopSuccessful;
     }
 
@@ -466,15 +911,69 @@ public class LightyControllerImpl extends AbstractLightyModule implements Lighty
     }
 
     private void createConcurrentDOMDataBroker() {
-        this.listenableFutureExecutor = SpecialExecutors.newBlockingBoundedCachedThreadPool(
+        this.listenableFutureExecutor = CommitCallbackExecutor.create(this.commitCallbackStrategy,
                 this.maxDataBrokerFutureCallbackPoolSize, this.maxDataBrokerFutureCallbackQueueSize,
-                "CommitFutures", Logger.class);
+                "CommitFutures");
+        LOG.debug("Commit callbacks are executed by {}", this.listenableFutureExecutor);
         this.commitStatsTracker = DurationStatisticsTracker.createConcurrent();
         final Map<LogicalDatastoreType, DOMStore> datastores = new HashMap<>();
         datastores.put(LogicalDatastoreType.CONFIGURATION, this.configDatastore);
-        datastores.put(LogicalDatastoreType.OPERATIONAL, this.operDatastore);
+        datastores.put(LogicalDatastoreType.OPERATIONAL, this.operDatastore != null ? this.operDatastore
+                : this.inMemoryOperDatastore);
         this.concurrentDOMDataBroker = new ConcurrentDOMDataBroker(datastores,
                 this.listenableFutureExecutor, this.commitStatsTracker);
+        this.dataBrokerMetrics = new DataBrokerMetrics(this.commitStatsTracker, this.listenableFutureExecutor);
+        if (this.dataBrokerMetricsEnabled) {
+            this.concurrentDOMDataBroker = new MetricsDOMDataBroker(this.concurrentDOMDataBroker,
+                    this.dataBrokerMetrics, this.clusterConfiguration);
+        }
+        if (this.writeBatchingConfig.isEnabled()) {
+            this.batchingDOMDataBroker = Optional.of(new BatchingDOMDataBroker(this.concurrentDOMDataBroker,
+                    this.writeBatchingConfig.getMaxBatchSize(), this.writeBatchingConfig.getBatchWindowMicros(),
+                    TimeUnit.MICROSECONDS));
+        }
+    }
+
+    private DOMNotificationService createNotificationService() {
+        final DOMNotificationService routerNotificationService = this.partitionedDOMNotificationRouter
+                .map(PartitionedDOMNotificationRouter::getNotificationService)
+                .orElseGet(() -> new RouterDOMNotificationService(this.domNotificationRouter));
+        final long listenerLatencyBudget = this.domNotificationRouterConfig.getListenerLatencyBudget();
+        if (!this.domNotificationRouterConfig.isMetricsEnabled() && listenerLatencyBudget == 0) {
+            return routerNotificationService;
+        }
+        LOG.debug("Notification listeners are isolated after exceeding latency budget {} {}", listenerLatencyBudget,
+                this.domNotificationRouterConfig.getUnit());
+        return new MetricsDOMNotificationService(routerNotificationService, this.notificationRouterMetrics,
+                listenerLatencyBudget, this.domNotificationRouterConfig.getListenerOverBudgetThreshold(),
+                this.domNotificationRouterConfig.getIsolatedQueueDepth(), this.domNotificationRouterConfig.getUnit());
+    }
+
+    private DOMNotificationPublishService createPublishNotificationService() {
+        final DOMNotificationPublishService publishService = createWaitingPublishNotificationService();
+        return this.domNotificationRouterConfig.isMetricsEnabled()
+                ? new MetricsDOMNotificationPublishService(publishService, this.notificationRouterMetrics)
+                : publishService;
+    }
+
+    private DOMNotificationPublishService createWaitingPublishNotificationService() {
+        final DOMNotificationPublishService routerPublishService = this.partitionedDOMNotificationRouter
+                .map(PartitionedDOMNotificationRouter::getPublishService)
+                .orElseGet(() -> new RouterDOMPublishNotificationService(this.domNotificationRouter));
+        final WaitStrategyDOMNotificationPublishService.WaitStrategy waitStrategy =
+                WaitStrategyDOMNotificationPublishService.WaitStrategy.of(
+                        this.domNotificationRouterConfig.getSpinTime(), this.domNotificationRouterConfig.getParkTime());
+        LOG.debug("Notification publishers wait for full queues by {} strategy", waitStrategy);
+        if (waitStrategy == WaitStrategyDOMNotificationPublishService.WaitStrategy.BLOCKING) {
+            return routerPublishService;
+        }
+        return new WaitStrategyDOMNotificationPublishService(routerPublishService,
+                this.domNotificationRouterConfig.getSpinTime(), this.domNotificationRouterConfig.getParkTime(),
+                this.domNotificationRouterConfig.getUnit());
+    }
+
+    private StartupTimeline.Phase startPhase(final String name) {
+        return StartupTimeline.getInstance().startPhase(getClass().getSimpleName(), name);
     }
 
     @Override
@@ -544,22 +1043,27 @@ public class LightyControllerImpl extends AbstractLightyModule implements Lighty
 
     @Override
     public DOMEntityOwnershipService getDOMEntityOwnershipService() {
-        return this.pekkoEntityOwnershipService;
+        return getOptionalService(OptionalService.ENTITY_OWNERSHIP, () -> this.pekkoEntityOwnershipService);
     }
 
     @Override
     public EntityOwnershipService getEntityOwnershipService() {
-        return this.defaultEntityOwnershipService;
+        return getOptionalService(OptionalService.ENTITY_OWNERSHIP, () -> this.defaultEntityOwnershipService);
     }
 
     @Override
     public ClusterAdminRpcService getClusterAdminRPCService() {
-        return this.clusterAdminRpcService;
+        return getOptionalService(OptionalService.CLUSTER_ADMIN, () -> this.clusterAdminRpcService);
     }
 
     @Override
     public ClusterSingletonServiceProvider getClusterSingletonServiceProvider() {
-        return this.clusterSingletonServiceProvider;
+        return getOptionalService(OptionalService.CLUSTER_SINGLETON, () -> this.clusterSingletonServiceProvider);
+    }
+
+    @Override
+    public Optional<PartitionedDOMNotificationRouter> getPartitionedDOMNotificationRouter() {
+        return this.partitionedDOMNotificationRouter;
     }
 
     @Override
@@ -582,6 +1086,36 @@ public class LightyControllerImpl extends AbstractLightyModule implements Lighty
         return this.concurrentDOMDataBroker;
     }
 
+    @Override
+    public DataBrokerMetrics getDataBrokerMetrics() {
+        return this.dataBrokerMetrics;
+    }
+
+    @Override
+    public VirtualThreadPinningMonitor getVirtualThreadPinningMonitor() {
+        return VirtualThreadPinningMonitor.getInstance();
+    }
+
+    @Override
+    public NotificationRouterMetrics getNotificationRouterMetrics() {
+        return this.notificationRouterMetrics;
+    }
+
+    @Override
+    public Optional<BatchingDOMDataBroker> getBatchingDOMDataBroker() {
+        return this.batchingDOMDataBroker;
+    }
+
+    @Override
+    public Optional<CachingDOMDataBroker> getCachingDOMDataBroker() {
+        return this.cachingDOMDataBroker;
+    }
+
+    @Override
+    public Optional<DataBroker> getCachingBindingDataBroker() {
+        return this.cachingDataBroker;
+    }
+
     @Override
     public DOMRpcService getDOMRpcService() {
         return routerDomRpcService;
@@ -604,12 +1138,12 @@ public class LightyControllerImpl extends AbstractLightyModule implements Lighty
 
     @Override
     public NotificationService getNotificationService() {
-        return this.notificationService;
+        return getOptionalService(OptionalService.BINDING_NOTIFICATIONS, () -> this.notificationService);
     }
 
     @Override
     public NotificationPublishService getBindingNotificationPublishService() {
-        return this.notificationPublishService;
+        return getOptionalService(OptionalService.BINDING_NOTIFICATIONS, () -> this.notificationPublishService);
     }
 
     @Override
@@ -624,7 +1158,7 @@ public class LightyControllerImpl extends AbstractLightyModule implements Lighty
 
     @Override
     public ActionProviderService getActionProviderService() {
-        return actionProviderService;
+        return getOptionalService(OptionalService.ACTIONS, () -> this.actionProviderService);
     }
 
     @Override
@@ -634,7 +1168,12 @@ public class LightyControllerImpl extends AbstractLightyModule implements Lighty
 
     @Override
     public ActionService getActionService() {
-        return actionService;
+        return getOptionalService(OptionalService.ACTIONS, () -> this.actionService);
+    }
+
+    @Override
+    public StartupTimeline getStartupTimeline() {
+        return StartupTimeline.getInstance();
     }
 
     @Override
@@ -645,11 +1184,16 @@ public class LightyControllerImpl extends AbstractLightyModule implements Lighty
 
     @Override
     public DOMActionService getDOMActionService() {
-        return domActionService;
+        return getOptionalService(OptionalService.ACTIONS, () -> this.domActionService);
     }
 
     @Override
     public DOMActionProviderService getDOMActionProviderService() {
-        return domActionProviderService;
+        return getOptionalService(OptionalService.ACTIONS, () -> this.domActionProviderService);
+    }
+
+    @FunctionalInterface
+    private interface ShutdownAction {
+        void close() throws Exception;
     }
 }
@@ -12,19 +12,30 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.typesafe.config.Config;
+import io.lighty.core.cluster.config.ModuleShardConfig;
+import io.lighty.core.controller.impl.services.BatchingDOMDataBroker;
+import io.lighty.core.controller.impl.services.CommitCallbackExecutor;
 import io.lighty.core.controller.impl.util.DatastoreConfigurationUtils;
 import io.lighty.core.controller.impl.util.FileToDatastoreUtils;
+import io.lighty.core.controller.impl.util.ParallelDataImporter;
+import io.lighty.core.controller.impl.util.ParallelDatastoreSnapshotRestore;
+import io.lighty.core.controller.impl.util.StreamingDataImporter;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import org.opendaylight.controller.cluster.datastore.DatastoreContext;
+import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
 import org.opendaylight.yangtools.binding.meta.YangModuleInfo;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 
 /**
  * Complete configuration for Lighty controller.
@@ -35,14 +46,27 @@ public class ControllerConfiguration {
     private String restoreDirectoryPath = "./clustered-datastore-restore";
     private int maxDataBrokerFutureCallbackQueueSize = 1000;
     private int maxDataBrokerFutureCallbackPoolSize = 10;
+    private CommitCallbackExecutor.Strategy commitCallbackStrategy;
     private boolean metricCaptureEnabled = false;
     private int mailboxCapacity = 1000;
     private String moduleShardsConfig = "configuration/initial/module-shards.conf";
     private String modulesConfig = "configuration/initial/modules.conf";
+    private boolean schemaCacheEnabled = false;
+    private String schemaCacheDirectory;
+    private boolean subtreeCacheEnabled = false;
+    private boolean inMemoryOperationalDatastore = false;
+    private boolean dataBrokerMetricsEnabled = false;
+    private boolean lazyServicesEnabled = false;
+    private Set<OptionalService> requiredServices = EnumSet.noneOf(OptionalService.class);
 
     private DOMNotificationRouterConfig domNotificationRouterConfig;
+    private WriteBatchingConfig writeBatchingConfig;
+    private ShardingConfig shardingConfig;
+    private SnapshotRestoreConfig snapshotRestoreConfig;
     private ActorSystemConfig actorSystemConfig;
     private InitialConfigData initialConfigData;
+    private List<InitialConfigData> initialConfigDataFiles = List.of();
+    private int initialDataImportPoolSize = ParallelDataImporter.DEFAULT_POOL_SIZE;
 
     @JsonIgnore
     private SchemaServiceConfig schemaServiceConfig;
@@ -57,6 +81,9 @@ public class ControllerConfiguration {
 
     public ControllerConfiguration() {
         this.domNotificationRouterConfig = new DOMNotificationRouterConfig();
+        this.writeBatchingConfig = new WriteBatchingConfig();
+        this.shardingConfig = new ShardingConfig();
+        this.snapshotRestoreConfig = new SnapshotRestoreConfig();
         this.actorSystemConfig = new ActorSystemConfig();
         this.schemaServiceConfig = new SchemaServiceConfig();
         this.distributedEosProperties = new Properties();
@@ -65,11 +92,54 @@ public class ControllerConfiguration {
         this.datastoreProperties = DatastoreConfigurationUtils.getDefaultDatastoreProperties();
     }
 
+    /**
+     * Controller services which are not required by the controller core. When lazy services are enabled,
+     * these services are created on first access through {@link io.lighty.core.controller.api.LightyServices}
+     * unless they are listed in required services.
+     */
+    public enum OptionalService {
+        /**
+         * DOM and binding action services.
+         */
+        ACTIONS,
+        /**
+         * Remote RPC and action routing between cluster members, it requires {@link #ACTIONS}.
+         */
+        REMOTE_OPS,
+        /**
+         * DOM and binding entity ownership services.
+         */
+        ENTITY_OWNERSHIP,
+        /**
+         * Cluster admin RPC service, it requires {@link #ENTITY_OWNERSHIP}.
+         */
+        CLUSTER_ADMIN,
+        /**
+         * Cluster singleton service provider, it requires {@link #ENTITY_OWNERSHIP}.
+         */
+        CLUSTER_SINGLETON,
+        /**
+         * Binding notification service and binding notification publish service.
+         */
+        BINDING_NOTIFICATIONS,
+        /**
+         * Writer of ietf-yang-library data to operational datastore, it requires {@link #CLUSTER_SINGLETON}.
+         */
+        YANG_LIBRARY_WRITER
+    }
+
     public static class InitialConfigData {
 
         private String pathToInitDataFile;
         private InputStream inputStream;
         private FileToDatastoreUtils.ImportFileFormat fileFormat;
+        private boolean streaming = false;
+        private boolean incremental = false;
+        private int batchSize = StreamingDataImporter.DEFAULT_BATCH_SIZE;
+        private int maxInFlightCommits = StreamingDataImporter.DEFAULT_MAX_IN_FLIGHT_COMMITS;
+        private LogicalDatastoreType datastore = LogicalDatastoreType.CONFIGURATION;
+        @JsonIgnore
+        private YangInstanceIdentifier instanceIdentifier = YangInstanceIdentifier.of();
 
         @JsonCreator(mode = JsonCreator.Mode.PROPERTIES)
         public InitialConfigData(@JsonProperty("pathToInitDataFile") final String pathToInitDataFile,
@@ -99,6 +169,74 @@ public class ControllerConfiguration {
             return fileFormat;
         }
 
+        /**
+         * Import data in batches committed on transaction chain instead of single transaction,
+         * see {@link StreamingDataImporter}.
+         *
+         * @return true if streaming import is used
+         */
+        public boolean isStreaming() {
+            return streaming;
+        }
+
+        public void setStreaming(final boolean streaming) {
+            this.streaming = streaming;
+        }
+
+        /**
+         * Write only data which differ from current datastore content instead of replacing whole content,
+         * see {@link io.lighty.core.controller.impl.util.IncrementalDataWriter}. It is not used by streaming import.
+         *
+         * @return true if incremental import is used
+         */
+        public boolean isIncremental() {
+            return incremental;
+        }
+
+        public void setIncremental(final boolean incremental) {
+            this.incremental = incremental;
+        }
+
+        public int getBatchSize() {
+            return batchSize;
+        }
+
+        public void setBatchSize(final int batchSize) {
+            this.batchSize = batchSize;
+        }
+
+        public int getMaxInFlightCommits() {
+            return maxInFlightCommits;
+        }
+
+        public void setMaxInFlightCommits(final int maxInFlightCommits) {
+            this.maxInFlightCommits = maxInFlightCommits;
+        }
+
+        public LogicalDatastoreType getDatastore() {
+            return datastore;
+        }
+
+        public void setDatastore(final LogicalDatastoreType datastore) {
+            this.datastore = Objects.requireNonNull(datastore);
+        }
+
+        /**
+         * Get path of the node contained in the file, root by default. Path can be set only programmatically.
+         * Streaming import supports only root path, building controller with other path fails.
+         *
+         * @return path of imported node
+         */
+        @JsonIgnore
+        public YangInstanceIdentifier getInstanceIdentifier() {
+            return instanceIdentifier;
+        }
+
+        @JsonIgnore
+        public void setInstanceIdentifier(final YangInstanceIdentifier instanceIdentifier) {
+            this.instanceIdentifier = Objects.requireNonNull(instanceIdentifier);
+        }
+
         @Override
         public boolean equals(final Object obj) {
             if (this == obj) {
@@ -118,12 +256,22 @@ public class ControllerConfiguration {
                 return false;
             }
 
-            return pathToInitDataFile.equals(that.pathToInitDataFile);
+            if (streaming != that.streaming || incremental != that.incremental || batchSize != that.batchSize
+                    || maxInFlightCommits != that.maxInFlightCommits) {
+                return false;
+            }
+
+            if (datastore != that.datastore || !instanceIdentifier.equals(that.instanceIdentifier)) {
+                return false;
+            }
+
+            return Objects.equals(pathToInitDataFile, that.pathToInitDataFile);
         }
 
         @Override
         public int hashCode() {
-            return Objects.hashCode(this);
+            return Objects.hash(pathToInitDataFile, inputStream, fileFormat, streaming, incremental, batchSize,
+                    maxInFlightCommits, datastore, instanceIdentifier);
         }
     }
 
@@ -133,6 +281,11 @@ public class ControllerConfiguration {
         private long spinTime = 0;
         private long parkTime = 0;
         private TimeUnit unit = TimeUnit.MILLISECONDS;
+        private int partitions = 1;
+        private boolean metricsEnabled = false;
+        private long listenerLatencyBudget = 0;
+        private int listenerOverBudgetThreshold = 3;
+        private int isolatedQueueDepth = 1024;
 
         public int getQueueDepth() {
             return queueDepth;
@@ -142,6 +295,11 @@ public class ControllerConfiguration {
             this.queueDepth = queueDepth;
         }
 
+        /**
+         * Get time publishers busy spin while a subscriber queue is full, before they park or block.
+         *
+         * @return spin time in {@link #getUnit()}
+         */
         public long getSpinTime() {
             return spinTime;
         }
@@ -150,6 +308,12 @@ public class ControllerConfiguration {
             this.spinTime = spinTime;
         }
 
+        /**
+         * Get time publishers park in short intervals while a subscriber queue is full, after spinning and before
+         * they block.
+         *
+         * @return park time in {@link #getUnit()}
+         */
         public long getParkTime() {
             return parkTime;
         }
@@ -166,6 +330,76 @@ public class ControllerConfiguration {
             this.unit = unit;
         }
 
+        /**
+         * Get number of notification router partitions. Every partition has its own queues and threads,
+         * notifications are assigned to partitions by their type or by a key provided by the publisher.
+         *
+         * @return number of partitions, 1 if notification routing is not partitioned
+         */
+        public int getPartitions() {
+            return partitions;
+        }
+
+        public void setPartitions(final int partitions) {
+            this.partitions = partitions;
+        }
+
+        /**
+         * Check whether publish counts, publish blocked time, delivery latency by notification type and processing
+         * time of listeners are recorded into notification router metrics.
+         *
+         * @return true if notification router metrics are recorded
+         */
+        public boolean isMetricsEnabled() {
+            return metricsEnabled;
+        }
+
+        public void setMetricsEnabled(final boolean metricsEnabled) {
+            this.metricsEnabled = metricsEnabled;
+        }
+
+        /**
+         * Get processing time of a notification over which the listener is over budget. Listener over budget
+         * {@link #getListenerOverBudgetThreshold()} times in a row is moved to its own bounded queue, so it does not
+         * block publishers and other listeners.
+         *
+         * @return latency budget of listeners in {@link #getUnit()}, 0 if slow listeners are not isolated
+         */
+        public long getListenerLatencyBudget() {
+            return listenerLatencyBudget;
+        }
+
+        public void setListenerLatencyBudget(final long listenerLatencyBudget) {
+            this.listenerLatencyBudget = listenerLatencyBudget;
+        }
+
+        /**
+         * Get number of consecutive notifications processed over {@link #getListenerLatencyBudget()} after which
+         * the listener is isolated.
+         *
+         * @return number of consecutive notifications over budget
+         */
+        public int getListenerOverBudgetThreshold() {
+            return listenerOverBudgetThreshold;
+        }
+
+        public void setListenerOverBudgetThreshold(final int listenerOverBudgetThreshold) {
+            this.listenerOverBudgetThreshold = listenerOverBudgetThreshold;
+        }
+
+        /**
+         * Get depth of queue of an isolated listener. Oldest notifications are dropped when the queue is full.
+         *
+         * @return depth of isolated listener queue
+         */
+        public int getIsolatedQueueDepth() {
+            return isolatedQueueDepth;
+        }
+
+        public void setIsolatedQueueDepth(final int isolatedQueueDepth) {
+            this.isolatedQueueDepth = isolatedQueueDepth;
+        }
+
         @Override
         public boolean equals(final Object obj) {
             if (this == obj) {
@@ -186,6 +420,21 @@ public class ControllerConfiguration {
             if (parkTime != that.parkTime) {
                 return false;
             }
+            if (partitions != that.partitions) {
+                return false;
+            }
+            if (metricsEnabled != that.metricsEnabled) {
+                return false;
+            }
+            if (listenerLatencyBudget != that.listenerLatencyBudget) {
+                return false;
+            }
+            if (listenerOverBudgetThreshold != that.listenerOverBudgetThreshold) {
+                return false;
+            }
+            if (isolatedQueueDepth != that.isolatedQueueDepth) {
+                return false;
+            }
             return unit == that.unit;
         }
 
@@ -195,11 +444,209 @@ public class ControllerConfiguration {
             result = 31 * result + (int) (spinTime ^ spinTime >>> 32);
             result = 31 * result + (int) (parkTime ^ parkTime >>> 32);
             result = 31 * result + (unit != null ? unit.hashCode() : 0);
+            result = 31 * result + partitions;
+            result = 31 * result + (metricsEnabled ? 1 : 0);
+            result = 31 * result + (int) (listenerLatencyBudget ^ listenerLatencyBudget >>> 32);
+            result = 31 * result + listenerOverBudgetThreshold;
+            result = 31 * result + isolatedQueueDepth;
             return result;
         }
 
     }
 
+    /**
+     * Configuration of {@link BatchingDOMDataBroker}, which coalesces small write-only transactions into batches.
+     */
+    public static class WriteBatchingConfig {
+
+        private boolean enabled = false;
+        private int maxBatchSize = BatchingDOMDataBroker.DEFAULT_MAX_BATCH_SIZE;
+        private long batchWindowMicros = BatchingDOMDataBroker.DEFAULT_BATCH_WINDOW_MICROS;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(final boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getMaxBatchSize() {
+            return maxBatchSize;
+        }
+
+        public void setMaxBatchSize(final int maxBatchSize) {
+            this.maxBatchSize = maxBatchSize;
+        }
+
+        public long getBatchWindowMicros() {
+            return batchWindowMicros;
+        }
+
+        public void setBatchWindowMicros(final long batchWindowMicros) {
+            this.batchWindowMicros = batchWindowMicros;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj == null || getClass() != obj.getClass()) {
+                return false;
+            }
+
+            WriteBatchingConfig that = (WriteBatchingConfig) obj;
+
+            if (enabled != that.enabled) {
+                return false;
+            }
+            if (maxBatchSize != that.maxBatchSize) {
+                return false;
+            }
+            return batchWindowMicros == that.batchWindowMicros;
+        }
+
+        @Override
+        public int hashCode() {
+            int result = enabled ? 1 : 0;
+            result = 31 * result + maxBatchSize;
+            result = 31 * result + (int) (batchWindowMicros ^ batchWindowMicros >>> 32);
+            return result;
+        }
+    }
+
+    /**
+     * Shard layout of clustered datastores. When shards are configured, module-shards.conf and modules.conf are
+     * generated from them and {@link #getModuleShardsConfig()} and {@link #getModulesConfig()} are not used.
+     * Each module with own shard gets its own shard leader and commit queue, so commits of different modules
+     * are processed in parallel.
+     */
+    public static class ShardingConfig {
+
+        private List<ModuleShardConfig> shards = List.of();
+        private List<String> defaultReplicas = List.of("member-1");
+        private String layoutDirectory;
+
+        /**
+         * Get dedicated shards of modules. Shard named {@code default} may be listed to set its replicas.
+         *
+         * @return module shards, empty if shard layout is read from configured files
+         */
+        public List<ModuleShardConfig> getShards() {
+            return shards;
+        }
+
+        public void setShards(final List<ModuleShardConfig> shards) {
+            this.shards = List.copyOf(shards);
+        }
+
+        /**
+         * Get members hosting replicas of shards which do not list their own replicas. Replicas are used only
+         * in static deployments, in Kubernetes deployments every shard is replicated to all cluster members.
+         *
+         * @return member names
+         */
+        public List<String> getDefaultReplicas() {
+            return defaultReplicas;
+        }
+
+        public void setDefaultReplicas(final List<String> defaultReplicas) {
+            this.defaultReplicas = List.copyOf(defaultReplicas);
+        }
+
+        /**
+         * Get directory where generated module-shards.conf and modules.conf are written.
+         *
+         * @return layout directory, null if a temporary directory is used
+         */
+        public String getLayoutDirectory() {
+            return layoutDirectory;
+        }
+
+        public void setLayoutDirectory(final String layoutDirectory) {
+            this.layoutDirectory = layoutDirectory;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj == null || getClass() != obj.getClass()) {
+                return false;
+            }
+
+            ShardingConfig that = (ShardingConfig) obj;
+
+            if (!shards.equals(that.shards)) {
+                return false;
+            }
+            if (!defaultReplicas.equals(that.defaultReplicas)) {
+                return false;
+            }
+            return Objects.equals(layoutDirectory, that.layoutDirectory);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = shards.hashCode();
+            result = 31 * result + defaultReplicas.hashCode();
+            result = 31 * result + Objects.hashCode(layoutDirectory);
+            return result;
+        }
+    }
+
+    /**
+     * Configuration of {@link ParallelDatastoreSnapshotRestore}, which restores datastores from backup files
+     * in {@link #getRestoreDirectoryPath()}.
+     */
+    public static class SnapshotRestoreConfig {
+
+        private int parallelism = ParallelDatastoreSnapshotRestore.DEFAULT_PARALLELISM;
+        private boolean memoryMapped = false;
+
+        public int getParallelism() {
+            return parallelism;
+        }
+
+        public void setParallelism(final int parallelism) {
+            this.parallelism = parallelism;
+        }
+
+        public boolean isMemoryMapped() {
+            return memoryMapped;
+        }
+
+        public void setMemoryMapped(final boolean memoryMapped) {
+            this.memoryMapped = memoryMapped;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj == null || getClass() != obj.getClass()) {
+                return false;
+            }
+
+            SnapshotRestoreConfig that = (SnapshotRestoreConfig) obj;
+
+            if (parallelism != that.parallelism) {
+                return false;
+            }
+            return memoryMapped == that.memoryMapped;
+        }
+
+        @Override
+        public int hashCode() {
+            int result = parallelism;
+            result = 31 * result + (memoryMapped ? 1 : 0);
+            return result;
+        }
+    }
+
     public static class ActorSystemConfig {
 
         private String pekkoConfigPath = "singlenode/pekko-default.conf";
@@ -327,6 +774,30 @@ public class ControllerConfiguration {
         this.domNotificationRouterConfig = domNotificationRouterConfig;
     }
 
+    public WriteBatchingConfig getWriteBatchingConfig() {
+        return writeBatchingConfig;
+    }
+
+    public void setWriteBatchingConfig(final WriteBatchingConfig writeBatchingConfig) {
+        this.writeBatchingConfig = writeBatchingConfig;
+    }
+
+    public ShardingConfig getShardingConfig() {
+        return shardingConfig;
+    }
+
+    public void setShardingConfig(final ShardingConfig shardingConfig) {
+        this.shardingConfig = shardingConfig;
+    }
+
+    public SnapshotRestoreConfig getSnapshotRestoreConfig() {
+        return snapshotRestoreConfig;
+    }
+
+    public void setSnapshotRestoreConfig(final SnapshotRestoreConfig snapshotRestoreConfig) {
+        this.snapshotRestoreConfig = snapshotRestoreConfig;
+    }
+
     public ActorSystemConfig getActorSystemConfig() {
         return actorSystemConfig;
     }
@@ -359,6 +830,21 @@ public class ControllerConfiguration {
         this.maxDataBrokerFutureCallbackPoolSize = maxDataBrokerFutureCallbackPoolSize;
     }
 
+    /**
+     * Get strategy of running callbacks of data broker commit futures. Pool and queue size limits apply
+     * to {@link CommitCallbackExecutor.Strategy#BOUNDED} strategy only.
+     *
+     * @return commit callback strategy, {@code null} if it follows
+     *     {@link io.lighty.core.controller.api.ExecutionPolicy} mode
+     */
+    public CommitCallbackExecutor.Strategy getCommitCallbackStrategy() {
+        return commitCallbackStrategy;
+    }
+
+    public void setCommitCallbackStrategy(final CommitCallbackExecutor.Strategy commitCallbackStrategy) {
+        this.commitCallbackStrategy = commitCallbackStrategy;
+    }
+
     public boolean isMetricCaptureEnabled() {
         return metricCaptureEnabled;
     }
@@ -427,6 +913,108 @@ public class ControllerConfiguration {
         this.datastoreProperties = datastoreProperties;
     }
 
+    public boolean isSchemaCacheEnabled() {
+        return schemaCacheEnabled;
+    }
+
+    public void setSchemaCacheEnabled(final boolean schemaCacheEnabled) {
+        this.schemaCacheEnabled = schemaCacheEnabled;
+    }
+
+    /**
+     * Get directory where YANG sources parsed to IR are persisted, so they are not parsed again after restart
+     * of the JVM. Sources are stored under digest of their YANG text.
+     *
+     * @return directory of persisted IR sources, null if IR sources are not persisted
+     */
+    public String getSchemaCacheDirectory() {
+        return schemaCacheDirectory;
+    }
+
+    public void setSchemaCacheDirectory(final String schemaCacheDirectory) {
+        this.schemaCacheDirectory = schemaCacheDirectory;
+    }
+
+    /**
+     * Check whether {@link io.lighty.core.controller.impl.services.CachingDOMDataBroker} is created. Subtrees
+     * served from memory are registered on the broker by application.
+     *
+     * @return true if subtree cache is enabled
+     */
+    public boolean isSubtreeCacheEnabled() {
+        return subtreeCacheEnabled;
+    }
+
+    public void setSubtreeCacheEnabled(final boolean subtreeCacheEnabled) {
+        this.subtreeCacheEnabled = subtreeCacheEnabled;
+    }
+
+    /**
+     * Check whether operational datastore is backed directly by in-memory data tree instead of distributed
+     * datastore. Intended for single node deployments, operational data are neither persisted nor replicated
+     * and {@link io.lighty.core.controller.api.LightyServices#getOperationalDatastore()} is not available.
+     * Building controller fails if shards are replicated to more than one member or the deployment is clustered
+     * in Kubernetes.
+     *
+     * @return true if operational datastore is in-memory
+     */
+    public boolean isInMemoryOperationalDatastore() {
+        return inMemoryOperationalDatastore;
+    }
+
+    public void setInMemoryOperationalDatastore(final boolean inMemoryOperationalDatastore) {
+        this.inMemoryOperationalDatastore = inMemoryOperationalDatastore;
+    }
+
+    /**
+     * Check whether commit latency histograms and transaction counts of clustered data broker are recorded
+     * into {@link io.lighty.core.controller.impl.services.DataBrokerMetrics}.
+     *
+     * @return true if data broker metrics are enabled
+     */
+    public boolean isDataBrokerMetricsEnabled() {
+        return dataBrokerMetricsEnabled;
+    }
+
+    public void setDataBrokerMetricsEnabled(final boolean dataBrokerMetricsEnabled) {
+        this.dataBrokerMetricsEnabled = dataBrokerMetricsEnabled;
+    }
+
+    public boolean isLazyServicesEnabled() {
+        return lazyServicesEnabled;
+    }
+
+    public void setLazyServicesEnabled(final boolean lazyServicesEnabled) {
+        this.lazyServicesEnabled = lazyServicesEnabled;
+    }
+
+    public Set<OptionalService> getRequiredServices() {
+        return requiredServices;
+    }
+
+    public void setRequiredServices(final Set<OptionalService> requiredServices) {
+        this.requiredServices = requiredServices;
+    }
+
+    /**
+     * Get optional services which are created during controller startup. These are all optional services
+     * if lazy services are disabled, otherwise required services, {@link OptionalService#REMOTE_OPS} and
+     * {@link OptionalService#YANG_LIBRARY_WRITER}. The latter two have no getter in LightyServices which would
+     * create them on first access, so they are always created during startup.
+     *
+     * @return optional services created during controller startup
+     */
+    @JsonIgnore
+    public Set<OptionalService> getEagerServices() {
+        if (!lazyServicesEnabled) {
+            return EnumSet.allOf(OptionalService.class);
+        }
+        final Set<OptionalService> eagerServices = EnumSet.of(OptionalService.REMOTE_OPS,
+                OptionalService.YANG_LIBRARY_WRITER);
+        eagerServices.addAll(requiredServices);
+        return eagerServices;
+    }
+
     public void setInitialConfigData(InitialConfigData initialConfigData) {
         this.initialConfigData = initialConfigData;
     }
@@ -435,6 +1023,44 @@ public class ControllerConfiguration {
         return initialConfigData;
     }
 
+    /**
+     * Get additional initial data files. Files are imported concurrently together with
+     * {@link #getInitialConfigData()}, files targeting overlapping subtrees are written in the order of this list.
+     *
+     * @return initial data files
+     */
+    public List<InitialConfigData> getInitialConfigDataFiles() {
+        return initialConfigDataFiles;
+    }
+
+    public void setInitialConfigDataFiles(final List<InitialConfigData> initialConfigDataFiles) {
+        this.initialConfigDataFiles = List.copyOf(initialConfigDataFiles);
+    }
+
+    public int getInitialDataImportPoolSize() {
+        return initialDataImportPoolSize;
+    }
+
+    public void setInitialDataImportPoolSize(final int initialDataImportPoolSize) {
+        this.initialDataImportPoolSize = initialDataImportPoolSize;
+    }
+
+    /**
+     * Get all initial data files to import, {@link #getInitialConfigData()} first.
+     *
+     * @return initial data files
+     */
+    @JsonIgnore
+    public List<InitialConfigData> getAllInitialConfigData() {
+        if (initialConfigData == null) {
+            return initialConfigDataFiles;
+        }
+        final List<InitialConfigData> allData = new ArrayList<>(initialConfigDataFiles.size() + 1);
+        allData.add(initialConfigData);
+        allData.addAll(initialConfigDataFiles);
+        return allData;
+    }
+
     @Override
     public boolean equals(final Object obj) {
         if (this == obj) {
@@ -452,12 +1078,36 @@ public class ControllerConfiguration {
         if (maxDataBrokerFutureCallbackPoolSize != that.maxDataBrokerFutureCallbackPoolSize) {
             return false;
         }
+        if (commitCallbackStrategy != that.commitCallbackStrategy) {
+            return false;
+        }
         if (metricCaptureEnabled != that.metricCaptureEnabled) {
             return false;
         }
         if (mailboxCapacity != that.mailboxCapacity) {
             return false;
         }
+        if (schemaCacheEnabled != that.schemaCacheEnabled) {
+            return false;
+        }
+        if (!Objects.equals(schemaCacheDirectory, that.schemaCacheDirectory)) {
+            return false;
+        }
+        if (subtreeCacheEnabled != that.subtreeCacheEnabled) {
+            return false;
+        }
+        if (inMemoryOperationalDatastore != that.inMemoryOperationalDatastore) {
+            return false;
+        }
+        if (dataBrokerMetricsEnabled != that.dataBrokerMetricsEnabled) {
+            return false;
+        }
+        if (lazyServicesEnabled != that.lazyServicesEnabled) {
+            return false;
+        }
+        if (!Objects.equals(requiredServices, that.requiredServices)) {
+            return false;
+        }
         if (!restoreDirectoryPath.equals(that.restoreDirectoryPath)) {
             return false;
         }
@@ -470,6 +1120,15 @@ public class ControllerConfiguration {
         if (!domNotificationRouterConfig.equals(that.domNotificationRouterConfig)) {
             return false;
         }
+        if (!writeBatchingConfig.equals(that.writeBatchingConfig)) {
+            return false;
+        }
+        if (!shardingConfig.equals(that.shardingConfig)) {
+            return false;
+        }
+        if (!snapshotRestoreConfig.equals(that.snapshotRestoreConfig)) {
+            return false;
+        }
         if (!actorSystemConfig.equals(that.actorSystemConfig)) {
             return false;
         }
@@ -482,6 +1141,12 @@ public class ControllerConfiguration {
         if (!operDatastoreContext.equals(that.operDatastoreContext)) {
             return false;
         }
+        if (initialDataImportPoolSize != that.initialDataImportPoolSize) {
+            return false;
+        }
+        if (!initialConfigDataFiles.equals(that.initialConfigDataFiles)) {
+            return false;
+        }
         if (initialConfigData != null && that.initialConfigData != null) {
             if (!initialConfigData.equals(that.initialConfigData)) {
                 return false;
@@ -495,16 +1160,29 @@ public class ControllerConfiguration {
         int result = restoreDirectoryPath.hashCode();
         result = 31 * result + maxDataBrokerFutureCallbackQueueSize;
         result = 31 * result + maxDataBrokerFutureCallbackPoolSize;
+        result = 31 * result + Objects.hashCode(commitCallbackStrategy);
         result = 31 * result + (metricCaptureEnabled ? 1 : 0);
         result = 31 * result + mailboxCapacity;
+        result = 31 * result + (schemaCacheEnabled ? 1 : 0);
+        result = 31 * result + Objects.hashCode(schemaCacheDirectory);
+        result = 31 * result + (subtreeCacheEnabled ? 1 : 0);
+        result = 31 * result + (inMemoryOperationalDatastore ? 1 : 0);
+        result = 31 * result + (dataBrokerMetricsEnabled ? 1 : 0);
+        result = 31 * result + (lazyServicesEnabled ? 1 : 0);
+        result = 31 * result + Objects.hashCode(requiredServices);
         result = 31 * result + moduleShardsConfig.hashCode();
         result = 31 * result + modulesConfig.hashCode();
         result = 31 * result + domNotificationRouterConfig.hashCode();
+        result = 31 * result + writeBatchingConfig.hashCode();
+        result = 31 * result + shardingConfig.hashCode();
+        result = 31 * result + snapshotRestoreConfig.hashCode();
         result = 31 * result + actorSystemConfig.hashCode();
         result = 31 * result + schemaServiceConfig.hashCode();
         result = 31 * result + distributedEosProperties.hashCode();
         result = 31 * result + configDatastoreContext.hashCode();
         result = 31 * result + operDatastoreContext.hashCode();
+        result = 31 * result + initialConfigDataFiles.hashCode();
+        result = 31 * result + initialDataImportPoolSize;
         if (initialConfigData != null) {
             result = 31 * result + initialConfigData.hashCode();
         }
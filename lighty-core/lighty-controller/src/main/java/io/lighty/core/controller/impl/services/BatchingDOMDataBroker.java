@@ -0,0 +1,668 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package io.lighty.core.controller.impl.services;
+
+import com.google.common.util.concurrent.FluentFuture;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.SettableFuture;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.mdsal.common.api.CommitInfo;
+import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
+import org.opendaylight.mdsal.dom.api.DOMDataBroker;
+import org.opendaylight.mdsal.dom.api.DOMDataTreeWriteOperations;
+import org.opendaylight.mdsal.dom.api.DOMDataTreeWriteTransaction;
+import org.opendaylight.mdsal.dom.api.DOMTransactionChain;
+import org.opendaylight.mdsal.dom.spi.ForwardingDOMDataBroker;
+import org.opendaylight.yangtools.util.DurationStatisticsTracker;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Data broker coalescing small write-only transactions. Write-only transactions created by this broker only record
+ * their operations, committed transactions are collected for {@code batchWindow} or until {@code maxBatchSize}
+ * transactions are pending and then written together in a single transaction on a transaction chain, so the three
+ * phase commit is paid once per batch instead of once per transaction. Commit future of every transaction completes
+ * when its batch is committed.
+ *
+ * <p>Transactions writing overlapping subtrees of the same datastore are never placed into the same batch, they are
+ * written by consecutive transactions of the chain in the order of their commits. If a batch fails to be built
+ * or committed, the transaction chain is discarded and transactions of the batch are written again one by one,
+ * so a failure of one transaction is reported only to its own commit future. Failure of the chain fails all batches
+ * submitted on it, failed batches are therefore retried only once no batch is in flight, one after another
+ * in the order of their submission. Pending transactions are not flushed until the retry is finished.
+ *
+ * <p>Reads, read-write transactions and transaction chains are passed to the delegate broker without batching. Data
+ * written by a batched transaction are visible to readers once its commit future completes.
+ */
+public final class BatchingDOMDataBroker extends ForwardingDOMDataBroker implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BatchingDOMDataBroker.class);
+    public static final int DEFAULT_MAX_BATCH_SIZE = 1000;
+    public static final long DEFAULT_BATCH_WINDOW_MICROS = 1000;
+    private static final long CLOSE_TIMEOUT_SECONDS = 10;
+
+    private final DOMDataBroker delegate;
+    private final int maxBatchSize;
+    private final long batchWindowNanos;
+    private final ScheduledExecutorService flushExecutor;
+    private final BatchStatistics statistics = new BatchStatistics();
+    private final AtomicLong transactionCounter = new AtomicLong();
+    private final Object lock = new Object();
+
+    // guarded by lock
+    private List<BatchedTransaction> pending = new ArrayList<>();
+    private final Queue<Batch> failedBatches = new PriorityQueue<>(Comparator.comparingLong(Batch::sequence));
+    private int inFlightBatches;
+    private boolean retrying;
+    private boolean closed;
+
+    // used by flush executor, discarded by failed batches
+    private final AtomicReference<DOMTransactionChain> chain = new AtomicReference<>();
+
+    // accessed only by flush executor
+    private long submittedBatches;
+
+    /**
+     * Create batching broker on top of the given broker.
+     *
+     * @param delegate     broker which commits batches
+     * @param maxBatchSize maximal number of transactions written in a single batch
+     * @param batchWindow  maximal time a committed transaction waits for other transactions
+     * @param unit         time unit of batch window
+     */
+    public BatchingDOMDataBroker(final DOMDataBroker delegate, final int maxBatchSize, final long batchWindow,
+            final TimeUnit unit) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("Maximal batch size must be positive, was " + maxBatchSize);
+        }
+        this.delegate = delegate;
+        this.maxBatchSize = maxBatchSize;
+        this.batchWindowNanos = unit.toNanos(batchWindow);
+        this.flushExecutor = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder()
+                .setNameFormat("lighty-write-batching-%d").setDaemon(true).build());
+    }
+
+    @Override
+    protected DOMDataBroker delegate() {
+        return delegate;
+    }
+
+    @Override
+    public DOMDataTreeWriteTransaction newWriteOnlyTransaction() {
+        return new BatchedTransaction("batched-" + transactionCounter.incrementAndGet());
+    }
+
+    /**
+     * Get batching statistics. Returned object is updated as batches are committed.
+     *
+     * @return batching statistics
+     */
+    public BatchStatistics getStatistics() {
+        return statistics;
+    }
+
+    /**
+     * Write all pending transactions and stop batching. Waits until commits of all batches and retries of failed
+     * batches are finished, so the delegate broker can be closed afterwards. Transactions committed after close fail.
+     */
+    @Override
+    public void close() throws InterruptedException {
+        synchronized (lock) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+        }
+        final long deadlineNanos = System.nanoTime() + TimeUnit.SECONDS.toNanos(CLOSE_TIMEOUT_SECONDS);
+        try {
+            flushExecutor.submit(this::flush).get(CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            awaitIdle(deadlineNanos);
+        } catch (ExecutionException | TimeoutException e) {
+            LOG.warn("Pending batches were not written in {} seconds", CLOSE_TIMEOUT_SECONDS, e);
+        }
+        flushExecutor.shutdown();
+        if (!flushExecutor.awaitTermination(Math.max(0, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS)) {
+            flushExecutor.shutdownNow();
+        }
+        discardChain(chain.get());
+        LOG.info("Write batching closed: {}", statistics);
+    }
+
+    /**
+     * Wait until no transaction is pending, no batch is in flight and no failed batch waits for retry.
+     */
+    private void awaitIdle(final long deadlineNanos) throws InterruptedException, TimeoutException {
+        synchronized (lock) {
+            while (!pending.isEmpty() || inFlightBatches > 0 || retrying || !failedBatches.isEmpty()) {
+                final long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadlineNanos - System.nanoTime());
+                if (remainingMillis <= 0) {
+                    throw new TimeoutException(inFlightBatches + " batches in flight, " + failedBatches.size()
+                            + " failed batches and " + pending.size() + " transactions not written");
+                }
+                lock.wait(remainingMillis);
+            }
+        }
+    }
+
+    private FluentFuture<? extends CommitInfo> enqueue(final BatchedTransaction transaction) {
+        synchronized (lock) {
+            if (closed) {
+                return FluentFuture.from(Futures.immediateFailedFuture(
+                    new IllegalStateException("Batching data broker is closed")));
+            }
+            pending.add(transaction);
+            if (pending.size() == maxBatchSize) {
+                flushExecutor.execute(this::flush);
+            } else if (pending.size() == 1) {
+                flushExecutor.schedule(this::flush, batchWindowNanos, TimeUnit.NANOSECONDS);
+            }
+        }
+        return FluentFuture.from(transaction.future);
+    }
+
+    /**
+     * Split pending transactions to batches and submit them on transaction chain. Runs on flush executor only.
+     */
+    private void flush() {
+        synchronized (lock) {
+            if (retrying || !failedBatches.isEmpty()) {
+                // resumed by retryFinished(), so pending transactions do not overtake the retried ones
+                return;
+            }
+        }
+        submitPending();
+    }
+
+    private void submitPending() {
+        final List<BatchedTransaction> transactions = drainPending();
+        if (transactions.isEmpty()) {
+            return;
+        }
+        Batch batch = new Batch();
+        for (BatchedTransaction transaction : transactions) {
+            if (batch.size() == maxBatchSize || batch.conflicts(transaction)) {
+                submit(batch);
+                batch = new Batch();
+            }
+            batch.add(transaction);
+        }
+        submit(batch);
+    }
+
+    private List<BatchedTransaction> drainPending() {
+        synchronized (lock) {
+            final List<BatchedTransaction> transactions = pending;
+            pending = new ArrayList<>();
+            return transactions;
+        }
+    }
+
+    @SuppressWarnings("IllegalCatch")
+    private void submit(final Batch batch) {
+        batch.sequence = submittedBatches++;
+        DOMTransactionChain batchChain;
+        synchronized (lock) {
+            if (!failedBatches.isEmpty()) {
+                // failed batches of a discarded chain are retried first, this one must not overtake them
+                failedBatches.add(batch);
+                return;
+            }
+            inFlightBatches++;
+            batchChain = chain.get();
+        }
+        final FluentFuture<? extends CommitInfo> commit;
+        try {
+            if (batchChain == null) {
+                batchChain = delegate.createTransactionChain();
+                chain.set(batchChain);
+            }
+            final DOMDataTreeWriteTransaction writeTransaction = batchChain.newWriteOnlyTransaction();
+            try {
+                for (BatchedTransaction transaction : batch.transactions) {
+                    transaction.apply(writeTransaction);
+                }
+            } catch (RuntimeException e) {
+                writeTransaction.cancel();
+                throw e;
+            }
+            commit = writeTransaction.commit();
+        } catch (RuntimeException e) {
+            LOG.debug("Batch of {} transactions could not be submitted, writing them one by one", batch.size(), e);
+            batchFailed(batch, batchChain);
+            return;
+        }
+        final DOMTransactionChain committedChain = batchChain;
+        final long startNanos = System.nanoTime();
+        commit.addCallback(new FutureCallback<CommitInfo>() {
+            @Override
+            public void onSuccess(final CommitInfo result) {
+                statistics.recordBatch(batch, System.nanoTime() - startNanos);
+                for (BatchedTransaction transaction : batch.transactions) {
+                    transaction.future.set(result);
+                }
+                batchCompleted();
+            }
+
+            @Override
+            public void onFailure(final Throwable cause) {
+                LOG.debug("Batch of {} transactions failed, writing them one by one", batch.size(), cause);
+                batchFailed(batch, committedChain);
+            }
+        }, MoreExecutors.directExecutor());
+    }
+
+    private void batchFailed(final Batch batch, final @Nullable DOMTransactionChain failedChain) {
+        statistics.failedBatches.increment();
+        // queued before the chain is discarded, so a batch submitted meanwhile either fails on the same chain
+        // or is queued behind this one
+        synchronized (lock) {
+            failedBatches.add(batch);
+        }
+        discardChain(failedChain);
+        batchCompleted();
+    }
+
+    /**
+     * Record completion of batch in flight and start retry of failed batches once no batch is in flight. Safe to call
+     * from any thread.
+     */
+    private void batchCompleted() {
+        final boolean retryNeeded;
+        synchronized (lock) {
+            inFlightBatches--;
+            retryNeeded = inFlightBatches == 0 && !failedBatches.isEmpty();
+            lock.notifyAll();
+        }
+        if (retryNeeded) {
+            try {
+                flushExecutor.execute(this::retry);
+            } catch (RejectedExecutionException e) {
+                // broker is closed, nothing is flushed anymore
+                final List<BatchedTransaction> transactions;
+                synchronized (lock) {
+                    transactions = drainFailedBatches();
+                }
+                writeOneByOne(transactions, 0, () -> { });
+            }
+        }
+    }
+
+    /**
+     * Close the chain unless it was already replaced. Safe to call from any thread, the next flush creates a new
+     * chain.
+     */
+    @SuppressWarnings("IllegalCatch")
+    private void discardChain(final @Nullable DOMTransactionChain failedChain) {
+        if (failedChain == null || !chain.compareAndSet(failedChain, null)) {
+            return;
+        }
+        try {
+            failedChain.close();
+        } catch (RuntimeException e) {
+            LOG.debug("Failed to close transaction chain {}", failedChain, e);
+        }
+    }
+
+    /**
+     * Write transactions of all failed batches one by one, in the order in which the batches were submitted. Runs
+     * on flush executor once no batch is in flight, flushes wait until the retry is finished.
+     */
+    private void retry() {
+        final List<BatchedTransaction> transactions;
+        synchronized (lock) {
+            if (retrying || inFlightBatches > 0 || failedBatches.isEmpty()) {
+                return;
+            }
+            retrying = true;
+            transactions = drainFailedBatches();
+        }
+        writeOneByOne(transactions, 0, () -> {
+            try {
+                flushExecutor.execute(this::retryFinished);
+            } catch (RejectedExecutionException e) {
+                // broker was closed during the retry, write what is left without batching
+                writeOneByOne(drainPending(), 0, this::retryFinishedAfterClose);
+            }
+        });
+    }
+
+    private void retryFinished() {
+        // pending transactions are submitted before retrying is cleared, so they are never seen as written
+        submitPending();
+        synchronized (lock) {
+            retrying = false;
+            lock.notifyAll();
+        }
+        // batches which failed meanwhile were not retried while retrying was set
+        retry();
+    }
+
+    /**
+     * Remove all failed batches and return their transactions in the order of submission. Caller holds lock.
+     */
+    private List<BatchedTransaction> drainFailedBatches() {
+        final List<BatchedTransaction> transactions = new ArrayList<>();
+        while (!failedBatches.isEmpty()) {
+            transactions.addAll(failedBatches.poll().transactions);
+        }
+        return transactions;
+    }
+
+    private void retryFinishedAfterClose() {
+        synchronized (lock) {
+            retrying = false;
+            lock.notifyAll();
+        }
+    }
+
+    /**
+     * Write transactions starting at the given index, each in its own transaction of the delegate broker, the next
+     * one once commit of the previous one completes. Never blocks, continues from the commit callback.
+     */
+    @SuppressWarnings("IllegalCatch")
+    private void writeOneByOne(final List<BatchedTransaction> transactions, final int index, final Runnable done) {
+        for (int i = index; i < transactions.size(); i++) {
+            final BatchedTransaction transaction = transactions.get(i);
+            final FluentFuture<? extends CommitInfo> commit;
+            try {
+                final DOMDataTreeWriteTransaction writeTransaction = delegate.newWriteOnlyTransaction();
+                try {
+                    transaction.apply(writeTransaction);
+                } catch (RuntimeException e) {
+                    writeTransaction.cancel();
+                    throw e;
+                }
+                commit = writeTransaction.commit();
+            } catch (RuntimeException e) {
+                transaction.future.setException(e);
+                continue;
+            }
+            transaction.future.setFuture(commit);
+            if (!commit.isDone()) {
+                final int next = i + 1;
+                commit.addListener(() -> writeOneByOne(transactions, next, done), MoreExecutors.directExecutor());
+                return;
+            }
+        }
+        done.run();
+    }
+
+    /**
+     * Transactions written together in a single transaction of the chain.
+     */
+    private static final class Batch {
+        private final List<BatchedTransaction> transactions = new ArrayList<>();
+        // order of submission, assigned by flush executor
+        private long sequence;
+        private final Map<LogicalDatastoreType, Set<YangInstanceIdentifier>> written =
+                new EnumMap<>(LogicalDatastoreType.class);
+        private final Map<LogicalDatastoreType, Set<YangInstanceIdentifier>> writtenParents =
+                new EnumMap<>(LogicalDatastoreType.class);
+        private long operations;
+
+        int size() {
+            return transactions.size();
+        }
+
+        long sequence() {
+            return sequence;
+        }
+
+        /**
+         * Check whether transaction writes a subtree overlapping with subtree written by this batch.
+         */
+        boolean conflicts(final BatchedTransaction transaction) {
+            for (Operation operation : transaction.operations) {
+                final Set<YangInstanceIdentifier> paths = written.get(operation.store);
+                if (paths == null) {
+                    continue;
+                }
+                if (paths.contains(operation.path) || writtenParents.get(operation.store).contains(operation.path)) {
+                    return true;
+                }
+                for (int depth = 0; depth < operation.path.size(); depth++) {
+                    if (paths.contains(operation.path.getAncestor(depth))) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        void add(final BatchedTransaction transaction) {
+            transactions.add(transaction);
+            operations += transaction.operations.size();
+            for (Operation operation : transaction.operations) {
+                written.computeIfAbsent(operation.store, store -> new HashSet<>()).add(operation.path);
+                final Set<YangInstanceIdentifier> parents = writtenParents.computeIfAbsent(operation.store,
+                    store -> new HashSet<>());
+                for (int depth = 0; depth < operation.path.size(); depth++) {
+                    parents.add(operation.path.getAncestor(depth));
+                }
+            }
+        }
+    }
+
+    private enum OperationType {
+        PUT,
+        MERGE,
+        DELETE
+    }
+
+    private static final class Operation {
+        private final OperationType type;
+        private final LogicalDatastoreType store;
+        private final YangInstanceIdentifier path;
+        private final @Nullable NormalizedNode data;
+
+        Operation(final OperationType type, final LogicalDatastoreType store, final YangInstanceIdentifier path,
+                final @Nullable NormalizedNode data) {
+            this.type = type;
+            this.store = store;
+            this.path = path;
+            this.data = data;
+        }
+
+        void apply(final DOMDataTreeWriteOperations transaction) {
+            switch (type) {
+                case PUT:
+                    transaction.put(store, path, data);
+                    break;
+                case MERGE:
+                    transaction.merge(store, path, data);
+                    break;
+                case DELETE:
+                    transaction.delete(store, path);
+                    break;
+                default:
+                    throw new IllegalStateException("Unhandled operation " + type);
+            }
+        }
+    }
+
+    /**
+     * Write-only transaction recording its operations until it is committed.
+     */
+    private final class BatchedTransaction implements DOMDataTreeWriteTransaction {
+        private final String identifier;
+        private final List<Operation> operations = new ArrayList<>();
+        private final SettableFuture<CommitInfo> future = SettableFuture.create();
+        private boolean open = true;
+
+        BatchedTransaction(final String identifier) {
+            this.identifier = identifier;
+        }
+
+        @Override
+        public Object getIdentifier() {
+            return identifier;
+        }
+
+        @Override
+        public void put(final LogicalDatastoreType store, final YangInstanceIdentifier path,
+                final NormalizedNode data) {
+            record(new Operation(OperationType.PUT, store, path, data));
+        }
+
+        @Override
+        public void merge(final LogicalDatastoreType store, final YangInstanceIdentifier path,
+                final NormalizedNode data) {
+            record(new Operation(OperationType.MERGE, store, path, data));
+        }
+
+        @Override
+        public void delete(final LogicalDatastoreType store, final YangInstanceIdentifier path) {
+            record(new Operation(OperationType.DELETE, store, path, null));
+        }
+
+        @Override
+        public FluentFuture<? extends CommitInfo> commit() {
+            checkOpen();
+            open = false;
+            if (operations.isEmpty()) {
+                return CommitInfo.emptyFluentFuture();
+            }
+            return enqueue(this);
+        }
+
+        @Override
+        public boolean cancel() {
+            if (!open) {
+                return false;
+            }
+            open = false;
+            return true;
+        }
+
+        void apply(final DOMDataTreeWriteOperations transaction) {
+            for (Operation operation : operations) {
+                operation.apply(transaction);
+            }
+        }
+
+        private void record(final Operation operation) {
+            checkOpen();
+            operations.add(operation);
+        }
+
+        private void checkOpen() {
+            if (!open) {
+                throw new IllegalStateException("Transaction " + identifier + " is already committed or cancelled");
+            }
+        }
+    }
+
+    /**
+     * Size and commit latency of written batches.
+     */
+    public static final class BatchStatistics {
+        private final LongAdder batches = new LongAdder();
+        private final LongAdder transactions = new LongAdder();
+        private final LongAdder operations = new LongAdder();
+        private final LongAdder failedBatches = new LongAdder();
+        private final AtomicLong largestBatch = new AtomicLong();
+        private final DurationStatisticsTracker commitLatency = DurationStatisticsTracker.createConcurrent();
+
+        BatchStatistics() {
+            // created by BatchingDOMDataBroker
+        }
+
+        void recordBatch(final Batch batch, final long latencyNanos) {
+            batches.increment();
+            transactions.add(batch.size());
+            operations.add(batch.operations);
+            largestBatch.accumulateAndGet(batch.size(), Math::max);
+            commitLatency.addDuration(latencyNanos);
+        }
+
+        /**
+         * Get number of successfully committed batches.
+         *
+         * @return number of committed batches
+         */
+        public long getBatchCount() {
+            return batches.sum();
+        }
+
+        /**
+         * Get number of transactions written by committed batches.
+         *
+         * @return number of batched transactions
+         */
+        public long getTransactionCount() {
+            return transactions.sum();
+        }
+
+        /**
+         * Get number of put, merge and delete operations written by committed batches.
+         *
+         * @return number of batched operations
+         */
+        public long getOperationCount() {
+            return operations.sum();
+        }
+
+        /**
+         * Get number of failed batches. Transactions of failed batches are written again one by one.
+         *
+         * @return number of failed batches
+         */
+        public long getFailedBatchCount() {
+            return failedBatches.sum();
+        }
+
+        public long getLargestBatchSize() {
+            return largestBatch.get();
+        }
+
+        public double getAverageBatchSize() {
+            final long batchCount = batches.sum();
+            return batchCount == 0 ? 0 : (double) transactions.sum() / batchCount;
+        }
+
+        /**
+         * Get commit latency of batches, measured from submission of batch to completion of its commit.
+         *
+         * @return commit latency statistics
+         */
+        public DurationStatisticsTracker getCommitLatency() {
+            return commitLatency;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d batches, %d transactions, average batch size %.1f, largest batch %d, "
+                    + "%d failed batches, average commit latency %s", getBatchCount(), getTransactionCount(),
+                    getAverageBatchSize(), getLargestBatchSize(), getFailedBatchCount(),
+                    commitLatency.getDisplayableAverageDuration());
+        }
+    }
+}
@@ -0,0 +1,298 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package io.lighty.core.controller.impl.services;
+
+import com.google.common.util.concurrent.FluentFuture;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.MoreExecutors;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
+import org.opendaylight.mdsal.dom.api.DOMDataBroker;
+import org.opendaylight.mdsal.dom.api.DOMDataTreeChangeListener;
+import org.opendaylight.mdsal.dom.api.DOMDataTreeIdentifier;
+import org.opendaylight.mdsal.dom.api.DOMDataTreeReadTransaction;
+import org.opendaylight.mdsal.dom.spi.ForwardingDOMDataBroker;
+import org.opendaylight.yangtools.concepts.AbstractRegistration;
+import org.opendaylight.yangtools.concepts.Registration;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNodes;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeCandidate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Data broker serving reads of registered subtrees from memory. Subtrees are registered by
+ * {@link #cacheSubtree(LogicalDatastoreType, YangInstanceIdentifier)}. On the first read of a registered subtree
+ * a data tree change listener is registered on it, the cache is populated by the initial notification
+ * of the listener and updated by every following notification. Until the initial notification arrives reads
+ * are passed to the delegate broker.
+ *
+ * <p>Reads of read-only transactions at or below a cached subtree are answered without opening a transaction
+ * in the delegate broker, other reads open it on first use. Cached data follow the datastore as data tree change
+ * notifications are delivered, so a read may not yet reflect a transaction whose commit has just completed.
+ * Read-write transactions and transaction chains always read from the delegate broker.
+ */
+public final class CachingDOMDataBroker extends ForwardingDOMDataBroker implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CachingDOMDataBroker.class);
+
+    private final DOMDataBroker delegate;
+    private final Map<LogicalDatastoreType, ConcurrentMap<YangInstanceIdentifier, CachedSubtree>> subtrees = Map.of(
+            LogicalDatastoreType.CONFIGURATION, new ConcurrentHashMap<>(),
+            LogicalDatastoreType.OPERATIONAL, new ConcurrentHashMap<>());
+    private final CacheStatistics statistics = new CacheStatistics();
+    private final AtomicLong transactionCounter = new AtomicLong();
+
+    public CachingDOMDataBroker(final DOMDataBroker delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    protected DOMDataBroker delegate() {
+        return delegate;
+    }
+
+    @Override
+    public DOMDataTreeReadTransaction newReadOnlyTransaction() {
+        return new CachingReadTransaction("cached-read-" + transactionCounter.incrementAndGet());
+    }
+
+    /**
+     * Serve reads of the given subtree from memory. Closing of the returned registration drops cached data
+     * and unregisters data tree change listener of the subtree.
+     *
+     * @param store datastore of the subtree
+     * @param path  path of the subtree
+     * @return registration of cached subtree
+     * @throws IllegalArgumentException if the subtree is already cached
+     */
+    public Registration cacheSubtree(final LogicalDatastoreType store, final YangInstanceIdentifier path) {
+        final CachedSubtree subtree = new CachedSubtree(DOMDataTreeIdentifier.of(store, path));
+        if (subtrees.get(store).putIfAbsent(path, subtree) != null) {
+            throw new IllegalArgumentException(String.format("Subtree %s of %s datastore is already cached",
+                    path, store));
+        }
+        LOG.debug("Reads of {} in {} datastore will be cached", path, store);
+        return subtree;
+    }
+
+    /**
+     * Get hit and miss counts of cached subtrees.
+     *
+     * @return cache statistics
+     */
+    public CacheStatistics getStatistics() {
+        return statistics;
+    }
+
+    /**
+     * Drop all cached subtrees and unregister their data tree change listeners.
+     */
+    @Override
+    public void close() {
+        for (ConcurrentMap<YangInstanceIdentifier, CachedSubtree> storeSubtrees : subtrees.values()) {
+            List.copyOf(storeSubtrees.values()).forEach(CachedSubtree::close);
+        }
+        LOG.info("Subtree cache closed: {}", statistics);
+    }
+
+    private @Nullable CachedSubtree findSubtree(final LogicalDatastoreType store, final YangInstanceIdentifier path) {
+        final ConcurrentMap<YangInstanceIdentifier, CachedSubtree> storeSubtrees = subtrees.get(store);
+        if (storeSubtrees.isEmpty()) {
+            return null;
+        }
+        for (int depth = path.size(); depth >= 0; depth--) {
+            final CachedSubtree subtree = storeSubtrees.get(path.getAncestor(depth));
+            if (subtree != null) {
+                return subtree;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Cached data of a single subtree, kept up to date by data tree change listener.
+     */
+    private final class CachedSubtree extends AbstractRegistration implements DOMDataTreeChangeListener {
+        private final DOMDataTreeIdentifier treeId;
+        private Registration listenerRegistration;
+        // null until initial notification is received
+        private volatile Optional<NormalizedNode> data;
+
+        CachedSubtree(final DOMDataTreeIdentifier treeId) {
+            this.treeId = treeId;
+        }
+
+        /**
+         * Read data at the given path below root of this subtree.
+         *
+         * @return completed read of data at the path or null if data were not loaded yet
+         */
+        @Nullable FluentFuture<Optional<NormalizedNode>> read(final YangInstanceIdentifier path) {
+            final Optional<NormalizedNode> current = data;
+            if (current == null) {
+                startListening();
+                statistics.misses.increment();
+                return null;
+            }
+            statistics.hits.increment();
+            if (current.isEmpty()) {
+                return FluentFuture.from(Futures.immediateFuture(current));
+            }
+            final YangInstanceIdentifier relativePath = path.relativeTo(treeId.path()).orElseThrow();
+            return FluentFuture.from(Futures.immediateFuture(
+                NormalizedNodes.findNode(current.orElseThrow(), relativePath.getPathArguments())));
+        }
+
+        private synchronized void startListening() {
+            if (listenerRegistration != null || isClosed()) {
+                return;
+            }
+            final DOMDataBroker.DataTreeChangeExtension changeExtension =
+                    delegate.extension(DOMDataBroker.DataTreeChangeExtension.class);
+            if (changeExtension == null) {
+                throw new UnsupportedOperationException("Data broker does not support data tree change listeners");
+            }
+            listenerRegistration = changeExtension.registerTreeChangeListener(treeId, this);
+        }
+
+        @Override
+        public void onInitialData() {
+            data = Optional.empty();
+            LOG.debug("Cached subtree {} is empty", treeId);
+        }
+
+        @Override
+        public void onDataTreeChanged(final List<DataTreeCandidate> changes) {
+            // notifications are rooted at the subtree, the last one carries its current state
+            final DataTreeCandidate lastChange = changes.get(changes.size() - 1);
+            data = Optional.ofNullable(lastChange.rootNode().dataAfter());
+            statistics.updates.add(changes.size());
+        }
+
+        @Override
+        protected synchronized void removeRegistration() {
+            subtrees.get(treeId.datastore()).remove(treeId.path(), this);
+            if (listenerRegistration != null) {
+                listenerRegistration.close();
+            }
+            data = null;
+        }
+    }
+
+    /**
+     * Read-only transaction answering reads of cached subtrees from memory. Transaction of the delegate broker
+     * is opened only when data outside of cached subtrees are read.
+     */
+    private final class CachingReadTransaction implements DOMDataTreeReadTransaction {
+        private final String identifier;
+        private DOMDataTreeReadTransaction delegateTransaction;
+
+        CachingReadTransaction(final String identifier) {
+            this.identifier = identifier;
+        }
+
+        @Override
+        public Object getIdentifier() {
+            return identifier;
+        }
+
+        @Override
+        public FluentFuture<Optional<NormalizedNode>> read(final LogicalDatastoreType store,
+                final YangInstanceIdentifier path) {
+            final FluentFuture<Optional<NormalizedNode>> cached = readCached(store, path);
+            return cached != null ? cached : delegateTransaction().read(store, path);
+        }
+
+        @Override
+        public FluentFuture<Boolean> exists(final LogicalDatastoreType store, final YangInstanceIdentifier path) {
+            final FluentFuture<Optional<NormalizedNode>> cached = readCached(store, path);
+            return cached != null ? cached.transform(Optional::isPresent, MoreExecutors.directExecutor())
+                : delegateTransaction().exists(store, path);
+        }
+
+        @Override
+        public synchronized void close() {
+            if (delegateTransaction != null) {
+                delegateTransaction.close();
+            }
+        }
+
+        private @Nullable FluentFuture<Optional<NormalizedNode>> readCached(final LogicalDatastoreType store,
+                final YangInstanceIdentifier path) {
+            final CachedSubtree subtree = findSubtree(store, path);
+            return subtree != null ? subtree.read(path) : null;
+        }
+
+        private synchronized DOMDataTreeReadTransaction delegateTransaction() {
+            if (delegateTransaction == null) {
+                delegateTransaction = delegate.newReadOnlyTransaction();
+            }
+            return delegateTransaction;
+        }
+    }
+
+    /**
+     * Hit and miss counts of cached subtrees.
+     */
+    public static final class CacheStatistics {
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+        private final LongAdder updates = new LongAdder();
+
+        CacheStatistics() {
+            // created by CachingDOMDataBroker
+        }
+
+        /**
+         * Get number of reads answered from memory.
+         *
+         * @return number of cache hits
+         */
+        public long getHits() {
+            return hits.sum();
+        }
+
+        /**
+         * Get number of reads of cached subtrees passed to delegate broker, because the subtree was not loaded yet.
+         *
+         * @return number of cache misses
+         */
+        public long getMisses() {
+            return misses.sum();
+        }
+
+        /**
+         * Get number of data tree changes applied to cached subtrees.
+         *
+         * @return number of cache updates
+         */
+        public long getUpdates() {
+            return updates.sum();
+        }
+
+        public double getHitRatio() {
+            final long hitCount = hits.sum();
+            final long total = hitCount + misses.sum();
+            return total == 0 ? 0 : (double) hitCount / total;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d hits, %d misses, %d updates", getHits(), getMisses(), getUpdates());
+        }
+    }
+}
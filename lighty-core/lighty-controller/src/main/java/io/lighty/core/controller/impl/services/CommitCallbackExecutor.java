@@ -0,0 +1,204 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package io.lighty.core.controller.impl.services;
+
+import com.google.common.util.concurrent.MoreExecutors;
+import io.lighty.core.controller.api.ExecutionPolicy;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.opendaylight.yangtools.util.concurrent.SpecialExecutors;
+
+/**
+ * Executor running callbacks of commit futures returned by clustered data broker. The executing strategy is
+ * selected by {@link Strategy}. Every strategy records time callbacks waited before they started running and counts
+ * submissions which were rejected or which blocked the committing thread because the queue was full.
+ */
+public final class CommitCallbackExecutor extends AbstractExecutorService {
+
+    /**
+     * Strategy of running commit callbacks.
+     */
+    public enum Strategy {
+        /**
+         * Bounded cached pool of platform threads. Committing thread is blocked while the queue is full.
+         */
+        BOUNDED,
+        /**
+         * Every callback runs on its own virtual thread. There is no queue and no limit of threads, callbacks
+         * blocking on I/O do not hold platform threads.
+         */
+        VIRTUAL,
+        /**
+         * Callbacks run on the thread completing the commit. There are no threads and no queue, but a slow
+         * callback delays completion of other commits, so callbacks must not block.
+         */
+        DIRECT
+    }
+
+    private final Strategy strategy;
+    private final ExecutorService delegate;
+    private final int queueCapacity;
+    private final LatencyHistogram queueWait = new LatencyHistogram();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder blocked = new LongAdder();
+    private final LongAdder blockedNanos = new LongAdder();
+
+    private CommitCallbackExecutor(final Strategy strategy, final ExecutorService delegate, final int queueCapacity) {
+        this.strategy = strategy;
+        this.delegate = delegate;
+        this.queueCapacity = queueCapacity;
+    }
+
+    /**
+     * Create commit callback executor.
+     *
+     * @param strategy strategy of running callbacks, {@code null} selects {@link Strategy#VIRTUAL} in virtual
+     *                 {@link ExecutionPolicy} mode and {@link Strategy#BOUNDED} otherwise
+     * @param maximumPoolSize maximal number of threads of {@link Strategy#BOUNDED} strategy
+     * @param maximumQueueSize maximal number of queued callbacks of {@link Strategy#BOUNDED} strategy
+     * @param threadPrefix prefix of thread names
+     * @return commit callback executor
+     */
+    public static CommitCallbackExecutor create(final Strategy strategy, final int maximumPoolSize,
+            final int maximumQueueSize, final String threadPrefix) {
+        final Strategy selected = strategy != null ? strategy
+                : ExecutionPolicy.getMode() == ExecutionPolicy.Mode.VIRTUAL ? Strategy.VIRTUAL : Strategy.BOUNDED;
+        switch (selected) {
+            case BOUNDED:
+                return new CommitCallbackExecutor(selected, SpecialExecutors.newBlockingBoundedCachedThreadPool(
+                        maximumPoolSize, maximumQueueSize, threadPrefix, CommitCallbackExecutor.class),
+                        maximumQueueSize);
+            case VIRTUAL:
+                return new CommitCallbackExecutor(selected, ExecutionPolicy.newVirtualExecutor(threadPrefix), 0);
+            case DIRECT:
+                return new CommitCallbackExecutor(selected, MoreExecutors.newDirectExecutorService(), 0);
+            default:
+                throw new IllegalArgumentException("Unsupported commit callback strategy " + selected);
+        }
+    }
+
+    @Override
+    public void execute(final Runnable command) {
+        Objects.requireNonNull(command);
+        final long submitted = System.nanoTime();
+        final boolean queueFull = getQueueSize() >= queueCapacity && queueCapacity > 0;
+        try {
+            delegate.execute(() -> {
+                queueWait.record(System.nanoTime() - submitted);
+                command.run();
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw e;
+        }
+        if (queueFull) {
+            blocked.increment();
+            blockedNanos.add(System.nanoTime() - submitted);
+        }
+    }
+
+    public Strategy getStrategy() {
+        return strategy;
+    }
+
+    /**
+     * Get time callbacks waited between submission and start of execution.
+     *
+     * @return queue wait histogram
+     */
+    public LatencyHistogram getQueueWait() {
+        return queueWait;
+    }
+
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    /**
+     * Get number of submissions which found the queue full and blocked the committing thread.
+     *
+     * @return number of blocked submissions
+     */
+    public long getBlockedCount() {
+        return blocked.sum();
+    }
+
+    public long getBlockedNanos() {
+        return blockedNanos.sum();
+    }
+
+    /**
+     * Get number of callbacks waiting for a thread.
+     *
+     * @return queued callbacks, 0 if the strategy has no queue
+     */
+    public int getQueueSize() {
+        if (delegate instanceof ThreadPoolExecutor) {
+            return ((ThreadPoolExecutor) delegate).getQueue().size();
+        }
+        return 0;
+    }
+
+    /**
+     * Get maximal number of queued callbacks.
+     *
+     * @return queue capacity, 0 if the strategy has no queue
+     */
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    /**
+     * Get number of pool threads running a callback.
+     *
+     * @return active threads, 0 if the strategy does not use a thread pool
+     */
+    public int getActiveThreads() {
+        if (delegate instanceof ThreadPoolExecutor) {
+            return ((ThreadPoolExecutor) delegate).getActiveCount();
+        }
+        return 0;
+    }
+
+    @Override
+    public void shutdown() {
+        delegate.shutdown();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        return delegate.shutdownNow();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return delegate.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return delegate.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(final long timeout, final TimeUnit unit) throws InterruptedException {
+        return delegate.awaitTermination(timeout, unit);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: queued=%d/%d, rejected=%d, blocked=%d, wait=%s", strategy, getQueueSize(),
+                queueCapacity, getRejectedCount(), getBlockedCount(), queueWait);
+    }
+}
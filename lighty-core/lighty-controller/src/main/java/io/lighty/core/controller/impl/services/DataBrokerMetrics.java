@@ -0,0 +1,235 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package io.lighty.core.controller.impl.services;
+
+import io.lighty.core.controller.impl.util.PrometheusTextWriter;
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
+import org.opendaylight.yangtools.util.DurationStatisticsTracker;
+
+/**
+ * Metrics of clustered data broker. Aggregated commit statistics of the broker, occupancy and queue wait
+ * time of its commit callback executor are always available. Commit latency histograms split by datastore
+ * and shard, open and committing transaction counts and commit failures are recorded by
+ * {@link MetricsDOMDataBroker}, which is created only when data broker metrics are enabled in controller configuration.
+ *
+ * <p>All metrics can be written in Prometheus text format by {@link #writeTo(PrometheusTextWriter)}.
+ */
+public final class DataBrokerMetrics {
+    private final DurationStatisticsTracker commitStatistics;
+    private final CommitCallbackExecutor commitCallbackExecutor;
+    private final Map<LogicalDatastoreType, LatencyHistogram> datastoreLatency =
+            new EnumMap<>(LogicalDatastoreType.class);
+    private final Map<LogicalDatastoreType, ConcurrentMap<String, LatencyHistogram>> shardLatency =
+            new EnumMap<>(LogicalDatastoreType.class);
+    private final LongAdder openTransactions = new LongAdder();
+    private final LongAdder committingTransactions = new LongAdder();
+    private final LongAdder commitFailures = new LongAdder();
+
+    public DataBrokerMetrics(final DurationStatisticsTracker commitStatistics,
+            final CommitCallbackExecutor commitCallbackExecutor) {
+        this.commitStatistics = commitStatistics;
+        this.commitCallbackExecutor = commitCallbackExecutor;
+        for (LogicalDatastoreType store : LogicalDatastoreType.values()) {
+            datastoreLatency.put(store, new LatencyHistogram());
+            shardLatency.put(store, new ConcurrentHashMap<>());
+        }
+    }
+
+    /**
+     * Get aggregated commit durations tracked by clustered data broker itself.
+     *
+     * @return commit statistics
+     */
+    public DurationStatisticsTracker getCommitStatistics() {
+        return commitStatistics;
+    }
+
+    /**
+     * Get commit latency of transactions which modified the given datastore.
+     *
+     * @param store datastore type
+     * @return commit latency histogram
+     */
+    public LatencyHistogram getCommitLatency(final LogicalDatastoreType store) {
+        return datastoreLatency.get(store);
+    }
+
+    /**
+     * Get commit latency of transactions which modified data of the given shard, by name of shard.
+     *
+     * @param store datastore type
+     * @return commit latency histograms of shards modified so far
+     */
+    public Map<String, LatencyHistogram> getShardCommitLatency(final LogicalDatastoreType store) {
+        return Map.copyOf(shardLatency.get(store));
+    }
+
+    /**
+     * Get number of write transactions allocated and not yet committed or cancelled.
+     *
+     * @return number of open transactions
+     */
+    public long getOpenTransactionCount() {
+        return openTransactions.sum();
+    }
+
+    /**
+     * Get number of transactions whose commit was requested and has not completed yet.
+     *
+     * @return number of committing transactions
+     */
+    public long getCommittingTransactionCount() {
+        return committingTransactions.sum();
+    }
+
+    public long getCommitFailureCount() {
+        return commitFailures.sum();
+    }
+
+    /**
+     * Get executor running callbacks of commit futures, which tracks its queue wait time, rejected and blocked
+     * submissions.
+     *
+     * @return commit callback executor
+     */
+    public CommitCallbackExecutor getCommitCallbackExecutor() {
+        return commitCallbackExecutor;
+    }
+
+    /**
+     * Get number of commit callbacks waiting for a thread of commit callback executor.
+     *
+     * @return queued callbacks, 0 if the executor has no queue
+     */
+    public int getCommitCallbackQueueSize() {
+        return commitCallbackExecutor.getQueueSize();
+    }
+
+    public int getCommitCallbackQueueCapacity() {
+        return commitCallbackExecutor.getQueueCapacity();
+    }
+
+    /**
+     * Get number of threads of commit callback executor running a callback.
+     *
+     * @return active threads, 0 if the executor does not use a thread pool
+     */
+    public int getCommitCallbackActiveThreads() {
+        return commitCallbackExecutor.getActiveThreads();
+    }
+
+    /**
+     * Write all metrics in Prometheus text format.
+     *
+     * @param writer Prometheus text writer
+     * @throws IOException if writing fails
+     */
+    public void writeTo(final PrometheusTextWriter writer) throws IOException {
+        writer.family("lighty_databroker_commit_duration_seconds", "histogram",
+                "Commit latency of transactions modifying a datastore");
+        for (Map.Entry<LogicalDatastoreType, LatencyHistogram> entry : datastoreLatency.entrySet()) {
+            writer.histogram("lighty_databroker_commit_duration_seconds", Map.of("datastore", label(entry.getKey())),
+                    entry.getValue());
+        }
+        writer.family("lighty_databroker_shard_commit_duration_seconds", "histogram",
+                "Commit latency of transactions modifying a shard");
+        for (Map.Entry<LogicalDatastoreType, ConcurrentMap<String, LatencyHistogram>> entry
+                : shardLatency.entrySet()) {
+            for (Map.Entry<String, LatencyHistogram> shard : entry.getValue().entrySet()) {
+                final Map<String, String> labels = new LinkedHashMap<>();
+                labels.put("datastore", label(entry.getKey()));
+                labels.put("shard", shard.getKey());
+                writer.histogram("lighty_databroker_shard_commit_duration_seconds", labels, shard.getValue());
+            }
+        }
+        writer.family("lighty_databroker_commits_total", "counter", "Commits completed by clustered data broker")
+                .sample("lighty_databroker_commits_total", Map.of(), commitStatistics.getTotalDurations());
+        writer.family("lighty_databroker_commit_longest_seconds", "gauge", "Longest commit of clustered data broker")
+                .sample("lighty_databroker_commit_longest_seconds", Map.of(),
+                        commitStatistics.getLongestDuration() / (double) TimeUnit.SECONDS.toNanos(1));
+        writer.family("lighty_databroker_commit_failures_total", "counter", "Failed commits")
+                .sample("lighty_databroker_commit_failures_total", Map.of(), getCommitFailureCount());
+        writer.family("lighty_databroker_open_transactions", "gauge", "Write transactions not yet committed")
+                .sample("lighty_databroker_open_transactions", Map.of(), getOpenTransactionCount());
+        writer.family("lighty_databroker_committing_transactions", "gauge", "Transactions being committed")
+                .sample("lighty_databroker_committing_transactions", Map.of(), getCommittingTransactionCount());
+        writer.family("lighty_databroker_commit_callback_queue_size", "gauge", "Queued commit callbacks")
+                .sample("lighty_databroker_commit_callback_queue_size", Map.of(), getCommitCallbackQueueSize());
+        writer.family("lighty_databroker_commit_callback_queue_capacity", "gauge", "Capacity of commit callback queue")
+                .sample("lighty_databroker_commit_callback_queue_capacity", Map.of(),
+                        getCommitCallbackQueueCapacity());
+        writer.family("lighty_databroker_commit_callback_active_threads", "gauge", "Threads running commit callbacks")
+                .sample("lighty_databroker_commit_callback_active_threads", Map.of(),
+                        getCommitCallbackActiveThreads());
+        writer.family("lighty_databroker_commit_callback_queue_wait_seconds", "histogram",
+                "Time commit callbacks waited before they started running")
+                .histogram("lighty_databroker_commit_callback_queue_wait_seconds",
+                        Map.of("strategy", commitCallbackExecutor.getStrategy().name().toLowerCase(Locale.ROOT)),
+                        commitCallbackExecutor.getQueueWait());
+        writer.family("lighty_databroker_commit_callback_rejected_total", "counter", "Rejected commit callbacks")
+                .sample("lighty_databroker_commit_callback_rejected_total", Map.of(),
+                        commitCallbackExecutor.getRejectedCount());
+        writer.family("lighty_databroker_commit_callback_blocked_total", "counter",
+                "Commit callback submissions blocked by full queue")
+                .sample("lighty_databroker_commit_callback_blocked_total", Map.of(),
+                        commitCallbackExecutor.getBlockedCount());
+        writer.family("lighty_databroker_commit_callback_blocked_seconds_total", "counter",
+                "Time committing threads were blocked by full commit callback queue")
+                .sample("lighty_databroker_commit_callback_blocked_seconds_total", Map.of(),
+                        commitCallbackExecutor.getBlockedNanos() / (double) TimeUnit.SECONDS.toNanos(1));
+    }
+
+    void transactionOpened() {
+        openTransactions.increment();
+    }
+
+    void transactionClosed() {
+        openTransactions.decrement();
+    }
+
+    void commitStarted() {
+        committingTransactions.increment();
+    }
+
+    void commitCompleted(final Map<LogicalDatastoreType, Set<String>> modifiedShards, final long durationNanos,
+            final boolean successful) {
+        committingTransactions.decrement();
+        if (!successful) {
+            commitFailures.increment();
+        }
+        for (Map.Entry<LogicalDatastoreType, Set<String>> entry : modifiedShards.entrySet()) {
+            datastoreLatency.get(entry.getKey()).record(durationNanos);
+            final ConcurrentMap<String, LatencyHistogram> storeShards = shardLatency.get(entry.getKey());
+            for (String shard : entry.getValue()) {
+                storeShards.computeIfAbsent(shard, name -> new LatencyHistogram()).record(durationNanos);
+            }
+        }
+    }
+
+    private static String label(final LogicalDatastoreType store) {
+        return store.name().toLowerCase(Locale.ROOT);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("config: %s, operational: %s, open=%d, committing=%d, failures=%d",
+                datastoreLatency.get(LogicalDatastoreType.CONFIGURATION),
+                datastoreLatency.get(LogicalDatastoreType.OPERATIONAL), getOpenTransactionCount(),
+                getCommittingTransactionCount(), getCommitFailureCount());
+    }
+}
@@ -0,0 +1,471 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package io.lighty.core.controller.impl.services;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import io.lighty.core.controller.impl.util.PrometheusTextWriter;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import org.opendaylight.mdsal.dom.api.DOMDataBroker;
+import org.opendaylight.mdsal.dom.api.DOMDataTreeChangeListener;
+import org.opendaylight.mdsal.dom.api.DOMDataTreeIdentifier;
+import org.opendaylight.yangtools.concepts.AbstractRegistration;
+import org.opendaylight.yangtools.concepts.Registration;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeCandidate;
+import org.opendaylight.yangtools.yang.data.tree.spi.DataTreeCandidates;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Dispatcher of data tree change notifications decoupling listeners from the datastore notification threads.
+ * Every listener registered through {@link #registerTreeChangeListener(String, DOMDataTreeIdentifier,
+ * DOMDataTreeChangeListener, DispatchPolicy)} gets its own queue of pending changes, which is limited by its
+ * {@link DispatchPolicy}, so a slow listener can not make changes pile up in memory. Listeners are invoked on
+ * a shared executor, every listener by at most one thread at a time and in order of changes. A listener gets all
+ * changes accumulated since its previous invocation in a single batch.
+ *
+ * <p>Queue depth, lag of the oldest pending change, processing time and numbers of coalesced and dropped changes
+ * are tracked per listener and can be written in Prometheus text format by
+ * {@link #writeTo(PrometheusTextWriter)}.
+ */
+public final class DataTreeChangeDispatcher implements AutoCloseable {
+    private static final Logger LOG = LoggerFactory.getLogger(DataTreeChangeDispatcher.class);
+
+    private final DOMDataBroker.DataTreeChangeExtension changeExtension;
+    private final Executor executor;
+    private final ConcurrentMap<String, DispatchedListener> listeners = new ConcurrentHashMap<>();
+
+    /**
+     * Create dispatcher of data tree changes of a data broker.
+     *
+     * @param dataBroker data broker supporting data tree change listeners
+     * @param executor shared executor invoking listeners, it is not shut down by {@link #close()}
+     */
+    public DataTreeChangeDispatcher(final DOMDataBroker dataBroker, final Executor executor) {
+        this.changeExtension = dataBroker.extension(DOMDataBroker.DataTreeChangeExtension.class);
+        if (changeExtension == null) {
+            throw new UnsupportedOperationException("Data broker does not support data tree change listeners");
+        }
+        this.executor = Objects.requireNonNull(executor);
+    }
+
+    /**
+     * Register listener to changes of a subtree.
+     *
+     * @param name unique name of the listener used in statistics
+     * @param treeId subtree to listen on
+     * @param listener listener invoked on executor of this dispatcher
+     * @param policy policy of queuing changes not yet delivered to the listener
+     * @return registration of the listener
+     * @throws IllegalArgumentException if a listener with the same name is registered
+     */
+    public Registration registerTreeChangeListener(final String name, final DOMDataTreeIdentifier treeId,
+            final DOMDataTreeChangeListener listener, final DispatchPolicy policy) {
+        final DispatchedListener dispatched = new DispatchedListener(name, listener, policy);
+        checkArgument(listeners.putIfAbsent(name, dispatched) == null, "Listener %s is already registered", name);
+        dispatched.start(treeId);
+        return dispatched;
+    }
+
+    /**
+     * Get statistics of registered listeners.
+     *
+     * @return statistics by listener name
+     */
+    public Map<String, ListenerStatistics> getStatistics() {
+        final Map<String, ListenerStatistics> statistics = new LinkedHashMap<>();
+        for (Map.Entry<String, DispatchedListener> entry : listeners.entrySet()) {
+            statistics.put(entry.getKey(), entry.getValue().statistics);
+        }
+        return statistics;
+    }
+
+    /**
+     * Write statistics of all registered listeners in Prometheus text format.
+     *
+     * @param writer Prometheus text writer
+     * @throws IOException if writing fails
+     */
+    public void writeTo(final PrometheusTextWriter writer) throws IOException {
+        final Map<String, ListenerStatistics> statistics = getStatistics();
+        writer.family("lighty_dtcl_queue_depth", "gauge", "Changes waiting for delivery to listener");
+        for (Map.Entry<String, ListenerStatistics> entry : statistics.entrySet()) {
+            writer.sample("lighty_dtcl_queue_depth", Map.of("listener", entry.getKey()),
+                    entry.getValue().getQueueDepth());
+        }
+        writer.family("lighty_dtcl_lag_seconds", "gauge", "Age of the oldest change waiting for delivery");
+        for (Map.Entry<String, ListenerStatistics> entry : statistics.entrySet()) {
+            writer.sample("lighty_dtcl_lag_seconds", Map.of("listener", entry.getKey()),
+                    entry.getValue().getLagNanos() / (double) TimeUnit.SECONDS.toNanos(1));
+        }
+        writer.family("lighty_dtcl_delivered_total", "counter", "Changes delivered to listener");
+        for (Map.Entry<String, ListenerStatistics> entry : statistics.entrySet()) {
+            writer.sample("lighty_dtcl_delivered_total", Map.of("listener", entry.getKey()),
+                    entry.getValue().getDeliveredCount());
+        }
+        writer.family("lighty_dtcl_coalesced_total", "counter", "Changes merged into other pending changes");
+        for (Map.Entry<String, ListenerStatistics> entry : statistics.entrySet()) {
+            writer.sample("lighty_dtcl_coalesced_total", Map.of("listener", entry.getKey()),
+                    entry.getValue().getCoalescedCount());
+        }
+        writer.family("lighty_dtcl_dropped_total", "counter", "Changes dropped because listener queue was full");
+        for (Map.Entry<String, ListenerStatistics> entry : statistics.entrySet()) {
+            writer.sample("lighty_dtcl_dropped_total", Map.of("listener", entry.getKey()),
+                    entry.getValue().getDroppedCount());
+        }
+        writer.family("lighty_dtcl_delivery_lag_seconds", "histogram",
+                "Time the oldest change of a batch waited for delivery");
+        for (Map.Entry<String, ListenerStatistics> entry : statistics.entrySet()) {
+            writer.histogram("lighty_dtcl_delivery_lag_seconds", Map.of("listener", entry.getKey()),
+                    entry.getValue().getDeliveryLag());
+        }
+        writer.family("lighty_dtcl_processing_seconds", "histogram", "Time listener spent processing a batch");
+        for (Map.Entry<String, ListenerStatistics> entry : statistics.entrySet()) {
+            writer.histogram("lighty_dtcl_processing_seconds", Map.of("listener", entry.getKey()),
+                    entry.getValue().getProcessingTime());
+        }
+    }
+
+    /**
+     * Close registrations of all listeners. Changes not yet delivered are discarded.
+     */
+    @Override
+    public void close() {
+        for (DispatchedListener listener : List.copyOf(listeners.values())) {
+            listener.close();
+        }
+    }
+
+    /**
+     * Policy of queuing changes not yet delivered to a listener.
+     */
+    public static final class DispatchPolicy {
+
+        /**
+         * Mode of queuing changes.
+         */
+        public enum Mode {
+            /**
+             * Changes rooted at the same path are merged into a single change holding data before the first
+             * and after the last change. The queue holds at most one change per root path.
+             */
+            COALESCE_BY_PATH,
+            /**
+             * Only the latest change rooted at the same path is kept. Data before of the delivered change may not
+             * match data after of the previously delivered one, so it suits listeners reading current state only.
+             */
+            LATEST_WINS,
+            /**
+             * All changes are delivered unless the queue is full, when the oldest pending change is dropped.
+             */
+            DROP_OLDEST
+        }
+
+        private final Mode mode;
+        private final int capacity;
+
+        private DispatchPolicy(final Mode mode, final int capacity) {
+            this.mode = mode;
+            this.capacity = capacity;
+        }
+
+        public static DispatchPolicy coalesceByPath() {
+            return new DispatchPolicy(Mode.COALESCE_BY_PATH, Integer.MAX_VALUE);
+        }
+
+        public static DispatchPolicy latestWins() {
+            return new DispatchPolicy(Mode.LATEST_WINS, Integer.MAX_VALUE);
+        }
+
+        /**
+         * Create policy delivering all changes unless more than capacity changes are pending.
+         *
+         * @param capacity maximal number of pending changes
+         * @return bounded queue policy
+         */
+        public static DispatchPolicy dropOldest(final int capacity) {
+            checkArgument(capacity > 0, "Capacity must be positive, was %s", capacity);
+            return new DispatchPolicy(Mode.DROP_OLDEST, capacity);
+        }
+
+        public Mode getMode() {
+            return mode;
+        }
+
+        public int getCapacity() {
+            return capacity;
+        }
+
+        @Override
+        public String toString() {
+            return mode == Mode.DROP_OLDEST ? mode + "(" + capacity + ")" : mode.toString();
+        }
+    }
+
+    /**
+     * Delivery statistics of a single listener.
+     */
+    public static final class ListenerStatistics {
+        private final LatencyHistogram deliveryLag = new LatencyHistogram();
+        private final LatencyHistogram processingTime = new LatencyHistogram();
+        private final LongAdder delivered = new LongAdder();
+        private final LongAdder coalesced = new LongAdder();
+        private final LongAdder dropped = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final AtomicInteger queueDepth = new AtomicInteger();
+        private volatile long oldestPendingNanos;
+
+        ListenerStatistics() {
+            // created by DataTreeChangeDispatcher
+        }
+
+        public int getQueueDepth() {
+            return queueDepth.get();
+        }
+
+        /**
+         * Get age of the oldest change waiting for delivery.
+         *
+         * @return lag in nanoseconds, 0 if no change is pending
+         */
+        public long getLagNanos() {
+            final long oldest = oldestPendingNanos;
+            return oldest == 0 ? 0 : Math.max(0, System.nanoTime() - oldest);
+        }
+
+        /**
+         * Get time the oldest change of every delivered batch waited for delivery.
+         *
+         * @return delivery lag histogram
+         */
+        public LatencyHistogram getDeliveryLag() {
+            return deliveryLag;
+        }
+
+        public LatencyHistogram getProcessingTime() {
+            return processingTime;
+        }
+
+        public long getDeliveredCount() {
+            return delivered.sum();
+        }
+
+        public long getCoalescedCount() {
+            return coalesced.sum();
+        }
+
+        public long getDroppedCount() {
+            return dropped.sum();
+        }
+
+        public long getFailureCount() {
+            return failures.sum();
+        }
+
+        @Override
+        public String toString() {
+            return String.format("depth=%d, lag=%dns, delivered=%d, coalesced=%d, dropped=%d, failures=%d, "
+                    + "processing=%s", getQueueDepth(), getLagNanos(), getDeliveredCount(), getCoalescedCount(),
+                    getDroppedCount(), getFailureCount(), processingTime);
+        }
+    }
+
+    /**
+     * Pending change with time it was received.
+     */
+    private static final class PendingChange {
+        private final long receivedNanos;
+        private DataTreeCandidate candidate;
+
+        PendingChange(final long receivedNanos, final DataTreeCandidate candidate) {
+            this.receivedNanos = receivedNanos;
+            this.candidate = candidate;
+        }
+    }
+
+    /**
+     * Listener registered on data broker, which queues changes and delivers them to the dispatched listener.
+     */
+    private final class DispatchedListener extends AbstractRegistration implements DOMDataTreeChangeListener {
+        private final String name;
+        private final DOMDataTreeChangeListener listener;
+        private final DispatchPolicy policy;
+        private final ListenerStatistics statistics = new ListenerStatistics();
+        // guarded by this
+        private final Deque<PendingChange> queue = new ArrayDeque<>();
+        private final Map<YangInstanceIdentifier, PendingChange> pendingByPath = new LinkedHashMap<>();
+        private boolean initialDataPending;
+        private boolean scheduled;
+        private Registration registration;
+
+        DispatchedListener(final String name, final DOMDataTreeChangeListener listener,
+                final DispatchPolicy policy) {
+            this.name = Objects.requireNonNull(name);
+            this.listener = Objects.requireNonNull(listener);
+            this.policy = Objects.requireNonNull(policy);
+        }
+
+        synchronized void start(final DOMDataTreeIdentifier treeId) {
+            registration = changeExtension.registerTreeChangeListener(treeId, this);
+            LOG.debug("Listener {} registered on {} with policy {}", name, treeId, policy);
+        }
+
+        @Override
+        public synchronized void onInitialData() {
+            if (isClosed()) {
+                return;
+            }
+            initialDataPending = true;
+            if (statistics.oldestPendingNanos == 0) {
+                statistics.oldestPendingNanos = System.nanoTime();
+            }
+            schedule();
+        }
+
+        @Override
+        public synchronized void onDataTreeChanged(final List<DataTreeCandidate> changes) {
+            if (isClosed()) {
+                return;
+            }
+            final long now = System.nanoTime();
+            for (DataTreeCandidate change : changes) {
+                enqueue(now, change);
+            }
+            statistics.queueDepth.set(queue.size());
+            if (!initialDataPending) {
+                statistics.oldestPendingNanos = queue.getFirst().receivedNanos;
+            }
+            schedule();
+        }
+
+        private void enqueue(final long now, final DataTreeCandidate change) {
+            switch (policy.getMode()) {
+                case COALESCE_BY_PATH: {
+                    final PendingChange pending = pendingByPath.get(change.rootPath());
+                    if (pending != null) {
+                        pending.candidate = DataTreeCandidates.aggregate(List.of(pending.candidate, change));
+                        statistics.coalesced.increment();
+                        return;
+                    }
+                    break;
+                }
+                case LATEST_WINS: {
+                    final PendingChange pending = pendingByPath.get(change.rootPath());
+                    if (pending != null) {
+                        pending.candidate = change;
+                        statistics.coalesced.increment();
+                        return;
+                    }
+                    break;
+                }
+                case DROP_OLDEST:
+                    if (queue.size() >= policy.getCapacity()) {
+                        queue.removeFirst();
+                        statistics.dropped.increment();
+                    }
+                    break;
+                default:
+                    throw new IllegalStateException("Unsupported dispatch mode " + policy.getMode());
+            }
+            final PendingChange pending = new PendingChange(now, change);
+            queue.addLast(pending);
+            if (policy.getMode() != DispatchPolicy.Mode.DROP_OLDEST) {
+                pendingByPath.put(change.rootPath(), pending);
+            }
+        }
+
+        private void schedule() {
+            if (scheduled) {
+                return;
+            }
+            scheduled = true;
+            try {
+                executor.execute(this::deliver);
+            } catch (RejectedExecutionException e) {
+                scheduled = false;
+                LOG.warn("Executor rejected delivery of changes to listener {}, changes stay queued", name, e);
+            }
+        }
+
+        @SuppressWarnings("IllegalCatch")
+        private void deliver() {
+            final boolean initialData;
+            final List<DataTreeCandidate> batch;
+            final long oldestNanos;
+            synchronized (this) {
+                if (isClosed()) {
+                    scheduled = false;
+                    return;
+                }
+                initialData = initialDataPending;
+                initialDataPending = false;
+                oldestNanos = statistics.oldestPendingNanos;
+                batch = new ArrayList<>(queue.size());
+                for (PendingChange pending : queue) {
+                    batch.add(pending.candidate);
+                }
+                queue.clear();
+                pendingByPath.clear();
+                statistics.queueDepth.set(0);
+                statistics.oldestPendingNanos = 0;
+            }
+
+            final long started = System.nanoTime();
+            if (oldestNanos != 0) {
+                statistics.deliveryLag.record(started - oldestNanos);
+            }
+            try {
+                if (initialData) {
+                    listener.onInitialData();
+                }
+                if (!batch.isEmpty()) {
+                    listener.onDataTreeChanged(batch);
+                }
+            } catch (RuntimeException e) {
+                statistics.failures.increment();
+                LOG.error("Listener {} failed to process {} changes", name, batch.size(), e);
+            }
+            statistics.processingTime.record(System.nanoTime() - started);
+            statistics.delivered.add(batch.size());
+
+            synchronized (this) {
+                scheduled = false;
+                if (initialDataPending || !queue.isEmpty()) {
+                    schedule();
+                }
+            }
+        }
+
+        @Override
+        protected synchronized void removeRegistration() {
+            listeners.remove(name, this);
+            if (registration != null) {
+                registration.close();
+            }
+            queue.clear();
+            pendingByPath.clear();
+            statistics.queueDepth.set(0);
+            statistics.oldestPendingNanos = 0;
+        }
+    }
+}
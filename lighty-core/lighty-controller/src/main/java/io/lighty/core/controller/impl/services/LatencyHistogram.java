@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package io.lighty.core.controller.impl.services;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free histogram of durations with exponential buckets. Upper bound of bucket {@code i} is {@code 2^i}
+ * microseconds, the last bucket counts durations longer than {@code 2^26} microseconds (about 67 seconds).
+ * Percentiles are estimated by upper bound of the bucket containing them, so their relative error is below
+ * factor of two, which is enough to tell sub-millisecond commits from commits waiting for a shard leader.
+ */
+public final class LatencyHistogram {
+    private static final int BUCKET_COUNT = 28;
+    private static final int LAST_BUCKET = BUCKET_COUNT - 1;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sumNanos = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    /**
+     * Record single duration.
+     *
+     * @param durationNanos duration in nanoseconds
+     */
+    public void record(final long durationNanos) {
+        final long duration = Math.max(0, durationNanos);
+        buckets.incrementAndGet(bucketIndex(duration));
+        count.increment();
+        sumNanos.add(duration);
+        maxNanos.accumulateAndGet(duration, Math::max);
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getSumNanos() {
+        return sumNanos.sum();
+    }
+
+    public long getMaxNanos() {
+        return maxNanos.get();
+    }
+
+    /**
+     * Estimate duration which is not exceeded by the given fraction of recorded durations.
+     *
+     * @param quantile fraction of recorded durations, from 0 to 1
+     * @return estimated duration in nanoseconds, 0 if nothing was recorded
+     * @throws IllegalArgumentException if quantile is not from interval [0, 1]
+     */
+    public long getPercentileNanos(final double quantile) {
+        if (quantile < 0 || quantile > 1) {
+            throw new IllegalArgumentException("Quantile must be from interval [0, 1], was " + quantile);
+        }
+        final long[] snapshot = new long[BUCKET_COUNT];
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            snapshot[i] = buckets.get(i);
+            total += snapshot[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+        final long rank = Math.max(1, (long) Math.ceil(quantile * total));
+        long cumulative = 0;
+        for (int i = 0; i < LAST_BUCKET; i++) {
+            cumulative += snapshot[i];
+            if (cumulative >= rank) {
+                return Math.min(getBucketUpperBoundNanos(i), getMaxNanos());
+            }
+        }
+        return getMaxNanos();
+    }
+
+    /**
+     * Get number of buckets of every histogram.
+     *
+     * @return number of buckets
+     */
+    public static int getBucketCount() {
+        return BUCKET_COUNT;
+    }
+
+    /**
+     * Get inclusive upper bound of a bucket.
+     *
+     * @param index index of bucket
+     * @return upper bound in nanoseconds, {@link Long#MAX_VALUE} for the last bucket
+     */
+    public static long getBucketUpperBoundNanos(final int index) {
+        return index == LAST_BUCKET ? Long.MAX_VALUE : TimeUnit.MICROSECONDS.toNanos(1L << index);
+    }
+
+    /**
+     * Get number of durations recorded in a bucket.
+     *
+     * @param index index of bucket
+     * @return number of durations longer than upper bound of previous bucket and not longer than upper bound
+     *         of this bucket
+     */
+    public long getBucketValue(final int index) {
+        return buckets.get(index);
+    }
+
+    private static int bucketIndex(final long durationNanos) {
+        final long micros = TimeUnit.NANOSECONDS.toMicros(durationNanos);
+        if (micros <= 1) {
+            return 0;
+        }
+        // ceil(log2(micros))
+        return Math.min(Long.SIZE - Long.numberOfLeadingZeros(micros - 1), LAST_BUCKET);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("count=%d, p50=%dus, p99=%dus, max=%dus", getCount(),
+                TimeUnit.NANOSECONDS.toMicros(getPercentileNanos(0.5)),
+                TimeUnit.NANOSECONDS.toMicros(getPercentileNanos(0.99)),
+                TimeUnit.NANOSECONDS.toMicros(getMaxNanos()));
+    }
+}
@@ -0,0 +1,271 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package io.lighty.core.controller.impl.services;
+
+import com.google.common.util.concurrent.FluentFuture;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.MoreExecutors;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.opendaylight.controller.cluster.datastore.config.Configuration;
+import org.opendaylight.mdsal.common.api.CommitInfo;
+import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
+import org.opendaylight.mdsal.dom.api.DOMDataBroker;
+import org.opendaylight.mdsal.dom.api.DOMDataTreeReadWriteTransaction;
+import org.opendaylight.mdsal.dom.api.DOMDataTreeWriteTransaction;
+import org.opendaylight.mdsal.dom.api.DOMTransactionChain;
+import org.opendaylight.mdsal.dom.spi.ForwardingDOMDataBroker;
+import org.opendaylight.mdsal.dom.spi.ForwardingDOMDataReadWriteTransaction;
+import org.opendaylight.mdsal.dom.spi.ForwardingDOMDataWriteTransaction;
+import org.opendaylight.mdsal.dom.spi.ForwardingDOMTransactionChain;
+import org.opendaylight.yangtools.yang.common.XMLNamespace;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+
+/**
+ * Data broker recording commit metrics of write transactions into {@link DataBrokerMetrics}. Modified paths
+ * are mapped to shards by namespace of their first path argument using module to shard mapping of cluster
+ * configuration, paths of modules without own shard belong to {@value #DEFAULT_SHARD} shard and modifications
+ * of datastore root to {@value #ROOT_SHARD}. Transactions of transaction chains are recorded too, read-only
+ * transactions are passed to delegate broker unchanged.
+ */
+public final class MetricsDOMDataBroker extends ForwardingDOMDataBroker {
+    public static final String DEFAULT_SHARD = "default";
+    public static final String ROOT_SHARD = "root";
+
+    private final DOMDataBroker delegate;
+    private final DataBrokerMetrics metrics;
+    private final Configuration configuration;
+    private final ConcurrentMap<XMLNamespace, String> namespaceShards = new ConcurrentHashMap<>();
+
+    public MetricsDOMDataBroker(final DOMDataBroker delegate, final DataBrokerMetrics metrics,
+            final Configuration configuration) {
+        this.delegate = delegate;
+        this.metrics = metrics;
+        this.configuration = configuration;
+    }
+
+    @Override
+    protected DOMDataBroker delegate() {
+        return delegate;
+    }
+
+    @Override
+    public DOMDataTreeWriteTransaction newWriteOnlyTransaction() {
+        return new MetricsWriteTransaction(delegate.newWriteOnlyTransaction());
+    }
+
+    @Override
+    public DOMDataTreeReadWriteTransaction newReadWriteTransaction() {
+        return new MetricsReadWriteTransaction(delegate.newReadWriteTransaction());
+    }
+
+    @Override
+    public DOMTransactionChain createTransactionChain() {
+        return new MetricsTransactionChain(delegate.createTransactionChain());
+    }
+
+    @Override
+    public DOMTransactionChain createMergingTransactionChain() {
+        return new MetricsTransactionChain(delegate.createMergingTransactionChain());
+    }
+
+    public DataBrokerMetrics getMetrics() {
+        return metrics;
+    }
+
+    private String shardOf(final YangInstanceIdentifier path) {
+        if (path.isEmpty()) {
+            return ROOT_SHARD;
+        }
+        return namespaceShards.computeIfAbsent(path.getPathArguments().get(0).getNodeType().getNamespace(),
+                this::resolveShard);
+    }
+
+    private String resolveShard(final XMLNamespace namespace) {
+        final String moduleName = configuration.getModuleNameFromNameSpace(namespace.toString());
+        final String shardName = moduleName == null ? null : configuration.getShardNameForModule(moduleName);
+        return shardName == null ? DEFAULT_SHARD : shardName;
+    }
+
+    /**
+     * Shards modified by a single transaction and its lifecycle.
+     */
+    private final class TransactionTracker {
+        private final Map<LogicalDatastoreType, Set<String>> modifiedShards =
+                new EnumMap<>(LogicalDatastoreType.class);
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        TransactionTracker() {
+            metrics.transactionOpened();
+        }
+
+        synchronized void modified(final LogicalDatastoreType store, final YangInstanceIdentifier path) {
+            modifiedShards.computeIfAbsent(store, type -> new HashSet<>()).add(shardOf(path));
+        }
+
+        FluentFuture<? extends CommitInfo> commit(final DOMDataTreeWriteTransaction transaction) {
+            close();
+            final Map<LogicalDatastoreType, Set<String>> shards;
+            synchronized (this) {
+                shards = Map.copyOf(modifiedShards);
+            }
+            metrics.commitStarted();
+            final long startNanos = System.nanoTime();
+            final FluentFuture<? extends CommitInfo> future;
+            try {
+                future = transaction.commit();
+            } catch (RuntimeException e) {
+                metrics.commitCompleted(shards, System.nanoTime() - startNanos, false);
+                throw e;
+            }
+            future.addCallback(new FutureCallback<CommitInfo>() {
+                @Override
+                public void onSuccess(final CommitInfo result) {
+                    metrics.commitCompleted(shards, System.nanoTime() - startNanos, true);
+                }
+
+                @Override
+                public void onFailure(final Throwable cause) {
+                    metrics.commitCompleted(shards, System.nanoTime() - startNanos, false);
+                }
+            }, MoreExecutors.directExecutor());
+            return future;
+        }
+
+        void close() {
+            if (closed.compareAndSet(false, true)) {
+                metrics.transactionClosed();
+            }
+        }
+    }
+
+    private final class MetricsWriteTransaction extends ForwardingDOMDataWriteTransaction {
+        private final DOMDataTreeWriteTransaction delegateTransaction;
+        private final TransactionTracker tracker = new TransactionTracker();
+
+        MetricsWriteTransaction(final DOMDataTreeWriteTransaction delegateTransaction) {
+            this.delegateTransaction = delegateTransaction;
+        }
+
+        @Override
+        protected DOMDataTreeWriteTransaction delegate() {
+            return delegateTransaction;
+        }
+
+        @Override
+        public void put(final LogicalDatastoreType store, final YangInstanceIdentifier path,
+                final NormalizedNode data) {
+            tracker.modified(store, path);
+            super.put(store, path, data);
+        }
+
+        @Override
+        public void merge(final LogicalDatastoreType store, final YangInstanceIdentifier path,
+                final NormalizedNode data) {
+            tracker.modified(store, path);
+            super.merge(store, path, data);
+        }
+
+        @Override
+        public void delete(final LogicalDatastoreType store, final YangInstanceIdentifier path) {
+            tracker.modified(store, path);
+            super.delete(store, path);
+        }
+
+        @Override
+        public FluentFuture<? extends CommitInfo> commit() {
+            return tracker.commit(delegateTransaction);
+        }
+
+        @Override
+        public boolean cancel() {
+            final boolean cancelled = super.cancel();
+            if (cancelled) {
+                tracker.close();
+            }
+            return cancelled;
+        }
+    }
+
+    private final class MetricsReadWriteTransaction extends ForwardingDOMDataReadWriteTransaction {
+        private final DOMDataTreeReadWriteTransaction delegateTransaction;
+        private final TransactionTracker tracker = new TransactionTracker();
+
+        MetricsReadWriteTransaction(final DOMDataTreeReadWriteTransaction delegateTransaction) {
+            this.delegateTransaction = delegateTransaction;
+        }
+
+        @Override
+        protected DOMDataTreeReadWriteTransaction delegate() {
+            return delegateTransaction;
+        }
+
+        @Override
+        public void put(final LogicalDatastoreType store, final YangInstanceIdentifier path,
+                final NormalizedNode data) {
+            tracker.modified(store, path);
+            super.put(store, path, data);
+        }
+
+        @Override
+        public void merge(final LogicalDatastoreType store, final YangInstanceIdentifier path,
+                final NormalizedNode data) {
+            tracker.modified(store, path);
+            super.merge(store, path, data);
+        }
+
+        @Override
+        public void delete(final LogicalDatastoreType store, final YangInstanceIdentifier path) {
+            tracker.modified(store, path);
+            super.delete(store, path);
+        }
+
+        @Override
+        public FluentFuture<? extends CommitInfo> commit() {
+            return tracker.commit(delegateTransaction);
+        }
+
+        @Override
+        public boolean cancel() {
+            final boolean cancelled = super.cancel();
+            if (cancelled) {
+                tracker.close();
+            }
+            return cancelled;
+        }
+    }
+
+    private final class MetricsTransactionChain extends ForwardingDOMTransactionChain {
+        private final DOMTransactionChain delegateChain;
+
+        MetricsTransactionChain(final DOMTransactionChain delegateChain) {
+            this.delegateChain = delegateChain;
+        }
+
+        @Override
+        protected DOMTransactionChain delegate() {
+            return delegateChain;
+        }
+
+        @Override
+        public DOMDataTreeWriteTransaction newWriteOnlyTransaction() {
+            return new MetricsWriteTransaction(delegateChain.newWriteOnlyTransaction());
+        }
+
+        @Override
+        public DOMDataTreeReadWriteTransaction newReadWriteTransaction() {
+            return new MetricsReadWriteTransaction(delegateChain.newReadWriteTransaction());
+        }
+    }
+}
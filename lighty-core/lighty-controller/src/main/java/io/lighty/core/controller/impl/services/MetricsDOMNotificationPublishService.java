@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package io.lighty.core.controller.impl.services;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.mdsal.dom.api.DOMNotification;
+import org.opendaylight.mdsal.dom.api.DOMNotificationPublishService;
+
+/**
+ * Publish service recording publish counts, publish blocked time and delivery latency of notifications into
+ * {@link NotificationRouterMetrics} by notification type. Delivery completes when the future returned by delegate
+ * publish service completes, which is after all listeners processed the notification.
+ */
+public final class MetricsDOMNotificationPublishService implements DOMNotificationPublishService {
+    private final DOMNotificationPublishService delegate;
+    private final NotificationRouterMetrics metrics;
+
+    public MetricsDOMNotificationPublishService(final DOMNotificationPublishService delegate,
+            final NotificationRouterMetrics metrics) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.metrics = Objects.requireNonNull(metrics);
+    }
+
+    @Override
+    public List<? extends Extension> supportedExtensions() {
+        return delegate.supportedExtensions();
+    }
+
+    @Override
+    public ListenableFuture<? extends Object> putNotification(final DOMNotification notification)
+            throws InterruptedException {
+        final long started = System.nanoTime();
+        return published(notification, delegate.putNotification(notification), started);
+    }
+
+    @Override
+    public ListenableFuture<? extends Object> offerNotification(final DOMNotification notification) {
+        final long started = System.nanoTime();
+        return published(notification, delegate.offerNotification(notification), started);
+    }
+
+    @Override
+    public ListenableFuture<? extends Object> offerNotification(final DOMNotification notification,
+            final long timeout, final TimeUnit unit) throws InterruptedException {
+        final long started = System.nanoTime();
+        return published(notification, delegate.offerNotification(notification, timeout, unit), started);
+    }
+
+    private ListenableFuture<? extends Object> published(final DOMNotification notification,
+            final ListenableFuture<? extends Object> result, final long started) {
+        final NotificationRouterMetrics.TypeStatistics statistics = metrics.type(notification.getType());
+        if (result == REJECTED) {
+            statistics.rejected();
+            return result;
+        }
+        final long accepted = System.nanoTime();
+        statistics.published(accepted - started);
+        metrics.accepted();
+        result.addListener(() -> {
+            statistics.delivered(System.nanoTime() - accepted);
+            metrics.delivered();
+        }, MoreExecutors.directExecutor());
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "MetricsDOMNotificationPublishService(" + delegate + "): " + metrics;
+    }
+}
@@ -0,0 +1,248 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package io.lighty.core.controller.impl.services;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.opendaylight.mdsal.dom.api.DOMNotification;
+import org.opendaylight.mdsal.dom.api.DOMNotificationListener;
+import org.opendaylight.mdsal.dom.api.DOMNotificationService;
+import org.opendaylight.yangtools.concepts.AbstractRegistration;
+import org.opendaylight.yangtools.concepts.Registration;
+import org.opendaylight.yangtools.yang.model.api.stmt.SchemaNodeIdentifier.Absolute;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Notification service recording processing time of registered listeners into {@link NotificationRouterMetrics}
+ * by class name of listener.
+ *
+ * <p>Notification router delivers notifications to every listener from a bounded queue and blocks publishers
+ * while any of the queues is full, so a single slow listener back-pressures all publishers and through them all
+ * other listeners. With a latency budget, a listener whose processing of consecutive notifications exceeds the
+ * budget a given number of times is isolated, a single slow notification (e.g. during garbage collection) is
+ * tolerated. Further notifications are handed over to its own bounded queue drained by a dedicated thread,
+ * and the router considers them delivered once they are queued. When the queue of an isolated listener is full,
+ * its oldest notification is dropped. Isolation lasts until the listener registration is closed.
+ */
+public final class MetricsDOMNotificationService implements DOMNotificationService {
+    private static final Logger LOG = LoggerFactory.getLogger(MetricsDOMNotificationService.class);
+
+    private final DOMNotificationService delegate;
+    private final NotificationRouterMetrics metrics;
+    private final long latencyBudgetNanos;
+    private final int overBudgetThreshold;
+    private final int isolatedQueueDepth;
+
+    /**
+     * Create notification service recording processing time of listeners, without isolation of slow listeners.
+     *
+     * @param delegate notification service of notification router
+     * @param metrics notification router metrics
+     */
+    public MetricsDOMNotificationService(final DOMNotificationService delegate,
+            final NotificationRouterMetrics metrics) {
+        this(delegate, metrics, 0, 1, 1, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Create notification service recording processing time of listeners and isolating listeners exceeding
+     * latency budget.
+     *
+     * @param delegate notification service of notification router
+     * @param metrics notification router metrics
+     * @param latencyBudget processing time of a notification over which the listener is over budget, 0 disables
+     *                      isolation
+     * @param overBudgetThreshold number of consecutive notifications processed over budget after which the listener
+     *                            is isolated
+     * @param isolatedQueueDepth depth of queue of an isolated listener
+     * @param unit unit of latency budget
+     */
+    public MetricsDOMNotificationService(final DOMNotificationService delegate,
+            final NotificationRouterMetrics metrics, final long latencyBudget, final int overBudgetThreshold,
+            final int isolatedQueueDepth, final TimeUnit unit) {
+        checkArgument(latencyBudget >= 0, "Latency budget %s must not be negative", latencyBudget);
+        checkArgument(overBudgetThreshold > 0, "Over budget threshold %s must be positive", overBudgetThreshold);
+        checkArgument(isolatedQueueDepth > 0, "Isolated queue depth %s must be positive", isolatedQueueDepth);
+        this.delegate = Objects.requireNonNull(delegate);
+        this.metrics = Objects.requireNonNull(metrics);
+        this.latencyBudgetNanos = unit.toNanos(latencyBudget);
+        this.overBudgetThreshold = overBudgetThreshold;
+        this.isolatedQueueDepth = isolatedQueueDepth;
+    }
+
+    @Override
+    public List<? extends Extension> supportedExtensions() {
+        return delegate.supportedExtensions();
+    }
+
+    @Override
+    public Registration registerNotificationListener(final DOMNotificationListener listener,
+            final Collection<Absolute> types) {
+        final MetricsListener metricsListener = new MetricsListener(listener);
+        return new MetricsRegistration(delegate.registerNotificationListener(metricsListener, types),
+                List.of(metricsListener));
+    }
+
+    @Override
+    public Registration registerNotificationListeners(final Map<Absolute, DOMNotificationListener> typeToListener) {
+        // a listener registered for several types is isolated once, together for all of them
+        final Map<DOMNotificationListener, MetricsListener> metricsListeners = new IdentityHashMap<>();
+        final Map<Absolute, DOMNotificationListener> typeToMetricsListener = new HashMap<>();
+        for (Map.Entry<Absolute, DOMNotificationListener> entry : typeToListener.entrySet()) {
+            typeToMetricsListener.put(entry.getKey(),
+                    metricsListeners.computeIfAbsent(entry.getValue(), MetricsListener::new));
+        }
+        return new MetricsRegistration(delegate.registerNotificationListeners(Map.copyOf(typeToMetricsListener)),
+                List.copyOf(metricsListeners.values()));
+    }
+
+    static String listenerName(final DOMNotificationListener listener) {
+        final String name = listener.getClass().getName();
+        // hidden classes of lambdas have a random suffix
+        final int hidden = name.indexOf('/');
+        return hidden < 0 ? name : name.substring(0, hidden);
+    }
+
+    @Override
+    public String toString() {
+        return "MetricsDOMNotificationService(" + delegate + ", latencyBudget=" + latencyBudgetNanos + "ns): "
+                + metrics;
+    }
+
+    /**
+     * Listener timing processing of notifications by its delegate, delivering them from its own queue once
+     * isolated.
+     */
+    private final class MetricsListener implements DOMNotificationListener {
+        private final DOMNotificationListener listener;
+        private final NotificationRouterMetrics.ListenerStatistics statistics;
+        private final AtomicInteger consecutiveOverBudget = new AtomicInteger();
+        private volatile ThreadPoolExecutor isolatedExecutor;
+        private boolean closed;
+
+        MetricsListener(final DOMNotificationListener listener) {
+            this.listener = Objects.requireNonNull(listener);
+            this.statistics = metrics.listener(listenerName(listener));
+        }
+
+        @Override
+        public void onNotification(final DOMNotification notification) {
+            final ThreadPoolExecutor executor = isolatedExecutor;
+            if (executor == null) {
+                deliver(notification);
+                return;
+            }
+            statistics.queued();
+            executor.execute(() -> deliverIsolated(notification));
+        }
+
+        private void deliver(final DOMNotification notification) {
+            final long started = System.nanoTime();
+            boolean failed = true;
+            try {
+                listener.onNotification(notification);
+                failed = false;
+            } finally {
+                final long elapsed = System.nanoTime() - started;
+                statistics.recordProcessing(elapsed, failed);
+                if (latencyBudgetNanos > 0) {
+                    if (elapsed <= latencyBudgetNanos) {
+                        consecutiveOverBudget.set(0);
+                    } else {
+                        statistics.overBudget();
+                        if (consecutiveOverBudget.incrementAndGet() >= overBudgetThreshold) {
+                            isolate(elapsed);
+                        }
+                    }
+                }
+            }
+        }
+
+        @SuppressWarnings("IllegalCatch")
+        private void deliverIsolated(final DOMNotification notification) {
+            statistics.dequeued();
+            try {
+                deliver(notification);
+            } catch (RuntimeException e) {
+                LOG.warn("Isolated listener {} failed to process notification {}", listener, notification, e);
+            }
+        }
+
+        private synchronized void isolate(final long elapsedNanos) {
+            if (isolatedExecutor != null || closed) {
+                return;
+            }
+            LOG.warn("Listener {} processed {} consecutive notifications over latency budget {}ns, last in {}ns, "
+                    + "isolating it to own queue of depth {}", listener, overBudgetThreshold, latencyBudgetNanos,
+                    elapsedNanos, isolatedQueueDepth);
+            isolatedExecutor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(isolatedQueueDepth),
+                    new ThreadFactoryBuilder().setNameFormat("isolated-notification-listener-%d").setDaemon(true)
+                            .build(),
+                    this::dropOldest);
+            statistics.isolated(true);
+        }
+
+        private void dropOldest(final Runnable task, final ThreadPoolExecutor executor) {
+            if (executor.isShutdown()) {
+                statistics.dequeued();
+                return;
+            }
+            if (executor.getQueue().poll() != null) {
+                statistics.dropped();
+            }
+            executor.execute(task);
+        }
+
+        synchronized void close() {
+            closed = true;
+            final ThreadPoolExecutor executor = isolatedExecutor;
+            if (executor != null) {
+                for (int i = executor.shutdownNow().size(); i > 0; i--) {
+                    statistics.dequeued();
+                }
+                statistics.isolated(false);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "MetricsListener(" + listener + ", isolated=" + (isolatedExecutor != null) + ")";
+        }
+    }
+
+    private static final class MetricsRegistration extends AbstractRegistration {
+        private final Registration registration;
+        private final List<MetricsListener> listeners;
+
+        MetricsRegistration(final Registration registration, final List<MetricsListener> listeners) {
+            this.registration = registration;
+            this.listeners = listeners;
+        }
+
+        @Override
+        protected void removeRegistration() {
+            registration.close();
+            for (MetricsListener listener : listeners) {
+                listener.close();
+            }
+        }
+    }
+}
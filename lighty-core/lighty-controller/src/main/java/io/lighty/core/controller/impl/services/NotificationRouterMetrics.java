@@ -0,0 +1,310 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package io.lighty.core.controller.impl.services;
+
+import io.lighty.core.controller.impl.util.PrometheusTextWriter;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import org.opendaylight.yangtools.yang.model.api.stmt.SchemaNodeIdentifier.Absolute;
+
+/**
+ * Metrics of notification router. Publish counts, time publishers were blocked by full queues and delivery latency
+ * are recorded per notification type by {@link MetricsDOMNotificationPublishService}, processing time of listeners
+ * by {@link MetricsDOMNotificationService}. Both are created only when notification router metrics or slow listener
+ * isolation are enabled in controller configuration.
+ *
+ * <p>Notification router does not expose fill level of its per-listener queues. Number of notifications published
+ * and not yet processed by all listeners is recorded instead, it is an upper bound of fill level of every queue.
+ *
+ * <p>All metrics can be written in Prometheus text format by {@link #writeTo(PrometheusTextWriter)}.
+ */
+public final class NotificationRouterMetrics {
+    private final int queueCapacity;
+    private final ConcurrentMap<Absolute, TypeStatistics> types = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, ListenerStatistics> listeners = new ConcurrentHashMap<>();
+    private final LongAdder inFlight = new LongAdder();
+
+    /**
+     * Statistics of published notifications of one type.
+     */
+    public static final class TypeStatistics {
+        private final LongAdder published = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+        private final LatencyHistogram publishBlocked = new LatencyHistogram();
+        private final LatencyHistogram deliveryLatency = new LatencyHistogram();
+
+        public long getPublishedCount() {
+            return published.sum();
+        }
+
+        /**
+         * Get number of notifications rejected because a listener queue was full.
+         *
+         * @return rejected notifications
+         */
+        public long getRejectedCount() {
+            return rejected.sum();
+        }
+
+        /**
+         * Get time publishers waited until the router accepted a notification.
+         *
+         * @return publish blocked time histogram
+         */
+        public LatencyHistogram getPublishBlocked() {
+            return publishBlocked;
+        }
+
+        /**
+         * Get time from acceptance of a notification by the router until all listeners processed it. Listeners
+         * isolated to their own queue count as processed once the notification is queued.
+         *
+         * @return delivery latency histogram
+         */
+        public LatencyHistogram getDeliveryLatency() {
+            return deliveryLatency;
+        }
+
+        void rejected() {
+            rejected.increment();
+        }
+
+        void published(final long blockedNanos) {
+            published.increment();
+            publishBlocked.record(blockedNanos);
+        }
+
+        void delivered(final long nanos) {
+            deliveryLatency.record(nanos);
+        }
+    }
+
+    /**
+     * Statistics of listeners of one class.
+     */
+    public static final class ListenerStatistics {
+        private final LatencyHistogram processing = new LatencyHistogram();
+        private final LongAdder overBudget = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder isolated = new LongAdder();
+        private final LongAdder isolatedQueued = new LongAdder();
+        private final LongAdder isolatedDropped = new LongAdder();
+
+        public LatencyHistogram getProcessing() {
+            return processing;
+        }
+
+        /**
+         * Get number of notifications whose processing exceeded latency budget.
+         *
+         * @return notifications over latency budget
+         */
+        public long getOverBudgetCount() {
+            return overBudget.sum();
+        }
+
+        public long getFailureCount() {
+            return failures.sum();
+        }
+
+        /**
+         * Get number of registered listeners moved to their own queue after exceeding latency budget.
+         *
+         * @return isolated listeners
+         */
+        public long getIsolatedCount() {
+            return isolated.sum();
+        }
+
+        public long getIsolatedQueueSize() {
+            return isolatedQueued.sum();
+        }
+
+        /**
+         * Get number of notifications dropped because the queue of an isolated listener was full.
+         *
+         * @return dropped notifications
+         */
+        public long getIsolatedDroppedCount() {
+            return isolatedDropped.sum();
+        }
+
+        void recordProcessing(final long nanos, final boolean failed) {
+            processing.record(nanos);
+            if (failed) {
+                failures.increment();
+            }
+        }
+
+        void overBudget() {
+            overBudget.increment();
+        }
+
+        void isolated(final boolean open) {
+            if (open) {
+                isolated.increment();
+            } else {
+                isolated.decrement();
+            }
+        }
+
+        void queued() {
+            isolatedQueued.increment();
+        }
+
+        void dequeued() {
+            isolatedQueued.decrement();
+        }
+
+        void dropped() {
+            isolatedQueued.decrement();
+            isolatedDropped.increment();
+        }
+    }
+
+    /**
+     * Create metrics of notification router.
+     *
+     * @param queueCapacity depth of per-listener queues of the router
+     */
+    public NotificationRouterMetrics(final int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    /**
+     * Get number of notifications accepted by the router and not yet processed by all listeners.
+     *
+     * @return in-flight notifications
+     */
+    public long getInFlightCount() {
+        return inFlight.sum();
+    }
+
+    /**
+     * Get statistics of notification types published so far.
+     *
+     * @return statistics by notification type
+     */
+    public Map<Absolute, TypeStatistics> getTypeStatistics() {
+        return Map.copyOf(types);
+    }
+
+    /**
+     * Get statistics of listeners registered so far, by class name of listener.
+     *
+     * @return statistics by listener
+     */
+    public Map<String, ListenerStatistics> getListenerStatistics() {
+        return Map.copyOf(listeners);
+    }
+
+    /**
+     * Write all metrics in Prometheus text format.
+     *
+     * @param writer Prometheus text writer
+     * @throws IOException if writing fails
+     */
+    public void writeTo(final PrometheusTextWriter writer) throws IOException {
+        writer.family("lighty_notification_router_in_flight", "gauge",
+                "Notifications accepted by notification router and not yet processed by all listeners")
+                .sample("lighty_notification_router_in_flight", Map.of(), getInFlightCount());
+        writer.family("lighty_notification_router_queue_capacity", "gauge", "Depth of listener queues")
+                .sample("lighty_notification_router_queue_capacity", Map.of(), queueCapacity);
+
+        writer.family("lighty_notification_published_total", "counter", "Notifications accepted by the router");
+        for (Map.Entry<Absolute, TypeStatistics> entry : types.entrySet()) {
+            writer.sample("lighty_notification_published_total", typeLabels(entry.getKey()),
+                    entry.getValue().getPublishedCount());
+        }
+        writer.family("lighty_notification_rejected_total", "counter", "Notifications rejected by full queues");
+        for (Map.Entry<Absolute, TypeStatistics> entry : types.entrySet()) {
+            writer.sample("lighty_notification_rejected_total", typeLabels(entry.getKey()),
+                    entry.getValue().getRejectedCount());
+        }
+        writer.family("lighty_notification_publish_blocked_seconds", "histogram",
+                "Time publishers waited until the router accepted a notification");
+        for (Map.Entry<Absolute, TypeStatistics> entry : types.entrySet()) {
+            writer.histogram("lighty_notification_publish_blocked_seconds", typeLabels(entry.getKey()),
+                    entry.getValue().getPublishBlocked());
+        }
+        writer.family("lighty_notification_delivery_seconds", "histogram",
+                "Time from acceptance of a notification until all listeners processed it");
+        for (Map.Entry<Absolute, TypeStatistics> entry : types.entrySet()) {
+            writer.histogram("lighty_notification_delivery_seconds", typeLabels(entry.getKey()),
+                    entry.getValue().getDeliveryLatency());
+        }
+
+        writer.family("lighty_notification_listener_processing_seconds", "histogram",
+                "Time a listener processed a notification");
+        for (Map.Entry<String, ListenerStatistics> entry : listeners.entrySet()) {
+            writer.histogram("lighty_notification_listener_processing_seconds", Map.of("listener", entry.getKey()),
+                    entry.getValue().getProcessing());
+        }
+        writer.family("lighty_notification_listener_over_budget_total", "counter",
+                "Notifications whose processing exceeded listener latency budget");
+        for (Map.Entry<String, ListenerStatistics> entry : listeners.entrySet()) {
+            writer.sample("lighty_notification_listener_over_budget_total", Map.of("listener", entry.getKey()),
+                    entry.getValue().getOverBudgetCount());
+        }
+        writer.family("lighty_notification_listener_failures_total", "counter", "Listener processing failures");
+        for (Map.Entry<String, ListenerStatistics> entry : listeners.entrySet()) {
+            writer.sample("lighty_notification_listener_failures_total", Map.of("listener", entry.getKey()),
+                    entry.getValue().getFailureCount());
+        }
+        writer.family("lighty_notification_listener_isolated", "gauge", "Listeners moved to their own queue");
+        for (Map.Entry<String, ListenerStatistics> entry : listeners.entrySet()) {
+            writer.sample("lighty_notification_listener_isolated", Map.of("listener", entry.getKey()),
+                    entry.getValue().getIsolatedCount());
+        }
+        writer.family("lighty_notification_listener_isolated_queue_size", "gauge",
+                "Notifications queued for isolated listeners");
+        for (Map.Entry<String, ListenerStatistics> entry : listeners.entrySet()) {
+            writer.sample("lighty_notification_listener_isolated_queue_size", Map.of("listener", entry.getKey()),
+                    entry.getValue().getIsolatedQueueSize());
+        }
+        writer.family("lighty_notification_listener_isolated_dropped_total", "counter",
+                "Notifications dropped by full queues of isolated listeners");
+        for (Map.Entry<String, ListenerStatistics> entry : listeners.entrySet()) {
+            writer.sample("lighty_notification_listener_isolated_dropped_total", Map.of("listener", entry.getKey()),
+                    entry.getValue().getIsolatedDroppedCount());
+        }
+    }
+
+    TypeStatistics type(final Absolute type) {
+        return types.computeIfAbsent(type, key -> new TypeStatistics());
+    }
+
+    ListenerStatistics listener(final String name) {
+        return listeners.computeIfAbsent(name, key -> new ListenerStatistics());
+    }
+
+    void accepted() {
+        inFlight.increment();
+    }
+
+    void delivered() {
+        inFlight.decrement();
+    }
+
+    private static Map<String, String> typeLabels(final Absolute type) {
+        return Map.of("type", type.lastNodeIdentifier().toString());
+    }
+
+    @Override
+    public String toString() {
+        return String.format("types=%d, listeners=%d, inFlight=%d, queueCapacity=%d", types.size(), listeners.size(),
+                getInFlightCount(), queueCapacity);
+    }
+}
@@ -0,0 +1,416 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package io.lighty.core.controller.impl.services;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import io.lighty.core.controller.impl.util.PrometheusTextWriter;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import org.opendaylight.mdsal.dom.api.DOMNotification;
+import org.opendaylight.mdsal.dom.api.DOMNotificationListener;
+import org.opendaylight.mdsal.dom.api.DOMNotificationPublishService;
+import org.opendaylight.mdsal.dom.api.DOMNotificationService;
+import org.opendaylight.mdsal.dom.broker.DOMNotificationRouter;
+import org.opendaylight.mdsal.dom.broker.RouterDOMNotificationService;
+import org.opendaylight.mdsal.dom.broker.RouterDOMPublishNotificationService;
+import org.opendaylight.yangtools.concepts.AbstractRegistration;
+import org.opendaylight.yangtools.concepts.Registration;
+import org.opendaylight.yangtools.yang.model.api.stmt.SchemaNodeIdentifier.Absolute;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Notification routing partitioned to several independent {@link DOMNotificationRouter}s. Every partition has
+ * its own queues and delivery threads, so notifications of different partitions are published and delivered
+ * concurrently. Notifications are assigned to partitions by a partition key, which is the notification type
+ * for {@link #getPublishService()} or a key provided by the caller, e.g. the source mount point, for
+ * {@link #putNotification(DOMNotification, Object)} and its offer variants. Notifications with the same key
+ * are delivered in order of publishing, notifications with different keys may be delivered to a listener
+ * concurrently.
+ *
+ * <p>Listeners registered through {@link #getNotificationService()} are registered in all partitions. Queue depth,
+ * time publishers were blocked and delivery latency are tracked per partition. Consumers of a single
+ * {@link DOMNotificationRouter} use {@link #getDOMNotificationRouter()}, which routes through the same services.
+ */
+public final class PartitionedDOMNotificationRouter implements AutoCloseable {
+    private static final Logger LOG = LoggerFactory.getLogger(PartitionedDOMNotificationRouter.class);
+
+    private final List<Partition> partitions;
+    private final DOMNotificationService notificationService = new PartitionedNotificationService();
+    private final DOMNotificationPublishService publishService = new TypePartitionedPublishService();
+    private final DOMNotificationRouter facadeRouter;
+
+    /**
+     * Create partitioned notification routing.
+     *
+     * @param partitionCount number of partitions
+     * @param queueDepth queue depth of every partition
+     */
+    public PartitionedDOMNotificationRouter(final int partitionCount, final int queueDepth) {
+        checkArgument(partitionCount > 0, "Partition count must be positive, was %s", partitionCount);
+        final List<Partition> created = new ArrayList<>(partitionCount);
+        for (int i = 0; i < partitionCount; i++) {
+            created.add(new Partition(new DOMNotificationRouter(queueDepth)));
+        }
+        this.partitions = List.copyOf(created);
+        this.facadeRouter = new FacadeRouter();
+        LOG.info("Notification routing partitioned to {} partitions with queue depth {}", partitionCount, queueDepth);
+    }
+
+    public int getPartitionCount() {
+        return partitions.size();
+    }
+
+    /**
+     * Get notification router of a partition.
+     *
+     * @param index index of the partition
+     * @return notification router
+     */
+    public DOMNotificationRouter getPartition(final int index) {
+        return partitions.get(index).router;
+    }
+
+    /**
+     * Get notification router facade of all partitions. Its notification and publish services are
+     * {@link #getNotificationService()} and {@link #getPublishService()}, so it can be passed to consumers of a single
+     * {@link DOMNotificationRouter}, e.g. through {@link RouterDOMNotificationService}.
+     *
+     * @return notification router routing to partitions
+     */
+    public DOMNotificationRouter getDOMNotificationRouter() {
+        return facadeRouter;
+    }
+
+    /**
+     * Get notification service registering listeners in all partitions.
+     *
+     * @return notification service
+     */
+    public DOMNotificationService getNotificationService() {
+        return notificationService;
+    }
+
+    /**
+     * Get publish service assigning notifications to partitions by notification type.
+     *
+     * @return publish service
+     */
+    public DOMNotificationPublishService getPublishService() {
+        return publishService;
+    }
+
+    /**
+     * Publish notification to the partition of a key, blocking until it is queued.
+     *
+     * @param notification notification to publish
+     * @param key partition key
+     * @return future completed when the notification is delivered to all listeners
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public ListenableFuture<? extends Object> putNotification(final DOMNotification notification, final Object key)
+            throws InterruptedException {
+        return partition(key).publish(service -> service.putNotification(notification));
+    }
+
+    /**
+     * Publish notification to the partition of a key if it has free space.
+     *
+     * @param notification notification to publish
+     * @param key partition key
+     * @return future completed when the notification is delivered to all listeners or
+     *     {@link DOMNotificationPublishService#REJECTED}
+     */
+    public ListenableFuture<? extends Object> offerNotification(final DOMNotification notification,
+            final Object key) {
+        final Partition partition = partition(key);
+        try {
+            return partition.publish(service -> service.offerNotification(notification));
+        } catch (InterruptedException e) {
+            throw new IllegalStateException("Non-blocking offer was interrupted", e);
+        }
+    }
+
+    /**
+     * Publish notification to the partition of a key, waiting for free space at most the given time.
+     *
+     * @param notification notification to publish
+     * @param key partition key
+     * @param timeout maximal time to wait
+     * @param unit unit of timeout
+     * @return future completed when the notification is delivered to all listeners or
+     *     {@link DOMNotificationPublishService#REJECTED}
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public ListenableFuture<? extends Object> offerNotification(final DOMNotification notification,
+            final Object key, final long timeout, final TimeUnit unit) throws InterruptedException {
+        return partition(key).publish(service -> service.offerNotification(notification, timeout, unit));
+    }
+
+    /**
+     * Get statistics of partitions.
+     *
+     * @return statistics by partition index
+     */
+    public List<PartitionStatistics> getPartitionStatistics() {
+        final List<PartitionStatistics> statistics = new ArrayList<>(partitions.size());
+        for (Partition partition : partitions) {
+            statistics.add(partition.statistics);
+        }
+        return statistics;
+    }
+
+    /**
+     * Write statistics of all partitions in Prometheus text format.
+     *
+     * @param writer Prometheus text writer
+     * @throws IOException if writing fails
+     */
+    public void writeTo(final PrometheusTextWriter writer) throws IOException {
+        writer.family("lighty_notification_partition_depth", "gauge", "Notifications published and not yet delivered");
+        for (int i = 0; i < partitions.size(); i++) {
+            writer.sample("lighty_notification_partition_depth", Map.of("partition", Integer.toString(i)),
+                    partitions.get(i).statistics.getDepth());
+        }
+        writer.family("lighty_notification_partition_published_total", "counter", "Published notifications");
+        for (int i = 0; i < partitions.size(); i++) {
+            writer.sample("lighty_notification_partition_published_total", Map.of("partition", Integer.toString(i)),
+                    partitions.get(i).statistics.getPublishedCount());
+        }
+        writer.family("lighty_notification_partition_rejected_total", "counter", "Rejected notifications");
+        for (int i = 0; i < partitions.size(); i++) {
+            writer.sample("lighty_notification_partition_rejected_total", Map.of("partition", Integer.toString(i)),
+                    partitions.get(i).statistics.getRejectedCount());
+        }
+        writer.family("lighty_notification_partition_publish_blocked_seconds", "histogram",
+                "Time publishers were blocked by partition");
+        for (int i = 0; i < partitions.size(); i++) {
+            writer.histogram("lighty_notification_partition_publish_blocked_seconds",
+                    Map.of("partition", Integer.toString(i)), partitions.get(i).statistics.getPublishBlocked());
+        }
+        writer.family("lighty_notification_partition_delivery_seconds", "histogram",
+                "Time from publish until delivery to all listeners");
+        for (int i = 0; i < partitions.size(); i++) {
+            writer.histogram("lighty_notification_partition_delivery_seconds",
+                    Map.of("partition", Integer.toString(i)), partitions.get(i).statistics.getDeliveryLatency());
+        }
+    }
+
+    @Override
+    public void close() {
+        facadeRouter.close();
+        for (Partition partition : partitions) {
+            partition.router.close();
+        }
+    }
+
+    private Partition partition(final Object key) {
+        return partitions.get(Math.floorMod(key.hashCode(), partitions.size()));
+    }
+
+    /**
+     * Publish operation on publish service of a partition.
+     */
+    @FunctionalInterface
+    private interface PublishOperation {
+        ListenableFuture<? extends Object> publish(DOMNotificationPublishService service) throws InterruptedException;
+    }
+
+    /**
+     * Publish statistics of a single partition.
+     */
+    public static final class PartitionStatistics {
+        private final LatencyHistogram publishBlocked = new LatencyHistogram();
+        private final LatencyHistogram deliveryLatency = new LatencyHistogram();
+        private final LongAdder published = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+        private final AtomicInteger depth = new AtomicInteger();
+
+        PartitionStatistics() {
+            // created by PartitionedDOMNotificationRouter
+        }
+
+        /**
+         * Get number of notifications published to the partition and not yet delivered to all listeners.
+         *
+         * @return partition depth
+         */
+        public int getDepth() {
+            return depth.get();
+        }
+
+        /**
+         * Get time publish calls spent waiting for the partition.
+         *
+         * @return publish blocked time histogram
+         */
+        public LatencyHistogram getPublishBlocked() {
+            return publishBlocked;
+        }
+
+        /**
+         * Get time from publish until delivery to all listeners.
+         *
+         * @return delivery latency histogram
+         */
+        public LatencyHistogram getDeliveryLatency() {
+            return deliveryLatency;
+        }
+
+        public long getPublishedCount() {
+            return published.sum();
+        }
+
+        public long getRejectedCount() {
+            return rejected.sum();
+        }
+
+        @Override
+        public String toString() {
+            return String.format("depth=%d, published=%d, rejected=%d, blocked=%s, delivery=%s", getDepth(),
+                    getPublishedCount(), getRejectedCount(), publishBlocked, deliveryLatency);
+        }
+    }
+
+    /**
+     * Notification router delegating to the partitioned services. Nothing is queued in the router itself.
+     */
+    private final class FacadeRouter extends DOMNotificationRouter {
+        FacadeRouter() {
+            super(1);
+        }
+
+        @Override
+        public DOMNotificationService notificationService() {
+            return PartitionedDOMNotificationRouter.this.notificationService;
+        }
+
+        @Override
+        public DOMNotificationPublishService notificationPublishService() {
+            return PartitionedDOMNotificationRouter.this.publishService;
+        }
+    }
+
+    /**
+     * Notification router of a partition with its services and statistics.
+     */
+    private static final class Partition {
+        private final DOMNotificationRouter router;
+        private final DOMNotificationService notificationService;
+        private final DOMNotificationPublishService publishService;
+        private final PartitionStatistics statistics = new PartitionStatistics();
+
+        Partition(final DOMNotificationRouter router) {
+            this.router = router;
+            this.notificationService = new RouterDOMNotificationService(router);
+            this.publishService = new RouterDOMPublishNotificationService(router);
+        }
+
+        ListenableFuture<? extends Object> publish(final PublishOperation operation) throws InterruptedException {
+            final long started = System.nanoTime();
+            final ListenableFuture<? extends Object> result = operation.publish(publishService);
+            statistics.publishBlocked.record(System.nanoTime() - started);
+            if (result == DOMNotificationPublishService.REJECTED) {
+                statistics.rejected.increment();
+                return result;
+            }
+            statistics.published.increment();
+            statistics.depth.incrementAndGet();
+            result.addListener(() -> {
+                statistics.depth.decrementAndGet();
+                statistics.deliveryLatency.record(System.nanoTime() - started);
+            }, MoreExecutors.directExecutor());
+            return result;
+        }
+    }
+
+    /**
+     * Notification service registering listeners in all partitions.
+     */
+    private final class PartitionedNotificationService implements DOMNotificationService {
+        @Override
+        public List<? extends Extension> supportedExtensions() {
+            return partitions.get(0).notificationService.supportedExtensions();
+        }
+
+        @Override
+        public Registration registerNotificationListener(final DOMNotificationListener listener,
+                final Collection<Absolute> types) {
+            final List<Registration> registrations = new ArrayList<>(partitions.size());
+            for (Partition partition : partitions) {
+                registrations.add(partition.notificationService.registerNotificationListener(listener, types));
+            }
+            return new CompositeRegistration(registrations);
+        }
+
+        @Override
+        public Registration registerNotificationListeners(final Map<Absolute, DOMNotificationListener> typeToListener) {
+            final List<Registration> registrations = new ArrayList<>(partitions.size());
+            for (Partition partition : partitions) {
+                registrations.add(partition.notificationService.registerNotificationListeners(typeToListener));
+            }
+            return new CompositeRegistration(registrations);
+        }
+    }
+
+    /**
+     * Publish service assigning notifications to partitions by their type.
+     */
+    private final class TypePartitionedPublishService implements DOMNotificationPublishService {
+        @Override
+        public List<? extends Extension> supportedExtensions() {
+            // listeners are registered in all partitions, so demand of the first partition is demand of all
+            return partitions.get(0).publishService.supportedExtensions();
+        }
+
+        @Override
+        public ListenableFuture<? extends Object> putNotification(final DOMNotification notification)
+                throws InterruptedException {
+            return PartitionedDOMNotificationRouter.this.putNotification(notification, notification.getType());
+        }
+
+        @Override
+        public ListenableFuture<? extends Object> offerNotification(final DOMNotification notification) {
+            return PartitionedDOMNotificationRouter.this.offerNotification(notification, notification.getType());
+        }
+
+        @Override
+        public ListenableFuture<? extends Object> offerNotification(final DOMNotification notification,
+                final long timeout, final TimeUnit unit) throws InterruptedException {
+            return PartitionedDOMNotificationRouter.this.offerNotification(notification, notification.getType(),
+                    timeout, unit);
+        }
+    }
+
+    /**
+     * Registration of a listener in all partitions.
+     */
+    private static final class CompositeRegistration extends AbstractRegistration {
+        private final List<Registration> registrations;
+
+        CompositeRegistration(final List<Registration> registrations) {
+            this.registrations = List.copyOf(registrations);
+        }
+
+        @Override
+        protected void removeRegistration() {
+            for (Registration registration : registrations) {
+                registration.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package io.lighty.core.controller.impl.services;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import org.opendaylight.mdsal.dom.api.DOMNotification;
+import org.opendaylight.mdsal.dom.api.DOMNotificationPublishService;
+
+/**
+ * Notification publish service waiting for free space in queues of notification router by a configured
+ * {@link WaitStrategy}. Notification router rejects offered notifications while a queue of any subscriber is full,
+ * blocking publish parks the publisher until a subscriber thread signals free space. This service retries rejected
+ * notifications first by busy spinning, then by parking for short intervals, and falls back to blocking publish
+ * of the router when both phases time out. Spinning reacts to free space within microseconds at the cost
+ * of a busy core, parking trades reaction time for CPU.
+ *
+ * <p>Non-blocking {@link #offerNotification(DOMNotification)} is passed to the router unchanged.
+ */
+public final class WaitStrategyDOMNotificationPublishService implements DOMNotificationPublishService {
+    static final long PARK_INTERVAL_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    /**
+     * Strategy of waiting for free space in full notification queues.
+     */
+    public enum WaitStrategy {
+        /**
+         * Publisher is blocked by the router until a queue has free space.
+         */
+        BLOCKING,
+        /**
+         * Publisher spins for spin time, then it is blocked by the router.
+         */
+        BUSY_SPIN,
+        /**
+         * Publisher spins for spin time, parks in short intervals for park time, then it is blocked by the router.
+         */
+        SPIN_THEN_PARK;
+
+        /**
+         * Select wait strategy for spin and park times. Without both times the publisher is blocked, without park
+         * time the publisher only spins.
+         *
+         * @param spinTime time of busy spinning
+         * @param parkTime time of parking after spinning
+         * @return wait strategy
+         */
+        public static WaitStrategy of(final long spinTime, final long parkTime) {
+            checkArgument(spinTime >= 0 && parkTime >= 0, "Spin time %s and park time %s must not be negative",
+                    spinTime, parkTime);
+            if (parkTime > 0) {
+                return SPIN_THEN_PARK;
+            }
+            return spinTime > 0 ? BUSY_SPIN : BLOCKING;
+        }
+    }
+
+    private final DOMNotificationPublishService delegate;
+    private final WaitStrategy strategy;
+    private final long spinNanos;
+    private final long parkNanos;
+    private final LongAdder spinning = new LongAdder();
+    private final LongAdder parking = new LongAdder();
+    private final LongAdder blocking = new LongAdder();
+
+    /**
+     * Create publish service waiting by strategy selected by {@link WaitStrategy#of(long, long)}.
+     *
+     * @param delegate publish service of notification router
+     * @param spinTime time of busy spinning
+     * @param parkTime time of parking after spinning
+     * @param unit unit of spin and park time
+     */
+    public WaitStrategyDOMNotificationPublishService(final DOMNotificationPublishService delegate,
+            final long spinTime, final long parkTime, final TimeUnit unit) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.strategy = WaitStrategy.of(spinTime, parkTime);
+        this.spinNanos = unit.toNanos(spinTime);
+        this.parkNanos = unit.toNanos(parkTime);
+    }
+
+    public WaitStrategy getStrategy() {
+        return strategy;
+    }
+
+    /**
+     * Get number of publishes which found a full queue and spun.
+     *
+     * @return number of spinning publishes
+     */
+    public long getSpinningCount() {
+        return spinning.sum();
+    }
+
+    public long getParkingCount() {
+        return parking.sum();
+    }
+
+    /**
+     * Get number of publishes which found a full queue after spinning and parking and were blocked by the router.
+     *
+     * @return number of blocked publishes
+     */
+    public long getBlockingCount() {
+        return blocking.sum();
+    }
+
+    @Override
+    public List<? extends Extension> supportedExtensions() {
+        return delegate.supportedExtensions();
+    }
+
+    @Override
+    public ListenableFuture<? extends Object> putNotification(final DOMNotification notification)
+            throws InterruptedException {
+        final ListenableFuture<? extends Object> result = offerWaiting(notification, Long.MAX_VALUE);
+        if (result != REJECTED) {
+            return result;
+        }
+        blocking.increment();
+        return delegate.putNotification(notification);
+    }
+
+    @Override
+    public ListenableFuture<? extends Object> offerNotification(final DOMNotification notification) {
+        return delegate.offerNotification(notification);
+    }
+
+    @Override
+    public ListenableFuture<? extends Object> offerNotification(final DOMNotification notification,
+            final long timeout, final TimeUnit unit) throws InterruptedException {
+        final long started = System.nanoTime();
+        final long timeoutNanos = unit.toNanos(timeout);
+        final ListenableFuture<? extends Object> result = offerWaiting(notification, timeoutNanos);
+        if (result != REJECTED) {
+            return result;
+        }
+        final long remaining = timeoutNanos - (System.nanoTime() - started);
+        if (remaining <= 0) {
+            return REJECTED;
+        }
+        blocking.increment();
+        return delegate.offerNotification(notification, remaining, TimeUnit.NANOSECONDS);
+    }
+
+    private ListenableFuture<? extends Object> offerWaiting(final DOMNotification notification,
+            final long maxWaitNanos) throws InterruptedException {
+        ListenableFuture<? extends Object> result = delegate.offerNotification(notification);
+        if (result != REJECTED || strategy == WaitStrategy.BLOCKING) {
+            return result;
+        }
+        final long started = System.nanoTime();
+        final long spinEnd = Math.min(spinNanos, maxWaitNanos);
+        final long parkEnd = Math.min(spinNanos + parkNanos, maxWaitNanos);
+        boolean parked = false;
+        spinning.increment();
+        while (result == REJECTED) {
+            final long elapsed = System.nanoTime() - started;
+            if (elapsed < spinEnd) {
+                Thread.onSpinWait();
+            } else if (elapsed < parkEnd) {
+                if (!parked) {
+                    parked = true;
+                    parking.increment();
+                }
+                LockSupport.parkNanos(this, Math.min(PARK_INTERVAL_NANOS, parkEnd - elapsed));
+                if (Thread.interrupted()) {
+                    throw new InterruptedException("Interrupted while waiting for notification queue");
+                }
+            } else {
+                break;
+            }
+            result = delegate.offerNotification(notification);
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s(spin=%dns, park=%dns): spinning=%d, parking=%d, blocking=%d", strategy, spinNanos,
+                parkNanos, getSpinningCount(), getParkingCount(), getBlockingCount());
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package io.lighty.core.controller.impl.util;
+
+import com.google.common.base.Stopwatch;
+import io.lighty.codecs.util.exception.DeserializationException;
+import io.lighty.core.common.models.YangModuleUtils;
+import io.lighty.core.controller.impl.util.FileToDatastoreUtils.ImportFileFormat;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import org.opendaylight.yangtools.binding.runtime.spi.ModuleInfoSnapshotResolver;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.codec.binfmt.NormalizedNodeDataInput;
+import org.opendaylight.yangtools.yang.data.codec.binfmt.NormalizedNodeDataOutput;
+import org.opendaylight.yangtools.yang.data.codec.binfmt.NormalizedNodeStreamVersion;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import org.opendaylight.yangtools.yang.parser.ri.DefaultYangParserFactory;
+import org.opendaylight.yangtools.yang.source.ir.DefaultYangTextToIRSourceTransformer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compact binary format of initial data, {@link ImportFileFormat#BINARY}. Data are stored in the NormalizedNode
+ * stream representation used by the distributed datastore for snapshots and replication, so reading them needs
+ * neither text parsing nor schema lookups of node names. File contains a header, path of the stored node
+ * and the node itself.
+ *
+ * <p>JSON and XML files are converted ahead of time by {@link #convert(InputStream, ImportFileFormat,
+ * YangInstanceIdentifier, EffectiveModelContext, OutputStream)} or from command line by {@link #main(String[])}.
+ * Files are read through memory mapping, so file content is not copied to the heap before it is decoded.
+ */
+public final class BinaryDataFormat {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BinaryDataFormat.class);
+    // "LBD" followed by version of this header
+    private static final int MAGIC = 0x4C424401;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private BinaryDataFormat() {
+        throw new UnsupportedOperationException("Init of utility class is forbidden");
+    }
+
+    /**
+     * Converts JSON or XML data file to binary data file.
+     *
+     * <p>Usage: {@code BinaryDataFormat <input file> <json|xml> <output file>}. Input file has to contain data
+     * of whole datastore, model context is built from all YANG models found on classpath.
+     *
+     * @param args input file, format of input file and output file
+     * @throws IOException              if reading or writing of files fails
+     * @throws DeserializationException if input file can't be deserialized
+     */
+    public static void main(final String[] args) throws IOException, DeserializationException {
+        if (args.length != 3) {
+            throw new IllegalArgumentException("Usage: BinaryDataFormat <input file> <json|xml> <output file>");
+        }
+        final ImportFileFormat inputFormat = ImportFileFormat.getFormatType(args[1]);
+        final ModuleInfoSnapshotResolver snapshotResolver = new ModuleInfoSnapshotResolver("binary-data-converter",
+                new DefaultYangTextToIRSourceTransformer(), new DefaultYangParserFactory());
+        snapshotResolver.registerModuleInfos(YangModuleUtils.getAllModelsFromClasspath());
+        final EffectiveModelContext modelContext = snapshotResolver.takeSnapshot().modelContext();
+
+        try (InputStream input = Files.newInputStream(Paths.get(args[0]));
+                OutputStream output = Files.newOutputStream(Paths.get(args[2]))) {
+            convert(input, inputFormat, YangInstanceIdentifier.of(), modelContext, output);
+        }
+    }
+
+    /**
+     * Converts JSON or XML data to binary format. Input stream is closed, output stream is flushed but not closed.
+     *
+     * @param inputStream            stream of JSON or XML data
+     * @param inputFormat            format of input data (XML/JSON)
+     * @param yangInstanceIdentifier path of the converted node
+     * @param effectiveModelContext  model context of the data
+     * @param outputStream           target stream
+     * @throws IOException              if reading or writing fails
+     * @throws DeserializationException if input data can't be deserialized
+     */
+    public static void convert(final InputStream inputStream, final ImportFileFormat inputFormat,
+            final YangInstanceIdentifier yangInstanceIdentifier, final EffectiveModelContext effectiveModelContext,
+            final OutputStream outputStream) throws IOException, DeserializationException {
+        if (inputFormat == ImportFileFormat.BINARY) {
+            throw new IllegalArgumentException("Input data are already in binary format");
+        }
+        final Stopwatch stopwatch = Stopwatch.createStarted();
+        final NormalizedNode data = FileToDatastoreUtils.deserialize(inputStream, yangInstanceIdentifier,
+                inputFormat, effectiveModelContext);
+        write(outputStream, yangInstanceIdentifier, data);
+        LOG.info("Data at {} converted from {} to binary format in {}", yangInstanceIdentifier, inputFormat,
+                stopwatch.stop());
+    }
+
+    /**
+     * Writes node in binary format. Output stream is flushed but not closed.
+     *
+     * @param outputStream           target stream
+     * @param yangInstanceIdentifier path of the written node
+     * @param data                   written node
+     * @throws IOException if writing fails
+     */
+    public static void write(final OutputStream outputStream, final YangInstanceIdentifier yangInstanceIdentifier,
+            final NormalizedNode data) throws IOException {
+        final DataOutputStream dataOutput = new DataOutputStream(new BufferedOutputStream(outputStream, BUFFER_SIZE));
+        dataOutput.writeInt(MAGIC);
+        final NormalizedNodeDataOutput nodeOutput = NormalizedNodeStreamVersion.current().newDataOutput(dataOutput);
+        nodeOutput.writeYangInstanceIdentifier(yangInstanceIdentifier);
+        nodeOutput.writeNormalizedNode(data);
+        nodeOutput.flush();
+        dataOutput.flush();
+    }
+
+    /**
+     * Reads node in binary format from file. File is memory mapped.
+     *
+     * @param file                   binary data file
+     * @param yangInstanceIdentifier expected path of the node
+     * @return read node
+     * @throws IOException              if reading of the file fails
+     * @throws DeserializationException if file is not binary data file or contains node at different path
+     */
+    public static NormalizedNode read(final Path file, final YangInstanceIdentifier yangInstanceIdentifier)
+            throws IOException, DeserializationException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return read(channel, yangInstanceIdentifier);
+        }
+    }
+
+    /**
+     * Reads node in binary format from input stream. Remaining content of file input streams is memory mapped,
+     * other streams are buffered. Input stream is not closed.
+     *
+     * @param inputStream            stream of binary data
+     * @param yangInstanceIdentifier expected path of the node
+     * @return read node
+     * @throws IOException              if reading of the stream fails
+     * @throws DeserializationException if stream does not contain binary data or contains node at different path
+     */
+    public static NormalizedNode read(final InputStream inputStream,
+            final YangInstanceIdentifier yangInstanceIdentifier) throws IOException, DeserializationException {
+        if (inputStream instanceof FileInputStream) {
+            return read(((FileInputStream) inputStream).getChannel(), yangInstanceIdentifier);
+        }
+        return readData(new BufferedInputStream(inputStream, BUFFER_SIZE), yangInstanceIdentifier);
+    }
+
+    private static NormalizedNode read(final FileChannel channel, final YangInstanceIdentifier yangInstanceIdentifier)
+            throws IOException, DeserializationException {
+        final Stopwatch stopwatch = Stopwatch.createStarted();
+        final long size = channel.size() - channel.position();
+        final NormalizedNode data = readData(new MappedFileInputStream(channel), yangInstanceIdentifier);
+        LOG.debug("{} bytes of binary data at {} read in {}", size, yangInstanceIdentifier, stopwatch.stop());
+        return data;
+    }
+
+    private static NormalizedNode readData(final InputStream inputStream,
+            final YangInstanceIdentifier yangInstanceIdentifier) throws IOException, DeserializationException {
+        final DataInputStream dataInput = new DataInputStream(inputStream);
+        final int magic = dataInput.readInt();
+        if (magic != MAGIC) {
+            throw new DeserializationException(new IOException(String.format(
+                    "Data are not in binary format, unexpected header %08x", magic)));
+        }
+        final NormalizedNodeDataInput nodeInput = NormalizedNodeDataInput.newDataInput(dataInput);
+        final YangInstanceIdentifier storedIdentifier = nodeInput.readYangInstanceIdentifier();
+        if (!storedIdentifier.equals(yangInstanceIdentifier)) {
+            throw new DeserializationException(new IllegalArgumentException(String.format(
+                    "Binary data contain node at %s, expected %s", storedIdentifier, yangInstanceIdentifier)));
+        }
+        return nodeInput.readNormalizedNode();
+    }
+}
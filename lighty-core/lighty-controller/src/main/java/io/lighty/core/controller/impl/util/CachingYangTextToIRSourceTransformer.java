@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package io.lighty.core.controller.impl.util;
+
+import com.google.common.hash.Hashing;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Objects;
+import java.util.Optional;
+import org.opendaylight.yangtools.yang.ir.IOSupport;
+import org.opendaylight.yangtools.yang.ir.IRStatement;
+import org.opendaylight.yangtools.yang.model.api.source.SourceIdentifier;
+import org.opendaylight.yangtools.yang.model.api.source.SourceSyntaxException;
+import org.opendaylight.yangtools.yang.model.api.source.YangTextSource;
+import org.opendaylight.yangtools.yang.model.spi.source.YangIRSource;
+import org.opendaylight.yangtools.yang.model.spi.source.YangTextToIRSourceTransformer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Transformer of YANG text sources to IR sources persisting transformed sources in a directory. Sources are stored
+ * under digest of their identifier and YANG text, so a source is parsed from text only once across controller
+ * and JVM restarts, and a changed YANG text is always parsed again. Unreadable files are ignored and replaced.
+ */
+public final class CachingYangTextToIRSourceTransformer implements YangTextToIRSourceTransformer {
+    static final String FILE_SUFFIX = ".ir";
+
+    private static final Logger LOG = LoggerFactory.getLogger(CachingYangTextToIRSourceTransformer.class);
+    // "LIR" followed by version of this header
+    private static final int MAGIC = 0x4C495201;
+
+    private final YangTextToIRSourceTransformer delegate;
+    private final Path directory;
+
+    /**
+     * Create transformer persisting IR sources.
+     *
+     * @param delegate  transformer parsing YANG text sources not found in directory
+     * @param directory directory of persisted IR sources, created if it does not exist
+     */
+    public CachingYangTextToIRSourceTransformer(final YangTextToIRSourceTransformer delegate, final Path directory) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.directory = Objects.requireNonNull(directory);
+    }
+
+    @Override
+    public YangIRSource transformSource(final YangTextSource source) throws SourceSyntaxException {
+        final String text;
+        try {
+            text = source.read();
+        } catch (IOException e) {
+            LOG.debug("Failed to read YANG source {}, transforming it without cache", source.sourceId(), e);
+            return delegate.transformSource(source);
+        }
+        final Path file = directory.resolve(digest(source.sourceId(), text) + FILE_SUFFIX);
+        final Optional<IRStatement> cached = read(file);
+        if (cached.isPresent()) {
+            LOG.trace("YANG source {} read from {}", source.sourceId(), file);
+            return new YangIRSource(source.sourceId(), cached.get(), source.symbolicName());
+        }
+        final YangIRSource transformed = delegate.transformSource(source);
+        write(file, transformed.statement());
+        return transformed;
+    }
+
+    /**
+     * Compute digest under which IR of YANG source is stored.
+     *
+     * @param sourceId identifier of source
+     * @param text     YANG text of source
+     * @return hex encoded SHA-256 digest
+     */
+    public static String digest(final SourceIdentifier sourceId, final String text) {
+        return Hashing.sha256().hashString(sourceId + "\n" + text, StandardCharsets.UTF_8).toString();
+    }
+
+    private static Optional<IRStatement> read(final Path file) {
+        if (!Files.isRegularFile(file)) {
+            return Optional.empty();
+        }
+        try {
+            return readStatement(Files.newInputStream(file), file);
+        } catch (IOException e) {
+            LOG.warn("Ignoring unreadable persisted IR source {}", file, e);
+            return Optional.empty();
+        }
+    }
+
+    private void write(final Path file, final IRStatement statement) {
+        try {
+            writeStatement(file, statement);
+        } catch (IOException e) {
+            LOG.warn("Failed to persist IR source to {}", file, e);
+        }
+    }
+
+    /**
+     * Read IR statement persisted by {@link #writeStatement(Path, IRStatement)}. Input stream is closed.
+     *
+     * @param inputStream stream of persisted IR source
+     * @param location    location of persisted IR source, for logging
+     * @return IR statement, empty if the stream does not contain a readable IR source
+     */
+    static Optional<IRStatement> readStatement(final InputStream inputStream, final Object location) {
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(inputStream))) {
+            if (input.readInt() != MAGIC) {
+                LOG.warn("Ignoring {}, it is not a persisted IR source", location);
+                return Optional.empty();
+            }
+            return Optional.of(IOSupport.readStatement(input));
+        } catch (IOException | IllegalArgumentException e) {
+            LOG.warn("Ignoring unreadable persisted IR source {}", location, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Persist IR statement to file, creating parent directories if needed.
+     *
+     * @param file      target file
+     * @param statement persisted IR statement
+     * @throws IOException if writing fails
+     */
+    static void writeStatement(final Path file, final IRStatement statement) throws IOException {
+        final Path parent = file.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        // written to a temporary file first, a concurrently starting controller never reads a partial file
+        final Path tmpFile = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+        try {
+            try (OutputStream outputStream = Files.newOutputStream(tmpFile);
+                    DataOutputStream output = new DataOutputStream(new BufferedOutputStream(outputStream))) {
+                output.writeInt(MAGIC);
+                IOSupport.writeStatement(output, statement);
+            }
+            Files.move(tmpFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tmpFile);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "CachingYangTextToIRSourceTransformer(" + directory + ", " + delegate + ")";
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package io.lighty.core.controller.impl.util;
+
+import com.google.common.base.Stopwatch;
+import com.google.common.io.CountingOutputStream;
+import io.lighty.codecs.util.ConverterUtils;
+import io.lighty.codecs.util.JsonNodeConverter;
+import io.lighty.codecs.util.NodeConverter;
+import io.lighty.codecs.util.XmlNodeConverter;
+import io.lighty.codecs.util.exception.SerializationException;
+import io.lighty.core.controller.impl.util.FileToDatastoreUtils.ImportFileFormat;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.zip.GZIPOutputStream;
+import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
+import org.opendaylight.mdsal.dom.api.DOMDataBroker;
+import org.opendaylight.mdsal.dom.api.DOMDataTreeReadTransaction;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Exports datastore data to files in the format accepted by {@link FileToDatastoreUtils}. Data are read
+ * in a single read-only transaction, so the export is a consistent snapshot of the subtree. Read data are shared
+ * with the datastore and serialized directly to the output, so no serialized copy of the data is kept in memory.
+ */
+public final class DatastoreToFileUtils {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DatastoreToFileUtils.class);
+    public static final long EXPORT_TIMEOUT_MILLIS = 60_000;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private DatastoreToFileUtils() {
+        throw new UnsupportedOperationException("Init of utility class is forbidden");
+    }
+
+    /**
+     * Exports data of the given subtree to file. Existing file is replaced, file content is forced to the storage
+     * device before this method returns.
+     *
+     * @param file                   target file
+     * @param yangInstanceIdentifier path of exported subtree, root exports whole datastore
+     * @param datastoreType          datastore to export
+     * @param fileFormat             format of file (XML/JSON/BINARY)
+     * @param effectiveModelContext  current model context
+     * @param dataBroker             dataBroker
+     * @param gzip                   compress file by gzip
+     * @return number of bytes written to the file, zero if there is no data at the given path
+     * @throws IOException            if writing of the file fails
+     * @throws SerializationException if serialization of data fails
+     * @throws InterruptedException   if interrupted while reading data from datastore
+     * @throws ExecutionException     if something goes wrong while reading data from datastore
+     * @throws TimeoutException       if data are not read in {@link #EXPORT_TIMEOUT_MILLIS}
+     */
+    public static long exportDataFile(final Path file, final YangInstanceIdentifier yangInstanceIdentifier,
+            final LogicalDatastoreType datastoreType, final ImportFileFormat fileFormat,
+            final EffectiveModelContext effectiveModelContext, final DOMDataBroker dataBroker, final boolean gzip)
+            throws IOException, SerializationException, InterruptedException, ExecutionException, TimeoutException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            final long bytesWritten = exportData(Channels.newOutputStream(channel), yangInstanceIdentifier,
+                    datastoreType, fileFormat, effectiveModelContext, dataBroker, gzip);
+            channel.force(true);
+            return bytesWritten;
+        }
+    }
+
+    /**
+     * Exports data of the given subtree to output stream. Output stream is flushed but not closed.
+     *
+     * @param outputStream           target stream
+     * @param yangInstanceIdentifier path of exported subtree, root exports whole datastore
+     * @param datastoreType          datastore to export
+     * @param fileFormat             format of output (XML/JSON/BINARY)
+     * @param effectiveModelContext  current model context
+     * @param dataBroker             dataBroker
+     * @param gzip                   compress output by gzip
+     * @return number of bytes written to the output stream, zero if there is no data at the given path
+     * @throws IOException            if writing to the output stream fails
+     * @throws SerializationException if serialization of data fails
+     * @throws InterruptedException   if interrupted while reading data from datastore
+     * @throws ExecutionException     if something goes wrong while reading data from datastore
+     * @throws TimeoutException       if data are not read in {@link #EXPORT_TIMEOUT_MILLIS}
+     */
+    public static long exportData(final OutputStream outputStream, final YangInstanceIdentifier yangInstanceIdentifier,
+            final LogicalDatastoreType datastoreType, final ImportFileFormat fileFormat,
+            final EffectiveModelContext effectiveModelContext, final DOMDataBroker dataBroker, final boolean gzip)
+            throws IOException, SerializationException, InterruptedException, ExecutionException, TimeoutException {
+        final NodeConverter nodeConverter;
+        if (fileFormat == ImportFileFormat.JSON) {
+            nodeConverter = new JsonNodeConverter(effectiveModelContext);
+        } else if (fileFormat == ImportFileFormat.XML) {
+            nodeConverter = new XmlNodeConverter(effectiveModelContext);
+        } else if (fileFormat == ImportFileFormat.BINARY) {
+            nodeConverter = null;
+        } else {
+            throw new UnsupportedOperationException("Format of exported data is not recognized");
+        }
+
+        final Optional<NormalizedNode> data;
+        try (DOMDataTreeReadTransaction readTx = dataBroker.newReadOnlyTransaction()) {
+            data = readTx.read(datastoreType, yangInstanceIdentifier).get(EXPORT_TIMEOUT_MILLIS,
+                    TimeUnit.MILLISECONDS);
+        }
+        if (data.isEmpty()) {
+            LOG.warn("There are no {} data to export at {}", datastoreType, yangInstanceIdentifier);
+            return 0;
+        }
+
+        final Stopwatch stopwatch = Stopwatch.createStarted();
+        final YangInstanceIdentifier parentIdentifier = yangInstanceIdentifier.getParent() != null
+                ? yangInstanceIdentifier.getParent()
+                : YangInstanceIdentifier.of();
+        final CountingOutputStream countingStream = new CountingOutputStream(outputStream);
+        final GZIPOutputStream gzipStream = gzip ? new GZIPOutputStream(countingStream, BUFFER_SIZE) : null;
+        final OutputStream targetStream = gzipStream != null ? gzipStream : countingStream;
+        if (nodeConverter == null) {
+            BinaryDataFormat.write(targetStream, yangInstanceIdentifier, data.get());
+        } else {
+            final Writer writer = new BufferedWriter(new OutputStreamWriter(targetStream, StandardCharsets.UTF_8),
+                    BUFFER_SIZE);
+            nodeConverter.serializeData(ConverterUtils.toInference(parentIdentifier, effectiveModelContext),
+                    data.get(), writer);
+            writer.flush();
+        }
+        if (gzipStream != null) {
+            gzipStream.finish();
+        }
+        countingStream.flush();
+        LOG.info("Exported {} data at {} in {}, {} bytes written", datastoreType, yangInstanceIdentifier,
+                stopwatch.stop(), countingStream.getCount());
+        return countingStream.getCount();
+    }
+}
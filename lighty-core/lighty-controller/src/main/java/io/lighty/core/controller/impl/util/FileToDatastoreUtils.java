@@ -59,25 +59,10 @@ public final class FileToDatastoreUtils {
             final DOMDataBroker dataBroker, final boolean override)
             throws IOException, DeserializationException, InterruptedException, ExecutionException, TimeoutException {
 
-        try (Reader inputReader = new InputStreamReader(inputStream, StandardCharsets.UTF_8)) {
-            final NormalizedNode deserializedNode;
-            if (fileFormat == ImportFileFormat.JSON) {
-                // Json deserialization needs parent identifier
-                final YangInstanceIdentifier parentIdentifier = yangInstanceIdentifier.getParent() != null
-                        ? yangInstanceIdentifier.getParent()
-                        : YangInstanceIdentifier.of();
-                deserializedNode = new JsonNodeConverter(effectiveModelContext)
-                        .deserialize(parentIdentifier, inputReader);
-            } else if (fileFormat == ImportFileFormat.XML) {
-                deserializedNode = new XmlNodeConverter(effectiveModelContext)
-                        .deserialize(yangInstanceIdentifier, inputReader);
-            } else {
-                throw new UnsupportedOperationException("Format of config data file is not recognized");
-            }
-
-            LOG.debug("Normalized nodes loaded from file {}: {}", inputStream, deserializedNode);
-            writeNodes(deserializedNode, yangInstanceIdentifier, dataBroker, override);
-        }
+        final NormalizedNode deserializedNode = deserialize(inputStream, yangInstanceIdentifier, fileFormat,
+                effectiveModelContext);
+        LOG.debug("Normalized nodes loaded from file {}: {}", inputStream, deserializedNode);
+        writeNodes(deserializedNode, yangInstanceIdentifier, dataBroker, override);
     }
 
     /**
@@ -108,6 +93,90 @@ public final class FileToDatastoreUtils {
                 override);
     }
 
+    /**
+     * Imports input stream containing serialized normalized node data into config datastore in batches committed
+     * on transaction chain, see {@link StreamingDataImporter}. Input is never loaded into memory as a whole,
+     * so this method is suitable for files too large to be imported by
+     * {@link #importConfigDataFile(InputStream, ImportFileFormat, EffectiveModelContext, DOMDataBroker, boolean)}.
+     *
+     * @param inputStream           stream of serialized data
+     * @param fileFormat            format of file (XML/JSON)
+     * @param effectiveModelContext current model context
+     * @param dataBroker            dataBroker
+     * @param override              override current content of imported top level nodes
+     *                              (true = PUT, false = MERGE)
+     * @param batchSize             maximal number of list entries or other nodes in one transaction
+     * @param maxInFlightCommits    maximal number of pending commits
+     * @return statistics of import
+     * @throws IOException              if something goes wrong with file (not found, corrupted etc..)
+     * @throws DeserializationException if deserialization of file data to normalized node fails
+     * @throws InterruptedException     if interrupted while committing changes to datastore
+     * @throws ExecutionException       if something goes wrong while committing changes to datastore
+     * @throws TimeoutException         if something goes wrong while committing changes to datastore
+     */
+    public static StreamingDataImporter.ImportStatistics importConfigDataFileStreaming(final InputStream inputStream,
+            final ImportFileFormat fileFormat, final EffectiveModelContext effectiveModelContext,
+            final DOMDataBroker dataBroker, final boolean override, final int batchSize, final int maxInFlightCommits)
+            throws IOException, DeserializationException, InterruptedException, ExecutionException, TimeoutException {
+        return new StreamingDataImporter(effectiveModelContext, dataBroker, LogicalDatastoreType.CONFIGURATION,
+                batchSize, maxInFlightCommits).importData(inputStream, fileFormat, override);
+    }
+
+    /**
+     * Writes input stream containing serialized normalized node data into config datastore as a difference
+     * against current content of config datastore, see {@link IncrementalDataWriter}. Unchanged data are not
+     * written, so data tree change listeners are notified only about really changed data.
+     *
+     * @param inputStream            stream of serialized node to deserialize
+     * @param yangInstanceIdentifier yang instance identifier of the node to deserialize
+     * @param fileFormat             format of file (XML/JSON)
+     * @param effectiveModelContext  current model context
+     * @param dataBroker             dataBroker
+     * @param override               delete current data missing in the file (true = PUT, false = MERGE)
+     * @return statistics of applied changes
+     * @throws IOException              if something goes wrong with file (not found, corrupted etc..)
+     * @throws DeserializationException if deserialization of file data to normalized node fails
+     * @throws InterruptedException     if interrupted while reading or committing data
+     * @throws ExecutionException       if something goes wrong while reading or committing data
+     * @throws TimeoutException         if something goes wrong while reading or committing data
+     */
+    public static IncrementalDataWriter.DiffStatistics importConfigDataFileIncremental(final InputStream inputStream,
+            final YangInstanceIdentifier yangInstanceIdentifier, final ImportFileFormat fileFormat,
+            final EffectiveModelContext effectiveModelContext, final DOMDataBroker dataBroker, final boolean override)
+            throws IOException, DeserializationException, InterruptedException, ExecutionException, TimeoutException {
+        final NormalizedNode deserializedNode = deserialize(inputStream, yangInstanceIdentifier, fileFormat,
+                effectiveModelContext);
+        return IncrementalDataWriter.write(dataBroker, LogicalDatastoreType.CONFIGURATION, yangInstanceIdentifier,
+                deserializedNode, override);
+    }
+
+    /**
+     * Deserializes input stream containing serialized normalized node data. Input stream is closed by this method.
+     */
+    static NormalizedNode deserialize(final InputStream inputStream,
+            final YangInstanceIdentifier yangInstanceIdentifier, final ImportFileFormat fileFormat,
+            final EffectiveModelContext effectiveModelContext)
+            throws IOException, DeserializationException {
+        if (fileFormat == ImportFileFormat.BINARY) {
+            try (InputStream binaryStream = inputStream) {
+                return BinaryDataFormat.read(binaryStream, yangInstanceIdentifier);
+            }
+        }
+        try (Reader inputReader = new InputStreamReader(inputStream, StandardCharsets.UTF_8)) {
+            if (fileFormat == ImportFileFormat.JSON) {
+                // Json deserialization needs parent identifier
+                final YangInstanceIdentifier parentIdentifier = yangInstanceIdentifier.getParent() != null
+                        ? yangInstanceIdentifier.getParent()
+                        : YangInstanceIdentifier.of();
+                return new JsonNodeConverter(effectiveModelContext).deserialize(parentIdentifier, inputReader);
+            } else if (fileFormat == ImportFileFormat.XML) {
+                return new XmlNodeConverter(effectiveModelContext).deserialize(yangInstanceIdentifier, inputReader);
+            } else {
+                throw new UnsupportedOperationException("Format of config data file is not recognized");
+            }
+        }
+    }
+
     private static void writeNodes(final NormalizedNode nodes, final YangInstanceIdentifier instanceIdentifier,
             final DOMDataBroker dataBroker, final boolean override)
             throws InterruptedException, ExecutionException, TimeoutException {
@@ -122,7 +191,8 @@ public final class FileToDatastoreUtils {
 
     public enum ImportFileFormat {
         JSON("json"),
-        XML("xml");
+        XML("xml"),
+        BINARY("binary");
 
         private final String fileFormat;
 
@@ -141,8 +211,8 @@ public final class FileToDatastoreUtils {
                     return formatType;
                 }
             }
-            throw new IllegalStateException(String.format("Format %s is not supported, valid options: xml, json",
-                    inputtedFormat));
+            throw new IllegalStateException(String.format(
+                    "Format %s is not supported, valid options: xml, json, binary", inputtedFormat));
         }
     }
 
@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package io.lighty.core.controller.impl.util;
+
+import com.google.common.util.concurrent.FluentFuture;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.mdsal.common.api.CommitInfo;
+import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
+import org.opendaylight.mdsal.dom.api.DOMDataBroker;
+import org.opendaylight.mdsal.dom.api.DOMDataTreeReadWriteTransaction;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
+import org.opendaylight.yangtools.yang.data.api.schema.DistinctNodeContainer;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.api.schema.OrderedNodeContainer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Writes data into datastore as a difference against current datastore content. Current data are read
+ * in the same read-write transaction and compared with written data, only changed subtrees are written
+ * and, when overriding, subtrees missing in written data are deleted. Unchanged data are not written at all,
+ * so re-applying the same data produces no transaction and no data tree change notifications.
+ *
+ * <p>Containers, map entries, choices and lists and leaf-lists ordered by system are compared child by child.
+ * Other nodes, including lists and leaf-lists ordered by user, are replaced as a whole when they differ.
+ */
+public final class IncrementalDataWriter {
+
+    private static final Logger LOG = LoggerFactory.getLogger(IncrementalDataWriter.class);
+
+    private IncrementalDataWriter() {
+        throw new UnsupportedOperationException("Init of utility class is forbidden");
+    }
+
+    /**
+     * Write difference between current content of datastore and given data.
+     *
+     * @param dataBroker    data broker
+     * @param datastoreType datastore to write data to
+     * @param path          path of written node
+     * @param data          written node
+     * @param override      delete current data missing in written node (true = PUT, false = MERGE semantics)
+     * @return statistics of applied changes
+     * @throws InterruptedException if interrupted while reading or committing data
+     * @throws ExecutionException   if reading or commit of data fails
+     * @throws TimeoutException     if reading or commit is not finished in
+     *                              {@link FileToDatastoreUtils#IMPORT_TIMEOUT_MILLIS}
+     */
+    public static DiffStatistics write(final DOMDataBroker dataBroker, final LogicalDatastoreType datastoreType,
+            final YangInstanceIdentifier path, final NormalizedNode data, final boolean override)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        final DOMDataTreeReadWriteTransaction transaction = dataBroker.newReadWriteTransaction();
+        final DiffStatistics statistics = new DiffStatistics();
+        final FluentFuture<? extends CommitInfo> commitFuture;
+        boolean committed = false;
+        try {
+            final Optional<NormalizedNode> current = transaction.read(datastoreType, path)
+                    .get(FileToDatastoreUtils.IMPORT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+            writeDifference(transaction, datastoreType, path, current.orElse(null), data, override, statistics);
+            if (statistics.getChangedNodes() == 0) {
+                LOG.debug("Data at {} are not changed, nothing to write", path);
+                return statistics;
+            }
+            commitFuture = transaction.commit();
+            committed = true;
+        } finally {
+            if (!committed) {
+                transaction.cancel();
+            }
+        }
+        commitFuture.get(FileToDatastoreUtils.IMPORT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        LOG.info("Data at {} written incrementally: {}", path, statistics);
+        return statistics;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void writeDifference(final DOMDataTreeReadWriteTransaction transaction,
+            final LogicalDatastoreType datastoreType, final YangInstanceIdentifier path,
+            final @Nullable NormalizedNode current, final NormalizedNode data, final boolean override,
+            final DiffStatistics statistics) {
+        if (current == null) {
+            transaction.put(datastoreType, path, data);
+            statistics.writes++;
+            return;
+        }
+        if (current.equals(data)) {
+            return;
+        }
+        if (data instanceof DistinctNodeContainer && current instanceof DistinctNodeContainer
+                && !(data instanceof OrderedNodeContainer)) {
+            final DistinctNodeContainer<PathArgument, NormalizedNode> dataContainer =
+                    (DistinctNodeContainer<PathArgument, NormalizedNode>) data;
+            final DistinctNodeContainer<PathArgument, NormalizedNode> currentContainer =
+                    (DistinctNodeContainer<PathArgument, NormalizedNode>) current;
+            for (NormalizedNode child : dataContainer.body()) {
+                writeDifference(transaction, datastoreType, path.node(child.name()),
+                        currentContainer.childByArg(child.name()), child, override, statistics);
+            }
+            if (override) {
+                for (NormalizedNode child : currentContainer.body()) {
+                    if (dataContainer.childByArg(child.name()) == null) {
+                        transaction.delete(datastoreType, path.node(child.name()));
+                        statistics.deletes++;
+                    }
+                }
+            }
+            return;
+        }
+        if (override) {
+            transaction.put(datastoreType, path, data);
+        } else {
+            transaction.merge(datastoreType, path, data);
+        }
+        statistics.writes++;
+    }
+
+    /**
+     * Number of write and delete operations applied by incremental write.
+     */
+    public static final class DiffStatistics {
+        private long writes;
+        private long deletes;
+
+        DiffStatistics() {
+            // created by IncrementalDataWriter
+        }
+
+        /**
+         * Get number of written subtrees.
+         *
+         * @return number of put or merge operations
+         */
+        public long getWrites() {
+            return writes;
+        }
+
+        /**
+         * Get number of deleted subtrees.
+         *
+         * @return number of delete operations
+         */
+        public long getDeletes() {
+            return deletes;
+        }
+
+        public long getChangedNodes() {
+            return writes + deletes;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d subtrees written, %d subtrees deleted", writes, deletes);
+        }
+    }
+}
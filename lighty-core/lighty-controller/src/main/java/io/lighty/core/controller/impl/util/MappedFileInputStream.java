@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package io.lighty.core.controller.impl.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * Input stream reading remaining content of file channel through read-only memory mapped regions. Files larger
+ * than a single mapping are mapped region by region.
+ */
+final class MappedFileInputStream extends InputStream {
+    private static final long MAX_MAPPED_REGION = 1L << 30;
+
+    private final FileChannel channel;
+    private final long end;
+    private long nextRegionStart;
+    private MappedByteBuffer region;
+
+    MappedFileInputStream(final FileChannel channel) throws IOException {
+        this.channel = channel;
+        this.end = channel.size();
+        this.nextRegionStart = channel.position();
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (!ensureRemaining()) {
+            return -1;
+        }
+        return region.get() & 0xFF;
+    }
+
+    @Override
+    public int read(final byte[] bytes, final int offset, final int length) throws IOException {
+        if (length == 0) {
+            return 0;
+        }
+        if (!ensureRemaining()) {
+            return -1;
+        }
+        final int count = Math.min(length, region.remaining());
+        region.get(bytes, offset, count);
+        return count;
+    }
+
+    @Override
+    public int available() {
+        return region != null ? region.remaining() : 0;
+    }
+
+    private boolean ensureRemaining() throws IOException {
+        if (region != null && region.hasRemaining()) {
+            return true;
+        }
+        if (nextRegionStart >= end) {
+            return false;
+        }
+        final long regionSize = Math.min(MAX_MAPPED_REGION, end - nextRegionStart);
+        region = channel.map(FileChannel.MapMode.READ_ONLY, nextRegionStart, regionSize);
+        nextRegionStart += regionSize;
+        return true;
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package io.lighty.core.controller.impl.util;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import org.opendaylight.yangtools.binding.meta.YangModuleInfo;
+import org.opendaylight.yangtools.binding.runtime.api.BindingRuntimeTypes;
+import org.opendaylight.yangtools.binding.runtime.api.ModuleInfoSnapshot;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Cache of resolved model sets shared by all {@link io.lighty.core.controller.api.LightyController} instances
+ * in the JVM. Resolved {@link ModuleInfoSnapshot} and generated {@link BindingRuntimeTypes} are keyed by
+ * fingerprint of the complete model set, so controller restarted with the same models skips YANG parsing
+ * and binding runtime type generation.
+ *
+ * <p>At most {@value #MAX_MODEL_SETS} model sets are kept, least recently used ones are evicted first. Cached
+ * model sets are softly referenced, so they are also released when the JVM runs low on memory.
+ */
+public final class ModelSetCache {
+    public static final int MAX_MODEL_SETS = 4;
+
+    private static final Logger LOG = LoggerFactory.getLogger(ModelSetCache.class);
+    private static final Cache<String, CachedModelSet> CACHE = CacheBuilder.newBuilder()
+            .maximumSize(MAX_MODEL_SETS)
+            .softValues()
+            .build();
+
+    private ModelSetCache() {
+        throw new UnsupportedOperationException("Init of utility class is forbidden");
+    }
+
+    /**
+     * Compute fingerprint of model set. Fingerprint covers all modules including transitively imported ones
+     * (namespace, name, revision, binding class and digest of YANG text) and all registered feature providers.
+     * It does not depend on iteration order of input collections.
+     *
+     * @param models           top level models
+     * @param featureProviders feature providers registered to schema context
+     * @return hex encoded SHA-256 fingerprint
+     * @throws UncheckedIOException if YANG text of a module can't be read
+     */
+    public static String fingerprint(final Collection<? extends YangModuleInfo> models,
+            final Collection<?> featureProviders) {
+        final Set<String> entries = new TreeSet<>();
+        final Set<YangModuleInfo> visited = new HashSet<>();
+        final Deque<YangModuleInfo> toVisit = new ArrayDeque<>(models);
+        while (!toVisit.isEmpty()) {
+            final YangModuleInfo moduleInfo = toVisit.pop();
+            if (visited.add(moduleInfo)) {
+                final QName name = moduleInfo.getName();
+                entries.add("module " + name.getNamespace() + " " + name.getLocalName() + " "
+                        + name.getRevision().map(Object::toString).orElse("") + " "
+                        + moduleInfo.getClass().getName() + " " + sourceDigest(moduleInfo));
+                toVisit.addAll(moduleInfo.getImportedModules());
+            }
+        }
+        for (Object featureProvider : featureProviders) {
+            entries.add("features " + featureProvider.getClass().getName());
+        }
+        return Hashing.sha256().hashString(String.join("\n", entries), StandardCharsets.UTF_8).toString();
+    }
+
+    /**
+     * Find cached model set.
+     *
+     * @param fingerprint fingerprint of model set computed by {@link #fingerprint(Collection, Collection)}
+     * @return cached model set if present
+     */
+    public static Optional<CachedModelSet> lookup(final String fingerprint) {
+        final CachedModelSet cached = CACHE.getIfPresent(fingerprint);
+        LOG.debug("Model set {} cache {}", fingerprint, cached != null ? "hit" : "miss");
+        return Optional.ofNullable(cached);
+    }
+
+    /**
+     * Store resolved model set.
+     *
+     * @param fingerprint         fingerprint of model set computed by {@link #fingerprint(Collection, Collection)}
+     * @param moduleInfoSnapshot  resolved module info snapshot
+     * @param bindingRuntimeTypes binding runtime types generated from snapshot model context
+     */
+    public static void store(final String fingerprint, final ModuleInfoSnapshot moduleInfoSnapshot,
+            final BindingRuntimeTypes bindingRuntimeTypes) {
+        CACHE.put(fingerprint, new CachedModelSet(moduleInfoSnapshot, bindingRuntimeTypes));
+    }
+
+    /**
+     * Drop all cached model sets.
+     */
+    public static void clear() {
+        CACHE.invalidateAll();
+    }
+
+    private static String sourceDigest(final YangModuleInfo moduleInfo) {
+        try {
+            return Hashing.sha256().hashString(moduleInfo.getYangTextSource().read(), StandardCharsets.UTF_8)
+                    .toString();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read YANG text of " + moduleInfo.getName(), e);
+        }
+    }
+
+    public static final class CachedModelSet {
+        private final ModuleInfoSnapshot moduleInfoSnapshot;
+        private final BindingRuntimeTypes bindingRuntimeTypes;
+
+        CachedModelSet(final ModuleInfoSnapshot moduleInfoSnapshot, final BindingRuntimeTypes bindingRuntimeTypes) {
+            this.moduleInfoSnapshot = Objects.requireNonNull(moduleInfoSnapshot);
+            this.bindingRuntimeTypes = Objects.requireNonNull(bindingRuntimeTypes);
+        }
+
+        public ModuleInfoSnapshot getModuleInfoSnapshot() {
+            return moduleInfoSnapshot;
+        }
+
+        public BindingRuntimeTypes getBindingRuntimeTypes() {
+            return bindingRuntimeTypes;
+        }
+    }
+}
@@ -0,0 +1,477 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package io.lighty.core.controller.impl.util;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.MoreExecutors;
+import io.lighty.core.controller.api.ExecutionPolicy;
+import io.lighty.core.controller.impl.util.FileToDatastoreUtils.ImportFileFormat;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.opendaylight.mdsal.common.api.CommitInfo;
+import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
+import org.opendaylight.mdsal.dom.api.DOMDataBroker;
+import org.opendaylight.mdsal.dom.api.DOMDataTreeWriteTransaction;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Imports several data files concurrently. At most pool size files are parsed or written by blocking writers at the
+ * same time, also when {@link ExecutionPolicy} runs every task on its own virtual thread, and every file is written
+ * in its own transaction. Files are ordered: when target subtrees of two files overlap (same datastore and one
+ * path is a prefix of the other), the later file is written only after commit of the earlier one is finished,
+ * files with disjoint subtrees are written independently.
+ *
+ * <p>Failure of one file does not stop import of other files, it is recorded in {@link ImportReport}.
+ */
+public final class ParallelDataImporter {
+    public static final int DEFAULT_POOL_SIZE = 4;
+
+    private static final Logger LOG = LoggerFactory.getLogger(ParallelDataImporter.class);
+
+    private final EffectiveModelContext effectiveModelContext;
+    private final DOMDataBroker dataBroker;
+    private final int poolSize;
+
+    /**
+     * Create importer.
+     *
+     * @param effectiveModelContext current model context
+     * @param dataBroker            data broker
+     * @param poolSize              maximal number of files parsed at the same time
+     */
+    public ParallelDataImporter(final EffectiveModelContext effectiveModelContext, final DOMDataBroker dataBroker,
+            final int poolSize) {
+        checkArgument(poolSize > 0, "Pool size must be positive, was %s", poolSize);
+        this.effectiveModelContext = Objects.requireNonNull(effectiveModelContext);
+        this.dataBroker = Objects.requireNonNull(dataBroker);
+        this.poolSize = poolSize;
+    }
+
+    /**
+     * Start import of files.
+     *
+     * @param files files to import, in order of precedence for overlapping subtrees
+     * @return future completed with report when all files are imported or failed
+     */
+    public CompletableFuture<ImportReport> importFiles(final List<ImportFile> files) {
+        final long startNanos = System.nanoTime();
+        if (files.isEmpty()) {
+            return CompletableFuture.completedFuture(new ImportReport(List.of(), Duration.ZERO));
+        }
+        final ExecutorService executor = ExecutionPolicy.newBlockingBoundedExecutor(poolSize, files.size(),
+                "initial-data-import");
+        final Semaphore permits = new Semaphore(poolSize);
+        final List<CompletableFuture<FileReport>> fileReports = new ArrayList<>(files.size());
+        for (int i = 0; i < files.size(); i++) {
+            final ImportFile file = files.get(i);
+            final List<CompletableFuture<FileReport>> preceding = new ArrayList<>();
+            for (int j = 0; j < i; j++) {
+                if (files.get(j).overlaps(file)) {
+                    preceding.add(fileReports.get(j));
+                }
+            }
+            final CompletableFuture<Void> precedingDone = CompletableFuture.allOf(
+                    preceding.toArray(new CompletableFuture<?>[0]));
+            fileReports.add(new FileImport(file, permits).start(precedingDone, executor));
+        }
+        return CompletableFuture.allOf(fileReports.toArray(new CompletableFuture<?>[0]))
+                .thenApply(ignored -> {
+                    final List<FileReport> reports = new ArrayList<>(fileReports.size());
+                    for (CompletableFuture<FileReport> fileReport : fileReports) {
+                        reports.add(fileReport.join());
+                    }
+                    final ImportReport report = new ImportReport(reports,
+                            Duration.ofNanos(System.nanoTime() - startNanos));
+                    LOG.info("Data import finished: {}", report);
+                    return report;
+                })
+                .whenComplete((report, error) -> executor.shutdown());
+    }
+
+    /**
+     * Import of a single file, parse and write are timed separately.
+     */
+    private final class FileImport {
+        private final ImportFile file;
+        private final Semaphore permits;
+        private long parseNanos;
+        private long writeNanos;
+
+        FileImport(final ImportFile file, final Semaphore permits) {
+            this.file = file;
+            this.permits = permits;
+        }
+
+        CompletableFuture<FileReport> start(final CompletableFuture<Void> precedingDone,
+                final ExecutorService executor) {
+            final CompletableFuture<Void> imported;
+            if (file.isStreaming()) {
+                // streaming import writes while parsing, so it has to wait for preceding files
+                imported = precedingDone.thenRunAsync(() -> bounded(() -> {
+                    importStreaming();
+                    return null;
+                }), executor);
+            } else {
+                final CompletableFuture<NormalizedNode> parsed = CompletableFuture.supplyAsync(
+                        () -> bounded(this::parse), executor);
+                imported = CompletableFuture.allOf(parsed, precedingDone)
+                        .thenCompose(ignored -> file.isIncremental()
+                                ? CompletableFuture.runAsync(() -> bounded(() -> {
+                                    writeIncremental(parsed.join());
+                                    return null;
+                                }), executor)
+                                : write(parsed.join()));
+            }
+            return imported.handle((ignored, error) -> {
+                final Throwable cause = error instanceof CompletionException && error.getCause() != null
+                        ? error.getCause() : error;
+                if (cause != null) {
+                    LOG.error("Import of data file {} failed", file.getName(), cause);
+                }
+                return new FileReport(file, Duration.ofNanos(parseNanos), Duration.ofNanos(writeNanos), cause);
+            });
+        }
+
+        /**
+         * Run task holding a permit, executor does not bound number of running tasks in virtual mode.
+         */
+        @SuppressWarnings("IllegalCatch")
+        private <T> T bounded(final Callable<T> task) {
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CompletionException(e);
+            }
+            try {
+                return task.call();
+            } catch (CompletionException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new CompletionException(e);
+            } finally {
+                permits.release();
+            }
+        }
+
+        @SuppressWarnings("IllegalCatch")
+        private NormalizedNode parse() {
+            final long startNanos = System.nanoTime();
+            try {
+                return FileToDatastoreUtils.deserialize(file.open(), file.getPath(), file.getFormat(),
+                        effectiveModelContext);
+            } catch (Exception e) {
+                throw new CompletionException(e);
+            } finally {
+                parseNanos = System.nanoTime() - startNanos;
+            }
+        }
+
+        private CompletableFuture<Void> write(final NormalizedNode data) {
+            final long startNanos = System.nanoTime();
+            final DOMDataTreeWriteTransaction transaction = dataBroker.newWriteOnlyTransaction();
+            if (file.isOverride()) {
+                transaction.put(file.getDatastore(), file.getPath(), data);
+            } else {
+                transaction.merge(file.getDatastore(), file.getPath(), data);
+            }
+            final CompletableFuture<Void> committed = new CompletableFuture<>();
+            transaction.commit().addCallback(new FutureCallback<CommitInfo>() {
+                @Override
+                public void onSuccess(final CommitInfo result) {
+                    writeNanos = System.nanoTime() - startNanos;
+                    committed.complete(null);
+                }
+
+                @Override
+                public void onFailure(final Throwable cause) {
+                    writeNanos = System.nanoTime() - startNanos;
+                    committed.completeExceptionally(cause);
+                }
+            }, MoreExecutors.directExecutor());
+            return committed.orTimeout(FileToDatastoreUtils.IMPORT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        }
+
+        private void writeIncremental(final NormalizedNode data) {
+            final long startNanos = System.nanoTime();
+            try {
+                IncrementalDataWriter.write(dataBroker, file.getDatastore(), file.getPath(), data, file.isOverride());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CompletionException(e);
+            } catch (ExecutionException | TimeoutException e) {
+                throw new CompletionException(e);
+            } finally {
+                writeNanos = System.nanoTime() - startNanos;
+            }
+        }
+
+        @SuppressWarnings("IllegalCatch")
+        private void importStreaming() {
+            final long startNanos = System.nanoTime();
+            try {
+                new StreamingDataImporter(effectiveModelContext, dataBroker, file.getDatastore(),
+                        file.getBatchSize(), file.getMaxInFlightCommits())
+                        .importData(file.open(), file.getFormat(), file.isOverride());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CompletionException(e);
+            } catch (Exception e) {
+                throw new CompletionException(e);
+            } finally {
+                writeNanos = System.nanoTime() - startNanos;
+            }
+        }
+    }
+
+    /**
+     * Source of data file.
+     */
+    @FunctionalInterface
+    public interface InputStreamSupplier {
+        InputStream open() throws IOException;
+    }
+
+    /**
+     * Data file to import.
+     */
+    public static final class ImportFile {
+        private final String name;
+        private final InputStreamSupplier source;
+        private final ImportFileFormat format;
+        private final YangInstanceIdentifier path;
+        private final LogicalDatastoreType datastore;
+        private final boolean override;
+        private final boolean incremental;
+        private final int batchSize;
+        private final int maxInFlightCommits;
+
+        /**
+         * Create file imported in single transaction.
+         *
+         * @param name      name of the file used in report
+         * @param source    source of file content
+         * @param format    format of file (XML/JSON)
+         * @param path      path of imported node
+         * @param datastore datastore to import data to
+         * @param override  override current data (true = PUT, false = MERGE)
+         */
+        public ImportFile(final String name, final InputStreamSupplier source, final ImportFileFormat format,
+                final YangInstanceIdentifier path, final LogicalDatastoreType datastore, final boolean override) {
+            this(name, source, format, path, datastore, override, false);
+        }
+
+        /**
+         * Create file imported in single transaction, optionally only as a difference against current data,
+         * see {@link IncrementalDataWriter}.
+         *
+         * @param name        name of the file used in report
+         * @param source      source of file content
+         * @param format      format of file (XML/JSON)
+         * @param path        path of imported node
+         * @param datastore   datastore to import data to
+         * @param override    override current data (true = PUT, false = MERGE)
+         * @param incremental write only changed data
+         */
+        public ImportFile(final String name, final InputStreamSupplier source, final ImportFileFormat format,
+                final YangInstanceIdentifier path, final LogicalDatastoreType datastore, final boolean override,
+                final boolean incremental) {
+            this(name, source, format, path, datastore, override, incremental, 0, 0);
+        }
+
+        /**
+         * Create file imported by {@link StreamingDataImporter}, only files with root path are supported.
+         *
+         * @param name               name of the file used in report
+         * @param source             source of file content
+         * @param format             format of file (XML/JSON)
+         * @param datastore          datastore to import data to
+         * @param override           override current content of imported top level nodes
+         * @param batchSize          maximal number of units in one transaction
+         * @param maxInFlightCommits maximal number of pending commits
+         */
+        public ImportFile(final String name, final InputStreamSupplier source, final ImportFileFormat format,
+                final LogicalDatastoreType datastore, final boolean override, final int batchSize,
+                final int maxInFlightCommits) {
+            this(name, source, format, YangInstanceIdentifier.of(), datastore, override, false, batchSize,
+                    maxInFlightCommits);
+            checkArgument(batchSize > 0, "Batch size must be positive, was %s", batchSize);
+            checkArgument(maxInFlightCommits > 0, "Number of in-flight commits must be positive, was %s",
+                    maxInFlightCommits);
+        }
+
+        private ImportFile(final String name, final InputStreamSupplier source, final ImportFileFormat format,
+                final YangInstanceIdentifier path, final LogicalDatastoreType datastore, final boolean override,
+                final boolean incremental, final int batchSize, final int maxInFlightCommits) {
+            this.name = Objects.requireNonNull(name);
+            this.source = Objects.requireNonNull(source);
+            this.format = Objects.requireNonNull(format);
+            this.path = Objects.requireNonNull(path);
+            this.datastore = Objects.requireNonNull(datastore);
+            this.override = override;
+            this.incremental = incremental;
+            this.batchSize = batchSize;
+            this.maxInFlightCommits = maxInFlightCommits;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public InputStream open() throws IOException {
+            return source.open();
+        }
+
+        public ImportFileFormat getFormat() {
+            return format;
+        }
+
+        public YangInstanceIdentifier getPath() {
+            return path;
+        }
+
+        public LogicalDatastoreType getDatastore() {
+            return datastore;
+        }
+
+        public boolean isOverride() {
+            return override;
+        }
+
+        public boolean isIncremental() {
+            return incremental;
+        }
+
+        public boolean isStreaming() {
+            return batchSize > 0;
+        }
+
+        public int getBatchSize() {
+            return batchSize;
+        }
+
+        public int getMaxInFlightCommits() {
+            return maxInFlightCommits;
+        }
+
+        boolean overlaps(final ImportFile other) {
+            return datastore == other.datastore && (path.contains(other.path) || other.path.contains(path));
+        }
+    }
+
+    /**
+     * Result of import of single file.
+     */
+    public static final class FileReport {
+        private final ImportFile file;
+        private final Duration parseDuration;
+        private final Duration writeDuration;
+        private final Throwable failure;
+
+        FileReport(final ImportFile file, final Duration parseDuration, final Duration writeDuration,
+                final Throwable failure) {
+            this.file = file;
+            this.parseDuration = parseDuration;
+            this.writeDuration = writeDuration;
+            this.failure = failure;
+        }
+
+        public ImportFile getFile() {
+            return file;
+        }
+
+        /**
+         * Get time spent by parsing of the file, it is zero for streaming import.
+         *
+         * @return parse duration
+         */
+        public Duration getParseDuration() {
+            return parseDuration;
+        }
+
+        /**
+         * Get time from start of the write until commit is finished. Streaming import is parsed while written,
+         * so the whole import is counted here.
+         *
+         * @return write duration
+         */
+        public Duration getWriteDuration() {
+            return writeDuration;
+        }
+
+        public Optional<Throwable> getFailure() {
+            return Optional.ofNullable(failure);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s -> %s %s: parsed in %d ms, written in %d ms%s", file.getName(),
+                    file.getDatastore(), file.getPath(), parseDuration.toMillis(), writeDuration.toMillis(),
+                    failure == null ? "" : ", failed: " + failure.getMessage());
+        }
+    }
+
+    /**
+     * Report of finished import.
+     */
+    public static final class ImportReport {
+        private final List<FileReport> files;
+        private final Duration duration;
+
+        ImportReport(final List<FileReport> files, final Duration duration) {
+            this.files = List.copyOf(files);
+            this.duration = duration;
+        }
+
+        /**
+         * Get reports of imported files in the order of import request.
+         *
+         * @return file reports
+         */
+        public List<FileReport> getFiles() {
+            return files;
+        }
+
+        public Duration getDuration() {
+            return duration;
+        }
+
+        public boolean isSuccessful() {
+            return files.stream().allMatch(file -> file.getFailure().isEmpty());
+        }
+
+        @Override
+        public String toString() {
+            final StringBuilder builder = new StringBuilder()
+                    .append(files.size()).append(" files in ").append(duration.toMillis()).append(" ms");
+            for (FileReport file : files) {
+                builder.append(System.lineSeparator()).append("  ").append(file);
+            }
+            return builder.toString();
+        }
+    }
+}
@@ -0,0 +1,306 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package io.lighty.core.controller.impl.util;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.common.base.Stopwatch;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.lighty.core.controller.api.StartupTimeline;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.opendaylight.controller.cluster.datastore.DatastoreSnapshotRestore;
+import org.opendaylight.controller.cluster.datastore.persisted.DatastoreSnapshot;
+import org.opendaylight.controller.cluster.datastore.persisted.DatastoreSnapshotList;
+import org.opendaylight.controller.cluster.datastore.persisted.ShardManagerSnapshot;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Datastore snapshot restore decoding backup files concurrently. Unlike default restore, which accepts exactly one
+ * backup file and decodes it when the first datastore is created, all backup files of the restore directory are
+ * decoded on a pool of threads as soon as {@link #start()} is called, so decoding overlaps with other startup work.
+ * Snapshots of the same datastore found in several files are merged, every shard may be present in one file only.
+ * A backup produced by the backup-datastore RPC can be split into per-shard files by
+ * {@link #split(Path, Path)}, which lets shards of both datastores be decoded in parallel. Decoded snapshots are
+ * applied by shard actors during their recovery, which runs concurrently for all shards.
+ *
+ * <p>When the restore directory contains files with {@value #SNAPSHOT_FILE_SUFFIX} suffix, only these files are
+ * restored and other files are left untouched. Otherwise the directory has to contain a single backup file of any
+ * name, as with the default restore. Files are read either through a buffered stream or through read-only memory
+ * mapped regions, which avoids copying file content through read buffers. Restored files are deleted, as the default
+ * restore does, once all of them have been decoded. Restore, and so creation of datastores, fails when the
+ * directory contains files which can't be restored, i.e. several files without {@value #SNAPSHOT_FILE_SUFFIX}
+ * suffix or a file which can't be decoded. Files are kept then, so the backup is not lost. Decoding of each file
+ * and waiting of each datastore for decoded snapshots are recorded in {@link StartupTimeline}.
+ */
+public final class ParallelDatastoreSnapshotRestore implements DatastoreSnapshotRestore {
+    public static final int DEFAULT_PARALLELISM = 4;
+    public static final String SNAPSHOT_FILE_SUFFIX = ".snapshot";
+
+    private static final Logger LOG = LoggerFactory.getLogger(ParallelDatastoreSnapshotRestore.class);
+    private static final String TIMELINE_MODULE = ParallelDatastoreSnapshotRestore.class.getSimpleName();
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Path restoreDirectory;
+    private final int parallelism;
+    private final boolean memoryMapped;
+    private CompletableFuture<Map<String, DatastoreSnapshot>> snapshots;
+
+    /**
+     * Create restore of backup files in directory.
+     *
+     * @param restoreDirectoryPath directory with backup files
+     * @param parallelism          maximal number of files decoded at the same time
+     * @param memoryMapped         true if files are read through memory mapped regions
+     */
+    public ParallelDatastoreSnapshotRestore(final String restoreDirectoryPath, final int parallelism,
+            final boolean memoryMapped) {
+        checkArgument(parallelism > 0, "Parallelism must be positive, was %s", parallelism);
+        this.restoreDirectory = Path.of(restoreDirectoryPath);
+        this.parallelism = parallelism;
+        this.memoryMapped = memoryMapped;
+    }
+
+    /**
+     * Split backup file into files containing single shard each, named {@code <datastore>-<shard>.snapshot}.
+     * Usage: {@code ParallelDatastoreSnapshotRestore <backup-file> <restore-directory>}.
+     *
+     * @param args backup file and target directory
+     * @throws IOException if reading or writing of files fails
+     * @throws ClassNotFoundException if backup file contains unknown classes
+     */
+    public static void main(final String[] args) throws IOException, ClassNotFoundException {
+        if (args.length != 2) {
+            throw new IllegalArgumentException("Usage: ParallelDatastoreSnapshotRestore <backup-file> "
+                    + "<restore-directory>");
+        }
+        final List<Path> files = split(Path.of(args[0]), Path.of(args[1]));
+        LOG.info("Backup {} split into {} files", args[0], files.size());
+    }
+
+    /**
+     * Split backup file into files containing single shard each. Every file keeps shard manager snapshot
+     * of its datastore, so shard lists are restored completely from any subset of the files.
+     *
+     * @param backupFile backup file created by backup-datastore RPC
+     * @param targetDirectory directory where split files are written, created if missing
+     * @return written files
+     * @throws IOException if reading or writing of files fails
+     * @throws ClassNotFoundException if backup file contains unknown classes
+     */
+    public static List<Path> split(final Path backupFile, final Path targetDirectory)
+            throws IOException, ClassNotFoundException {
+        final DatastoreSnapshotList backup;
+        try (InputStream input = new BufferedInputStream(Files.newInputStream(backupFile), BUFFER_SIZE)) {
+            backup = readSnapshots(input);
+        }
+        Files.createDirectories(targetDirectory);
+        final List<Path> files = new ArrayList<>();
+        for (DatastoreSnapshot datastoreSnapshot : backup) {
+            for (DatastoreSnapshot.ShardSnapshot shardSnapshot : datastoreSnapshot.getShardSnapshots()) {
+                final Path file = targetDirectory.resolve(datastoreSnapshot.getType() + "-" + shardSnapshot.getName()
+                        + SNAPSHOT_FILE_SUFFIX);
+                try (ObjectOutputStream output = new ObjectOutputStream(
+                        new BufferedOutputStream(Files.newOutputStream(file), BUFFER_SIZE))) {
+                    output.writeObject(new DatastoreSnapshotList(List.of(new DatastoreSnapshot(
+                            datastoreSnapshot.getType(), datastoreSnapshot.getShardManagerSnapshot(),
+                            List.of(shardSnapshot)))));
+                }
+                files.add(file);
+            }
+        }
+        return files;
+    }
+
+    /**
+     * Start decoding of backup files in background. Calling this method is optional, decoding is started
+     * by the first {@link #getAndRemove(String)} otherwise.
+     *
+     * @return future completed with decoded snapshots by datastore type, failed if backup files can't be restored
+     */
+    public synchronized CompletableFuture<Map<String, DatastoreSnapshot>> start() {
+        if (snapshots == null) {
+            snapshots = decodeAll();
+        }
+        return snapshots;
+    }
+
+    @Override
+    public Optional<DatastoreSnapshot> getAndRemove(final String datastoreType) {
+        final CompletableFuture<Map<String, DatastoreSnapshot>> decoded = start();
+        try (StartupTimeline.Phase phase = StartupTimeline.getInstance().startPhase(TIMELINE_MODULE,
+                "snapshot-restore-wait-" + datastoreType)) {
+            return Optional.ofNullable(decoded.join().remove(datastoreType));
+        }
+    }
+
+    private CompletableFuture<Map<String, DatastoreSnapshot>> decodeAll() {
+        final List<Path> files;
+        try {
+            files = listRestoreFiles();
+        } catch (IOException | IllegalStateException e) {
+            LOG.error("Clustered datastore can't be restored from {}", restoreDirectory, e);
+            return CompletableFuture.failedFuture(e);
+        }
+        if (files.isEmpty()) {
+            LOG.debug("Restore directory {} does not exist or is empty", restoreDirectory);
+            return CompletableFuture.completedFuture(new ConcurrentHashMap<>());
+        }
+        LOG.info("Clustered datastore will be restored from {} files in {}", files.size(), restoreDirectory);
+        final Stopwatch stopwatch = Stopwatch.createStarted();
+        final ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, files.size()),
+                new ThreadFactoryBuilder().setNameFormat("snapshot-restore-%d").setDaemon(true).build());
+        final AtomicInteger decodedFiles = new AtomicInteger();
+        final List<CompletableFuture<DatastoreSnapshotList>> decoded = new ArrayList<>(files.size());
+        for (Path file : files) {
+            decoded.add(CompletableFuture.supplyAsync(() -> {
+                final DatastoreSnapshotList fileSnapshots = decode(file);
+                LOG.info("Restore progress: {} of {} files decoded", decodedFiles.incrementAndGet(), files.size());
+                return fileSnapshots;
+            }, executor));
+        }
+        return CompletableFuture.allOf(decoded.toArray(new CompletableFuture<?>[0]))
+                .thenApply(ignored -> {
+                    final Map<String, DatastoreSnapshot> merged = merge(decoded.stream()
+                            .map(CompletableFuture::join)
+                            .collect(Collectors.toList()));
+                    // files are deleted only when all of them were decoded, a failed restore can be repeated
+                    delete(files);
+                    LOG.info("Snapshots of datastores {} decoded in {}", merged.keySet(), stopwatch.stop());
+                    return merged;
+                })
+                .whenComplete((result, error) -> executor.shutdown());
+    }
+
+    private List<Path> listRestoreFiles() throws IOException {
+        if (!Files.isDirectory(restoreDirectory)) {
+            return List.of();
+        }
+        final List<Path> allFiles;
+        try (Stream<Path> entries = Files.list(restoreDirectory)) {
+            allFiles = entries.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+        }
+        final List<Path> snapshotFiles = allFiles.stream()
+                .filter(file -> file.getFileName().toString().endsWith(SNAPSHOT_FILE_SUFFIX))
+                .collect(Collectors.toList());
+        if (snapshotFiles.isEmpty()) {
+            // the same as the default restore, a single backup file of any name
+            if (allFiles.size() > 1) {
+                throw new IllegalStateException("Found " + allFiles.size() + " files in restore directory "
+                        + restoreDirectory + ", expected a single backup file or *" + SNAPSHOT_FILE_SUFFIX + " files");
+            }
+            return allFiles;
+        }
+        for (Path file : allFiles) {
+            if (!snapshotFiles.contains(file)) {
+                LOG.warn("Ignoring {} in restore directory, only *{} files are restored", file, SNAPSHOT_FILE_SUFFIX);
+            }
+        }
+        return snapshotFiles;
+    }
+
+    private DatastoreSnapshotList decode(final Path file) {
+        final DatastoreSnapshotList fileSnapshots;
+        try (StartupTimeline.Phase phase = StartupTimeline.getInstance().startPhase(TIMELINE_MODULE,
+                "snapshot-restore-decode-" + file.getFileName())) {
+            fileSnapshots = read(file);
+        } catch (IOException | ClassNotFoundException | ClassCastException e) {
+            LOG.error("Error reading clustered datastore restore file {}, the file is kept", file, e);
+            throw new IllegalStateException("Clustered datastore restore file " + file + " can't be decoded", e);
+        }
+        return fileSnapshots;
+    }
+
+    private static void delete(final List<Path> files) {
+        for (Path file : files) {
+            try {
+                Files.delete(file);
+            } catch (IOException e) {
+                LOG.error("Could not delete clustered datastore restore file {}", file, e);
+            }
+        }
+    }
+
+    private DatastoreSnapshotList read(final Path file) throws IOException, ClassNotFoundException {
+        if (memoryMapped) {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                return readSnapshots(new MappedFileInputStream(channel));
+            }
+        }
+        try (InputStream input = new BufferedInputStream(Files.newInputStream(file), BUFFER_SIZE)) {
+            return readSnapshots(input);
+        }
+    }
+
+    private static DatastoreSnapshotList readSnapshots(final InputStream input)
+            throws IOException, ClassNotFoundException {
+        try (ObjectInputStream objectInput = new ObjectInputStream(input)) {
+            return (DatastoreSnapshotList) objectInput.readObject();
+        }
+    }
+
+    private static Map<String, DatastoreSnapshot> merge(final List<DatastoreSnapshotList> snapshotLists) {
+        final Map<String, List<DatastoreSnapshot>> byType = new LinkedHashMap<>();
+        for (DatastoreSnapshotList snapshotList : snapshotLists) {
+            for (DatastoreSnapshot snapshot : snapshotList) {
+                byType.computeIfAbsent(snapshot.getType(), type -> new ArrayList<>()).add(snapshot);
+            }
+        }
+        final Map<String, DatastoreSnapshot> merged = new ConcurrentHashMap<>();
+        for (Map.Entry<String, List<DatastoreSnapshot>> entry : byType.entrySet()) {
+            merged.put(entry.getKey(), entry.getValue().size() == 1 ? entry.getValue().get(0)
+                    : mergeDatastore(entry.getKey(), entry.getValue()));
+        }
+        return merged;
+    }
+
+    private static DatastoreSnapshot mergeDatastore(final String type, final List<DatastoreSnapshot> parts) {
+        final Set<String> shardList = new LinkedHashSet<>();
+        boolean hasShardManagerSnapshot = false;
+        final Map<String, DatastoreSnapshot.ShardSnapshot> shardSnapshots = new LinkedHashMap<>();
+        for (DatastoreSnapshot part : parts) {
+            final ShardManagerSnapshot shardManagerSnapshot = part.getShardManagerSnapshot();
+            if (shardManagerSnapshot != null) {
+                hasShardManagerSnapshot = true;
+                shardList.addAll(shardManagerSnapshot.getShardList());
+            }
+            for (DatastoreSnapshot.ShardSnapshot shardSnapshot : part.getShardSnapshots()) {
+                if (shardSnapshots.putIfAbsent(shardSnapshot.getName(), shardSnapshot) != null) {
+                    LOG.error("Shard {} of {} datastore is present in more than one restore file, "
+                            + "only the first one is restored", shardSnapshot.getName(), type);
+                }
+            }
+        }
+        return new DatastoreSnapshot(type,
+                hasShardManagerSnapshot ? new ShardManagerSnapshot(List.copyOf(shardList)) : null,
+                List.copyOf(shardSnapshots.values()));
+    }
+}
@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package io.lighty.core.controller.impl.util;
+
+import com.google.common.base.Stopwatch;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.ServiceLoader;
+import java.util.Set;
+import org.opendaylight.yangtools.binding.meta.YangModelBindingProvider;
+import org.opendaylight.yangtools.binding.meta.YangModuleInfo;
+import org.opendaylight.yangtools.binding.runtime.spi.ModuleInfoSnapshotResolver;
+import org.opendaylight.yangtools.yang.ir.IRStatement;
+import org.opendaylight.yangtools.yang.model.api.source.SourceSyntaxException;
+import org.opendaylight.yangtools.yang.model.api.source.YangTextSource;
+import org.opendaylight.yangtools.yang.model.spi.source.YangIRSource;
+import org.opendaylight.yangtools.yang.model.spi.source.YangTextToIRSourceTransformer;
+import org.opendaylight.yangtools.yang.parser.ri.DefaultYangParserFactory;
+import org.opendaylight.yangtools.yang.source.ir.DefaultYangTextToIRSourceTransformer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * YANG sources parsed to IR at build time and packaged into the application jar.
+ *
+ * <p>{@link #main(String[])} resolves all models found on classpath, so a model set which does not resolve fails
+ * the build, and writes IR of every YANG source to {@value #RESOURCE_DIRECTORY} in the given output directory,
+ * together with fingerprint of the model set computed by {@link ModelSetCache#fingerprint(Collection, Collection)}.
+ * It is run by {@code lighty-app-parent} in the {@code prepare-package} phase.
+ *
+ * <p>At startup {@link #load(ClassLoader, YangTextToIRSourceTransformer)} compares the packaged fingerprint
+ * with fingerprint of models on classpath. When they match, YANG sources are read from packaged IR instead of being
+ * parsed from YANG text. Packaged IR of a different model set, e.g. after a model dependency was upgraded without
+ * rebuilding the application, is not used and all YANG sources are parsed. IR uses the same serialized form as
+ * {@link CachingYangTextToIRSourceTransformer}.
+ */
+public final class PrecompiledYangIRSources {
+    public static final String RESOURCE_DIRECTORY = "META-INF/lighty/yang-ir/";
+    public static final String MODEL_SET_RESOURCE = RESOURCE_DIRECTORY + "model-set";
+
+    private static final Logger LOG = LoggerFactory.getLogger(PrecompiledYangIRSources.class);
+
+    private PrecompiledYangIRSources() {
+        throw new UnsupportedOperationException("Init of utility class is forbidden");
+    }
+
+    /**
+     * Writes IR of all YANG sources found on classpath.
+     *
+     * <p>Usage: {@code PrecompiledYangIRSources <output directory>}, output directory is usually
+     * {@code target/classes}.
+     *
+     * @param args output directory
+     * @throws IOException           if reading of YANG sources or writing of IR fails
+     * @throws SourceSyntaxException if a YANG source can't be parsed
+     */
+    public static void main(final String[] args) throws IOException, SourceSyntaxException {
+        if (args.length != 1) {
+            throw new IllegalArgumentException("Usage: PrecompiledYangIRSources <output directory>");
+        }
+        final Set<YangModuleInfo> models = loadModels(PrecompiledYangIRSources.class.getClassLoader());
+        final ModuleInfoSnapshotResolver snapshotResolver = new ModuleInfoSnapshotResolver("yang-ir-precompiler",
+                new DefaultYangTextToIRSourceTransformer(), new DefaultYangParserFactory());
+        snapshotResolver.registerModuleInfos(models);
+        snapshotResolver.takeSnapshot();
+        write(models, Paths.get(args[0]));
+    }
+
+    /**
+     * Writes IR of YANG sources of models including transitively imported ones, and fingerprint of the models.
+     *
+     * @param models          models
+     * @param outputDirectory directory where {@value #RESOURCE_DIRECTORY} is created
+     * @throws IOException           if reading of YANG sources or writing of IR fails
+     * @throws SourceSyntaxException if a YANG source can't be parsed
+     */
+    public static void write(final Collection<? extends YangModuleInfo> models, final Path outputDirectory)
+            throws IOException, SourceSyntaxException {
+        final Stopwatch stopwatch = Stopwatch.createStarted();
+        final YangTextToIRSourceTransformer transformer = new DefaultYangTextToIRSourceTransformer();
+        final Path directory = outputDirectory.resolve(RESOURCE_DIRECTORY);
+        int sources = 0;
+        for (YangModuleInfo moduleInfo : withImports(models)) {
+            final YangTextSource source = moduleInfo.getYangTextSource();
+            final String digest = CachingYangTextToIRSourceTransformer.digest(source.sourceId(), source.read());
+            CachingYangTextToIRSourceTransformer.writeStatement(
+                    directory.resolve(digest + CachingYangTextToIRSourceTransformer.FILE_SUFFIX),
+                    transformer.transformSource(source).statement());
+            sources++;
+        }
+        // written last, IR is not used when writing of any source failed
+        Files.writeString(outputDirectory.resolve(MODEL_SET_RESOURCE), ModelSetCache.fingerprint(models, List.of()),
+                StandardCharsets.UTF_8);
+        LOG.info("IR of {} YANG sources written to {} in {}", sources, directory, stopwatch.stop());
+    }
+
+    /**
+     * Creates transformer reading IR packaged on classpath, if packaged IR matches models on classpath.
+     *
+     * @param classLoader class loader of models and packaged IR
+     * @param delegate    transformer parsing YANG text sources without packaged IR
+     * @return transformer reading packaged IR, empty if there is no packaged IR or it does not match models
+     */
+    public static Optional<YangTextToIRSourceTransformer> load(final ClassLoader classLoader,
+            final YangTextToIRSourceTransformer delegate) {
+        final String packagedFingerprint;
+        try (InputStream input = classLoader.getResourceAsStream(MODEL_SET_RESOURCE)) {
+            if (input == null) {
+                LOG.debug("No precompiled YANG IR sources found on classpath");
+                return Optional.empty();
+            }
+            packagedFingerprint = new String(input.readAllBytes(), StandardCharsets.UTF_8).trim();
+        } catch (IOException e) {
+            LOG.warn("Failed to read {}, parsing YANG sources", MODEL_SET_RESOURCE, e);
+            return Optional.empty();
+        }
+        final String fingerprint;
+        try {
+            fingerprint = ModelSetCache.fingerprint(loadModels(classLoader), List.of());
+        } catch (UncheckedIOException e) {
+            LOG.warn("Failed to compute fingerprint of models on classpath, parsing YANG sources", e);
+            return Optional.empty();
+        }
+        if (!packagedFingerprint.equals(fingerprint)) {
+            LOG.info("Precompiled YANG IR sources of model set {} do not match models on classpath {}, parsing YANG "
+                    + "sources", packagedFingerprint, fingerprint);
+            return Optional.empty();
+        }
+        LOG.info("Using precompiled YANG IR sources of model set {}", fingerprint);
+        return Optional.of(new PackagedTransformer(classLoader, delegate));
+    }
+
+    private static Set<YangModuleInfo> loadModels(final ClassLoader classLoader) {
+        final Set<YangModuleInfo> models = new HashSet<>();
+        for (YangModelBindingProvider provider : ServiceLoader.load(YangModelBindingProvider.class, classLoader)) {
+            models.add(provider.getModuleInfo());
+        }
+        return models;
+    }
+
+    private static Set<YangModuleInfo> withImports(final Collection<? extends YangModuleInfo> models) {
+        final Set<YangModuleInfo> visited = new HashSet<>();
+        final Deque<YangModuleInfo> toVisit = new ArrayDeque<>(models);
+        while (!toVisit.isEmpty()) {
+            final YangModuleInfo moduleInfo = toVisit.pop();
+            if (visited.add(moduleInfo)) {
+                toVisit.addAll(moduleInfo.getImportedModules());
+            }
+        }
+        return visited;
+    }
+
+    /**
+     * Transformer reading IR of YANG sources from classpath resources, parsing YANG text of sources without IR.
+     */
+    private static final class PackagedTransformer implements YangTextToIRSourceTransformer {
+        private final ClassLoader classLoader;
+        private final YangTextToIRSourceTransformer delegate;
+
+        PackagedTransformer(final ClassLoader classLoader, final YangTextToIRSourceTransformer delegate) {
+            this.classLoader = Objects.requireNonNull(classLoader);
+            this.delegate = Objects.requireNonNull(delegate);
+        }
+
+        @Override
+        public YangIRSource transformSource(final YangTextSource source) throws SourceSyntaxException {
+            final String resource;
+            try {
+                resource = RESOURCE_DIRECTORY + CachingYangTextToIRSourceTransformer.digest(source.sourceId(),
+                        source.read()) + CachingYangTextToIRSourceTransformer.FILE_SUFFIX;
+            } catch (IOException e) {
+                LOG.debug("Failed to read YANG source {}, parsing it", source.sourceId(), e);
+                return delegate.transformSource(source);
+            }
+            final InputStream input = classLoader.getResourceAsStream(resource);
+            if (input != null) {
+                final Optional<IRStatement> statement =
+                        CachingYangTextToIRSourceTransformer.readStatement(input, resource);
+                if (statement.isPresent()) {
+                    return new YangIRSource(source.sourceId(), statement.get(), source.symbolicName());
+                }
+            }
+            LOG.debug("No precompiled IR of YANG source {}, parsing it", source.sourceId());
+            return delegate.transformSource(source);
+        }
+
+        @Override
+        public String toString() {
+            return "PackagedTransformer(" + delegate + ")";
+        }
+    }
+}
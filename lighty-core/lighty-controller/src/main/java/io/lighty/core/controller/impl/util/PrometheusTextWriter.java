@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package io.lighty.core.controller.impl.util;
+
+import io.lighty.core.controller.impl.services.LatencyHistogram;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Writer of metrics in Prometheus text exposition format. Output can be returned by any HTTP endpoint scraped
+ * by Prometheus with content type {@link #CONTENT_TYPE}.
+ */
+public final class PrometheusTextWriter {
+    public static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private static final double NANOS_IN_SECOND = 1_000_000_000.0;
+
+    private final Appendable out;
+
+    public PrometheusTextWriter(final Appendable out) {
+        this.out = out;
+    }
+
+    /**
+     * Write HELP and TYPE lines of metric family. Samples of the family are written after it.
+     *
+     * @param name name of metric family
+     * @param type type of metric family, e.g. {@code counter}, {@code gauge} or {@code histogram}
+     * @param help description of metric family
+     * @return this writer
+     * @throws IOException if writing fails
+     */
+    public PrometheusTextWriter family(final String name, final String type, final String help) throws IOException {
+        out.append("# HELP ").append(name).append(' ').append(escapeHelp(help)).append('\n');
+        out.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+        return this;
+    }
+
+    public PrometheusTextWriter sample(final String name, final Map<String, String> labels, final long value)
+            throws IOException {
+        writeName(name, labels);
+        out.append(' ').append(Long.toString(value)).append('\n');
+        return this;
+    }
+
+    public PrometheusTextWriter sample(final String name, final Map<String, String> labels, final double value)
+            throws IOException {
+        writeName(name, labels);
+        out.append(' ').append(formatDouble(value)).append('\n');
+        return this;
+    }
+
+    /**
+     * Write samples of histogram, durations are converted to seconds.
+     *
+     * @param name name of histogram family
+     * @param labels labels of the histogram
+     * @param histogram recorded durations
+     * @return this writer
+     * @throws IOException if writing fails
+     */
+    public PrometheusTextWriter histogram(final String name, final Map<String, String> labels,
+            final LatencyHistogram histogram) throws IOException {
+        final String bucketName = name + "_bucket";
+        final Map<String, String> bucketLabels = new LinkedHashMap<>(labels);
+        long cumulative = 0;
+        for (int i = 0; i < LatencyHistogram.getBucketCount(); i++) {
+            cumulative += histogram.getBucketValue(i);
+            final long upperBound = LatencyHistogram.getBucketUpperBoundNanos(i);
+            bucketLabels.put("le", upperBound == Long.MAX_VALUE ? "+Inf"
+                    : formatDouble(upperBound / NANOS_IN_SECOND));
+            sample(bucketName, bucketLabels, cumulative);
+        }
+        sample(name + "_sum", labels, histogram.getSumNanos() / NANOS_IN_SECOND);
+        sample(name + "_count", labels, cumulative);
+        return this;
+    }
+
+    private void writeName(final String name, final Map<String, String> labels) throws IOException {
+        out.append(name);
+        if (!labels.isEmpty()) {
+            out.append('{');
+            boolean first = true;
+            for (Map.Entry<String, String> label : labels.entrySet()) {
+                if (!first) {
+                    out.append(',');
+                }
+                first = false;
+                out.append(label.getKey()).append("=\"").append(escapeLabelValue(label.getValue())).append('"');
+            }
+            out.append('}');
+        }
+    }
+
+    private static String formatDouble(final double value) {
+        if (Double.isNaN(value)) {
+            return "NaN";
+        }
+        if (Double.isInfinite(value)) {
+            return value > 0 ? "+Inf" : "-Inf";
+        }
+        return Double.toString(value);
+    }
+
+    private static String escapeHelp(final String help) {
+        return help.replace("\\", "\\\\").replace("\n", "\\n");
+    }
+
+    private static String escapeLabelValue(final String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+}
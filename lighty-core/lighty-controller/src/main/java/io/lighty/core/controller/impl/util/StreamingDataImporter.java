@@ -0,0 +1,542 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package io.lighty.core.controller.impl.util;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.common.io.CountingInputStream;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import io.lighty.codecs.util.JsonNodeConverter;
+import io.lighty.codecs.util.XmlNodeConverter;
+import io.lighty.codecs.util.exception.DeserializationException;
+import io.lighty.core.controller.impl.util.FileToDatastoreUtils.ImportFileFormat;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import javax.xml.stream.XMLEventFactory;
+import javax.xml.stream.XMLEventReader;
+import javax.xml.stream.XMLEventWriter;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.events.StartElement;
+import javax.xml.stream.events.XMLEvent;
+import org.opendaylight.mdsal.common.api.CommitInfo;
+import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
+import org.opendaylight.mdsal.dom.api.DOMDataBroker;
+import org.opendaylight.mdsal.dom.api.DOMDataTreeWriteTransaction;
+import org.opendaylight.mdsal.dom.api.DOMTransactionChain;
+import org.opendaylight.yangtools.yang.common.XMLNamespace;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.DataContainerChild;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import org.opendaylight.yangtools.yang.model.api.ListSchemaNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Imports large JSON or XML data files into datastore without loading the whole file into memory.
+ * Input is read incrementally and cut into batches of at most {@code batchSize} units, where unit is one entry
+ * of a top-level list, one entry of a list (or leaf-list) directly under a top-level container or one other child
+ * of a top-level container. Every batch is parsed separately and committed in its own transaction
+ * on a {@link DOMTransactionChain}, at most {@code maxInFlightCommits} commits are pending at any time.
+ *
+ * <p>Input has the same format as input of {@link FileToDatastoreUtils#importConfigDataFile(InputStream,
+ * ImportFileFormat, EffectiveModelContext, DOMDataBroker, boolean)}. XML input may also contain single top-level
+ * node without {@code <data>} wrapper element. When {@code override} is set, the first write of each top-level
+ * node replaces its current content, other data in datastore are kept.
+ */
+public final class StreamingDataImporter {
+    public static final int DEFAULT_BATCH_SIZE = 1000;
+    public static final int DEFAULT_MAX_IN_FLIGHT_COMMITS = 4;
+
+    private static final Logger LOG = LoggerFactory.getLogger(StreamingDataImporter.class);
+    private static final long PROGRESS_LOG_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(5);
+    private static final String NETCONF_BASE_NAMESPACE = "urn:ietf:params:xml:ns:netconf:base:1.0";
+    private static final String DATA_ELEMENT = "data";
+    private static final XMLInputFactory XML_IN_FACTORY = XMLInputFactory.newInstance();
+    private static final XMLOutputFactory XML_OUT_FACTORY = XMLOutputFactory.newFactory();
+    private static final XMLEventFactory XML_EVENT_FACTORY = XMLEventFactory.newInstance();
+
+    private final EffectiveModelContext effectiveModelContext;
+    private final DOMDataBroker dataBroker;
+    private final LogicalDatastoreType datastoreType;
+    private final int batchSize;
+    private final int maxInFlightCommits;
+
+    /**
+     * Create importer.
+     *
+     * @param effectiveModelContext current model context
+     * @param dataBroker            data broker
+     * @param datastoreType         datastore to import data to
+     * @param batchSize             maximal number of units in one transaction
+     * @param maxInFlightCommits    maximal number of pending commits
+     */
+    public StreamingDataImporter(final EffectiveModelContext effectiveModelContext, final DOMDataBroker dataBroker,
+            final LogicalDatastoreType datastoreType, final int batchSize, final int maxInFlightCommits) {
+        checkArgument(batchSize > 0, "Batch size must be positive, was %s", batchSize);
+        checkArgument(maxInFlightCommits > 0, "Number of in-flight commits must be positive, was %s",
+                maxInFlightCommits);
+        this.effectiveModelContext = Objects.requireNonNull(effectiveModelContext);
+        this.dataBroker = Objects.requireNonNull(dataBroker);
+        this.datastoreType = Objects.requireNonNull(datastoreType);
+        this.batchSize = batchSize;
+        this.maxInFlightCommits = maxInFlightCommits;
+    }
+
+    /**
+     * Import data from input stream. Method returns after all batches are committed.
+     *
+     * @param inputStream stream of serialized data, it is closed by this method
+     * @param fileFormat  format of data (XML/JSON)
+     * @param override    replace current content of imported top-level nodes (true = PUT, false = MERGE)
+     * @return statistics of import
+     * @throws IOException              if reading of input fails
+     * @throws DeserializationException if input is not valid
+     * @throws InterruptedException     if interrupted while waiting for commits
+     * @throws ExecutionException       if any commit fails
+     * @throws TimeoutException         if commit is not finished in {@link FileToDatastoreUtils#IMPORT_TIMEOUT_MILLIS}
+     */
+    public ImportStatistics importData(final InputStream inputStream, final ImportFileFormat fileFormat,
+            final boolean override)
+            throws IOException, DeserializationException, InterruptedException, ExecutionException, TimeoutException {
+        final CountingInputStream countingStream = new CountingInputStream(inputStream);
+        final DOMTransactionChain chain = dataBroker.createTransactionChain();
+        final BatchWriter batchWriter = new BatchWriter(chain, fileFormat, override, countingStream);
+        try (Reader reader = new InputStreamReader(countingStream, StandardCharsets.UTF_8)) {
+            if (fileFormat == ImportFileFormat.JSON) {
+                splitJson(reader, batchWriter);
+            } else if (fileFormat == ImportFileFormat.XML) {
+                splitXml(reader, batchWriter);
+            } else {
+                throw new UnsupportedOperationException("Streaming import supports only XML and JSON data");
+            }
+            batchWriter.awaitCommits();
+        } finally {
+            chain.close();
+        }
+        final ImportStatistics statistics = batchWriter.statistics();
+        LOG.info("Data import finished: {}", statistics);
+        return statistics;
+    }
+
+    private void splitJson(final Reader reader, final BatchWriter batchWriter)
+            throws IOException, DeserializationException, InterruptedException, ExecutionException, TimeoutException {
+        final JsonBatch batch = new JsonBatch();
+        try (JsonReader jsonReader = new JsonReader(reader)) {
+            jsonReader.beginObject();
+            while (jsonReader.hasNext()) {
+                final String topLevelName = jsonReader.nextName();
+                final JsonToken token = jsonReader.peek();
+                if (token == JsonToken.BEGIN_ARRAY) {
+                    jsonReader.beginArray();
+                    while (jsonReader.hasNext()) {
+                        arrayOf(batch.root, topLevelName).add(JsonParser.parseReader(jsonReader));
+                        addJsonUnit(batch, batchWriter);
+                    }
+                    jsonReader.endArray();
+                } else if (token == JsonToken.BEGIN_OBJECT) {
+                    jsonReader.beginObject();
+                    boolean empty = true;
+                    while (jsonReader.hasNext()) {
+                        empty = false;
+                        final String childName = jsonReader.nextName();
+                        if (jsonReader.peek() == JsonToken.BEGIN_ARRAY) {
+                            jsonReader.beginArray();
+                            while (jsonReader.hasNext()) {
+                                arrayOf(objectOf(batch.root, topLevelName), childName)
+                                        .add(JsonParser.parseReader(jsonReader));
+                                addJsonUnit(batch, batchWriter);
+                            }
+                            jsonReader.endArray();
+                        } else {
+                            objectOf(batch.root, topLevelName).add(childName, JsonParser.parseReader(jsonReader));
+                            addJsonUnit(batch, batchWriter);
+                        }
+                    }
+                    jsonReader.endObject();
+                    if (empty) {
+                        objectOf(batch.root, topLevelName);
+                        addJsonUnit(batch, batchWriter);
+                    }
+                } else {
+                    batch.root.add(topLevelName, JsonParser.parseReader(jsonReader));
+                    addJsonUnit(batch, batchWriter);
+                }
+            }
+            jsonReader.endObject();
+        } catch (IllegalStateException | JsonParseException e) {
+            throw new DeserializationException(e);
+        }
+        if (batch.units > 0) {
+            batchWriter.write(batch.root.toString(), batch.units);
+        }
+    }
+
+    private void addJsonUnit(final JsonBatch batch, final BatchWriter batchWriter)
+            throws DeserializationException, InterruptedException, ExecutionException, TimeoutException {
+        if (++batch.units >= batchSize) {
+            batchWriter.write(batch.root.toString(), batch.units);
+            batch.root = new JsonObject();
+            batch.units = 0;
+        }
+    }
+
+    private static JsonObject objectOf(final JsonObject parent, final String name) {
+        JsonObject child = parent.getAsJsonObject(name);
+        if (child == null) {
+            child = new JsonObject();
+            parent.add(name, child);
+        }
+        return child;
+    }
+
+    private static JsonArray arrayOf(final JsonObject parent, final String name) {
+        JsonArray child = parent.getAsJsonArray(name);
+        if (child == null) {
+            child = new JsonArray();
+            parent.add(name, child);
+        }
+        return child;
+    }
+
+    private void splitXml(final Reader reader, final BatchWriter batchWriter)
+            throws DeserializationException, InterruptedException, ExecutionException, TimeoutException {
+        try {
+            final XMLEventReader eventReader = XML_IN_FACTORY.createXMLEventReader(reader);
+            try {
+                final StartElement rootElement = nextStartElement(eventReader);
+                if (rootElement == null) {
+                    return;
+                }
+                final XmlBatch batch;
+                if (DATA_ELEMENT.equals(rootElement.getName().getLocalPart())
+                        && NETCONF_BASE_NAMESPACE.equals(rootElement.getName().getNamespaceURI())) {
+                    batch = new XmlBatch(rootElement);
+                    StartElement topLevelElement;
+                    while ((topLevelElement = nextStartElement(eventReader)) != null) {
+                        splitXmlTopLevelNode(eventReader, topLevelElement, batch, batchWriter);
+                    }
+                } else {
+                    batch = new XmlBatch(XML_EVENT_FACTORY.createStartElement("", NETCONF_BASE_NAMESPACE,
+                            DATA_ELEMENT, null, List.of(XML_EVENT_FACTORY.createNamespace(NETCONF_BASE_NAMESPACE))
+                                    .iterator()));
+                    splitXmlTopLevelNode(eventReader, rootElement, batch, batchWriter);
+                }
+                if (batch.units > 0) {
+                    writeXmlBatch(batch, batchWriter);
+                }
+            } finally {
+                eventReader.close();
+            }
+        } catch (XMLStreamException e) {
+            throw new DeserializationException(e);
+        }
+    }
+
+    private void splitXmlTopLevelNode(final XMLEventReader eventReader, final StartElement topLevelElement,
+            final XmlBatch batch, final BatchWriter batchWriter)
+            throws XMLStreamException, DeserializationException, InterruptedException, ExecutionException,
+            TimeoutException {
+        if (isList(topLevelElement)) {
+            batch.ensureOpen(null);
+            copyElement(eventReader, topLevelElement, batch.eventWriter);
+            addXmlUnit(batch, batchWriter);
+            return;
+        }
+        boolean empty = true;
+        StartElement childElement;
+        while ((childElement = nextStartElement(eventReader)) != null) {
+            empty = false;
+            batch.ensureOpen(topLevelElement);
+            copyElement(eventReader, childElement, batch.eventWriter);
+            addXmlUnit(batch, batchWriter);
+        }
+        if (empty) {
+            batch.ensureOpen(topLevelElement);
+            addXmlUnit(batch, batchWriter);
+        }
+        batch.ensureOpen(null);
+    }
+
+    private void addXmlUnit(final XmlBatch batch, final BatchWriter batchWriter)
+            throws XMLStreamException, DeserializationException, InterruptedException, ExecutionException,
+            TimeoutException {
+        if (++batch.units >= batchSize) {
+            writeXmlBatch(batch, batchWriter);
+        }
+    }
+
+    private static void writeXmlBatch(final XmlBatch batch, final BatchWriter batchWriter)
+            throws XMLStreamException, DeserializationException, InterruptedException, ExecutionException,
+            TimeoutException {
+        final StartElement openContainer = batch.openContainer;
+        final int units = batch.units;
+        batchWriter.write(batch.finish(), units);
+        batch.reset();
+        if (openContainer != null) {
+            batch.ensureOpen(openContainer);
+        }
+    }
+
+    private boolean isList(final StartElement element) {
+        final String localName = element.getName().getLocalPart();
+        return effectiveModelContext.findModules(XMLNamespace.of(element.getName().getNamespaceURI())).stream()
+                .flatMap(module -> module.getChildNodes().stream())
+                .anyMatch(node -> node instanceof ListSchemaNode && node.getQName().getLocalName().equals(localName));
+    }
+
+    /**
+     * Find next child start element of current element, returns null when end of current element is reached.
+     */
+    private static StartElement nextStartElement(final XMLEventReader eventReader) throws XMLStreamException {
+        while (eventReader.hasNext()) {
+            final XMLEvent event = eventReader.nextEvent();
+            if (event.isStartElement()) {
+                return event.asStartElement();
+            }
+            if (event.isEndElement()) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    private static void copyElement(final XMLEventReader eventReader, final StartElement startElement,
+            final XMLEventWriter eventWriter) throws XMLStreamException {
+        eventWriter.add(startElement);
+        int depth = 1;
+        while (depth > 0) {
+            final XMLEvent event = eventReader.nextEvent();
+            if (event.isStartElement()) {
+                depth++;
+            } else if (event.isEndElement()) {
+                depth--;
+            }
+            eventWriter.add(event);
+        }
+    }
+
+    private static final class JsonBatch {
+        private JsonObject root = new JsonObject();
+        private int units;
+    }
+
+    private static final class XmlBatch {
+        private final StartElement dataElement;
+        private StringWriter stringWriter;
+        private XMLEventWriter eventWriter;
+        private StartElement openContainer;
+        private int units;
+
+        XmlBatch(final StartElement dataElement) throws XMLStreamException {
+            this.dataElement = dataElement;
+            reset();
+        }
+
+        /**
+         * Make sure that given top-level container element is open in this batch, null closes open container.
+         */
+        void ensureOpen(final StartElement container) throws XMLStreamException {
+            if (openContainer == container) {
+                return;
+            }
+            if (openContainer != null) {
+                eventWriter.add(XML_EVENT_FACTORY.createEndElement(openContainer.getName(), null));
+            }
+            if (container != null) {
+                eventWriter.add(container);
+            }
+            openContainer = container;
+        }
+
+        String finish() throws XMLStreamException {
+            ensureOpen(null);
+            eventWriter.add(XML_EVENT_FACTORY.createEndElement(dataElement.getName(), null));
+            eventWriter.close();
+            return stringWriter.toString();
+        }
+
+        void reset() throws XMLStreamException {
+            stringWriter = new StringWriter();
+            eventWriter = XML_OUT_FACTORY.createXMLEventWriter(stringWriter);
+            eventWriter.add(dataElement);
+            openContainer = null;
+            units = 0;
+        }
+    }
+
+    private final class BatchWriter {
+        private final DOMTransactionChain chain;
+        private final ImportFileFormat fileFormat;
+        private final boolean override;
+        private final CountingInputStream countingStream;
+        private final Semaphore inFlightCommits = new Semaphore(maxInFlightCommits);
+        private final AtomicReference<Throwable> commitFailure = new AtomicReference<>();
+        private final Set<PathArgument> writtenTopLevelNodes = new HashSet<>();
+        private final long startNanos = System.nanoTime();
+        private final JsonNodeConverter jsonNodeConverter;
+        private final XmlNodeConverter xmlNodeConverter;
+        private long lastProgressNanos = startNanos;
+        private long batches;
+        private long units;
+
+        BatchWriter(final DOMTransactionChain chain, final ImportFileFormat fileFormat, final boolean override,
+                final CountingInputStream countingStream) {
+            this.chain = chain;
+            this.fileFormat = fileFormat;
+            this.override = override;
+            this.countingStream = countingStream;
+            this.jsonNodeConverter = fileFormat == ImportFileFormat.JSON
+                    ? new JsonNodeConverter(effectiveModelContext) : null;
+            this.xmlNodeConverter = fileFormat == ImportFileFormat.XML
+                    ? new XmlNodeConverter(effectiveModelContext) : null;
+        }
+
+        void write(final String batchDocument, final int batchUnits)
+                throws DeserializationException, InterruptedException, ExecutionException, TimeoutException {
+            final NormalizedNode root;
+            try (Reader batchReader = new StringReader(batchDocument)) {
+                root = fileFormat == ImportFileFormat.JSON
+                        ? jsonNodeConverter.deserialize(YangInstanceIdentifier.of(), batchReader)
+                        : xmlNodeConverter.deserialize(YangInstanceIdentifier.of(), batchReader);
+            } catch (IOException e) {
+                throw new DeserializationException(e);
+            }
+            if (!inFlightCommits.tryAcquire(FileToDatastoreUtils.IMPORT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                throw new TimeoutException("Commit of imported data was not finished in "
+                        + FileToDatastoreUtils.IMPORT_TIMEOUT_MILLIS + " ms");
+            }
+            checkFailure();
+            final DOMDataTreeWriteTransaction transaction = chain.newWriteOnlyTransaction();
+            for (DataContainerChild child : ((ContainerNode) root).body()) {
+                final YangInstanceIdentifier path = YangInstanceIdentifier.of(child.name());
+                if (override && writtenTopLevelNodes.add(child.name())) {
+                    transaction.put(datastoreType, path, child);
+                } else {
+                    transaction.merge(datastoreType, path, child);
+                }
+            }
+            transaction.commit().addCallback(new FutureCallback<CommitInfo>() {
+                @Override
+                public void onSuccess(final CommitInfo result) {
+                    inFlightCommits.release();
+                }
+
+                @Override
+                public void onFailure(final Throwable cause) {
+                    commitFailure.compareAndSet(null, cause);
+                    inFlightCommits.release();
+                }
+            }, MoreExecutors.directExecutor());
+            batches++;
+            units += batchUnits;
+            final long now = System.nanoTime();
+            if (now - lastProgressNanos >= PROGRESS_LOG_INTERVAL_NANOS) {
+                lastProgressNanos = now;
+                LOG.info("Data import in progress: {}", statistics());
+            }
+        }
+
+        void awaitCommits() throws InterruptedException, ExecutionException, TimeoutException {
+            if (!inFlightCommits.tryAcquire(maxInFlightCommits, FileToDatastoreUtils.IMPORT_TIMEOUT_MILLIS,
+                    TimeUnit.MILLISECONDS)) {
+                throw new TimeoutException("Commit of imported data was not finished in "
+                        + FileToDatastoreUtils.IMPORT_TIMEOUT_MILLIS + " ms");
+            }
+            inFlightCommits.release(maxInFlightCommits);
+            checkFailure();
+        }
+
+        ImportStatistics statistics() {
+            return new ImportStatistics(batches, units, countingStream.getCount(),
+                    Duration.ofNanos(System.nanoTime() - startNanos));
+        }
+
+        private void checkFailure() throws ExecutionException {
+            final Throwable failure = commitFailure.get();
+            if (failure != null) {
+                throw new ExecutionException("Commit of imported data failed", failure);
+            }
+        }
+    }
+
+    /**
+     * Statistics of finished or running import.
+     */
+    public static final class ImportStatistics {
+        private final long batches;
+        private final long units;
+        private final long bytesRead;
+        private final Duration duration;
+
+        ImportStatistics(final long batches, final long units, final long bytesRead, final Duration duration) {
+            this.batches = batches;
+            this.units = units;
+            this.bytesRead = bytesRead;
+            this.duration = duration;
+        }
+
+        public long getBatches() {
+            return batches;
+        }
+
+        public long getUnits() {
+            return units;
+        }
+
+        public long getBytesRead() {
+            return bytesRead;
+        }
+
+        public Duration getDuration() {
+            return duration;
+        }
+
+        /**
+         * Get import throughput.
+         *
+         * @return imported units per second
+         */
+        public double getUnitsPerSecond() {
+            final long nanos = duration.toNanos();
+            return nanos == 0 ? 0 : units * 1_000_000_000.0 / nanos;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d batches, %d units, %d bytes read in %d ms (%.1f units/s)", batches, units,
+                    bytesRead, duration.toMillis(), getUnitsPerSecond());
+        }
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package io.lighty.core.controller.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.lighty.core.controller.impl.util.PrometheusTextWriter;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class ExecutionPolicyTest {
+    private static final long TIMEOUT_SECONDS = 5;
+
+    @AfterEach
+    void resetPolicy() {
+        ExecutionPolicy.setMode(ExecutionPolicy.Mode.PLATFORM);
+        VirtualThreadPinningMonitor.getInstance().stop();
+    }
+
+    @Test
+    void platformModeUsesPlatformThreads() throws Exception {
+        ExecutionPolicy.setMode(ExecutionPolicy.Mode.PLATFORM);
+        assertFalse(runsOnVirtualThread(ExecutionPolicy.newLifecycleExecutor("test")));
+        assertFalse(runsOnVirtualThread(ExecutionPolicy.newBlockingBoundedExecutor(2, 10, "test")));
+    }
+
+    @Test
+    void virtualModeUsesVirtualThreads() throws Exception {
+        ExecutionPolicy.setMode(ExecutionPolicy.Mode.VIRTUAL);
+        assertTrue(VirtualThreadPinningMonitor.getInstance().isRunning());
+        assertTrue(runsOnVirtualThread(ExecutionPolicy.newLifecycleExecutor("test")));
+        assertTrue(runsOnVirtualThread(ExecutionPolicy.newBoundedExecutor(2, 10, "test")));
+        assertTrue(runsOnVirtualThread(ExecutionPolicy.newBlockingBoundedExecutor(2, 10, "test")));
+    }
+
+    @Test
+    void unknownModeFallsBackToPlatform() {
+        assertEquals(ExecutionPolicy.Mode.VIRTUAL, ExecutionPolicy.parseMode(" Virtual "));
+        assertEquals(ExecutionPolicy.Mode.PLATFORM, ExecutionPolicy.parseMode(null));
+        assertEquals(ExecutionPolicy.Mode.PLATFORM, ExecutionPolicy.parseMode("virtual-threads"));
+    }
+
+    @Test
+    void pinningMonitorWritesPrometheusText() throws Exception {
+        final StringBuilder output = new StringBuilder();
+        VirtualThreadPinningMonitor.getInstance().writeTo(new PrometheusTextWriter(output));
+        assertTrue(output.toString().contains("# TYPE lighty_virtual_thread_pinned_total counter\n"));
+    }
+
+    private static boolean runsOnVirtualThread(final ExecutorService executor) throws Exception {
+        try {
+            return executor.submit(() -> Thread.currentThread().isVirtual()).get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
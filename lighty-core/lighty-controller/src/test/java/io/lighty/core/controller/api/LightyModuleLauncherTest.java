@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package io.lighty.core.controller.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Test;
+
+class LightyModuleLauncherTest {
+    private static final long TIMEOUT_SECONDS = 10;
+
+    private final List<String> events = new CopyOnWriteArrayList<>();
+
+    @Test
+    void independentModulesStartConcurrently() {
+        final CountDownLatch bothStarting = new CountDownLatch(2);
+        final LightyModuleLauncher launcher = new LightyModuleLauncher(TIMEOUT_SECONDS, TimeUnit.SECONDS)
+                .addModule("core", () -> new TestModule("core", null))
+                .addModule("north", () -> new TestModule("north", bothStarting), "core")
+                .addModule("south", () -> new TestModule("south", bothStarting), "core");
+
+        assertTrue(launcher.start());
+        assertEquals("start core", events.get(0));
+        assertEquals(List.of("core", "north", "south"), List.copyOf(launcher.getStartDurations().keySet()));
+
+        assertTrue(launcher.shutdown());
+        assertEquals("stop core", events.get(events.size() - 1));
+        assertEquals(3, launcher.getShutdownDurations().size());
+    }
+
+    @Test
+    void dependentModuleIsNotCreatedWhenDependencyFails() {
+        final AtomicBoolean dependentCreated = new AtomicBoolean();
+        final LightyModuleLauncher launcher = new LightyModuleLauncher(TIMEOUT_SECONDS, TimeUnit.SECONDS)
+                .addModule("core", () -> {
+                    throw new IllegalArgumentException("broken configuration");
+                })
+                .addModule("north", () -> {
+                    dependentCreated.set(true);
+                    return new TestModule("north", null);
+                }, "core")
+                .addModule("standalone", () -> new TestModule("standalone", null));
+
+        assertFalse(launcher.start());
+        assertFalse(dependentCreated.get());
+        assertTrue(events.contains("start standalone"));
+        assertTrue(launcher.shutdown());
+        assertTrue(events.contains("stop standalone"));
+    }
+
+    @Test
+    void launcherCanBeStartedAgainAfterShutdown() {
+        final LightyModuleLauncher launcher = new LightyModuleLauncher(TIMEOUT_SECONDS, TimeUnit.SECONDS)
+                .addModule("core", () -> new TestModule("core", null));
+
+        assertTrue(launcher.start());
+        assertTrue(launcher.shutdown());
+        assertTrue(launcher.start());
+        assertTrue(launcher.shutdown());
+        assertEquals(List.of("start core", "stop core", "start core", "stop core"), events);
+    }
+
+    @Test
+    void checkpointIsRejectedWithoutCracSupport() {
+        final LightyModuleLauncher launcher = new LightyModuleLauncher(TIMEOUT_SECONDS, TimeUnit.SECONDS)
+                .addModule("core", () -> new TestModule("core", null));
+
+        assertTrue(launcher.start());
+        if (!CheckpointSupport.isSupported()) {
+            assertFalse(launcher.checkpointRestore());
+            assertEquals(List.of("start core"), events);
+        }
+        assertTrue(launcher.shutdown());
+    }
+
+    @Test
+    void unknownDependencyIsRejected() {
+        final LightyModuleLauncher launcher = new LightyModuleLauncher(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assertThrows(IllegalArgumentException.class,
+            () -> launcher.addModule("north", () -> new TestModule("north", null), "core"));
+    }
+
+    private final class TestModule extends AbstractLightyModule {
+        private final String name;
+        private final CountDownLatch startLatch;
+
+        TestModule(final String name, final CountDownLatch startLatch) {
+            this.name = name;
+            this.startLatch = startLatch;
+        }
+
+        @Override
+        protected boolean initProcedure() throws InterruptedException {
+            if (startLatch != null) {
+                startLatch.countDown();
+                if (!startLatch.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                    return false;
+                }
+            }
+            events.add("start " + name);
+            return true;
+        }
+
+        @Override
+        protected boolean stopProcedure() {
+            events.add("stop " + name);
+            return true;
+        }
+    }
+}
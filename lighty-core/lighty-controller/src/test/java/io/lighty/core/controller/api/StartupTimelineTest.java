@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package io.lighty.core.controller.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class StartupTimelineTest {
+
+    @Test
+    void testPhasesAreRecordedInStartOrder() {
+        final StartupTimeline timeline = new StartupTimeline();
+        try (StartupTimeline.Phase outer = timeline.startPhase("TestModule", "outer")) {
+            try (StartupTimeline.Phase inner = timeline.startPhase("TestModule", "inner")) {
+                assertTrue(timeline.getPhases().isEmpty());
+            }
+        }
+
+        final List<StartupTimeline.PhaseRecord> phases = timeline.getPhases();
+        assertEquals(2, phases.size());
+        assertEquals("outer", phases.get(0).getName());
+        assertEquals("inner", phases.get(1).getName());
+        assertEquals(Thread.currentThread().getName(), phases.get(0).getThread());
+        assertTrue(phases.get(0).getEndNanos() >= phases.get(1).getEndNanos());
+        assertTrue(phases.get(1).getDurationNanos() >= 0);
+    }
+
+    @Test
+    void testPhaseIsRecordedOnlyOnce() {
+        final StartupTimeline timeline = new StartupTimeline();
+        final StartupTimeline.Phase phase = timeline.startPhase("TestModule", "phase");
+        phase.close();
+        phase.close();
+        assertEquals(1, timeline.getPhases().size());
+        timeline.clear();
+        assertTrue(timeline.getPhases().isEmpty());
+    }
+
+    @Test
+    void testTimelineIsClearedOnNewStart() {
+        final StartupTimeline timeline = new StartupTimeline();
+        timeline.startPhase("TestModule", "previous-start").close();
+        timeline.moduleStarted();
+        assertTrue(timeline.getPhases().isEmpty());
+
+        timeline.startPhase("TestModule", "phase").close();
+        timeline.moduleStarted();
+        assertEquals(1, timeline.getPhases().size());
+
+        timeline.moduleStopped();
+        timeline.moduleStopped();
+        timeline.moduleStarted();
+        assertTrue(timeline.getPhases().isEmpty());
+    }
+
+    @Test
+    void testJsonDump() throws Exception {
+        final StartupTimeline timeline = new StartupTimeline();
+        timeline.startPhase("TestModule", "phase").close();
+
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        timeline.writeJson(outputStream);
+        final JsonNode json = new ObjectMapper().readTree(outputStream.toByteArray());
+        assertEquals(json, new ObjectMapper().readTree(timeline.toJson()));
+
+        final JsonNode phase = json.path("phases").path(0);
+        assertEquals("TestModule", phase.path("module").asText());
+        assertEquals("phase", phase.path("name").asText());
+        assertTrue(phase.has("startNanos"));
+        assertTrue(phase.has("endNanos"));
+        assertTrue(phase.has("durationNanos"));
+        assertTrue(phase.has("thread"));
+        assertTrue(phase.has("allocatedBytes"));
+    }
+}
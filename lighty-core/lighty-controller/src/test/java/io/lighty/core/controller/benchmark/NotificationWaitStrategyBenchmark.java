@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package io.lighty.core.controller.benchmark;
+
+import io.lighty.core.controller.impl.services.WaitStrategyDOMNotificationPublishService;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import org.opendaylight.mdsal.dom.api.DOMNotification;
+import org.opendaylight.mdsal.dom.api.DOMNotificationPublishService;
+import org.opendaylight.mdsal.dom.broker.DOMNotificationRouter;
+import org.opendaylight.mdsal.dom.broker.RouterDOMNotificationService;
+import org.opendaylight.mdsal.dom.broker.RouterDOMPublishNotificationService;
+import org.opendaylight.yangtools.concepts.Registration;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.spi.node.ImmutableNodes;
+import org.opendaylight.yangtools.yang.model.api.stmt.SchemaNodeIdentifier.Absolute;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Latency and publisher CPU time of notification publishing with different wait strategies. The subscriber
+ * processes every notification for a few microseconds and the router queue is short, so publishers regularly find
+ * the queue full and wait by the benchmarked strategy. Publisher CPU time per publish is reported by the
+ * {@code cpuNanos} secondary result.
+ *
+ * <p>Run by {@code java -cp <test classpath> io.lighty.core.controller.benchmark.NotificationWaitStrategyBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NotificationWaitStrategyBenchmark {
+    private static final Absolute TYPE = Absolute.of(QName.create("urn:lighty:benchmark", "event"));
+    private static final ContainerNode BODY = ImmutableNodes.newContainerBuilder()
+            .withNodeIdentifier(new NodeIdentifier(TYPE.lastNodeIdentifier()))
+            .build();
+    private static final DOMNotification NOTIFICATION = new DOMNotification() {
+        @Override
+        public Absolute getType() {
+            return TYPE;
+        }
+
+        @Override
+        public ContainerNode getBody() {
+            return BODY;
+        }
+    };
+
+    @Param({"BLOCKING", "BUSY_SPIN", "SPIN_THEN_PARK"})
+    public String strategy;
+
+    @Param({"16"})
+    public int queueDepth;
+
+    @Param({"5"})
+    public long subscriberMicros;
+
+    private DOMNotificationRouter router;
+    private Registration registration;
+    private DOMNotificationPublishService publishService;
+
+    /**
+     * Publisher CPU time.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class CpuCounters {
+        private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+        public long cpuNanos;
+        private long publishes;
+        private long startedCpuNanos;
+
+        @Setup(Level.Iteration)
+        public void start() {
+            cpuNanos = 0;
+            publishes = 0;
+            startedCpuNanos = THREADS.getCurrentThreadCpuTime();
+        }
+
+        @TearDown(Level.Iteration)
+        public void stop() {
+            cpuNanos = publishes == 0 ? 0 : (THREADS.getCurrentThreadCpuTime() - startedCpuNanos) / publishes;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        router = new DOMNotificationRouter(queueDepth);
+        final long subscriberNanos = TimeUnit.MICROSECONDS.toNanos(subscriberMicros);
+        registration = new RouterDOMNotificationService(router).registerNotificationListener(
+                notification -> LockSupport.parkNanos(subscriberNanos), TYPE);
+        final WaitStrategyDOMNotificationPublishService.WaitStrategy waitStrategy =
+                WaitStrategyDOMNotificationPublishService.WaitStrategy.valueOf(strategy);
+        final DOMNotificationPublishService routerPublishService = new RouterDOMPublishNotificationService(router);
+        switch (waitStrategy) {
+            case BLOCKING:
+                publishService = routerPublishService;
+                break;
+            case BUSY_SPIN:
+                publishService = new WaitStrategyDOMNotificationPublishService(routerPublishService, 1, 0,
+                        TimeUnit.MILLISECONDS);
+                break;
+            case SPIN_THEN_PARK:
+                publishService = new WaitStrategyDOMNotificationPublishService(routerPublishService, 20, 1000,
+                        TimeUnit.MICROSECONDS);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown strategy " + strategy);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        registration.close();
+        router.close();
+    }
+
+    @Benchmark
+    public Object putNotification(final CpuCounters counters) throws InterruptedException {
+        counters.publishes++;
+        return publishService.putNotification(NOTIFICATION);
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(NotificationWaitStrategyBenchmark.class.getSimpleName()).build())
+                .run();
+    }
+}
@@ -17,6 +17,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.lighty.core.controller.impl.LightyControllerBuilder;
 import io.lighty.core.controller.impl.config.ConfigurationException;
 import io.lighty.core.controller.impl.config.ControllerConfiguration;
 import io.lighty.core.controller.impl.util.ControllerConfigUtils;
@@ -32,6 +33,8 @@ import org.junit.jupiter.api.Test;
 import org.opendaylight.controller.cluster.datastore.DatastoreContext;
 import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
 import org.opendaylight.yangtools.binding.meta.YangModuleInfo;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 
 class ConfigLoadingTest {
 
@@ -124,6 +127,18 @@ class ConfigLoadingTest {
         assertEquals(FileToDatastoreUtils.ImportFileFormat.JSON, configuration.getInitialConfigData().getFormat());
     }
 
+    @Test
+    void streamingInitConfigDataWithNonRootPathIsRejected() throws ConfigurationException {
+        final ControllerConfiguration configuration = ControllerConfigUtils.getDefaultSingleNodeConfiguration();
+        final ControllerConfiguration.InitialConfigData initialConfigData =
+                new ControllerConfiguration.InitialConfigData("test-path", FileToDatastoreUtils.ImportFileFormat.JSON);
+        initialConfigData.setStreaming(true);
+        initialConfigData.setInstanceIdentifier(YangInstanceIdentifier.of(QName.create("urn:test", "test")));
+        configuration.setInitialConfigData(initialConfigData);
+
+        assertThrows(ConfigurationException.class, () -> new LightyControllerBuilder().from(configuration).build());
+    }
+
     @Test
     void loadControllerConfiguration() throws IOException, ConfigurationException {
         InputStream inputStream = this.getClass().getResourceAsStream("/testLightyControllerConfig.json");
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package io.lighty.core.controller.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.lighty.core.cluster.config.ClusteringConfigUtils;
+import io.lighty.core.cluster.config.ModuleShardConfig;
+import io.lighty.core.controller.impl.LightyControllerBuilder;
+import io.lighty.core.controller.impl.config.ConfigurationException;
+import io.lighty.core.controller.impl.config.ControllerConfiguration;
+import io.lighty.core.controller.impl.util.ControllerConfigUtils;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.opendaylight.controller.cluster.access.concepts.MemberName;
+import org.opendaylight.controller.cluster.datastore.config.Configuration;
+import org.opendaylight.controller.cluster.datastore.config.ConfigurationImpl;
+
+class ShardLayoutTest {
+    private static final String SHARDING_CONFIG = """
+            {
+                "defaultReplicas": ["member-1", "member-2", "member-3"],
+                "shards": [
+                    {
+                        "name": "topology",
+                        "namespace": "urn:TBD:params:xml:ns:yang:network-topology"
+                    },
+                    {
+                        "name": "telemetry",
+                        "namespace": "urn:example:telemetry",
+                        "replicas": ["member-2"]
+                    }
+                ]
+            }
+            """;
+
+    @Test
+    void generatedLayoutIsLoadedByDatastoreConfiguration(@TempDir final Path layoutDirectory) throws Exception {
+        final ControllerConfiguration.ShardingConfig shardingConfig = new ObjectMapper()
+                .readValue(SHARDING_CONFIG, ControllerConfiguration.ShardingConfig.class);
+        ClusteringConfigUtils.writeShardLayout(layoutDirectory, shardingConfig.getShards(),
+                shardingConfig.getDefaultReplicas());
+
+        final Configuration configuration = new ConfigurationImpl(
+                layoutDirectory.resolve(ClusteringConfigUtils.MODULE_SHARDS_FILE_NAME).toString(),
+                layoutDirectory.resolve(ClusteringConfigUtils.MODULES_FILE_NAME).toString());
+        assertEquals(Set.of("default", "topology", "telemetry"), Set.copyOf(configuration.getAllShardNames()));
+        assertEquals("telemetry", configuration.getModuleNameFromNameSpace("urn:example:telemetry"));
+        assertEquals("telemetry", configuration.getShardNameForModule("telemetry"));
+        assertEquals(Set.of(MemberName.forName("member-2")),
+                Set.copyOf(configuration.getMembersFromShardName("telemetry")));
+        assertEquals(Set.of(MemberName.forName("member-1"), MemberName.forName("member-2"),
+                MemberName.forName("member-3")), Set.copyOf(configuration.getMembersFromShardName("default")));
+    }
+
+    @Test
+    void inMemoryOperationalDatastoreOfReplicatedShardsIsRejected(@TempDir final Path layoutDirectory)
+            throws ConfigurationException {
+        final ControllerConfiguration.ShardingConfig shardingConfig = new ControllerConfiguration.ShardingConfig();
+        shardingConfig.setShards(List.of(new ModuleShardConfig("topology",
+                "urn:TBD:params:xml:ns:yang:network-topology", List.of())));
+        shardingConfig.setDefaultReplicas(List.of("member-1", "member-2"));
+        shardingConfig.setLayoutDirectory(layoutDirectory.toString());
+        final ControllerConfiguration configuration = ControllerConfigUtils.getDefaultSingleNodeConfiguration();
+        configuration.setShardingConfig(shardingConfig);
+        configuration.setInMemoryOperationalDatastore(true);
+
+        assertThrows(ConfigurationException.class, () -> new LightyControllerBuilder().from(configuration).build());
+    }
+
+    @Test
+    void namespaceMappedToTwoShardsIsRejected() {
+        final List<ModuleShardConfig> shards = List.of(
+                new ModuleShardConfig("first", "urn:example:module", List.of()),
+                new ModuleShardConfig("second", "urn:example:module", List.of()));
+        assertThrows(IllegalArgumentException.class, () -> ClusteringConfigUtils.generateModules(shards));
+    }
+}
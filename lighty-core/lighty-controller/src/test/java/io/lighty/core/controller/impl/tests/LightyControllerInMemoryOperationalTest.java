@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package io.lighty.core.controller.impl.tests;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.lighty.core.controller.api.LightyController;
+import io.lighty.core.controller.impl.LightyControllerBuilder;
+import io.lighty.core.controller.impl.config.ControllerConfiguration;
+import io.lighty.core.controller.impl.util.ControllerConfigUtils;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.opendaylight.mdsal.binding.api.DataBroker;
+import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
+import org.opendaylight.yangtools.concepts.Registration;
+
+class LightyControllerInMemoryOperationalTest {
+    private static final long TIMEOUT_MILLIS = 60_000;
+
+    @Test
+    void testInMemoryOperationalDatastore() throws Exception {
+        final ControllerConfiguration configuration = ControllerConfigUtils.getDefaultSingleNodeConfiguration();
+        configuration.setInMemoryOperationalDatastore(true);
+        final LightyController lightyController = new LightyControllerBuilder().from(configuration).build();
+        assertTrue(lightyController.start().get(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+        try {
+            assertNotNull(lightyController.getServices().getConfigDatastore());
+            assertNull(lightyController.getServices().getOperationalDatastore());
+            assertNull(lightyController.getServices().getClusterAdminRPCService());
+
+            final DataBroker dataBroker = lightyController.getServices().getBindingDataBroker();
+            final CountDownLatch changeReceived = new CountDownLatch(1);
+            try (Registration registration = dataBroker.registerTreeChangeListener(LogicalDatastoreType.OPERATIONAL,
+                    TestUtils.TOPOLOGY_ID, changes -> changeReceived.countDown())) {
+                TestUtils.writeToTopology(dataBroker, TestUtils.TOPOLOGY_ID, TestUtils.TOPOLOGY);
+                TestUtils.readFromTopology(dataBroker, TestUtils.TOPOLOGY_NAME, 1);
+                assertTrue(changeReceived.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+            }
+        } finally {
+            assertTrue(lightyController.shutdown(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+        }
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package io.lighty.core.controller.impl.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.lighty.core.controller.api.LightyController;
+import io.lighty.core.controller.impl.LightyControllerBuilder;
+import io.lighty.core.controller.impl.config.ControllerConfiguration;
+import io.lighty.core.controller.impl.config.ControllerConfiguration.OptionalService;
+import io.lighty.core.controller.impl.util.ControllerConfigUtils;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class LightyControllerLazyServicesTest {
+    private static final long TIMEOUT_MILLIS = 60_000;
+
+    @Test
+    void testEagerServicesFromConfiguration() throws Exception {
+        final ControllerConfiguration configuration = ControllerConfigUtils.getDefaultSingleNodeConfiguration();
+        assertEquals(EnumSet.allOf(OptionalService.class), configuration.getEagerServices());
+
+        configuration.setLazyServicesEnabled(true);
+        assertEquals(EnumSet.of(OptionalService.REMOTE_OPS, OptionalService.YANG_LIBRARY_WRITER),
+                configuration.getEagerServices());
+
+        configuration.setRequiredServices(Set.of(OptionalService.ENTITY_OWNERSHIP));
+        assertEquals(EnumSet.of(OptionalService.REMOTE_OPS, OptionalService.ENTITY_OWNERSHIP,
+                OptionalService.YANG_LIBRARY_WRITER), configuration.getEagerServices());
+    }
+
+    @Test
+    void testOptionalServicesAreCreatedOnFirstAccess() throws Exception {
+        final ControllerConfiguration configuration = ControllerConfigUtils.getDefaultSingleNodeConfiguration();
+        configuration.setLazyServicesEnabled(true);
+        configuration.setRequiredServices(Set.of(OptionalService.BINDING_NOTIFICATIONS));
+        final LightyController lightyController = new LightyControllerBuilder().from(configuration).build();
+
+        assertNull(lightyController.getServices().getEntityOwnershipService());
+        assertTrue(lightyController.start().get(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+        try {
+            assertNotNull(lightyController.getServices().getNotificationService());
+            assertNotNull(lightyController.getServices().getBindingNotificationPublishService());
+
+            assertNotNull(lightyController.getServices().getClusterSingletonServiceProvider());
+            assertNotNull(lightyController.getServices().getDOMEntityOwnershipService());
+            assertNotNull(lightyController.getServices().getEntityOwnershipService());
+            assertNotNull(lightyController.getServices().getClusterAdminRPCService());
+            assertNotNull(lightyController.getServices().getDOMActionService());
+            assertNotNull(lightyController.getServices().getDOMActionProviderService());
+            assertNotNull(lightyController.getServices().getActionService());
+            assertNotNull(lightyController.getServices().getActionProviderService());
+            assertSame(lightyController.getServices().getEntityOwnershipService(),
+                    lightyController.getServices().getEntityOwnershipService());
+        } finally {
+            assertTrue(lightyController.shutdown(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+        }
+    }
+}
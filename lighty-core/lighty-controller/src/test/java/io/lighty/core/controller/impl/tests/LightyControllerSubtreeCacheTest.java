@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package io.lighty.core.controller.impl.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.lighty.core.controller.api.LightyController;
+import io.lighty.core.controller.impl.LightyControllerBuilder;
+import io.lighty.core.controller.impl.config.ControllerConfiguration;
+import io.lighty.core.controller.impl.services.CachingDOMDataBroker;
+import io.lighty.core.controller.impl.util.ControllerConfigUtils;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import org.junit.jupiter.api.Test;
+import org.opendaylight.mdsal.binding.api.DataBroker;
+import org.opendaylight.mdsal.binding.api.ReadTransaction;
+import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
+import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.network.topology.Topology;
+import org.opendaylight.yangtools.concepts.Registration;
+
+class LightyControllerSubtreeCacheTest {
+    private static final long TIMEOUT_MILLIS = 60_000;
+
+    @Test
+    void testCachedSubtreeFollowsDatastore() throws Exception {
+        final ControllerConfiguration configuration = ControllerConfigUtils.getDefaultSingleNodeConfiguration();
+        configuration.setSubtreeCacheEnabled(true);
+        final LightyController lightyController = new LightyControllerBuilder().from(configuration).build();
+        assertTrue(lightyController.start().get(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+        try {
+            final CachingDOMDataBroker cachingBroker = lightyController.getServices().getCachingDOMDataBroker()
+                    .orElseThrow();
+            final DataBroker cachingBindingBroker = lightyController.getServices().getCachingBindingDataBroker()
+                    .orElseThrow();
+            final Registration registration = cachingBroker.cacheSubtree(LogicalDatastoreType.OPERATIONAL,
+                    TestUtils.createNetworkTopologyYIID());
+
+            // first read registers listener, following reads are served from memory once it is loaded
+            assertTrue(readTopology(cachingBindingBroker).isEmpty());
+            assertEquals(1, cachingBroker.getStatistics().getMisses());
+            awaitCondition(() -> readTopologyUnchecked(cachingBindingBroker).isEmpty()
+                    && cachingBroker.getStatistics().getHits() > 0);
+
+            // written data become visible in cache
+            TestUtils.writeToTopology(lightyController.getServices().getBindingDataBroker(), TestUtils.TOPOLOGY_ID,
+                    TestUtils.TOPOLOGY);
+            awaitCondition(() -> readTopologyUnchecked(cachingBindingBroker).isPresent());
+            final long hits = cachingBroker.getStatistics().getHits();
+            assertEquals(TestUtils.TOPOLOGY, readTopology(cachingBindingBroker).orElseThrow());
+            assertEquals(hits + 1, cachingBroker.getStatistics().getHits());
+
+            // closed registration passes reads to datastore
+            registration.close();
+            final long misses = cachingBroker.getStatistics().getMisses();
+            assertTrue(readTopology(cachingBindingBroker).isPresent());
+            assertEquals(hits + 1, cachingBroker.getStatistics().getHits());
+            assertEquals(misses, cachingBroker.getStatistics().getMisses());
+        } finally {
+            assertTrue(lightyController.shutdown(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+        }
+    }
+
+    private static Optional<Topology> readTopology(final DataBroker dataBroker) throws Exception {
+        try (ReadTransaction readTransaction = dataBroker.newReadOnlyTransaction()) {
+            return readTransaction.read(LogicalDatastoreType.OPERATIONAL, TestUtils.TOPOLOGY_ID)
+                    .get(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @SuppressWarnings("IllegalCatch")
+    private static Optional<Topology> readTopologyUnchecked(final DataBroker dataBroker) {
+        try {
+            return readTopology(dataBroker);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void awaitCondition(final BooleanSupplier condition) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(TIMEOUT_MILLIS);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "Condition not met in time");
+            Thread.sleep(50);
+        }
+    }
+}
@@ -9,6 +9,7 @@ package io.lighty.core.controller.impl.tests;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import io.lighty.core.controller.api.LightyController;
 import java.util.HashSet;
@@ -55,5 +56,7 @@ class LightyControllerTest extends LightyControllerTestBase {
         assertNotNull(lightyController.getServices().getBindingNotificationPublishService());
         assertNotNull(lightyController.getServices().getBindingDataBroker());
         assertNotNull(lightyController.getServices().getAdapterContext());
+        assertTrue(lightyController.getServices().getStartupTimeline().getPhases().stream()
+                .anyMatch(phase -> phase.getName().equals("schema-resolve")));
     }
 }
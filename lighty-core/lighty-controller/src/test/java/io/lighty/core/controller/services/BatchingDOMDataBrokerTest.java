@@ -0,0 +1,247 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package io.lighty.core.controller.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.common.util.concurrent.FluentFuture;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.SettableFuture;
+import io.lighty.core.controller.impl.services.BatchingDOMDataBroker;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.opendaylight.mdsal.common.api.CommitInfo;
+import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
+import org.opendaylight.mdsal.dom.api.DOMDataBroker;
+import org.opendaylight.mdsal.dom.api.DOMDataTreeWriteTransaction;
+import org.opendaylight.mdsal.dom.api.DOMTransactionChain;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+
+class BatchingDOMDataBrokerTest {
+    private static final long TIMEOUT_SECONDS = 10;
+    private static final long TIMEOUT_MILLIS = TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS);
+    private static final YangInstanceIdentifier CONTAINER = YangInstanceIdentifier.of(
+            QName.create("urn:test", "container"));
+    private static final YangInstanceIdentifier LEAF_A = CONTAINER.node(QName.create("urn:test", "a"));
+    private static final YangInstanceIdentifier LEAF_B = CONTAINER.node(QName.create("urn:test", "b"));
+
+    @Mock
+    private DOMDataBroker delegate;
+    @Mock
+    private DOMTransactionChain chain;
+    @Mock
+    private DOMDataTreeWriteTransaction batchTransaction;
+    @Mock
+    private DOMDataTreeWriteTransaction singleTransaction;
+    @Mock
+    private NormalizedNode data;
+
+    private BatchingDOMDataBroker batchingBroker;
+
+    @BeforeEach
+    void init() {
+        MockitoAnnotations.initMocks(this);
+        when(delegate.createTransactionChain()).thenReturn(chain);
+        when(chain.newWriteOnlyTransaction()).thenReturn(batchTransaction);
+        when(delegate.newWriteOnlyTransaction()).thenReturn(singleTransaction);
+        doReturn(CommitInfo.emptyFluentFuture()).when(batchTransaction).commit();
+        doReturn(CommitInfo.emptyFluentFuture()).when(singleTransaction).commit();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        batchingBroker.close();
+    }
+
+    @Test
+    void independentWritesAreCommittedInSingleTransaction() throws Exception {
+        batchingBroker = new BatchingDOMDataBroker(delegate, 2, 1, TimeUnit.HOURS);
+        final FluentFuture<? extends CommitInfo> first = write(LEAF_A);
+        final FluentFuture<? extends CommitInfo> second = write(LEAF_B);
+
+        first.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        second.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        verify(chain, times(1)).newWriteOnlyTransaction();
+        verify(batchTransaction).put(LogicalDatastoreType.OPERATIONAL, LEAF_A, data);
+        verify(batchTransaction).put(LogicalDatastoreType.OPERATIONAL, LEAF_B, data);
+        assertEquals(1, batchingBroker.getStatistics().getBatchCount());
+        assertEquals(2, batchingBroker.getStatistics().getTransactionCount());
+        assertEquals(2, batchingBroker.getStatistics().getLargestBatchSize());
+    }
+
+    @Test
+    void overlappingWritesAreCommittedInConsecutiveTransactions() throws Exception {
+        batchingBroker = new BatchingDOMDataBroker(delegate, 2, 1, TimeUnit.HOURS);
+        final FluentFuture<? extends CommitInfo> first = write(CONTAINER);
+        final FluentFuture<? extends CommitInfo> second = write(LEAF_A);
+
+        first.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        second.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        verify(chain, times(2)).newWriteOnlyTransaction();
+        assertEquals(2, batchingBroker.getStatistics().getBatchCount());
+    }
+
+    @Test
+    void failedBatchIsWrittenOneByOne() throws Exception {
+        doReturn(FluentFuture.from(Futures.immediateFailedFuture(new IllegalStateException("batch failed"))))
+                .when(batchTransaction).commit();
+        batchingBroker = new BatchingDOMDataBroker(delegate, 2, 1, TimeUnit.HOURS);
+        final FluentFuture<? extends CommitInfo> first = write(LEAF_A);
+        final FluentFuture<? extends CommitInfo> second = write(LEAF_B);
+
+        first.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        second.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        verify(singleTransaction, times(2)).commit();
+        assertEquals(1, batchingBroker.getStatistics().getFailedBatchCount());
+    }
+
+    @Test
+    void invalidWriteFailsOnlyItsTransaction() throws Exception {
+        doThrow(new IllegalArgumentException("invalid data")).when(batchTransaction)
+                .put(LogicalDatastoreType.OPERATIONAL, LEAF_B, data);
+        doThrow(new IllegalArgumentException("invalid data")).when(singleTransaction)
+                .put(LogicalDatastoreType.OPERATIONAL, LEAF_B, data);
+        batchingBroker = new BatchingDOMDataBroker(delegate, 2, 1, TimeUnit.HOURS);
+        final FluentFuture<? extends CommitInfo> valid = write(LEAF_A);
+        final FluentFuture<? extends CommitInfo> invalid = write(LEAF_B);
+
+        valid.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        final ExecutionException failure = assertThrows(ExecutionException.class,
+            () -> invalid.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalArgumentException.class, failure.getCause());
+        verify(batchTransaction).cancel();
+        verify(singleTransaction).cancel();
+        verify(chain).close();
+        assertEquals(1, batchingBroker.getStatistics().getFailedBatchCount());
+    }
+
+    @Test
+    void flushAfterFailedChainUsesNewChain() throws Exception {
+        final SettableFuture<CommitInfo> firstCommit = SettableFuture.create();
+        doReturn(FluentFuture.from(firstCommit)).when(batchTransaction).commit();
+        when(chain.newWriteOnlyTransaction()).thenReturn(batchTransaction)
+                .thenThrow(new IllegalStateException("chain failed"));
+        final DOMTransactionChain newChain = mock(DOMTransactionChain.class);
+        final DOMDataTreeWriteTransaction newChainTransaction = mock(DOMDataTreeWriteTransaction.class);
+        when(delegate.createTransactionChain()).thenReturn(chain, newChain);
+        when(newChain.newWriteOnlyTransaction()).thenReturn(newChainTransaction);
+        doReturn(CommitInfo.emptyFluentFuture()).when(newChainTransaction).commit();
+        batchingBroker = new BatchingDOMDataBroker(delegate, 1, 1, TimeUnit.HOURS);
+
+        final FluentFuture<? extends CommitInfo> first = write(LEAF_A);
+        // flushed while commit of the first batch is in flight, on a chain which can no longer be used
+        final FluentFuture<? extends CommitInfo> second = write(LEAF_B);
+        verify(chain, timeout(TIMEOUT_MILLIS)).close();
+        firstCommit.setException(new IllegalStateException("batch failed"));
+        first.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        second.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        write(CONTAINER).get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        verify(singleTransaction, times(2)).commit();
+        verify(chain).close();
+        verify(newChainTransaction).put(LogicalDatastoreType.OPERATIONAL, CONTAINER, data);
+        assertEquals(2, batchingBroker.getStatistics().getFailedBatchCount());
+    }
+
+    @Test
+    void failedBatchesOfOneChainAreRetriedInOrderOfSubmission() throws Exception {
+        final SettableFuture<CommitInfo> firstCommit = SettableFuture.create();
+        final SettableFuture<CommitInfo> secondCommit = SettableFuture.create();
+        doReturn(FluentFuture.from(firstCommit), FluentFuture.from(secondCommit)).when(batchTransaction).commit();
+        final SettableFuture<CommitInfo> firstRetry = SettableFuture.create();
+        doReturn(FluentFuture.from(firstRetry), CommitInfo.emptyFluentFuture()).when(singleTransaction).commit();
+        batchingBroker = new BatchingDOMDataBroker(delegate, 2, 1, TimeUnit.HOURS);
+
+        // overlapping writes are split into two batches on the same chain
+        final FluentFuture<? extends CommitInfo> first = write(CONTAINER);
+        final FluentFuture<? extends CommitInfo> second = write(LEAF_A);
+        verify(batchTransaction, timeout(TIMEOUT_MILLIS).times(2)).commit();
+        // failure of the chain fails both batches, the later one is reported first
+        secondCommit.setException(new IllegalStateException("chain failed"));
+        firstCommit.setException(new IllegalStateException("chain failed"));
+
+        verify(singleTransaction, timeout(TIMEOUT_MILLIS)).put(LogicalDatastoreType.OPERATIONAL, CONTAINER, data);
+        verify(singleTransaction, never()).put(LogicalDatastoreType.OPERATIONAL, LEAF_A, data);
+        firstRetry.set(CommitInfo.empty());
+        first.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        second.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        final InOrder inOrder = inOrder(singleTransaction);
+        inOrder.verify(singleTransaction).put(LogicalDatastoreType.OPERATIONAL, CONTAINER, data);
+        inOrder.verify(singleTransaction).commit();
+        inOrder.verify(singleTransaction).put(LogicalDatastoreType.OPERATIONAL, LEAF_A, data);
+        inOrder.verify(singleTransaction).commit();
+        assertEquals(2, batchingBroker.getStatistics().getFailedBatchCount());
+    }
+
+    @Test
+    void closeWaitsForBatchesInFlight() throws Exception {
+        final SettableFuture<CommitInfo> commit = SettableFuture.create();
+        doReturn(FluentFuture.from(commit)).when(batchTransaction).commit();
+        batchingBroker = new BatchingDOMDataBroker(delegate, 1, 1, TimeUnit.HOURS);
+        final FluentFuture<? extends CommitInfo> inFlight = write(LEAF_A);
+        verify(batchTransaction, timeout(TIMEOUT_MILLIS)).commit();
+
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final Future<?> closed = executor.submit(() -> {
+                batchingBroker.close();
+                return null;
+            });
+            Thread.sleep(100);
+            assertFalse(closed.isDone());
+            commit.set(CommitInfo.empty());
+            closed.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            assertTrue(inFlight.isDone());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void pendingWritesAreCommittedOnClose() throws Exception {
+        batchingBroker = new BatchingDOMDataBroker(delegate, 100, 1, TimeUnit.HOURS);
+        final FluentFuture<? extends CommitInfo> pending = write(LEAF_A);
+
+        batchingBroker.close();
+        assertTrue(pending.isDone());
+        pending.get();
+        verify(batchTransaction).put(any(), any(), any());
+    }
+
+    private FluentFuture<? extends CommitInfo> write(final YangInstanceIdentifier path) {
+        final DOMDataTreeWriteTransaction transaction = batchingBroker.newWriteOnlyTransaction();
+        transaction.put(LogicalDatastoreType.OPERATIONAL, path, data);
+        return transaction.commit();
+    }
+}
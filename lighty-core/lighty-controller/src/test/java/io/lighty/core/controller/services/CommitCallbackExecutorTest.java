@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package io.lighty.core.controller.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.lighty.core.controller.impl.services.CommitCallbackExecutor;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class CommitCallbackExecutorTest {
+
+    @Test
+    void directStrategyRunsCallbackOnSubmittingThread() throws Exception {
+        final CommitCallbackExecutor executor = CommitCallbackExecutor.create(CommitCallbackExecutor.Strategy.DIRECT,
+                1, 1, "test");
+        final CompletableFuture<Thread> thread = new CompletableFuture<>();
+        executor.execute(() -> thread.complete(Thread.currentThread()));
+
+        assertSame(Thread.currentThread(), thread.get());
+        assertEquals(1, executor.getQueueWait().getCount());
+        assertEquals(0, executor.getQueueCapacity());
+        executor.shutdown();
+    }
+
+    @Test
+    void virtualStrategyRunsCallbackOnVirtualThread() throws Exception {
+        final CommitCallbackExecutor executor = CommitCallbackExecutor.create(CommitCallbackExecutor.Strategy.VIRTUAL,
+                1, 1, "test");
+        try {
+            assertTrue(executor.submit(() -> Thread.currentThread().isVirtual()).get(10, TimeUnit.SECONDS));
+            assertEquals(1, executor.getQueueWait().getCount());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void boundedStrategyCountsBlockedSubmissions() throws Exception {
+        final CommitCallbackExecutor executor = CommitCallbackExecutor.create(CommitCallbackExecutor.Strategy.BOUNDED,
+                1, 1, "test");
+        try {
+            final CountDownLatch release = new CountDownLatch(1);
+            executor.execute(() -> awaitUninterruptibly(release));
+            executor.execute(() -> { });
+            final CompletableFuture<Void> blockedSubmission = CompletableFuture.runAsync(
+                    () -> executor.execute(() -> { }));
+            Thread.sleep(100);
+            assertFalse(blockedSubmission.isDone());
+
+            release.countDown();
+            blockedSubmission.get(10, TimeUnit.SECONDS);
+            assertEquals(1, executor.getBlockedCount());
+            assertTrue(executor.getBlockedNanos() > 0);
+            assertEquals(0, executor.getRejectedCount());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void awaitUninterruptibly(final CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package io.lighty.core.controller.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.when;
+
+import com.google.common.util.concurrent.FluentFuture;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.SettableFuture;
+import io.lighty.core.controller.impl.services.CommitCallbackExecutor;
+import io.lighty.core.controller.impl.services.DataBrokerMetrics;
+import io.lighty.core.controller.impl.services.LatencyHistogram;
+import io.lighty.core.controller.impl.services.MetricsDOMDataBroker;
+import io.lighty.core.controller.impl.util.PrometheusTextWriter;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.opendaylight.controller.cluster.datastore.config.Configuration;
+import org.opendaylight.mdsal.common.api.CommitInfo;
+import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
+import org.opendaylight.mdsal.dom.api.DOMDataBroker;
+import org.opendaylight.mdsal.dom.api.DOMDataTreeWriteTransaction;
+import org.opendaylight.yangtools.util.DurationStatisticsTracker;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+
+class DataBrokerMetricsTest {
+    private static final YangInstanceIdentifier TOPOLOGY = YangInstanceIdentifier.of(
+            QName.create("urn:test:topology", "topology"));
+    private static final YangInstanceIdentifier INVENTORY = YangInstanceIdentifier.of(
+            QName.create("urn:test:inventory", "inventory"));
+
+    @Mock
+    private DOMDataBroker delegate;
+    @Mock
+    private DOMDataTreeWriteTransaction transaction;
+    @Mock
+    private Configuration configuration;
+    @Mock
+    private NormalizedNode data;
+
+    private CommitCallbackExecutor executor;
+    private DataBrokerMetrics metrics;
+    private MetricsDOMDataBroker metricsBroker;
+
+    @BeforeEach
+    void init() {
+        MockitoAnnotations.initMocks(this);
+        when(delegate.newWriteOnlyTransaction()).thenReturn(transaction);
+        when(configuration.getModuleNameFromNameSpace("urn:test:topology")).thenReturn("topology");
+        when(configuration.getShardNameForModule("topology")).thenReturn("topology-shard");
+        executor = CommitCallbackExecutor.create(CommitCallbackExecutor.Strategy.BOUNDED, 1, 1000, "test");
+        metrics = new DataBrokerMetrics(DurationStatisticsTracker.createConcurrent(), executor);
+        metricsBroker = new MetricsDOMDataBroker(delegate, metrics, configuration);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void commitLatencyIsRecordedByDatastoreAndShard() throws Exception {
+        final SettableFuture<CommitInfo> commitFuture = SettableFuture.create();
+        doReturn(FluentFuture.from(commitFuture)).when(transaction).commit();
+
+        final DOMDataTreeWriteTransaction writeTransaction = metricsBroker.newWriteOnlyTransaction();
+        writeTransaction.put(LogicalDatastoreType.OPERATIONAL, TOPOLOGY, data);
+        writeTransaction.merge(LogicalDatastoreType.OPERATIONAL, INVENTORY, data);
+        assertEquals(1, metrics.getOpenTransactionCount());
+        final FluentFuture<? extends CommitInfo> result = writeTransaction.commit();
+        assertEquals(0, metrics.getOpenTransactionCount());
+        assertEquals(1, metrics.getCommittingTransactionCount());
+
+        commitFuture.set(CommitInfo.empty());
+        result.get(10, TimeUnit.SECONDS);
+        assertEquals(0, metrics.getCommittingTransactionCount());
+        assertEquals(1, metrics.getCommitLatency(LogicalDatastoreType.OPERATIONAL).getCount());
+        assertEquals(0, metrics.getCommitLatency(LogicalDatastoreType.CONFIGURATION).getCount());
+        assertEquals(1, metrics.getShardCommitLatency(LogicalDatastoreType.OPERATIONAL).get("topology-shard")
+                .getCount());
+        assertEquals(1, metrics.getShardCommitLatency(LogicalDatastoreType.OPERATIONAL)
+                .get(MetricsDOMDataBroker.DEFAULT_SHARD).getCount());
+    }
+
+    @Test
+    void failedCommitIsCounted() {
+        doReturn(FluentFuture.from(Futures.immediateFailedFuture(new IllegalStateException("commit failed"))))
+                .when(transaction).commit();
+
+        final DOMDataTreeWriteTransaction writeTransaction = metricsBroker.newWriteOnlyTransaction();
+        writeTransaction.delete(LogicalDatastoreType.CONFIGURATION, YangInstanceIdentifier.of());
+        writeTransaction.commit();
+        assertEquals(1, metrics.getCommitFailureCount());
+        assertEquals(1, metrics.getShardCommitLatency(LogicalDatastoreType.CONFIGURATION)
+                .get(MetricsDOMDataBroker.ROOT_SHARD).getCount());
+    }
+
+    @Test
+    void histogramPercentiles() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 0; i < 99; i++) {
+            histogram.record(TimeUnit.MICROSECONDS.toNanos(100));
+        }
+        histogram.record(TimeUnit.MILLISECONDS.toNanos(50));
+
+        assertEquals(100, histogram.getCount());
+        assertEquals(TimeUnit.MICROSECONDS.toNanos(128), histogram.getPercentileNanos(0.5));
+        assertEquals(TimeUnit.MICROSECONDS.toNanos(128), histogram.getPercentileNanos(0.99));
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(50), histogram.getPercentileNanos(1));
+    }
+
+    @Test
+    void metricsAreWrittenInPrometheusFormat() throws Exception {
+        metrics.getCommitLatency(LogicalDatastoreType.OPERATIONAL).record(TimeUnit.MICROSECONDS.toNanos(3));
+        final StringBuilder output = new StringBuilder();
+        metrics.writeTo(new PrometheusTextWriter(output));
+
+        final String text = output.toString();
+        assertTrue(text.contains("# TYPE lighty_databroker_commit_duration_seconds histogram\n"));
+        assertTrue(text.contains(
+                "lighty_databroker_commit_duration_seconds_bucket{datastore=\"operational\",le=\"2.0E-6\"} 0\n"));
+        assertTrue(text.contains(
+                "lighty_databroker_commit_duration_seconds_bucket{datastore=\"operational\",le=\"4.0E-6\"} 1\n"));
+        assertTrue(text.contains(
+                "lighty_databroker_commit_duration_seconds_bucket{datastore=\"operational\",le=\"+Inf\"} 1\n"));
+        assertTrue(text.contains("lighty_databroker_commit_duration_seconds_count{datastore=\"operational\"} 1\n"));
+        assertTrue(text.contains("lighty_databroker_commit_callback_queue_capacity 1000\n"));
+        assertTrue(text.contains(
+                "lighty_databroker_commit_callback_queue_wait_seconds_count{strategy=\"bounded\"} 0\n"));
+        assertTrue(text.contains("lighty_databroker_commit_callback_rejected_total 0\n"));
+    }
+}
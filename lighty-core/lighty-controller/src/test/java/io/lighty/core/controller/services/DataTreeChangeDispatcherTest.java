@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package io.lighty.core.controller.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.lighty.core.controller.impl.services.DataTreeChangeDispatcher;
+import io.lighty.core.controller.impl.services.DataTreeChangeDispatcher.DispatchPolicy;
+import io.lighty.core.controller.impl.util.PrometheusTextWriter;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
+import org.opendaylight.mdsal.dom.api.DOMDataBroker;
+import org.opendaylight.mdsal.dom.api.DOMDataTreeChangeListener;
+import org.opendaylight.mdsal.dom.api.DOMDataTreeIdentifier;
+import org.opendaylight.yangtools.concepts.Registration;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeCandidate;
+
+class DataTreeChangeDispatcherTest {
+    private static final YangInstanceIdentifier TOPOLOGY = YangInstanceIdentifier.of(
+            QName.create("urn:test:topology", "topology"));
+    private static final YangInstanceIdentifier INVENTORY = YangInstanceIdentifier.of(
+            QName.create("urn:test:inventory", "inventory"));
+    private static final DOMDataTreeIdentifier TREE_ID = DOMDataTreeIdentifier.of(LogicalDatastoreType.OPERATIONAL,
+            YangInstanceIdentifier.of());
+
+    @Mock
+    private DOMDataBroker dataBroker;
+    @Mock
+    private DOMDataBroker.DataTreeChangeExtension changeExtension;
+    @Mock
+    private Registration brokerRegistration;
+
+    private final Queue<Runnable> tasks = new ArrayDeque<>();
+    private final List<List<DataTreeCandidate>> delivered = new ArrayList<>();
+    private DataTreeChangeDispatcher dispatcher;
+
+    @BeforeEach
+    void init() {
+        MockitoAnnotations.initMocks(this);
+        when(dataBroker.extension(DOMDataBroker.DataTreeChangeExtension.class)).thenReturn(changeExtension);
+        when(changeExtension.registerTreeChangeListener(any(), any())).thenReturn(brokerRegistration);
+        dispatcher = new DataTreeChangeDispatcher(dataBroker, tasks::add);
+    }
+
+    @Test
+    void latestChangeOfPathWins() {
+        final DOMDataTreeChangeListener brokerListener = register("latest", DispatchPolicy.latestWins());
+        final DataTreeCandidate first = candidate(TOPOLOGY);
+        final DataTreeCandidate second = candidate(INVENTORY);
+        final DataTreeCandidate third = candidate(TOPOLOGY);
+        brokerListener.onDataTreeChanged(List.of(first, second));
+        brokerListener.onDataTreeChanged(List.of(third));
+
+        final DataTreeChangeDispatcher.ListenerStatistics statistics = dispatcher.getStatistics().get("latest");
+        assertEquals(2, statistics.getQueueDepth());
+        assertEquals(1, tasks.size());
+        runTasks();
+        assertEquals(List.of(List.of(third, second)), delivered);
+        assertEquals(1, statistics.getCoalescedCount());
+        assertEquals(2, statistics.getDeliveredCount());
+        assertEquals(0, statistics.getQueueDepth());
+        assertEquals(1, statistics.getProcessingTime().getCount());
+    }
+
+    @Test
+    void oldestChangeIsDroppedFromFullQueue() throws Exception {
+        final DOMDataTreeChangeListener brokerListener = register("bounded", DispatchPolicy.dropOldest(2));
+        final DataTreeCandidate first = candidate(TOPOLOGY);
+        final DataTreeCandidate second = candidate(TOPOLOGY);
+        final DataTreeCandidate third = candidate(TOPOLOGY);
+        brokerListener.onDataTreeChanged(List.of(first, second, third));
+        runTasks();
+
+        assertEquals(List.of(List.of(second, third)), delivered);
+        final DataTreeChangeDispatcher.ListenerStatistics statistics = dispatcher.getStatistics().get("bounded");
+        assertEquals(1, statistics.getDroppedCount());
+
+        final StringBuilder output = new StringBuilder();
+        dispatcher.writeTo(new PrometheusTextWriter(output));
+        assertTrue(output.toString().contains("lighty_dtcl_dropped_total{listener=\"bounded\"} 1\n"));
+        assertTrue(output.toString().contains("lighty_dtcl_delivered_total{listener=\"bounded\"} 2\n"));
+    }
+
+    @Test
+    void closedRegistrationIsRemoved() {
+        final DOMDataTreeChangeListener brokerListener = register("closed", DispatchPolicy.coalesceByPath());
+        assertThrows(IllegalArgumentException.class, () -> dispatcher.registerTreeChangeListener("closed", TREE_ID,
+                new RecordingListener(), DispatchPolicy.latestWins()));
+
+        dispatcher.close();
+        verify(brokerRegistration).close();
+        brokerListener.onDataTreeChanged(List.of(candidate(TOPOLOGY)));
+        assertTrue(tasks.isEmpty());
+        assertTrue(dispatcher.getStatistics().isEmpty());
+    }
+
+    private DOMDataTreeChangeListener register(final String name, final DispatchPolicy policy) {
+        dispatcher.registerTreeChangeListener(name, TREE_ID, new RecordingListener(), policy);
+        final ArgumentCaptor<DOMDataTreeChangeListener> captor =
+                ArgumentCaptor.forClass(DOMDataTreeChangeListener.class);
+        verify(changeExtension).registerTreeChangeListener(any(), captor.capture());
+        return captor.getValue();
+    }
+
+    private void runTasks() {
+        while (!tasks.isEmpty()) {
+            tasks.poll().run();
+        }
+    }
+
+    private static DataTreeCandidate candidate(final YangInstanceIdentifier rootPath) {
+        final DataTreeCandidate candidate = mock(DataTreeCandidate.class);
+        when(candidate.rootPath()).thenReturn(rootPath);
+        return candidate;
+    }
+
+    private final class RecordingListener implements DOMDataTreeChangeListener {
+        @Override
+        public void onDataTreeChanged(final List<DataTreeCandidate> changes) {
+            delivered.add(List.copyOf(changes));
+        }
+
+        @Override
+        public void onInitialData() {
+            // initial data are not tested
+        }
+    }
+}
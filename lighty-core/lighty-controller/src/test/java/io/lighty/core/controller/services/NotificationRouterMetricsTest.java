@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package io.lighty.core.controller.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import io.lighty.core.controller.impl.services.MetricsDOMNotificationPublishService;
+import io.lighty.core.controller.impl.services.MetricsDOMNotificationService;
+import io.lighty.core.controller.impl.services.NotificationRouterMetrics;
+import io.lighty.core.controller.impl.util.PrometheusTextWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opendaylight.mdsal.dom.api.DOMNotification;
+import org.opendaylight.mdsal.dom.api.DOMNotificationPublishService;
+import org.opendaylight.mdsal.dom.broker.DOMNotificationRouter;
+import org.opendaylight.mdsal.dom.broker.RouterDOMNotificationService;
+import org.opendaylight.mdsal.dom.broker.RouterDOMPublishNotificationService;
+import org.opendaylight.yangtools.concepts.Registration;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.spi.node.ImmutableNodes;
+import org.opendaylight.yangtools.yang.model.api.stmt.SchemaNodeIdentifier.Absolute;
+
+class NotificationRouterMetricsTest {
+    private static final Absolute TYPE = Absolute.of(QName.create("namespace", "test"));
+
+    private DOMNotificationRouter router;
+    private NotificationRouterMetrics metrics;
+    private DOMNotificationPublishService publishService;
+
+    @BeforeEach
+    void init() {
+        router = new DOMNotificationRouter(16);
+        metrics = new NotificationRouterMetrics(16);
+        publishService = new MetricsDOMNotificationPublishService(new RouterDOMPublishNotificationService(router),
+                metrics);
+    }
+
+    @AfterEach
+    void tearDown() {
+        router.close();
+    }
+
+    @Test
+    void publishAndProcessingAreRecorded() throws Exception {
+        final MetricsDOMNotificationService notificationService =
+                new MetricsDOMNotificationService(new RouterDOMNotificationService(router), metrics);
+        final AtomicInteger received = new AtomicInteger();
+        try (Registration registration = notificationService.registerNotificationListener(
+                notification -> received.incrementAndGet(), TYPE)) {
+            for (int i = 0; i < 5; i++) {
+                publishService.putNotification(new TestNotification()).get(10, TimeUnit.SECONDS);
+            }
+        }
+
+        assertEquals(5, received.get());
+        final NotificationRouterMetrics.TypeStatistics typeStatistics = metrics.getTypeStatistics().get(TYPE);
+        assertEquals(5, typeStatistics.getPublishedCount());
+        assertEquals(5, typeStatistics.getPublishBlocked().getCount());
+        awaitValue(5, () -> typeStatistics.getDeliveryLatency().getCount());
+        awaitValue(0, metrics::getInFlightCount);
+        final NotificationRouterMetrics.ListenerStatistics listenerStatistics =
+                metrics.getListenerStatistics().values().iterator().next();
+        assertEquals(5, listenerStatistics.getProcessing().getCount());
+        assertEquals(0, listenerStatistics.getIsolatedCount());
+
+        final StringBuilder output = new StringBuilder();
+        metrics.writeTo(new PrometheusTextWriter(output));
+        assertTrue(output.toString().contains("lighty_notification_published_total{type=\"(namespace)test\"} 5\n"));
+        assertTrue(output.toString().contains("# TYPE lighty_notification_listener_processing_seconds histogram\n"));
+    }
+
+    @Test
+    void slowListenerIsIsolated() throws Exception {
+        final MetricsDOMNotificationService notificationService = new MetricsDOMNotificationService(
+                new RouterDOMNotificationService(router), metrics, 1, 1, 2, TimeUnit.MILLISECONDS);
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicInteger received = new AtomicInteger();
+        try (Registration registration = notificationService.registerNotificationListener(notification -> {
+            if (received.incrementAndGet() == 1) {
+                sleep(5);
+            } else {
+                await(release);
+            }
+        }, TYPE)) {
+            publishService.putNotification(new TestNotification()).get(10, TimeUnit.SECONDS);
+            final NotificationRouterMetrics.ListenerStatistics statistics =
+                    metrics.getListenerStatistics().values().iterator().next();
+            assertEquals(1, statistics.getOverBudgetCount());
+            assertEquals(1, statistics.getIsolatedCount());
+
+            // the blocked listener does not block publishers, one notification is processed, two are queued
+            final List<ListenableFuture<? extends Object>> futures = new ArrayList<>();
+            for (int i = 0; i < 5; i++) {
+                futures.add(publishService.putNotification(new TestNotification()));
+            }
+            for (ListenableFuture<? extends Object> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+            assertEquals(2, statistics.getIsolatedDroppedCount());
+            awaitValue(2, statistics::getIsolatedQueueSize);
+
+            release.countDown();
+            awaitValue(0, statistics::getIsolatedQueueSize);
+            awaitValue(4, received::get);
+        }
+        assertEquals(0, metrics.getListenerStatistics().values().iterator().next().getIsolatedCount());
+    }
+
+    @Test
+    void listenerIsIsolatedOnlyAfterConsecutiveNotificationsOverBudget() throws Exception {
+        final MetricsDOMNotificationService notificationService = new MetricsDOMNotificationService(
+                new RouterDOMNotificationService(router), metrics, 10, 2, 2, TimeUnit.MILLISECONDS);
+        final AtomicInteger received = new AtomicInteger();
+        try (Registration registration = notificationService.registerNotificationListener(notification -> {
+            // first and third notification are over budget, then two in a row
+            final int count = received.incrementAndGet();
+            if (count != 2) {
+                sleep(20);
+            }
+        }, TYPE)) {
+            for (int i = 0; i < 3; i++) {
+                publishService.putNotification(new TestNotification()).get(10, TimeUnit.SECONDS);
+            }
+            final NotificationRouterMetrics.ListenerStatistics statistics =
+                    metrics.getListenerStatistics().values().iterator().next();
+            awaitValue(3, () -> statistics.getProcessing().getCount());
+            assertEquals(2, statistics.getOverBudgetCount());
+            assertEquals(0, statistics.getIsolatedCount());
+
+            publishService.putNotification(new TestNotification()).get(10, TimeUnit.SECONDS);
+            awaitValue(1, statistics::getIsolatedCount);
+            assertEquals(3, statistics.getOverBudgetCount());
+        }
+    }
+
+    private static void awaitValue(final long expected, final LongSupplier value) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (value.getAsLong() != expected && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        assertEquals(expected, value.getAsLong());
+    }
+
+    private static void sleep(final long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class TestNotification implements DOMNotification {
+        @Override
+        public Absolute getType() {
+            return TYPE;
+        }
+
+        @Override
+        public ContainerNode getBody() {
+            return ImmutableNodes.newContainerBuilder().build();
+        }
+    }
+}
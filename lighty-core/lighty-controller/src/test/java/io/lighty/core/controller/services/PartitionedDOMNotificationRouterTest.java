@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package io.lighty.core.controller.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.lighty.core.controller.impl.services.PartitionedDOMNotificationRouter;
+import io.lighty.core.controller.impl.util.PrometheusTextWriter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opendaylight.mdsal.dom.api.DOMNotification;
+import org.opendaylight.yangtools.concepts.Registration;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.spi.node.ImmutableNodes;
+import org.opendaylight.yangtools.yang.model.api.stmt.SchemaNodeIdentifier.Absolute;
+
+class PartitionedDOMNotificationRouterTest {
+    private static final Absolute TYPE = Absolute.of(QName.create("namespace", "test"));
+
+    private PartitionedDOMNotificationRouter router;
+
+    @BeforeEach
+    void init() {
+        router = new PartitionedDOMNotificationRouter(4, 16);
+    }
+
+    @AfterEach
+    void tearDown() {
+        router.close();
+    }
+
+    @Test
+    void notificationsOfAllPartitionsAreDelivered() throws Exception {
+        final List<DOMNotification> received = Collections.synchronizedList(new ArrayList<>());
+        try (Registration registration = router.getNotificationService().registerNotificationListener(
+                received::add, TYPE)) {
+            final List<DOMNotification> published = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                final DOMNotification notification = new TestNotification();
+                published.add(notification);
+                router.putNotification(notification, "device-" + i).get(10, TimeUnit.SECONDS);
+            }
+            router.getPublishService().putNotification(new TestNotification()).get(10, TimeUnit.SECONDS);
+
+            assertEquals(9, received.size());
+            assertTrue(received.containsAll(published));
+        }
+
+        long publishedCount = 0;
+        for (PartitionedDOMNotificationRouter.PartitionStatistics statistics : router.getPartitionStatistics()) {
+            publishedCount += statistics.getPublishedCount();
+            assertEquals(0, statistics.getDepth());
+            assertEquals(statistics.getPublishedCount(), statistics.getDeliveryLatency().getCount());
+        }
+        assertEquals(9, publishedCount);
+    }
+
+    @Test
+    void notificationsOfSameKeyAreDeliveredInOrder() throws Exception {
+        final List<DOMNotification> received = Collections.synchronizedList(new ArrayList<>());
+        try (Registration registration = router.getNotificationService().registerNotificationListener(
+                received::add, TYPE)) {
+            final List<DOMNotification> published = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                final DOMNotification notification = new TestNotification();
+                published.add(notification);
+                router.putNotification(notification, "device");
+            }
+            router.putNotification(new TestNotification(), "device").get(10, TimeUnit.SECONDS);
+
+            assertEquals(published, received.subList(0, 100));
+        }
+
+        final StringBuilder output = new StringBuilder();
+        router.writeTo(new PrometheusTextWriter(output));
+        assertTrue(output.toString().contains("# TYPE lighty_notification_partition_delivery_seconds histogram\n"));
+    }
+
+    @Test
+    void facadeRoutesThroughPartitions() throws Exception {
+        final List<DOMNotification> received = Collections.synchronizedList(new ArrayList<>());
+        try (Registration registration = router.getDOMNotificationRouter().notificationService()
+                .registerNotificationListener(received::add, TYPE)) {
+            router.putNotification(new TestNotification(), "device").get(10, TimeUnit.SECONDS);
+            router.getDOMNotificationRouter().notificationPublishService().putNotification(new TestNotification())
+                    .get(10, TimeUnit.SECONDS);
+
+            assertEquals(2, received.size());
+        }
+    }
+
+    private static final class TestNotification implements DOMNotification {
+        @Override
+        public Absolute getType() {
+            return TYPE;
+        }
+
+        @Override
+        public ContainerNode getBody() {
+            return ImmutableNodes.newContainerBuilder().build();
+        }
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package io.lighty.core.controller.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import io.lighty.core.controller.impl.services.WaitStrategyDOMNotificationPublishService;
+import io.lighty.core.controller.impl.services.WaitStrategyDOMNotificationPublishService.WaitStrategy;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.opendaylight.mdsal.dom.api.DOMNotification;
+import org.opendaylight.mdsal.dom.api.DOMNotificationPublishService;
+
+class WaitStrategyDOMNotificationPublishServiceTest {
+    private static final ListenableFuture<Object> PUBLISHED = Futures.immediateFuture(null);
+
+    @Mock
+    private DOMNotificationPublishService delegate;
+    @Mock
+    private DOMNotification notification;
+
+    @BeforeEach
+    void init() {
+        MockitoAnnotations.initMocks(this);
+    }
+
+    @Test
+    void strategyIsSelectedBySpinAndParkTime() {
+        assertEquals(WaitStrategy.BLOCKING, WaitStrategy.of(0, 0));
+        assertEquals(WaitStrategy.BUSY_SPIN, WaitStrategy.of(10, 0));
+        assertEquals(WaitStrategy.SPIN_THEN_PARK, WaitStrategy.of(0, 10));
+        assertEquals(WaitStrategy.SPIN_THEN_PARK, WaitStrategy.of(10, 10));
+    }
+
+    @Test
+    void spinningPublisherRetriesRejectedNotification() throws Exception {
+        doReturn(DOMNotificationPublishService.REJECTED, DOMNotificationPublishService.REJECTED, PUBLISHED)
+                .when(delegate).offerNotification(notification);
+        final WaitStrategyDOMNotificationPublishService publishService =
+                new WaitStrategyDOMNotificationPublishService(delegate, 10, 0, TimeUnit.SECONDS);
+
+        assertSame(PUBLISHED, publishService.putNotification(notification));
+        verify(delegate, times(3)).offerNotification(notification);
+        verify(delegate, never()).putNotification(notification);
+        assertEquals(1, publishService.getSpinningCount());
+        assertEquals(0, publishService.getBlockingCount());
+    }
+
+    @Test
+    void publisherIsBlockedAfterSpinAndParkTime() throws Exception {
+        doReturn(DOMNotificationPublishService.REJECTED).when(delegate).offerNotification(notification);
+        doReturn(PUBLISHED).when(delegate).putNotification(notification);
+        final WaitStrategyDOMNotificationPublishService publishService =
+                new WaitStrategyDOMNotificationPublishService(delegate, 100, 500, TimeUnit.MICROSECONDS);
+
+        assertSame(PUBLISHED, publishService.putNotification(notification));
+        verify(delegate).putNotification(notification);
+        assertEquals(1, publishService.getParkingCount());
+        assertEquals(1, publishService.getBlockingCount());
+    }
+
+    @Test
+    void offerWithTimeoutIsRejectedWhenTimeoutExpires() throws Exception {
+        doReturn(DOMNotificationPublishService.REJECTED).when(delegate).offerNotification(notification);
+        final WaitStrategyDOMNotificationPublishService publishService =
+                new WaitStrategyDOMNotificationPublishService(delegate, 1, 0, TimeUnit.SECONDS);
+
+        assertSame(DOMNotificationPublishService.REJECTED,
+                publishService.offerNotification(notification, 1, TimeUnit.MILLISECONDS));
+        assertEquals(0, publishService.getBlockingCount());
+    }
+}
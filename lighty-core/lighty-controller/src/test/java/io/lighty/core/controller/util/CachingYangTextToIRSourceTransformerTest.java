@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package io.lighty.core.controller.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.lighty.core.controller.impl.util.CachingYangTextToIRSourceTransformer;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.opendaylight.yangtools.yang.model.api.source.YangTextSource;
+import org.opendaylight.yangtools.yang.model.spi.source.YangIRSource;
+import org.opendaylight.yangtools.yang.model.spi.source.YangTextToIRSourceTransformer;
+import org.opendaylight.yangtools.yang.source.ir.DefaultYangTextToIRSourceTransformer;
+
+class CachingYangTextToIRSourceTransformerTest {
+    private static final YangTextSource SOURCE = org.opendaylight.yang.svc.v1.urn.ietf.params.xml.ns.yang.ietf.inet
+            .types.rev130715.YangModuleInfoImpl.INSTANCE.getYangTextSource();
+
+    @TempDir
+    Path directory;
+
+    private YangTextToIRSourceTransformer delegate;
+
+    @BeforeEach
+    void init() throws Exception {
+        final YangTextToIRSourceTransformer parser = new DefaultYangTextToIRSourceTransformer();
+        delegate = mock(YangTextToIRSourceTransformer.class);
+        doAnswer(invocation -> parser.transformSource(invocation.getArgument(0))).when(delegate)
+                .transformSource(any());
+    }
+
+    @Test
+    void persistedSourceIsNotParsedAgain() throws Exception {
+        final YangIRSource parsed = new CachingYangTextToIRSourceTransformer(delegate, directory)
+                .transformSource(SOURCE);
+        assertEquals(1, listFiles().size());
+
+        // new transformer as after JVM restart
+        final YangIRSource persisted = new CachingYangTextToIRSourceTransformer(delegate, directory)
+                .transformSource(SOURCE);
+        verify(delegate, times(1)).transformSource(any());
+        assertEquals(parsed.sourceId(), persisted.sourceId());
+        assertEquals(parsed.statement().keyword(), persisted.statement().keyword());
+        assertEquals(parsed.statement().statements().size(), persisted.statement().statements().size());
+    }
+
+    @Test
+    void unreadableFileIsReplaced() throws Exception {
+        final CachingYangTextToIRSourceTransformer transformer =
+                new CachingYangTextToIRSourceTransformer(delegate, directory);
+        transformer.transformSource(SOURCE);
+        final Path file = listFiles().get(0);
+        Files.write(file, new byte[] {1, 2, 3});
+
+        transformer.transformSource(SOURCE);
+        verify(delegate, times(2)).transformSource(any());
+        assertNotEquals(3, Files.size(file));
+        transformer.transformSource(SOURCE);
+        verify(delegate, times(2)).transformSource(any());
+    }
+
+    @Test
+    void digestCoversYangText() throws Exception {
+        final String text = SOURCE.read();
+        assertNotEquals(CachingYangTextToIRSourceTransformer.digest(SOURCE.sourceId(), text),
+                CachingYangTextToIRSourceTransformer.digest(SOURCE.sourceId(), text + "\n"));
+    }
+
+    private List<Path> listFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.toList();
+        }
+    }
+}
@@ -9,18 +9,42 @@
 package io.lighty.core.controller.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import io.lighty.codecs.util.exception.DeserializationException;
+import io.lighty.core.controller.api.ExecutionPolicy;
 import io.lighty.core.controller.api.LightyController;
+import io.lighty.core.controller.api.VirtualThreadPinningMonitor;
 import io.lighty.core.controller.impl.LightyControllerBuilder;
+import io.lighty.core.controller.impl.util.BinaryDataFormat;
 import io.lighty.core.controller.impl.util.ControllerConfigUtils;
+import io.lighty.core.controller.impl.util.DatastoreToFileUtils;
 import io.lighty.core.controller.impl.util.FileToDatastoreUtils;
 import io.lighty.core.controller.impl.util.FileToDatastoreUtils.ImportFileFormat;
+import io.lighty.core.controller.impl.util.IncrementalDataWriter;
+import io.lighty.core.controller.impl.util.ParallelDataImporter;
+import io.lighty.core.controller.impl.util.ParallelDataImporter.ImportFile;
+import io.lighty.core.controller.impl.util.StreamingDataImporter;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.opendaylight.mdsal.binding.api.DataBroker;
 import org.opendaylight.mdsal.binding.api.ReadTransaction;
 import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
@@ -38,6 +62,7 @@ import org.opendaylight.yangtools.binding.DataRoot;
 import org.opendaylight.yangtools.yang.common.Uint32;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
 
 class FileToDatastoreUtilsTest {
     private static final String INITIAL_CONTAINER_PATH = "/data/container-value-1.json";
@@ -143,17 +168,215 @@ class FileToDatastoreUtilsTest {
         assertEquals(4, sampleListId2.getValue().intValue());
     }
 
+    @Test
+    void testStreamingImport() throws Exception {
+        // Every list entry and container child is committed in its own transaction
+        StreamingDataImporter.ImportStatistics statistics = importFileStreaming(MULTIPLE_TOP_JSON_PATH,
+                ImportFileFormat.JSON);
+        assertEquals(3, statistics.getBatches());
+        TopLevelContainer topLevelContainer = readDataFromDatastore(TOP_LEVEL_CONTAINER_ID);
+        assertEquals(5, topLevelContainer.getSampleContainer().getValue().intValue());
+        assertEquals(1, readDataFromDatastore(SAMPLE_LIST_ID1_ID).getValue().intValue());
+        assertEquals(2, readDataFromDatastore(SAMPLE_LIST_ID2_ID).getValue().intValue());
+
+        statistics = importFileStreaming(MULTIPLE_TOP_XML_PATH, ImportFileFormat.XML);
+        assertEquals(3, statistics.getBatches());
+        topLevelContainer = readDataFromDatastore(TOP_LEVEL_CONTAINER_ID);
+        assertEquals(6, topLevelContainer.getSampleContainer().getValue().intValue());
+        assertEquals(3, readDataFromDatastore(SAMPLE_LIST_ID1_ID).getValue().intValue());
+        assertEquals(4, readDataFromDatastore(SAMPLE_LIST_ID2_ID).getValue().intValue());
+    }
+
+    @Test
+    void testParallelImport() throws Exception {
+        // Leaf import overlaps with root import, so it is written after it, expecting value = 3
+        final ParallelDataImporter.ImportReport report = new ParallelDataImporter(
+                lightyController.getServices().getDOMSchemaService().getGlobalContext(),
+                lightyController.getServices().getClusteredDOMDataBroker(), 2)
+                .importFiles(List.of(
+                        importFile("root", INITIAL_CONTAINER_PATH, ROOT_YII, ImportFileFormat.JSON,
+                                LogicalDatastoreType.CONFIGURATION),
+                        importFile("leaf", OVERRIDE_VALUE_JSON_PATH, INNER_VALUE_YII, ImportFileFormat.JSON,
+                                LogicalDatastoreType.CONFIGURATION),
+                        importFile("operational", OVERRIDE_CONTAINER_PATH, ROOT_YII, ImportFileFormat.XML,
+                                LogicalDatastoreType.OPERATIONAL),
+                        new ImportFile("missing", () -> {
+                            throw new FileNotFoundException("missing.json");
+                        }, ImportFileFormat.JSON, INNER_CASE_YIID, LogicalDatastoreType.OPERATIONAL, true)))
+                .get(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+
+        assertFalse(report.isSuccessful());
+        assertEquals(4, report.getFiles().size());
+        assertEquals("root", report.getFiles().get(0).getFile().getName());
+        assertTrue(report.getFiles().get(0).getFailure().isEmpty());
+        assertTrue(report.getFiles().get(3).getFailure().orElseThrow() instanceof FileNotFoundException);
+
+        assertEquals(3, readDataFromDatastore(TOP_LEVEL_CONTAINER_ID).getSampleContainer().getValue().intValue());
+        assertEquals(2, readDataFromDatastore(LogicalDatastoreType.OPERATIONAL, TOP_LEVEL_CONTAINER_ID)
+                .getSampleContainer().getValue().intValue());
+    }
+
+    @Test
+    void testParallelImportIsBoundedInVirtualMode() throws Exception {
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger maxRunning = new AtomicInteger();
+        final List<ImportFile> files = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            files.add(new ImportFile("root-" + i, () -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(50);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    running.decrementAndGet();
+                }
+                return FileToDatastoreUtils.class.getResourceAsStream(INITIAL_CONTAINER_PATH);
+            }, ImportFileFormat.JSON, ROOT_YII, LogicalDatastoreType.CONFIGURATION, true));
+        }
+
+        ExecutionPolicy.setMode(ExecutionPolicy.Mode.VIRTUAL);
+        try {
+            final ParallelDataImporter.ImportReport report = new ParallelDataImporter(
+                    lightyController.getServices().getDOMSchemaService().getGlobalContext(),
+                    lightyController.getServices().getClusteredDOMDataBroker(), 1)
+                    .importFiles(files)
+                    .get(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+            assertTrue(report.isSuccessful());
+        } finally {
+            ExecutionPolicy.setMode(ExecutionPolicy.Mode.PLATFORM);
+            VirtualThreadPinningMonitor.getInstance().stop();
+        }
+        assertEquals(1, maxRunning.get());
+    }
+
+    @Test
+    void testIncrementalImport() throws Exception {
+        importFile(MULTIPLE_TOP_JSON_PATH, ROOT_YII, ImportFileFormat.JSON);
+
+        // Same data are not written again
+        IncrementalDataWriter.DiffStatistics statistics = importFileIncremental(MULTIPLE_TOP_JSON_PATH,
+                ImportFileFormat.JSON);
+        assertEquals(0, statistics.getChangedNodes());
+
+        // Only changed leaves are written, expecting value 6, ID1 value 3, ID2 value 4
+        statistics = importFileIncremental(MULTIPLE_TOP_XML_PATH, ImportFileFormat.XML);
+        assertEquals(3, statistics.getWrites());
+        assertEquals(0, statistics.getDeletes());
+        assertEquals(6, readDataFromDatastore(TOP_LEVEL_CONTAINER_ID).getSampleContainer().getValue().intValue());
+        assertEquals(3, readDataFromDatastore(SAMPLE_LIST_ID1_ID).getValue().intValue());
+        assertEquals(4, readDataFromDatastore(SAMPLE_LIST_ID2_ID).getValue().intValue());
+
+        // Data missing in the file are deleted, expecting value 1 and no list entries
+        statistics = importFileIncremental(INITIAL_CONTAINER_PATH, ImportFileFormat.JSON);
+        assertEquals(1, statistics.getWrites());
+        assertTrue(statistics.getDeletes() > 0);
+        assertEquals(1, readDataFromDatastore(TOP_LEVEL_CONTAINER_ID).getSampleContainer().getValue().intValue());
+        try (ReadTransaction readTransaction = dataBroker.newReadOnlyTransaction()) {
+            assertTrue(readTransaction.read(LogicalDatastoreType.CONFIGURATION, SAMPLE_LIST_ID1_ID)
+                    .get(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS).isEmpty());
+        }
+    }
+
+    @Test
+    void testExport() throws Exception {
+        importFile(MULTIPLE_TOP_JSON_PATH, ROOT_YII, ImportFileFormat.JSON);
+        final byte[] rootJson = exportData(ROOT_YII, ImportFileFormat.JSON, true);
+        final YangInstanceIdentifier topLevelContainerYii = YangInstanceIdentifier.of(
+                NodeIdentifier.create(TopLevelContainer.QNAME));
+        final byte[] containerXml = exportData(topLevelContainerYii, ImportFileFormat.XML, false);
+
+        // Replace whole datastore and restore it from gzipped JSON export, expecting value 5, ID1 value 1
+        importFile(INITIAL_CONTAINER_PATH, ROOT_YII, ImportFileFormat.JSON);
+        importFile(new GZIPInputStream(new ByteArrayInputStream(rootJson)), ROOT_YII, ImportFileFormat.JSON);
+        assertEquals(5, readDataFromDatastore(TOP_LEVEL_CONTAINER_ID).getSampleContainer().getValue().intValue());
+        assertEquals(1, readDataFromDatastore(SAMPLE_LIST_ID1_ID).getValue().intValue());
+
+        // Override inner leaf and restore container from XML export, expecting value 5
+        importFile(OVERRIDE_VALUE_JSON_PATH, INNER_VALUE_YII, ImportFileFormat.JSON);
+        importFile(new ByteArrayInputStream(containerXml), topLevelContainerYii, ImportFileFormat.XML);
+        assertEquals(5, readDataFromDatastore(TOP_LEVEL_CONTAINER_ID).getSampleContainer().getValue().intValue());
+    }
+
+    @Test
+    void testBinaryImport(@TempDir final Path tempDir) throws Exception {
+        final EffectiveModelContext modelContext =
+                lightyController.getServices().getDOMSchemaService().getGlobalContext();
+        final Path binaryFile = tempDir.resolve("multiple-top-element.bin");
+        try (OutputStream outputStream = Files.newOutputStream(binaryFile)) {
+            BinaryDataFormat.convert(FileToDatastoreUtils.class.getResourceAsStream(MULTIPLE_TOP_JSON_PATH),
+                    ImportFileFormat.JSON, ROOT_YII, modelContext, outputStream);
+        }
+
+        // Replace whole datastore and import memory mapped binary file, expecting value 5, ID1 value 1
+        importFile(INITIAL_CONTAINER_PATH, ROOT_YII, ImportFileFormat.JSON);
+        importFile(new FileInputStream(binaryFile.toFile()), ROOT_YII, ImportFileFormat.BINARY);
+        assertEquals(5, readDataFromDatastore(TOP_LEVEL_CONTAINER_ID).getSampleContainer().getValue().intValue());
+        assertEquals(1, readDataFromDatastore(SAMPLE_LIST_ID1_ID).getValue().intValue());
+
+        // Binary data of whole datastore can't be imported to inner node
+        assertThrows(DeserializationException.class, () -> BinaryDataFormat.read(binaryFile, INNER_VALUE_YII));
+        // Binary export is read back unchanged
+        final byte[] exported = exportData(ROOT_YII, ImportFileFormat.BINARY, false);
+        assertEquals(BinaryDataFormat.read(binaryFile, ROOT_YII),
+                BinaryDataFormat.read(new ByteArrayInputStream(exported), ROOT_YII));
+    }
+
+    private byte[] exportData(final YangInstanceIdentifier yii, final ImportFileFormat format, final boolean gzip)
+            throws Exception {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        final long bytesWritten = DatastoreToFileUtils.exportData(outputStream, yii,
+                LogicalDatastoreType.CONFIGURATION, format,
+                lightyController.getServices().getDOMSchemaService().getGlobalContext(),
+                lightyController.getServices().getClusteredDOMDataBroker(), gzip);
+        assertEquals(outputStream.size(), bytesWritten);
+        return outputStream.toByteArray();
+    }
+
     private <T extends ChildOf<? extends DataRoot>> T readDataFromDatastore(
             final DataObjectIdentifier<T> identifier) throws Exception {
+        return readDataFromDatastore(LogicalDatastoreType.CONFIGURATION, identifier);
+    }
+
+    private <T extends ChildOf<? extends DataRoot>> T readDataFromDatastore(final LogicalDatastoreType datastore,
+            final DataObjectIdentifier<T> identifier) throws Exception {
         try (ReadTransaction readTransaction = dataBroker.newReadOnlyTransaction()) {
-            return readTransaction.read(LogicalDatastoreType.CONFIGURATION, identifier)
+            return readTransaction.read(datastore, identifier)
                     .get(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS).orElseThrow();
         }
     }
 
+    private IncrementalDataWriter.DiffStatistics importFileIncremental(final String path,
+            final ImportFileFormat format) throws Exception {
+        return FileToDatastoreUtils.importConfigDataFileIncremental(
+                FileToDatastoreUtils.class.getResourceAsStream(path), ROOT_YII, format,
+                lightyController.getServices().getDOMSchemaService().getGlobalContext(),
+                lightyController.getServices().getClusteredDOMDataBroker(), true);
+    }
+
+    private StreamingDataImporter.ImportStatistics importFileStreaming(final String path,
+            final ImportFileFormat format) throws Exception {
+        return FileToDatastoreUtils.importConfigDataFileStreaming(FileToDatastoreUtils.class.getResourceAsStream(path),
+                format,
+                lightyController.getServices().getDOMSchemaService().getGlobalContext(),
+                lightyController.getServices().getClusteredDOMDataBroker(),
+                true, 1, 2);
+    }
+
+    private static ImportFile importFile(final String name, final String path, final YangInstanceIdentifier yii,
+            final ImportFileFormat format, final LogicalDatastoreType datastore) {
+        return new ImportFile(name, () -> FileToDatastoreUtils.class.getResourceAsStream(path), format, yii,
+                datastore, true);
+    }
+
     private void importFile(final String path, final YangInstanceIdentifier yii, final ImportFileFormat format)
             throws Exception {
-        FileToDatastoreUtils.importConfigDataFile(FileToDatastoreUtils.class.getResourceAsStream(path),
+        importFile(FileToDatastoreUtils.class.getResourceAsStream(path), yii, format);
+    }
+
+    private void importFile(final InputStream inputStream, final YangInstanceIdentifier yii,
+            final ImportFileFormat format) throws Exception {
+        FileToDatastoreUtils.importConfigDataFile(inputStream,
                 yii,
                 format,
                 lightyController.getServices().getDOMSchemaService().getGlobalContext(),
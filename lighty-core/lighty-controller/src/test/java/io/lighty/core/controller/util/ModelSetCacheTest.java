@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package io.lighty.core.controller.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.lighty.core.controller.impl.util.ControllerConfigUtils;
+import io.lighty.core.controller.impl.util.ModelSetCache;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.opendaylight.yangtools.binding.meta.YangModuleInfo;
+
+class ModelSetCacheTest {
+
+    @Test
+    void fingerprintDoesNotDependOnOrder() {
+        final List<YangModuleInfo> models = new ArrayList<>(ControllerConfigUtils.YANG_MODELS);
+        final String fingerprint = ModelSetCache.fingerprint(models, List.of());
+        Collections.reverse(models);
+        assertEquals(fingerprint, ModelSetCache.fingerprint(models, List.of()));
+    }
+
+    @Test
+    void fingerprintCoversImportedModules() {
+        final YangModuleInfo topology = org.opendaylight.yang.svc.v1.urn.tbd.params.xml.ns.yang.network.topology
+                .rev131021.YangModuleInfoImpl.INSTANCE;
+        final YangModuleInfo inetTypes = org.opendaylight.yang.svc.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types
+                .rev130715.YangModuleInfoImpl.INSTANCE;
+        assertTrue(topology.getImportedModules().contains(inetTypes));
+        assertEquals(ModelSetCache.fingerprint(Set.of(topology), List.of()),
+                ModelSetCache.fingerprint(Set.of(topology, inetTypes), List.of()));
+    }
+
+    @Test
+    void fingerprintDiffersForDifferentModelSets() {
+        final YangModuleInfo inetTypes = org.opendaylight.yang.svc.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types
+                .rev130715.YangModuleInfoImpl.INSTANCE;
+        assertNotEquals(ModelSetCache.fingerprint(ControllerConfigUtils.YANG_MODELS, List.of()),
+                ModelSetCache.fingerprint(Set.of(inetTypes), List.of()));
+        assertNotEquals(ModelSetCache.fingerprint(Set.of(inetTypes), List.of()),
+                ModelSetCache.fingerprint(Set.of(inetTypes), List.of(new Object())));
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package io.lighty.core.controller.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.lighty.core.controller.impl.util.ParallelDatastoreSnapshotRestore;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletionException;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.opendaylight.controller.cluster.datastore.persisted.DatastoreSnapshot;
+import org.opendaylight.controller.cluster.datastore.persisted.DatastoreSnapshotList;
+import org.opendaylight.controller.cluster.datastore.persisted.ShardManagerSnapshot;
+
+class ParallelDatastoreSnapshotRestoreTest {
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void snapshotsOfAllFilesAreMerged(final boolean memoryMapped, @TempDir final Path restoreDirectory)
+            throws IOException {
+        final Path first = writeSnapshots(restoreDirectory.resolve("config-default.snapshot"),
+                new DatastoreSnapshot("config", new ShardManagerSnapshot(List.of("default")), List.of()),
+                new DatastoreSnapshot("operational", new ShardManagerSnapshot(List.of("default")), List.of()));
+        final Path second = writeSnapshots(restoreDirectory.resolve("config-topology.snapshot"),
+                new DatastoreSnapshot("config", new ShardManagerSnapshot(List.of("topology")), List.of()));
+
+        final ParallelDatastoreSnapshotRestore restore = new ParallelDatastoreSnapshotRestore(
+                restoreDirectory.toString(), ParallelDatastoreSnapshotRestore.DEFAULT_PARALLELISM, memoryMapped);
+        restore.start();
+
+        final Optional<DatastoreSnapshot> config = restore.getAndRemove("config");
+        assertTrue(config.isPresent());
+        assertEquals(List.of("default", "topology"), config.get().getShardManagerSnapshot().getShardList());
+        final Optional<DatastoreSnapshot> operational = restore.getAndRemove("operational");
+        assertTrue(operational.isPresent());
+        assertEquals(List.of("default"), operational.get().getShardManagerSnapshot().getShardList());
+        assertFalse(restore.getAndRemove("config").isPresent());
+        assertFalse(Files.exists(first));
+        assertFalse(Files.exists(second));
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void onlySnapshotFilesAreRestored(final boolean memoryMapped, @TempDir final Path restoreDirectory)
+            throws IOException {
+        final Path snapshot = writeSnapshots(restoreDirectory.resolve("config-default.snapshot"),
+                new DatastoreSnapshot("config", new ShardManagerSnapshot(List.of("default")), List.of()));
+        final Path unrelated = writeSnapshots(restoreDirectory.resolve("operational.bak"),
+                new DatastoreSnapshot("operational", new ShardManagerSnapshot(List.of("default")), List.of()));
+
+        final ParallelDatastoreSnapshotRestore restore = new ParallelDatastoreSnapshotRestore(
+                restoreDirectory.toString(), ParallelDatastoreSnapshotRestore.DEFAULT_PARALLELISM, memoryMapped);
+
+        assertTrue(restore.getAndRemove("config").isPresent());
+        assertFalse(restore.getAndRemove("operational").isPresent());
+        assertFalse(Files.exists(snapshot));
+        assertTrue(Files.exists(unrelated));
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void singleBackupFileOfAnyNameIsRestored(final boolean memoryMapped, @TempDir final Path restoreDirectory)
+            throws IOException {
+        final Path backup = writeSnapshots(restoreDirectory.resolve("backup-2026-01-01"),
+                new DatastoreSnapshot("config", new ShardManagerSnapshot(List.of("default")), List.of()));
+
+        final ParallelDatastoreSnapshotRestore restore = new ParallelDatastoreSnapshotRestore(
+                restoreDirectory.toString(), ParallelDatastoreSnapshotRestore.DEFAULT_PARALLELISM, memoryMapped);
+
+        assertTrue(restore.getAndRemove("config").isPresent());
+        assertFalse(Files.exists(backup));
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void severalBackupFilesFailRestore(final boolean memoryMapped, @TempDir final Path restoreDirectory)
+            throws IOException {
+        final Path first = writeSnapshots(restoreDirectory.resolve("config.bak"),
+                new DatastoreSnapshot("config", new ShardManagerSnapshot(List.of("default")), List.of()));
+        final Path second = writeSnapshots(restoreDirectory.resolve("operational.bak"),
+                new DatastoreSnapshot("operational", new ShardManagerSnapshot(List.of("default")), List.of()));
+
+        final ParallelDatastoreSnapshotRestore restore = new ParallelDatastoreSnapshotRestore(
+                restoreDirectory.toString(), ParallelDatastoreSnapshotRestore.DEFAULT_PARALLELISM, memoryMapped);
+
+        assertThrows(CompletionException.class, () -> restore.getAndRemove("config"));
+        assertTrue(Files.exists(first));
+        assertTrue(Files.exists(second));
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void undecodableFileFailsRestore(final boolean memoryMapped, @TempDir final Path restoreDirectory)
+            throws IOException {
+        final Path snapshot = writeSnapshots(restoreDirectory.resolve("config-default.snapshot"),
+                new DatastoreSnapshot("config", new ShardManagerSnapshot(List.of("default")), List.of()));
+        final Path corrupted = restoreDirectory.resolve("operational-default.snapshot");
+        Files.write(corrupted, new byte[] {1, 2, 3});
+
+        final ParallelDatastoreSnapshotRestore restore = new ParallelDatastoreSnapshotRestore(
+                restoreDirectory.toString(), ParallelDatastoreSnapshotRestore.DEFAULT_PARALLELISM, memoryMapped);
+
+        assertThrows(CompletionException.class, () -> restore.getAndRemove("config"));
+        assertTrue(Files.exists(snapshot));
+        assertTrue(Files.exists(corrupted));
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void missingRestoreDirectoryRestoresNothing(final boolean memoryMapped, @TempDir final Path tempDirectory) {
+        final ParallelDatastoreSnapshotRestore restore = new ParallelDatastoreSnapshotRestore(
+                tempDirectory.resolve("missing").toString(), 1, memoryMapped);
+        assertFalse(restore.getAndRemove("config").isPresent());
+    }
+
+    private static Path writeSnapshots(final Path file, final DatastoreSnapshot... snapshots) throws IOException {
+        try (ObjectOutputStream output = new ObjectOutputStream(Files.newOutputStream(file))) {
+            output.writeObject(new DatastoreSnapshotList(List.of(snapshots)));
+        }
+        return file;
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package io.lighty.core.controller.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import io.lighty.core.common.models.YangModuleUtils;
+import io.lighty.core.controller.impl.util.PrecompiledYangIRSources;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.opendaylight.yangtools.binding.meta.YangModuleInfo;
+import org.opendaylight.yangtools.yang.model.api.source.YangTextSource;
+import org.opendaylight.yangtools.yang.model.spi.source.YangIRSource;
+import org.opendaylight.yangtools.yang.model.spi.source.YangTextToIRSourceTransformer;
+
+class PrecompiledYangIRSourcesTest {
+    private static final YangModuleInfo INET_TYPES = org.opendaylight.yang.svc.v1.urn.ietf.params.xml.ns.yang.ietf
+            .inet.types.rev130715.YangModuleInfoImpl.INSTANCE;
+
+    @TempDir
+    Path outputDirectory;
+
+    private YangTextToIRSourceTransformer delegate;
+
+    @BeforeEach
+    void init() {
+        delegate = mock(YangTextToIRSourceTransformer.class);
+    }
+
+    @Test
+    void packagedSourcesOfMatchingModelSetAreRead() throws Exception {
+        PrecompiledYangIRSources.write(YangModuleUtils.getAllModelsFromClasspath(), outputDirectory);
+
+        try (URLClassLoader classLoader = packagedClassLoader()) {
+            final Optional<YangTextToIRSourceTransformer> transformer =
+                    PrecompiledYangIRSources.load(classLoader, delegate);
+            assertTrue(transformer.isPresent());
+            final YangTextSource source = INET_TYPES.getYangTextSource();
+            final YangIRSource irSource = transformer.get().transformSource(source);
+            assertEquals(source.sourceId(), irSource.sourceId());
+            verify(delegate, never()).transformSource(any());
+        }
+    }
+
+    @Test
+    void packagedSourcesOfDifferentModelSetAreNotUsed() throws Exception {
+        PrecompiledYangIRSources.write(Set.of(INET_TYPES), outputDirectory);
+
+        try (URLClassLoader classLoader = packagedClassLoader()) {
+            assertTrue(PrecompiledYangIRSources.load(classLoader, delegate).isEmpty());
+        }
+    }
+
+    @Test
+    void missingPackagedSourcesAreNotUsed() {
+        assertTrue(PrecompiledYangIRSources.load(getClass().getClassLoader(), delegate).isEmpty());
+    }
+
+    private URLClassLoader packagedClassLoader() throws Exception {
+        return new URLClassLoader(new URL[] {outputDirectory.toUri().toURL()}, getClass().getClassLoader());
+    }
+}
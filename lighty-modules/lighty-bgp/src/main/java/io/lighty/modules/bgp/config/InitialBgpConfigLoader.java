@@ -9,13 +9,12 @@ package io.lighty.modules.bgp.config;
 
 import io.lighty.codecs.util.exception.DeserializationException;
 import io.lighty.core.controller.impl.util.FileToDatastoreUtils;
+import io.lighty.core.controller.impl.util.StreamingDataImporter;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeoutException;
 import org.opendaylight.mdsal.dom.api.DOMDataBroker;
-import org.opendaylight.yang.gen.v1.http.openconfig.net.yang.routing.policy.rev151009.routing.policy.top.RoutingPolicy;
-import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -38,8 +37,9 @@ public final class InitialBgpConfigLoader {
 
     private void loadInitialRoutingPolicy() {
         try (InputStream inputStream = InitialBgpConfigLoader.class.getResourceAsStream(ROUTING_POLICY_PATH)) {
-            FileToDatastoreUtils.importConfigDataFile(inputStream, YangInstanceIdentifier.of(RoutingPolicy.QNAME),
-                    FileToDatastoreUtils.ImportFileFormat.XML, modelContext, dataBroker, true);
+            FileToDatastoreUtils.importConfigDataFileStreaming(inputStream, FileToDatastoreUtils.ImportFileFormat.XML,
+                    modelContext, dataBroker, true, StreamingDataImporter.DEFAULT_BATCH_SIZE,
+                    StreamingDataImporter.DEFAULT_MAX_IN_FLIGHT_COMMITS);
         } catch (IOException | DeserializationException | ExecutionException | TimeoutException e) {
             LOG.warn("Failed to import initial BGP routing policies file {}", ROUTING_POLICY_PATH, e);
         } catch (InterruptedException e) {
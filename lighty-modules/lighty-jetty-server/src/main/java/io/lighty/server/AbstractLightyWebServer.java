@@ -15,6 +15,7 @@ import javax.annotation.PostConstruct;
 import javax.annotation.PreDestroy;
 import javax.servlet.DispatcherType;
 import javax.servlet.ServletException;
+import org.eclipse.jetty.server.Connector;
 import org.eclipse.jetty.server.Server;
 import org.eclipse.jetty.server.handler.ContextHandlerCollection;
 import org.eclipse.jetty.server.session.SessionHandler;
@@ -70,6 +71,35 @@ public abstract class AbstractLightyWebServer implements WebServer {
         LOG.info("Stopped Jetty-based web server.");
     }
 
+    /**
+     * Stop all connectors, which closes listening sockets and open connections, while the server keeps its
+     * handlers and web contexts. Used before JVM checkpoint, connectors are started by {@link #openConnectors()}.
+     *
+     * @throws Exception if a connector fails to stop
+     */
+    public synchronized void closeConnectors() throws Exception {
+        for (Connector connector : server.getConnectors()) {
+            if (connector.isStarted()) {
+                connector.stop();
+            }
+        }
+        LOG.info("Closed connectors of Jetty-based web server ({}).", hashCode());
+    }
+
+    /**
+     * Start connectors stopped by {@link #closeConnectors()}, the server listens on the same ports again.
+     *
+     * @throws Exception if a connector fails to start
+     */
+    public synchronized void openConnectors() throws Exception {
+        for (Connector connector : server.getConnectors()) {
+            if (!connector.isStarted()) {
+                connector.start();
+            }
+        }
+        LOG.info("Opened connectors of Jetty-based web server ({}).", hashCode());
+    }
+
     @Override
     public synchronized Registration registerWebContext(final WebContext webContext) throws ServletException {
         ServletContextHandler handler = new ServletContextHandler(contextHandlerCollection, webContext.contextPath(),
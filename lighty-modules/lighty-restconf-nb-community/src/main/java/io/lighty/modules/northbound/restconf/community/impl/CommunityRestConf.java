@@ -221,6 +221,36 @@ public class CommunityRestConf extends AbstractLightyModule {
         return !stopFailed;
     }
 
+    @SuppressWarnings("checkstyle:illegalCatch")
+    @Override
+    protected boolean beforeCheckpoint() {
+        if (this.jettyServer == null) {
+            return true;
+        }
+        try {
+            this.jettyServer.closeConnectors();
+            return true;
+        } catch (final Exception e) {
+            LOG.error("{} failed to close connectors before checkpoint!", this.jettyServer.getClass(), e);
+            return false;
+        }
+    }
+
+    @SuppressWarnings("checkstyle:illegalCatch")
+    @Override
+    protected boolean afterRestore() {
+        if (this.jettyServer == null) {
+            return true;
+        }
+        try {
+            this.jettyServer.openConnectors();
+            return true;
+        } catch (final Exception e) {
+            LOG.error("{} failed to open connectors after restore!", this.jettyServer.getClass(), e);
+            return false;
+        }
+    }
+
     public JaxRsEndpoint getJaxRsEndpoint() {
         return this.jaxRsEndpoint;
     }
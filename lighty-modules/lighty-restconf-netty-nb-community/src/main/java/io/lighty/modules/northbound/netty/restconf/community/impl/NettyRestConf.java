@@ -63,6 +63,9 @@ public class NettyRestConf extends AbstractLightyModule {
     private final int workThreads;
 
     private MdsalRestconfStreamRegistry mdsalRestconfStreamRegistry;
+    private PrincipalService principalService;
+    private NettyEndpointConfiguration endpointConfiguration;
+    private BootstrapFactory bootstrapFactory;
     private SimpleNettyEndpoint nettyEndpoint;
     private MdsalDatabindProvider databindProvider;
     private MdsalRestconfServer server;
@@ -119,35 +122,73 @@ public class NettyRestConf extends AbstractLightyModule {
 
         final var transport = NettyRestConfUtils.serverTransportTcp(
             IetfInetUtil.ipAddressFor(inetAddress), Uint16.valueOf(httpPort));
-        final PrincipalService service = new AAAShiroPrincipalService((AAAShiroWebEnvironment) webEnvironment);
+        principalService = new AAAShiroPrincipalService((AAAShiroWebEnvironment) webEnvironment);
         final var serverStackGrouping = new HttpServerStackConfiguration(transport);
 
-        final var configuration = new NettyEndpointConfiguration(ErrorTagMapping.RFC8040, PrettyPrintParam.TRUE,
+        endpointConfiguration = new NettyEndpointConfiguration(ErrorTagMapping.RFC8040, PrettyPrintParam.TRUE,
             Uint16.ZERO, Uint32.valueOf(10_000), "restconf", MessageEncoding.JSON, serverStackGrouping,
             Uint32.valueOf(256 * 1024), Uint32.valueOf(16 * 1024), Uint32.valueOf(32 * 1024),
             Uint32.valueOf(64 * 1024), "h3=\":8443\"; ma=3600", Uint32.valueOf(3600),
             Uint64.valueOf(4L * 1024 * 1024),
             Uint64.valueOf(256L * 1024), Uint32.valueOf(100));
 
-        final var bootstrapFactory = new BootstrapFactory(groupName, workThreads);
-        nettyEndpoint = new SimpleNettyEndpoint(server, service, mdsalRestconfStreamRegistry,
-            bootstrapFactory, configuration);
-
+        openEndpoint();
         return true;
     }
 
+    /**
+     * Close Netty endpoint and its event loops before JVM checkpoint, RESTCONF server and stream registry are kept.
+     */
+    @Override
+    protected boolean beforeCheckpoint() {
+        return closeEndpoint();
+    }
+
+    /**
+     * Bind a new Netty endpoint to the same address after restore.
+     */
     @Override
+    protected boolean afterRestore() {
+        if (server != null && nettyEndpoint == null) {
+            openEndpoint();
+        }
+        return true;
+    }
+
+    private void openEndpoint() {
+        bootstrapFactory = new BootstrapFactory(groupName, workThreads);
+        nettyEndpoint = new SimpleNettyEndpoint(server, principalService, mdsalRestconfStreamRegistry,
+            bootstrapFactory, endpointConfiguration);
+    }
+
     @SuppressWarnings("checkstyle:illegalCatch")
-    protected boolean stopProcedure() {
-        boolean stopSuccessful = true;
+    private boolean closeEndpoint() {
+        boolean closeSuccessful = true;
         if (nettyEndpoint != null) {
             try {
                 nettyEndpoint.close();
             } catch (Exception e) {
                 LOG.error("Failed to stop Netty endpoint!", e);
-                stopSuccessful = false;
+                closeSuccessful = false;
+            }
+            nettyEndpoint = null;
+        }
+        if (bootstrapFactory != null) {
+            try {
+                bootstrapFactory.close();
+            } catch (Exception e) {
+                LOG.error("Failed to stop Netty event loops!", e);
+                closeSuccessful = false;
             }
+            bootstrapFactory = null;
         }
+        return closeSuccessful;
+    }
+
+    @Override
+    @SuppressWarnings("checkstyle:illegalCatch")
+    protected boolean stopProcedure() {
+        boolean stopSuccessful = closeEndpoint();
         if (mdsalRestconfStreamRegistry != null) {
             try {
                 mdsalRestconfStreamRegistry.close();
@@ -22,5 +22,12 @@ JAR_FILE=`ls -1 "${SCRIPT_DIR}" | grep .jar | head -n1`
 APP_NAME=`echo "${JAR_FILE}" | sed -e 's/^\(.*\)-\([0-9]\+\.[0-9]\+\.[0-9]\+\)\(-SNAPSHOT\)\?\(-javadoc\)\?\.jar$/\1/'`
 APP_VERSION=`echo "${JAR_FILE}" | sed -e 's/^.*-\([0-9]\+\.[0-9]\+\.[0-9]\+\)\(-SNAPSHOT\)\?\(-javadoc\)\?\.jar$/\1\2/'`
 
+# Class data sharing archive is created on the first run and reused to speed up class loading
+# on next runs. Set LIGHTY_APPCDS=false to disable it.
+JVM_OPTS="${JAVA_OPTS}"
+if [ "${LIGHTY_APPCDS}" != "false" ]; then
+	JVM_OPTS="${JVM_OPTS} -XX:+AutoCreateSharedArchive -XX:SharedArchiveFile=${APP_NAME}-${APP_VERSION}.jsa"
+fi;
+
 # Run the application
-( cd "${SCRIPT_DIR}" && ${JAVA_HOME}/bin/java -jar "${APP_NAME}-${APP_VERSION}.jar" $* )
+( cd "${SCRIPT_DIR}" && ${JAVA_HOME}/bin/java ${JVM_OPTS} -jar "${APP_NAME}-${APP_VERSION}.jar" $* )